@@ -16,6 +16,7 @@
 
 package org.springframework.aop.aspectj;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.lang.reflect.Method;
@@ -57,6 +58,7 @@ import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.SpringProperties;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -101,6 +103,17 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 	}
 
 
+	/**
+	 * System property that points to a file for recording static pointcut
+	 * matching results across runs: {@code "spring.aop.shadow-match-cache-file"}.
+	 * <p>Methods whose result has been recorded against identical class files
+	 * are matched without consulting the AspectJ weaver. Recorded results get
+	 * written back through {@link #saveShadowMatchCache()}, as triggered by
+	 * auto-proxy creators once all singletons have been instantiated.
+	 * @since 5.2
+	 */
+	public static final String SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME = "spring.aop.shadow-match-cache-file";
+
 	private static final Log logger = LogFactory.getLog(AspectJExpressionPointcut.class);
 
 	@Nullable
@@ -121,6 +134,15 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 
 	private transient Map<Method, ShadowMatch> shadowMatchCache = new ConcurrentHashMap<>(32);
 
+	@Nullable
+	private transient PointcutAnnotationPrefilter annotationPrefilter;
+
+	@Nullable
+	private transient PersistentShadowMatchCache persistentShadowMatchCache;
+
+	@Nullable
+	private transient String persistentPointcutKey;
+
 
 	/**
 	 * Create a new default AspectJExpressionPointcut.
@@ -196,10 +218,30 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 		if (this.pointcutExpression == null) {
 			this.pointcutClassLoader = determinePointcutClassLoader();
 			this.pointcutExpression = buildPointcutExpression(this.pointcutClassLoader);
+			initializeMatchingShortcuts();
 		}
 		return this.pointcutExpression;
 	}
 
+	/**
+	 * Initialize the annotation pre-filter and the persistent matching cache,
+	 * if applicable for the current expression.
+	 */
+	private void initializeMatchingShortcuts() {
+		String expression = replaceBooleanOperators(resolveExpression());
+		this.annotationPrefilter = PointcutAnnotationPrefilter.forExpression(
+				expression, this.pointcutParameterNames, this.pointcutParameterTypes);
+		String cacheFile = SpringProperties.getProperty(SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME);
+		// Results for bean() pointcuts depend on the current bean name,
+		// and named pointcuts may be defined in any other class
+		if (StringUtils.hasText(cacheFile) && !expression.contains("bean(") &&
+				PersistentShadowMatchCache.isCacheable(expression)) {
+			this.persistentPointcutKey = PersistentShadowMatchCache.pointcutKey(expression,
+					this.pointcutDeclarationScope, this.pointcutParameterNames, this.pointcutParameterTypes);
+			this.persistentShadowMatchCache = PersistentShadowMatchCache.forFile(new File(cacheFile.trim()));
+		}
+	}
+
 	/**
 	 * Determine the ClassLoader to use for pointcut evaluation.
 	 */
@@ -270,6 +312,9 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 	@Override
 	public boolean matches(Class<?> targetClass) {
 		PointcutExpression pointcutExpression = obtainPointcutExpression();
+		if (this.annotationPrefilter != null && !this.annotationPrefilter.couldMatch(targetClass)) {
+			return false;
+		}
 		try {
 			try {
 				return pointcutExpression.couldMatchJoinPointsInType(targetClass);
@@ -292,6 +337,25 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 	@Override
 	public boolean matches(Method method, Class<?> targetClass, boolean hasIntroductions) {
 		obtainPointcutExpression();
+		PersistentShadowMatchCache persistentCache = this.persistentShadowMatchCache;
+		String pointcutKey = this.persistentPointcutKey;
+		if (persistentCache != null && pointcutKey != null) {
+			char result = persistentCache.get(pointcutKey, targetClass, this.pointcutDeclarationScope, method);
+			if (result == PersistentShadowMatchCache.UNKNOWN) {
+				result = determineStaticMatch(method, targetClass);
+				persistentCache.put(pointcutKey, targetClass, this.pointcutDeclarationScope, method, result);
+			}
+			switch (result) {
+				case PersistentShadowMatchCache.ALWAYS_MATCHES:
+				case PersistentShadowMatchCache.MAYBE_MATCHES:
+					return true;
+				case PersistentShadowMatchCache.MAYBE_MATCHES_WITH_INTRODUCTIONS:
+					return hasIntroductions;
+				default:
+					return false;
+			}
+		}
+
 		ShadowMatch shadowMatch = getTargetShadowMatch(method, targetClass);
 
 		// Special handling for this, target, @this, @target, @annotation
@@ -317,6 +381,24 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 		}
 	}
 
+	/**
+	 * Determine the static matching result for the given method,
+	 * independent from introductions.
+	 * @return a {@link PersistentShadowMatchCache} result code
+	 */
+	private char determineStaticMatch(Method method, Class<?> targetClass) {
+		ShadowMatch shadowMatch = getTargetShadowMatch(method, targetClass);
+		if (shadowMatch.alwaysMatches()) {
+			return PersistentShadowMatchCache.ALWAYS_MATCHES;
+		}
+		else if (shadowMatch.neverMatches()) {
+			return PersistentShadowMatchCache.NEVER_MATCHES;
+		}
+		RuntimeTestWalker walker = getRuntimeTestWalker(shadowMatch);
+		return (!walker.testsSubtypeSensitiveVars() || walker.testTargetInstanceOfResidue(targetClass) ?
+				PersistentShadowMatchCache.MAYBE_MATCHES : PersistentShadowMatchCache.MAYBE_MATCHES_WITH_INTRODUCTIONS);
+	}
+
 	@Override
 	public boolean matches(Method method, Class<?> targetClass) {
 		return matches(method, targetClass, false);
@@ -566,6 +648,15 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 		return sb.toString();
 	}
 
+	/**
+	 * Write recorded static matching results back to the file specified through
+	 * the {@link #SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME} system property, if any.
+	 * @since 5.2
+	 */
+	public static void saveShadowMatchCache() {
+		PersistentShadowMatchCache.saveAll();
+	}
+
 	//---------------------------------------------------------------------
 	// Serialization support
 	//---------------------------------------------------------------------
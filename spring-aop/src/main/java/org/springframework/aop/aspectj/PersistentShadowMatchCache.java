@@ -0,0 +1,456 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.UrlResource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Persistent record of static pointcut matching results, allowing
+ * {@link AspectJExpressionPointcut} to skip AspectJ shadow matching for
+ * methods that have been matched in a previous run against identical
+ * class files.
+ *
+ * <p>Results are recorded per pointcut and target class, along with a
+ * fingerprint (content length and last-modified timestamp of the class files
+ * or their containing jars) of the type hierarchy of the target class and of
+ * the pointcut declaration scope, as well as of the type hierarchies of the
+ * parameter types and return type of each method. Classes without a class file,
+ * e.g. generated proxy classes, are not recorded. Expressions referring to
+ * named pointcuts are not recorded either, since their definitions may live
+ * in any other class.
+ *
+ * <p>One instance is shared per cache file; results get written back to the
+ * file through {@link AspectJExpressionPointcut#saveShadowMatchCache()}.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see AspectJExpressionPointcut#SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME
+ */
+final class PersistentShadowMatchCache {
+
+	/** Result code: the pointcut always matches the method. */
+	static final char ALWAYS_MATCHES = 'Y';
+
+	/** Result code: the pointcut never matches the method. */
+	static final char NEVER_MATCHES = 'N';
+
+	/** Result code: the pointcut may match the method, statically considered a match. */
+	static final char MAYBE_MATCHES = 'T';
+
+	/** Result code: the pointcut may only match the method in case of introductions. */
+	static final char MAYBE_MATCHES_WITH_INTRODUCTIONS = 'F';
+
+	/** Result code: no recorded result. */
+	static final char UNKNOWN = 0;
+
+	private static final String HEADER = "# Pointcut matching results recorded by Spring AOP";
+
+	private static final String NO_FINGERPRINT = "";
+
+	/** Pointcut designators supported by AspectJ and Spring, as opposed to named pointcuts. */
+	private static final Set<String> POINTCUT_DESIGNATORS = new HashSet<>(Arrays.asList(
+			"execution", "call", "get", "set", "handler", "initialization", "preinitialization",
+			"staticinitialization", "adviceexecution", "within", "withincode", "cflow", "cflowbelow",
+			"if", "this", "target", "args", "@this", "@target", "@args", "@within", "@withincode",
+			"@annotation", "bean"));
+
+	private static final Log logger = LogFactory.getLog(PersistentShadowMatchCache.class);
+
+	private static final Map<File, PersistentShadowMatchCache> caches = new ConcurrentHashMap<>(4);
+
+	/** Fingerprints of the type hierarchy of each class. */
+	private static final Map<Class<?>, String> hierarchyFingerprints = new ConcurrentReferenceHashMap<>(256);
+
+
+	private final File file;
+
+	/** Entries keyed by pointcut key plus target class name. */
+	private final Map<String, ClassEntry> entries = new ConcurrentHashMap<>(256);
+
+	private volatile boolean modified;
+
+
+	private PersistentShadowMatchCache(File file) {
+		this.file = file;
+		load();
+	}
+
+
+	/**
+	 * Return the shared cache for the given file, loading existing entries
+	 * on first access.
+	 * @param file the cache file (may not exist yet)
+	 */
+	static PersistentShadowMatchCache forFile(File file) {
+		return caches.computeIfAbsent(file.getAbsoluteFile(), PersistentShadowMatchCache::new);
+	}
+
+	/**
+	 * Write the entries of all shared caches back to their files, if modified.
+	 */
+	static void saveAll() {
+		for (PersistentShadowMatchCache cache : caches.values()) {
+			cache.save();
+		}
+	}
+
+
+	/**
+	 * Look up the recorded result for the given method.
+	 * @param pointcutKey the key identifying the pointcut
+	 * @param targetClass the target class
+	 * @param declarationScope the pointcut declaration scope, if any
+	 * @param method the candidate method
+	 * @return the result code, or {@link #UNKNOWN} if not recorded
+	 * (or recorded against different class files)
+	 */
+	char get(String pointcutKey, Class<?> targetClass, @Nullable Class<?> declarationScope, Method method) {
+		ClassEntry entry = this.entries.get(entryKey(pointcutKey, targetClass));
+		if (entry == null || !entry.fingerprint.equals(fingerprint(targetClass, declarationScope))) {
+			return UNKNOWN;
+		}
+		MethodResult result = entry.results.get(methodKey(method));
+		if (result == null || !result.fingerprint.equals(signatureFingerprint(method))) {
+			return UNKNOWN;
+		}
+		return result.result;
+	}
+
+	/**
+	 * Record the result for the given method.
+	 * @param pointcutKey the key identifying the pointcut
+	 * @param targetClass the target class
+	 * @param declarationScope the pointcut declaration scope, if any
+	 * @param method the candidate method
+	 * @param result the result code
+	 */
+	void put(String pointcutKey, Class<?> targetClass, @Nullable Class<?> declarationScope, Method method,
+			char result) {
+
+		String fingerprint = fingerprint(targetClass, declarationScope);
+		String signatureFingerprint = signatureFingerprint(method);
+		if (fingerprint == null || signatureFingerprint == null) {
+			return;
+		}
+		ClassEntry entry = this.entries.compute(entryKey(pointcutKey, targetClass), (key, existing) ->
+				(existing != null && existing.fingerprint.equals(fingerprint) ? existing : new ClassEntry(fingerprint)));
+		MethodResult previous = entry.results.put(methodKey(method), new MethodResult(result, signatureFingerprint));
+		if (previous == null || previous.result != result || !previous.fingerprint.equals(signatureFingerprint)) {
+			this.modified = true;
+		}
+	}
+
+	/**
+	 * Write the current entries back to the cache file, if modified.
+	 */
+	synchronized void save() {
+		if (!this.modified) {
+			return;
+		}
+		this.modified = false;
+		Map<String, Map<String, ClassEntry>> entriesByPointcut = new TreeMap<>();
+		for (Map.Entry<String, ClassEntry> entry : this.entries.entrySet()) {
+			String key = entry.getKey();
+			int separator = key.indexOf('\n');
+			entriesByPointcut.computeIfAbsent(key.substring(0, separator), pointcutKey -> new TreeMap<>())
+					.put(key.substring(separator + 1), entry.getValue());
+		}
+		try {
+			Path target = this.file.toPath();
+			Path parent = target.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempFile = Files.createTempFile(parent, this.file.getName(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				writer.write(HEADER);
+				writer.newLine();
+				for (Map.Entry<String, Map<String, ClassEntry>> pointcutEntry : entriesByPointcut.entrySet()) {
+					writer.write("P\t" + pointcutEntry.getKey());
+					writer.newLine();
+					for (Map.Entry<String, ClassEntry> classEntry : pointcutEntry.getValue().entrySet()) {
+						writer.write("C\t" + classEntry.getValue().fingerprint + "\t" + classEntry.getKey());
+						writer.newLine();
+						for (Map.Entry<String, MethodResult> result : classEntry.getValue().results.entrySet()) {
+							writer.write("M\t" + result.getValue().result + "\t" + result.getValue().fingerprint +
+									"\t" + result.getKey());
+							writer.newLine();
+						}
+					}
+				}
+			}
+			try {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to write pointcut matching cache to " + this.file, ex);
+			}
+		}
+	}
+
+	private void load() {
+		if (!this.file.isFile()) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.file.toPath(), StandardCharsets.UTF_8)) {
+			String pointcutKey = null;
+			ClassEntry classEntry = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = line.split("\t");
+				if (line.startsWith("P\t") && parts.length == 2) {
+					pointcutKey = parts[1];
+					classEntry = null;
+				}
+				else if (line.startsWith("C\t") && parts.length == 3 && pointcutKey != null) {
+					classEntry = new ClassEntry(parts[1]);
+					this.entries.put(pointcutKey + '\n' + parts[2], classEntry);
+				}
+				else if (line.startsWith("M\t") && parts.length == 4 && parts[1].length() == 1 && classEntry != null) {
+					classEntry.results.put(parts[3], new MethodResult(parts[1].charAt(0), parts[2]));
+				}
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded " + this.entries.size() + " class entries from pointcut matching cache " +
+						this.file);
+			}
+		}
+		catch (IOException ex) {
+			this.entries.clear();
+			if (logger.isInfoEnabled()) {
+				logger.info("Ignoring unreadable pointcut matching cache " + this.file + ": " + ex);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PersistentShadowMatchCache for " + this.file;
+	}
+
+
+	/**
+	 * Determine whether results for the given pointcut expression may be
+	 * recorded, i.e. whether it consists of pointcut designators only,
+	 * without any references to named pointcuts.
+	 * @param expression the pointcut expression (with boolean operators
+	 * in symbolic form)
+	 */
+	static boolean isCacheable(String expression) {
+		// Parentheses which are part of a designator, as opposed to grouping parentheses
+		Deque<Boolean> parentheses = new ArrayDeque<>();
+		int depth = 0;
+		int tokenStart = -1;
+		for (int i = 0; i < expression.length(); i++) {
+			char c = expression.charAt(i);
+			if (depth == 0 && (Character.isJavaIdentifierPart(c) || c == '.' || c == '@')) {
+				if (tokenStart == -1) {
+					tokenStart = i;
+				}
+				continue;
+			}
+			if (c == '(') {
+				boolean designator = (depth > 0 || tokenStart != -1);
+				if (depth == 0 && designator &&
+						!POINTCUT_DESIGNATORS.contains(expression.substring(tokenStart, i).trim())) {
+					return false;
+				}
+				parentheses.push(designator);
+				if (designator) {
+					depth++;
+				}
+			}
+			else if (c == ')' && !parentheses.isEmpty() && parentheses.pop()) {
+				depth--;
+			}
+			if (!Character.isWhitespace(c)) {
+				tokenStart = -1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Build a key identifying the given pointcut across runs.
+	 * @param expression the pointcut expression
+	 * @param declarationScope the pointcut declaration scope, if any
+	 * @param paramNames the parameter names for the pointcut
+	 * @param paramTypes the parameter types for the pointcut
+	 */
+	static String pointcutKey(String expression, @Nullable Class<?> declarationScope,
+			String[] paramNames, Class<?>[] paramTypes) {
+
+		StringBuilder sb = new StringBuilder(expression.trim().replaceAll("\\s+", " "));
+		sb.append(" | ").append(declarationScope != null ? declarationScope.getName() : "");
+		for (int i = 0; i < paramNames.length; i++) {
+			sb.append(i == 0 ? " | " : ", ").append(paramTypes[i].getName()).append(' ').append(paramNames[i]);
+		}
+		return sb.toString();
+	}
+
+	private static String entryKey(String pointcutKey, Class<?> targetClass) {
+		return pointcutKey + '\n' + targetClass.getName();
+	}
+
+	private static String methodKey(Method method) {
+		StringBuilder sb = new StringBuilder(method.getDeclaringClass().getName());
+		sb.append('#').append(method.getName()).append('(');
+		Class<?>[] paramTypes = method.getParameterTypes();
+		for (int i = 0; i < paramTypes.length; i++) {
+			sb.append(i > 0 ? "," : "").append(paramTypes[i].getName());
+		}
+		return sb.append(')').toString();
+	}
+
+	@Nullable
+	private static String fingerprint(Class<?> targetClass, @Nullable Class<?> declarationScope) {
+		String fingerprint = hierarchyFingerprints.computeIfAbsent(
+				targetClass, PersistentShadowMatchCache::hierarchyFingerprint);
+		if (fingerprint == NO_FINGERPRINT) {
+			return null;
+		}
+		if (declarationScope != null) {
+			String scopeFingerprint = hierarchyFingerprints.computeIfAbsent(
+					declarationScope, PersistentShadowMatchCache::hierarchyFingerprint);
+			if (scopeFingerprint == NO_FINGERPRINT) {
+				return null;
+			}
+			fingerprint = fingerprint + "/" + scopeFingerprint;
+		}
+		return fingerprint;
+	}
+
+	@Nullable
+	private static String signatureFingerprint(Method method) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		types.add(method.getReturnType());
+		types.addAll(Arrays.asList(method.getParameterTypes()));
+		StringBuilder sb = new StringBuilder();
+		for (Class<?> type : types) {
+			Class<?> typeToCheck = type;
+			while (typeToCheck.isArray()) {
+				typeToCheck = typeToCheck.getComponentType();
+			}
+			if (typeToCheck.isPrimitive()) {
+				continue;
+			}
+			String fingerprint = hierarchyFingerprints.computeIfAbsent(
+					typeToCheck, PersistentShadowMatchCache::hierarchyFingerprint);
+			if (fingerprint == NO_FINGERPRINT) {
+				return null;
+			}
+			sb.append(fingerprint);
+		}
+		return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String hierarchyFingerprint(Class<?> clazz) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		Class<?> currentClass = clazz;
+		while (currentClass != null && currentClass != Object.class) {
+			types.add(currentClass);
+			currentClass = currentClass.getSuperclass();
+		}
+		types.addAll(ClassUtils.getAllInterfacesForClassAsSet(clazz));
+		StringBuilder sb = new StringBuilder();
+		for (Class<?> type : types) {
+			ClassLoader classLoader = type.getClassLoader();
+			if (classLoader == null) {
+				// JDK class
+				continue;
+			}
+			URL url = classLoader.getResource(ClassUtils.convertClassNameToResourcePath(type.getName()) + ".class");
+			if (url == null) {
+				// Generated class
+				return NO_FINGERPRINT;
+			}
+			try {
+				UrlResource resource = new UrlResource(url);
+				sb.append(type.getName()).append(':').append(resource.contentLength()).append(':')
+						.append(resource.lastModified()).append(';');
+			}
+			catch (IOException ex) {
+				return NO_FINGERPRINT;
+			}
+		}
+		return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+
+	/**
+	 * Recorded results for a pointcut and target class, keyed by method.
+	 */
+	private static class ClassEntry {
+
+		final String fingerprint;
+
+		final Map<String, MethodResult> results = new ConcurrentHashMap<>();
+
+		ClassEntry(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+	}
+
+
+	/**
+	 * Recorded result for a method, along with the fingerprint of the
+	 * type hierarchies of its parameter types and return type.
+	 */
+	private static class MethodResult {
+
+		final char result;
+
+		final String fingerprint;
+
+		MethodResult(char result, String fingerprint) {
+			this.result = result;
+			this.fingerprint = fingerprint;
+		}
+	}
+
+}
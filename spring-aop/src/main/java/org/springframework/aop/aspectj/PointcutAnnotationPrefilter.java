@@ -0,0 +1,299 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Cheap pre-filter for {@link AspectJExpressionPointcut}, rejecting target
+ * classes which cannot possibly match a pointcut expression since none of
+ * their types or methods carries an annotation required by the expression.
+ *
+ * <p>Only {@code @annotation(..)} and {@code @within(..)} designators with a
+ * fully qualified annotation type (or a parameter bound to an annotation type)
+ * are taken into account, combined through {@code &&} and {@code ||}; any
+ * other part of an expression is assumed to potentially match. The annotations
+ * found on the type hierarchy of each target class are indexed once and shared
+ * across all pointcuts.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see AspectJExpressionPointcut#matches(Class)
+ */
+final class PointcutAnnotationPrefilter {
+
+	private static final Map<Class<?>, AnnotationNames> annotationNamesCache = new ConcurrentReferenceHashMap<>(256);
+
+
+	private final Node root;
+
+
+	private PointcutAnnotationPrefilter(Node root) {
+		this.root = root;
+	}
+
+
+	/**
+	 * Determine whether the given target class could match the pointcut
+	 * expression as far as required annotations are concerned.
+	 */
+	public boolean couldMatch(Class<?> targetClass) {
+		AnnotationNames annotationNames = annotationNamesCache.computeIfAbsent(targetClass, AnnotationNames::new);
+		return (!annotationNames.introspected || this.root.couldMatch(annotationNames));
+	}
+
+
+	/**
+	 * Create a pre-filter for the given pointcut expression.
+	 * @param expression the pointcut expression (with boolean operators
+	 * already converted to their AspectJ symbols)
+	 * @param paramNames the parameter names for the pointcut
+	 * @param paramTypes the parameter types for the pointcut
+	 * @return the pre-filter, or {@code null} if the expression does not
+	 * require any specific annotations (or could not be analyzed)
+	 */
+	@Nullable
+	static PointcutAnnotationPrefilter forExpression(String expression, String[] paramNames, Class<?>[] paramTypes) {
+		if (!expression.contains("@annotation") && !expression.contains("@within")) {
+			return null;
+		}
+		Parser parser = new Parser(expression, paramNames, paramTypes);
+		Node root = parser.parse();
+		return (root != null && root != ANY ? new PointcutAnnotationPrefilter(root) : null);
+	}
+
+
+	/**
+	 * Node in a simplified tree of a pointcut expression.
+	 */
+	private interface Node {
+
+		boolean couldMatch(AnnotationNames annotationNames);
+	}
+
+
+	private static final Node ANY = annotationNames -> true;
+
+
+	/**
+	 * Recursive descent parser for the boolean structure of a pointcut expression.
+	 */
+	private static class Parser {
+
+		private final String expression;
+
+		private final String[] paramNames;
+
+		private final Class<?>[] paramTypes;
+
+		private int pos;
+
+		Parser(String expression, String[] paramNames, Class<?>[] paramTypes) {
+			this.expression = expression;
+			this.paramNames = paramNames;
+			this.paramTypes = paramTypes;
+		}
+
+		@Nullable
+		Node parse() {
+			Node node = parseOr();
+			skipWhitespace();
+			return (node != null && this.pos == this.expression.length() ? node : null);
+		}
+
+		@Nullable
+		private Node parseOr() {
+			Node left = parseAnd();
+			while (left != null && consume("||")) {
+				Node right = parseAnd();
+				if (right == null) {
+					return null;
+				}
+				Node first = left;
+				left = (first == ANY || right == ANY ? ANY :
+						annotationNames -> first.couldMatch(annotationNames) || right.couldMatch(annotationNames));
+			}
+			return left;
+		}
+
+		@Nullable
+		private Node parseAnd() {
+			Node left = parseUnary();
+			while (left != null && consume("&&")) {
+				Node right = parseUnary();
+				if (right == null) {
+					return null;
+				}
+				Node first = left;
+				left = (first == ANY ? right : right == ANY ? first :
+						annotationNames -> first.couldMatch(annotationNames) && right.couldMatch(annotationNames));
+			}
+			return left;
+		}
+
+		@Nullable
+		private Node parseUnary() {
+			if (consume("!")) {
+				// Negation: cannot reject anything based on required annotations.
+				return (parseUnary() != null ? ANY : null);
+			}
+			if (consume("(")) {
+				Node node = parseOr();
+				return (node != null && consume(")") ? node : null);
+			}
+			return parseDesignator();
+		}
+
+		@Nullable
+		private Node parseDesignator() {
+			skipWhitespace();
+			int start = this.pos;
+			while (this.pos < this.expression.length() && this.expression.charAt(this.pos) != '(' &&
+					!Character.isWhitespace(this.expression.charAt(this.pos))) {
+				this.pos++;
+			}
+			String designator = this.expression.substring(start, this.pos);
+			if (designator.isEmpty() || !consume("(")) {
+				return null;
+			}
+			int argStart = this.pos;
+			int depth = 1;
+			while (this.pos < this.expression.length()) {
+				char c = this.expression.charAt(this.pos++);
+				if (c == '(') {
+					depth++;
+				}
+				else if (c == ')' && --depth == 0) {
+					String argument = this.expression.substring(argStart, this.pos - 1).trim();
+					return createDesignatorNode(designator, argument);
+				}
+			}
+			return null;
+		}
+
+		private Node createDesignatorNode(String designator, String argument) {
+			boolean methodAnnotation = "@annotation".equals(designator);
+			if (!methodAnnotation && !"@within".equals(designator)) {
+				return ANY;
+			}
+			String annotationName = resolveAnnotationName(argument);
+			if (annotationName == null) {
+				return ANY;
+			}
+			return (methodAnnotation ?
+					annotationNames -> annotationNames.methodAnnotations.contains(annotationName) :
+					annotationNames -> annotationNames.typeAnnotations.contains(annotationName));
+		}
+
+		@Nullable
+		private String resolveAnnotationName(String argument) {
+			for (int i = 0; i < this.paramNames.length; i++) {
+				if (this.paramNames[i].equals(argument)) {
+					return canonicalName(this.paramTypes[i]);
+				}
+			}
+			for (int i = 0; i < argument.length(); i++) {
+				char c = argument.charAt(i);
+				if (!Character.isJavaIdentifierPart(c) && c != '.') {
+					// Wildcards or other patterns
+					return null;
+				}
+			}
+			// Require a fully qualified name: simple names are resolved
+			// against the imports of the declaring aspect by AspectJ.
+			return (argument.indexOf('.') > 0 && !argument.contains("..") ? argument.replace('$', '.') : null);
+		}
+
+		private boolean consume(String token) {
+			skipWhitespace();
+			if (this.expression.startsWith(token, this.pos)) {
+				this.pos += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (this.pos < this.expression.length() && Character.isWhitespace(this.expression.charAt(this.pos))) {
+				this.pos++;
+			}
+		}
+	}
+
+
+	private static String canonicalName(Class<?> type) {
+		return type.getName().replace('$', '.');
+	}
+
+
+	/**
+	 * Names of the annotations declared on the types and methods
+	 * in the type hierarchy of a target class.
+	 */
+	private static class AnnotationNames {
+
+		final Set<String> typeAnnotations = new HashSet<>();
+
+		final Set<String> methodAnnotations = new HashSet<>();
+
+		boolean introspected;
+
+		AnnotationNames(Class<?> targetClass) {
+			try {
+				introspect(targetClass);
+				this.introspected = true;
+			}
+			catch (Throwable ex) {
+				// E.g. NoClassDefFoundError for a method signature -> no pre-filtering
+			}
+		}
+
+		private void introspect(Class<?> targetClass) {
+			Set<Class<?>> types = new HashSet<>(ClassUtils.getAllInterfacesForClassAsSet(targetClass));
+			Class<?> currentClass = targetClass;
+			while (currentClass != null && currentClass != Object.class) {
+				types.add(currentClass);
+				currentClass = currentClass.getSuperclass();
+			}
+			for (Class<?> type : types) {
+				Class<?> typeToCheck = type;
+				while (typeToCheck != null) {
+					addAnnotationNames(typeToCheck.getDeclaredAnnotations(), this.typeAnnotations);
+					typeToCheck = typeToCheck.getEnclosingClass();
+				}
+				for (Method method : type.getDeclaredMethods()) {
+					addAnnotationNames(method.getDeclaredAnnotations(), this.methodAnnotations);
+				}
+			}
+		}
+
+		private static void addAnnotationNames(Annotation[] annotations, Set<String> names) {
+			for (Annotation annotation : annotations) {
+				names.add(canonicalName(annotation.annotationType()));
+			}
+		}
+	}
+
+}
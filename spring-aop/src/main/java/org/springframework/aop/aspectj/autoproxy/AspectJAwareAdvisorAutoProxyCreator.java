@@ -26,10 +26,12 @@ import org.aspectj.util.PartialOrder.PartialComparable;
 
 import org.springframework.aop.Advisor;
 import org.springframework.aop.aspectj.AbstractAspectJAdvice;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
 import org.springframework.aop.aspectj.AspectJPointcutAdvisor;
 import org.springframework.aop.aspectj.AspectJProxyUtils;
 import org.springframework.aop.framework.autoproxy.AbstractAdvisorAutoProxyCreator;
 import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.core.Ordered;
 import org.springframework.util.ClassUtils;
 
@@ -38,13 +40,18 @@ import org.springframework.util.ClassUtils;
  * subclass that exposes AspectJ's invocation context and understands AspectJ's rules
  * for advice precedence when multiple pieces of advice come from the same aspect.
  *
+ * <p>Once all singletons have been instantiated, static pointcut matching results
+ * get written to the file specified through
+ * {@link AspectJExpressionPointcut#SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME}, if any.
+ *
  * @author Adrian Colyer
  * @author Juergen Hoeller
  * @author Ramnivas Laddad
  * @since 2.0
  */
 @SuppressWarnings("serial")
-public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProxyCreator {
+public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProxyCreator
+		implements SmartInitializingSingleton {
 
 	private static final Comparator<Advisor> DEFAULT_PRECEDENCE_COMPARATOR = new AspectJPrecedenceComparator();
 
@@ -108,6 +115,11 @@ public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProx
 		return super.shouldSkip(beanClass, beanName);
 	}
 
+	@Override
+	public void afterSingletonsInstantiated() {
+		AspectJExpressionPointcut.saveShadowMatchCache();
+	}
+
 
 	/**
 	 * Implements AspectJ PartialComparable interface for defining partial orderings.
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Base class for bytecode-generated invokers of interface methods on proxy
+ * targets, used by {@link JdkDynamicAopProxy} as a faster alternative to
+ * {@link AopUtils#invokeJoinpointUsingReflection}.
+ * Not intended for direct use by application code.
+ *
+ * <p>Generated subclasses implement {@link #doInvoke} as a switch over the method
+ * index, directly calling the corresponding method of the proxied interface.
+ * This class is only public since the generated subclasses get defined in a
+ * separate ClassLoader.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see JoinpointInvokerCompiler
+ */
+public abstract class CompiledJoinpointInvoker {
+
+	private final Map<Method, Integer> indexes = new HashMap<>();
+
+	private Method[] methods = new Method[0];
+
+	private Class<?>[][] parameterTypes = new Class<?>[0][];
+
+
+	/**
+	 * Invoke the interface method with the given index on the given target.
+	 * <p>Falls back to reflection if the target or the arguments do not match
+	 * the method signature, e.g. for a target which does not implement the
+	 * interface, with reflection raising the corresponding exception.
+	 * Any exception thrown by the target method is propagated as-is.
+	 * @param index the index of the method
+	 * @param target the target object to invoke the method on
+	 * @param args the arguments for the method (already adapted to the
+	 * parameter types of the method)
+	 * @return the return value of the method (boxed if primitive,
+	 * {@code null} for {@code void} methods)
+	 * @throws Throwable if thrown by the target method
+	 * @see AopUtils#invokeJoinpointUsingReflection
+	 */
+	@Nullable
+	public final Object invoke(int index, Object target, @Nullable Object[] args) throws Throwable {
+		if (index < 0 || index >= this.methods.length || this.methods[index] == null) {
+			throw unknownMethodIndex(index);
+		}
+		if (!isDirectlyInvocable(index, target, args)) {
+			return AopUtils.invokeJoinpointUsingReflection(target, this.methods[index], args);
+		}
+		return doInvoke(index, target, args);
+	}
+
+	/**
+	 * Invoke the interface method with the given index directly.
+	 * Implemented by the generated subclasses.
+	 * @param index the index of the method
+	 * @param target the target object, implementing the interface
+	 * @param args the arguments, already matching the parameter types
+	 * @return the return value of the method (boxed if primitive,
+	 * {@code null} for {@code void} methods)
+	 * @throws Throwable if thrown by the target method
+	 */
+	@Nullable
+	protected abstract Object doInvoke(int index, Object target, @Nullable Object[] args) throws Throwable;
+
+	/**
+	 * Create an exception for an index that does not correspond to a compiled
+	 * method. Called by the generated subclasses.
+	 * @param index the unknown index
+	 */
+	protected IllegalArgumentException unknownMethodIndex(int index) {
+		return new IllegalArgumentException("No compiled joinpoint for method index " + index);
+	}
+
+	/**
+	 * Determine whether the given target and arguments match the signature of
+	 * the method with the given index, i.e. whether {@link #invoke} calls the
+	 * generated code rather than falling back to reflection.
+	 */
+	boolean isDirectlyInvocable(int index, Object target, @Nullable Object[] args) {
+		Method method = this.methods[index];
+		if (!method.getDeclaringClass().isInstance(target)) {
+			return false;
+		}
+		Class<?>[] paramTypes = this.parameterTypes[index];
+		int argCount = (args != null ? args.length : 0);
+		if (argCount != paramTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < argCount; i++) {
+			if (!ClassUtils.isAssignableValue(paramTypes[i], args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Register the compiled methods, with their array positions as indexes.
+	 * @param methods the methods of the interface, with {@code null} elements
+	 * for methods which have not been compiled
+	 */
+	void setMethods(Method[] methods) {
+		this.methods = methods;
+		this.parameterTypes = new Class<?>[methods.length][];
+		for (int i = 0; i < methods.length; i++) {
+			if (methods[i] != null) {
+				this.parameterTypes[i] = methods[i].getParameterTypes();
+				this.indexes.put(methods[i], i);
+			}
+		}
+	}
+
+	/**
+	 * Return the index of the given method, or -1 if not compiled.
+	 */
+	int getIndex(Method method) {
+		Integer index = this.indexes.get(method);
+		return (index != null ? index : -1);
+	}
+
+}
@@ -20,7 +20,9 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
@@ -28,6 +30,7 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.aop.AopInvocationException;
 import org.springframework.aop.RawTargetAccess;
+import org.springframework.aop.SpringProxy;
 import org.springframework.aop.TargetSource;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.core.DecoratingProxy;
@@ -53,6 +56,11 @@ import org.springframework.util.ClassUtils;
  * <p>Proxies are serializable so long as all Advisors (including Advices
  * and Pointcuts) and the TargetSource are serializable.
  *
+ * <p>If the configuration is {@link ProxyConfig#isFrozen() frozen} and the
+ * TargetSource is {@link TargetSource#isStatic() static}, the interceptor chain
+ * for each interface method is fixed at proxy creation, and the target method
+ * gets invoked through generated bytecode rather than reflection where possible.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @author Rob Harrop
@@ -92,6 +100,14 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 	 */
 	private boolean hashCodeDefined;
 
+	/**
+	 * Fixed dispatch for each interface method, if the configuration is
+	 * frozen and the target is static. Not serialized: a deserialized proxy
+	 * falls back to determining the interceptor chain per invocation.
+	 */
+	@Nullable
+	private transient Map<Method, FixedDispatch> fixedDispatchMap;
+
 
 	/**
 	 * Construct a new JdkDynamicAopProxy for the given AOP configuration.
@@ -120,9 +136,49 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 		}
 		Class<?>[] proxiedInterfaces = AopProxyUtils.completeProxiedInterfaces(this.advised, true);
 		findDefinedEqualsAndHashCodeMethods(proxiedInterfaces);
+		if (this.advised.isFrozen() && this.advised.getTargetSource().isStatic()) {
+			this.fixedDispatchMap = buildFixedDispatchMap(proxiedInterfaces);
+		}
 		return Proxy.newProxyInstance(classLoader, proxiedInterfaces, this);
 	}
 
+	/**
+	 * Determine the interceptor chain and the compiled joinpoint invoker (if any)
+	 * for each method of the given interfaces.
+	 * @param proxiedInterfaces the interfaces to introspect
+	 */
+	private Map<Method, FixedDispatch> buildFixedDispatchMap(Class<?>[] proxiedInterfaces) {
+		Class<?> targetClass = this.advised.getTargetClass();
+		Map<Method, FixedDispatch> fixedDispatchMap = new HashMap<>();
+		for (Class<?> proxiedInterface : proxiedInterfaces) {
+			if (proxiedInterface == SpringProxy.class || proxiedInterface == Advised.class ||
+					proxiedInterface == DecoratingProxy.class) {
+				// Handled by the proxy itself, see invoke below.
+				continue;
+			}
+			CompiledJoinpointInvoker invoker = JoinpointInvokerCompiler.getInvoker(proxiedInterface);
+			for (Method method : proxiedInterface.getMethods()) {
+				List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+				int index = (invoker != null ? invoker.getIndex(method) : -1);
+				fixedDispatchMap.put(method, new FixedDispatch(chain, (index != -1 ? invoker : null), index));
+			}
+		}
+		return fixedDispatchMap;
+	}
+
+	/**
+	 * Return the compiled joinpoint invoker that the given method gets
+	 * dispatched to, if any.
+	 * @param method the interface method
+	 * @return the compiled invoker, or {@code null} if the method gets invoked
+	 * through reflection (or if this proxy does not use a fixed dispatch)
+	 */
+	@Nullable
+	CompiledJoinpointInvoker getCompiledInvoker(Method method) {
+		FixedDispatch fixedDispatch = (this.fixedDispatchMap != null ? this.fixedDispatchMap.get(method) : null);
+		return (fixedDispatch != null ? fixedDispatch.invoker : null);
+	}
+
 	/**
 	 * Finds any {@link #equals} or {@link #hashCode} method that may be defined
 	 * on the supplied set of interfaces.
@@ -193,8 +249,11 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 			target = targetSource.getTarget();
 			Class<?> targetClass = (target != null ? target.getClass() : null);
 
-			// Get the interception chain for this method.
-			List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+			// Get the interception chain for this method: fixed at proxy creation
+			// if the configuration is frozen and the target is static.
+			FixedDispatch fixedDispatch = (this.fixedDispatchMap != null ? this.fixedDispatchMap.get(method) : null);
+			List<Object> chain = (fixedDispatch != null ? fixedDispatch.chain :
+					this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass));
 
 			// Check whether we have any advice. If we don't, we can fallback on direct
 			// reflective invocation of the target, and avoid creating a MethodInvocation.
@@ -203,11 +262,14 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 				// Note that the final invoker must be an InvokerInterceptor so we know it does
 				// nothing but a reflective operation on the target, and no hot swapping or fancy proxying.
 				Object[] argsToUse = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
-				retVal = AopUtils.invokeJoinpointUsingReflection(target, method, argsToUse);
+				retVal = (fixedDispatch != null ? fixedDispatch.invokeJoinpoint(target, method, argsToUse) :
+						AopUtils.invokeJoinpointUsingReflection(target, method, argsToUse));
 			}
 			else {
 				// We need to create a method invocation...
-				invocation = new ReflectiveMethodInvocation(proxy, target, method, args, targetClass, chain);
+				invocation = (fixedDispatch != null ?
+						new FixedDispatchMethodInvocation(proxy, target, method, args, targetClass, fixedDispatch) :
+						new ReflectiveMethodInvocation(proxy, target, method, args, targetClass, chain));
 				// Proceed to the joinpoint through the interceptor chain.
 				retVal = invocation.proceed();
 			}
@@ -283,4 +345,60 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 		return JdkDynamicAopProxy.class.hashCode() * 13 + this.advised.getTargetSource().hashCode();
 	}
 
+
+	/**
+	 * Interceptor chain and joinpoint invoker for a method on a frozen, static proxy.
+	 */
+	private static class FixedDispatch {
+
+		private final List<Object> chain;
+
+		@Nullable
+		private final CompiledJoinpointInvoker invoker;
+
+		private final int index;
+
+		public FixedDispatch(List<Object> chain, @Nullable CompiledJoinpointInvoker invoker, int index) {
+			this.chain = chain;
+			this.invoker = invoker;
+			this.index = index;
+		}
+
+		@Nullable
+		public Object invokeJoinpoint(@Nullable Object target, Method method, @Nullable Object[] args)
+				throws Throwable {
+
+			if (this.invoker != null && target != null) {
+				return this.invoker.invoke(this.index, target, args);
+			}
+			return AopUtils.invokeJoinpointUsingReflection(target, method, args);
+		}
+	}
+
+
+	/**
+	 * Implementation of AOP Alliance MethodInvocation used by this AOP proxy
+	 * for methods with a fixed dispatch.
+	 */
+	private static class FixedDispatchMethodInvocation extends ReflectiveMethodInvocation {
+
+		private final FixedDispatch fixedDispatch;
+
+		public FixedDispatchMethodInvocation(Object proxy, @Nullable Object target, Method method,
+				Object[] arguments, @Nullable Class<?> targetClass, FixedDispatch fixedDispatch) {
+
+			super(proxy, target, method, arguments, targetClass, fixedDispatch.chain);
+			this.fixedDispatch = fixedDispatch;
+		}
+
+		/**
+		 * Invokes the target through the compiled joinpoint invoker, if any.
+		 */
+		@Override
+		@Nullable
+		protected Object invokeJoinpoint() throws Throwable {
+			return this.fixedDispatch.invokeJoinpoint(this.target, this.method, this.arguments);
+		}
+	}
+
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.InvokerCompilerUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generates {@link CompiledJoinpointInvoker} subclasses for proxied interfaces,
+ * using the ASM library. Each generated class calls the public methods of an
+ * interface directly on the target object instead of going through reflection.
+ *
+ * <p>Only public interfaces get compiled, and only their non-static methods
+ * with public parameter types; all other methods keep using reflection.
+ * Generated invokers are shared by all proxies for the same interface.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ */
+final class JoinpointInvokerCompiler implements Opcodes {
+
+	private static final Log logger = LogFactory.getLog(JoinpointInvokerCompiler.class);
+
+	private static final String SUPERCLASS_NAME = Type.getInternalName(CompiledJoinpointInvoker.class);
+
+	private static final String CLASS_NAME_PREFIX = "org/springframework/aop/framework/generated/JoinpointInvoker";
+
+	/** Marker for interfaces which are not eligible for compilation. */
+	private static final Object NOT_COMPILABLE = new Object();
+
+	/** Compiled invokers (or the NOT_COMPILABLE marker), keyed by interface. */
+	private static final Map<Class<?>, Object> invokerCache = new ConcurrentReferenceHashMap<>();
+
+
+	private JoinpointInvokerCompiler() {
+	}
+
+
+	/**
+	 * Obtain a {@link CompiledJoinpointInvoker} for the given interface,
+	 * generating it on first access.
+	 * @param ifc the proxied interface
+	 * @return the compiled invoker, or {@code null} if the interface or none
+	 * of its methods are eligible for compilation
+	 */
+	@Nullable
+	static CompiledJoinpointInvoker getInvoker(Class<?> ifc) {
+		Object invoker = invokerCache.computeIfAbsent(ifc, key -> {
+			CompiledJoinpointInvoker compiled = compile(key);
+			return (compiled != null ? compiled : NOT_COMPILABLE);
+		});
+		return (invoker != NOT_COMPILABLE ? (CompiledJoinpointInvoker) invoker : null);
+	}
+
+	@Nullable
+	private static CompiledJoinpointInvoker compile(Class<?> ifc) {
+		ClassLoader ifcClassLoader = ifc.getClassLoader();
+		if (!ifc.isInterface() || !Modifier.isPublic(ifc.getModifiers()) ||
+				!InvokerCompilerUtils.isSupported(CompiledJoinpointInvoker.class, ifcClassLoader)) {
+			return null;
+		}
+
+		Method[] methods = ifc.getMethods();
+		boolean found = false;
+		for (int i = 0; i < methods.length; i++) {
+			if (isCompilable(methods[i])) {
+				found = true;
+			}
+			else {
+				methods[i] = null;
+			}
+		}
+		if (!found) {
+			return null;
+		}
+
+		try {
+			String className = InvokerCompilerUtils.generateClassName(CLASS_NAME_PREFIX);
+			byte[] bytes = generateClass(className, methods, ifcClassLoader);
+			Class<?> invokerClass = InvokerCompilerUtils.defineClass(ifcClassLoader, className, bytes);
+			CompiledJoinpointInvoker invoker =
+					(CompiledJoinpointInvoker) ReflectionUtils.accessibleConstructor(invokerClass).newInstance();
+			invoker.setMethods(methods);
+			if (logger.isTraceEnabled()) {
+				logger.trace("Compiled joinpoint invoker for interface [" + ifc.getName() + "]");
+			}
+			return invoker;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to compile joinpoint invoker for interface [" + ifc.getName() +
+						"] - falling back to reflection", ex);
+			}
+			return null;
+		}
+	}
+
+	private static boolean isCompilable(Method method) {
+		return (!Modifier.isStatic(method.getModifiers()) &&
+				Modifier.isPublic(method.getDeclaringClass().getModifiers()) &&
+				InvokerCompilerUtils.isCompilable(method));
+	}
+
+	private static byte[] generateClass(String className, Method[] methods, ClassLoader classLoader) {
+		ClassWriter cw = InvokerCompilerUtils.createClassWriter(classLoader);
+		cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, SUPERCLASS_NAME, null);
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, SUPERCLASS_NAME, "<init>", "()V", false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		generateInvoke(cw, methods);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private static void generateInvoke(ClassWriter cw, Method[] methods) {
+		MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "doInvoke",
+				"(ILjava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;", null,
+				new String[] {"java/lang/Throwable"});
+		mv.visitCode();
+		Label defaultLabel = new Label();
+		Label[] labels = new Label[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			labels[i] = (methods[i] != null ? new Label() : defaultLabel);
+		}
+		mv.visitVarInsn(ILOAD, 1);
+		mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+		for (int i = 0; i < methods.length; i++) {
+			Method method = methods[i];
+			if (method != null) {
+				mv.visitLabel(labels[i]);
+				String ifcType = Type.getInternalName(method.getDeclaringClass());
+				mv.visitVarInsn(ALOAD, 2);
+				mv.visitTypeInsn(CHECKCAST, ifcType);
+				Class<?>[] paramTypes = method.getParameterTypes();
+				for (int j = 0; j < paramTypes.length; j++) {
+					mv.visitVarInsn(ALOAD, 3);
+					InvokerCompilerUtils.pushInt(mv, j);
+					mv.visitInsn(AALOAD);
+					InvokerCompilerUtils.unboxOrCast(mv, paramTypes[j]);
+				}
+				mv.visitMethodInsn(INVOKEINTERFACE, ifcType, method.getName(), Type.getMethodDescriptor(method), true);
+				InvokerCompilerUtils.boxOrNull(mv, method.getReturnType());
+				mv.visitInsn(ARETURN);
+			}
+		}
+		mv.visitLabel(defaultLabel);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ILOAD, 1);
+		mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS_NAME, "unknownMethodIndex",
+				"(I)Ljava/lang/IllegalArgumentException;", false);
+		mv.visitInsn(ATHROW);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+}
@@ -16,17 +16,23 @@
 
 package org.springframework.aop.aspectj;
 
+import java.io.File;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import test.annotation.EmptySpringAnnotation;
 import test.annotation.transaction.Tx;
 
 import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.SpringProperties;
 import org.springframework.tests.sample.beans.TestBean;
 
 import static org.junit.Assert.*;
@@ -39,6 +45,9 @@ import static org.junit.Assert.*;
  */
 public class TigerAspectJExpressionPointcutTests {
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	private Method getAge;
 
 	private final Map<String, Method> methodsOnHasGeneric = new HashMap<>();
@@ -179,6 +188,66 @@ public class TigerAspectJExpressionPointcutTests {
 		assertTrue(ajexp.matches(IBeanA.class.getMethod("getAge"), proxy.getClass()));
 	}
 
+	@Test
+	public void testAnnotationPrefilterOnClass() throws Exception {
+		AspectJExpressionPointcut methodPc = new AspectJExpressionPointcut();
+		methodPc.setExpression("@annotation(test.annotation.transaction.Tx) && execution(* *(..))");
+		assertFalse(methodPc.matches(TestBean.class));
+		assertFalse(methodPc.matches(HasTransactionalAnnotation.class));
+		assertTrue(methodPc.matches(BeanA.class));
+
+		AspectJExpressionPointcut typePc = new AspectJExpressionPointcut();
+		typePc.setExpression("@within(test.annotation.transaction.Tx) || @annotation(test.annotation.transaction.Tx)");
+		assertFalse(typePc.matches(TestBean.class));
+		assertTrue(typePc.matches(HasTransactionalAnnotation.class));
+		assertTrue(typePc.matches(BeanA.class));
+		assertTrue(typePc.matches(BeanB.class));
+
+		AspectJExpressionPointcut negatedPc = new AspectJExpressionPointcut();
+		negatedPc.setExpression("!@annotation(test.annotation.transaction.Tx)");
+		assertTrue(negatedPc.matches(TestBean.class));
+	}
+
+	@Test
+	public void testPersistentShadowMatchCache() throws Exception {
+		File cacheFile = new File(this.temporaryFolder.getRoot(), "shadow-matches.txt");
+		String expression = "@annotation(test.annotation.transaction.Tx) || execution(* setName(..))";
+		SpringProperties.setProperty(
+				AspectJExpressionPointcut.SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME, cacheFile.getAbsolutePath());
+		try {
+			AspectJExpressionPointcut ajexp = new AspectJExpressionPointcut();
+			ajexp.setExpression(expression);
+			assertTrue(ajexp.matches(BeanA.class.getMethod("getAge"), BeanA.class));
+			assertTrue(ajexp.matches(BeanA.class.getMethod("setName", String.class), BeanA.class));
+			assertFalse(ajexp.matches(getAge, TestBean.class));
+
+			AspectJExpressionPointcut.saveShadowMatchCache();
+			String content = new String(Files.readAllBytes(cacheFile.toPath()), StandardCharsets.UTF_8);
+			assertTrue(content.contains(BeanA.class.getName() + "#getAge()"));
+			assertTrue(content.contains(TestBean.class.getName() + "#getAge()"));
+
+			AspectJExpressionPointcut recorded = new AspectJExpressionPointcut();
+			recorded.setExpression(expression);
+			assertTrue(recorded.matches(BeanA.class.getMethod("getAge"), BeanA.class));
+			assertTrue(recorded.matches(BeanA.class.getMethod("setName", String.class), BeanA.class));
+			assertFalse(recorded.matches(getAge, TestBean.class));
+		}
+		finally {
+			SpringProperties.setProperty(AspectJExpressionPointcut.SHADOW_MATCH_CACHE_FILE_PROPERTY_NAME, null);
+		}
+	}
+
+	@Test
+	public void testPersistentShadowMatchCacheWithNamedPointcuts() {
+		assertTrue(PersistentShadowMatchCache.isCacheable(
+				"@annotation(test.annotation.transaction.Tx) || execution(* setName(..))"));
+		assertTrue(PersistentShadowMatchCache.isCacheable("!within(com.foo..*) && args (java.lang.String)"));
+		assertFalse(PersistentShadowMatchCache.isCacheable("businessService()"));
+		assertFalse(PersistentShadowMatchCache.isCacheable(
+				"execution(* setName(..)) && com.foo.SystemArchitecture.inServiceLayer()"));
+		assertFalse(PersistentShadowMatchCache.isCacheable("!(within(com.foo..*) || dataAccessOperation())"));
+	}
+
 	@Test
 	public void testAnnotationOnMethodWithWildcard() throws Exception {
 		String expression = "execution(@(test.annotation..*) * *(..))";
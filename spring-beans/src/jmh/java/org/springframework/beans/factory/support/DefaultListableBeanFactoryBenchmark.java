@@ -0,0 +1,144 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+
+/**
+ * Benchmarks for {@link DefaultListableBeanFactory#getBean} with singleton
+ * and prototype bean definitions, with and without cached instantiation plans.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DefaultListableBeanFactoryBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"false", "true"})
+		public boolean cacheInstantiationPlans;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.setCacheInstantiationPlans(this.cacheInstantiationPlans);
+
+			RootBeanDefinition repository = new RootBeanDefinition(Repository.class);
+			repository.setPrimary(true);
+			this.beanFactory.registerBeanDefinition("repository", repository);
+
+			RootBeanDefinition service = new RootBeanDefinition(Service.class);
+			service.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("repository"));
+			this.beanFactory.registerBeanDefinition("service", service);
+
+			RootBeanDefinition prototype = new RootBeanDefinition(Service.class);
+			prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			prototype.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("repository"));
+			this.beanFactory.registerBeanDefinition("prototypeService", prototype);
+
+			RootBeanDefinition autowired = new RootBeanDefinition(Service.class);
+			autowired.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			autowired.setAutowireMode(RootBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+			this.beanFactory.registerBeanDefinition("autowiredPrototypeService", autowired);
+
+			RootBeanDefinition properties = new RootBeanDefinition(Repository.class);
+			properties.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			properties.getPropertyValues().add("name", "jmh").add("size", "42");
+			this.beanFactory.registerBeanDefinition("prototypeRepository", properties);
+
+			this.beanFactory.preInstantiateSingletons();
+		}
+	}
+
+
+	@Benchmark
+	public Object singletonByName(BenchmarkState state) {
+		return state.beanFactory.getBean("service");
+	}
+
+	@Benchmark
+	public Object singletonByType(BenchmarkState state) {
+		return state.beanFactory.getBean(Repository.class);
+	}
+
+	@Benchmark
+	public Object prototypeWithConstructorArgument(BenchmarkState state) {
+		return state.beanFactory.getBean("prototypeService");
+	}
+
+	@Benchmark
+	public Object prototypeWithConstructorAutowiring(BenchmarkState state) {
+		return state.beanFactory.getBean("autowiredPrototypeService");
+	}
+
+	@Benchmark
+	public Object prototypeWithPropertyValues(BenchmarkState state) {
+		return state.beanFactory.getBean("prototypeRepository");
+	}
+
+
+	public static class Repository {
+
+		private String name;
+
+		private int size;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public int getSize() {
+			return this.size;
+		}
+	}
+
+
+	public static class Service {
+
+		private final Repository repository;
+
+		public Service(Repository repository) {
+			this.repository = repository;
+		}
+
+		public Repository getRepository() {
+			return this.repository;
+		}
+	}
+
+}
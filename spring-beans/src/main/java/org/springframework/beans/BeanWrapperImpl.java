@@ -28,6 +28,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -304,6 +305,13 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 				}
 			}
 			else {
+				CompiledPropertyInvoker invoker = getCachedIntrospectionResults().getCompiledPropertyInvoker();
+				if (invoker != null) {
+					int index = invoker.getReadIndex(this.pd.getName());
+					if (index >= 0) {
+						return invoker.invokeGetter(getWrappedInstance(), index);
+					}
+				}
 				ReflectionUtils.makeAccessible(readMethod);
 				return readMethod.invoke(getWrappedInstance(), (Object[]) null);
 			}
@@ -328,6 +336,15 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 				}
 			}
 			else {
+				CompiledPropertyInvoker invoker = getCachedIntrospectionResults().getCompiledPropertyInvoker();
+				if (invoker != null) {
+					int index = invoker.getWriteIndex(this.pd.getName());
+					// Leave argument conversions such as primitive widening to reflection
+					if (index >= 0 && ClassUtils.isAssignableValue(writeMethod.getParameterTypes()[0], value)) {
+						invoker.invokeSetter(getWrappedInstance(), index, value);
+						return;
+					}
+				}
 				ReflectionUtils.makeAccessible(writeMethod);
 				writeMethod.invoke(getWrappedInstance(), value);
 			}
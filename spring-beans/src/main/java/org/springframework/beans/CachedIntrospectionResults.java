@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -92,10 +93,28 @@ public final class CachedIntrospectionResults {
 	 */
 	public static final String IGNORE_BEANINFO_PROPERTY_NAME = "spring.beaninfo.ignore";
 
+	/**
+	 * System property that instructs Spring to not generate bytecode for invoking
+	 * the read and write methods of frequently accessed bean classes:
+	 * "spring.beaninfo.compile.ignore", with a value of "true" always using
+	 * reflection for accessing bean properties.
+	 * <p>The default is "false", generating a {@link CompiledPropertyInvoker} per bean
+	 * class once its properties have been accessed a certain number of times.
+	 * @since 5.2
+	 * @see #getCompiledPropertyInvoker()
+	 */
+	public static final String IGNORE_COMPILATION_PROPERTY_NAME = "spring.beaninfo.compile.ignore";
+
+	/** Number of property accesses after which a bean class gets compiled. */
+	private static final int COMPILATION_THRESHOLD = 32;
+
 
 	private static final boolean shouldIntrospectorIgnoreBeaninfoClasses =
 			SpringProperties.getFlag(IGNORE_BEANINFO_PROPERTY_NAME);
 
+	private static final boolean shouldIgnoreCompilation =
+			SpringProperties.getFlag(IGNORE_COMPILATION_PROPERTY_NAME);
+
 	/** Stores the BeanInfoFactory instances. */
 	private static List<BeanInfoFactory> beanInfoFactories = SpringFactoriesLoader.loadFactories(
 			BeanInfoFactory.class, CachedIntrospectionResults.class.getClassLoader());
@@ -259,6 +278,16 @@ public final class CachedIntrospectionResults {
 	/** TypeDescriptor objects keyed by PropertyDescriptor. */
 	private final ConcurrentMap<PropertyDescriptor, TypeDescriptor> typeDescriptorCache;
 
+	/** Number of property accesses so far, until reaching the compilation threshold. */
+	private final AtomicInteger propertyAccessCount = new AtomicInteger();
+
+	/** Compiled invoker for the property accessor methods, if any. */
+	@Nullable
+	private volatile CompiledPropertyInvoker compiledPropertyInvoker;
+
+	/** Whether compilation has been attempted already (or is not to be attempted at all). */
+	private volatile boolean compilationAttempted = shouldIgnoreCompilation;
+
 
 	/**
 	 * Create a new CachedIntrospectionResults instance for the given class.
@@ -372,6 +401,26 @@ public final class CachedIntrospectionResults {
 		}
 	}
 
+	/**
+	 * Return the compiled invoker for the read and write methods of the bean class,
+	 * generating it once the properties of the bean class have been accessed a
+	 * certain number of times.
+	 * @return the compiled invoker, or {@code null} if not compiled (yet)
+	 * @since 5.2
+	 * @see #IGNORE_COMPILATION_PROPERTY_NAME
+	 */
+	@Nullable
+	CompiledPropertyInvoker getCompiledPropertyInvoker() {
+		CompiledPropertyInvoker invoker = this.compiledPropertyInvoker;
+		if (invoker == null && !this.compilationAttempted &&
+				this.propertyAccessCount.incrementAndGet() == COMPILATION_THRESHOLD) {
+			invoker = PropertyInvokerCompiler.compile(getBeanClass(), this.propertyDescriptorCache.values());
+			this.compiledPropertyInvoker = invoker;
+			this.compilationAttempted = true;
+		}
+		return invoker;
+	}
+
 	TypeDescriptor addTypeDescriptor(PropertyDescriptor pd, TypeDescriptor td) {
 		TypeDescriptor existing = this.typeDescriptorCache.putIfAbsent(pd, td);
 		return (existing != null ? existing : td);
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Base class for bytecode-generated invokers of bean property read and write
+ * methods, used by {@link BeanWrapperImpl} as a faster alternative to reflective
+ * {@link java.lang.reflect.Method#invoke} calls. Not intended for direct use
+ * by application code.
+ *
+ * <p>Generated subclasses implement {@link #getValue} and {@link #setValue}
+ * as a switch over the property index, directly calling the corresponding
+ * accessor method on the bean class. This class is only public since the
+ * generated subclasses get defined in a separate ClassLoader.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see PropertyInvokerCompiler
+ * @see CachedIntrospectionResults#getCompiledPropertyInvoker()
+ */
+public abstract class CompiledPropertyInvoker {
+
+	private final Map<String, Integer> readIndexes = new HashMap<>();
+
+	private final Map<String, Integer> writeIndexes = new HashMap<>();
+
+
+	/**
+	 * Invoke the read method for the property with the given index.
+	 * @param target the bean instance to read from
+	 * @param index the index of the property
+	 * @return the current property value
+	 */
+	@Nullable
+	public abstract Object getValue(Object target, int index);
+
+	/**
+	 * Invoke the write method for the property with the given index.
+	 * @param target the bean instance to write to
+	 * @param index the index of the property
+	 * @param value the new property value (already matching the property type)
+	 */
+	public abstract void setValue(Object target, int index, @Nullable Object value);
+
+	/**
+	 * Create an exception for an index that does not correspond to a compiled
+	 * accessor method. Called by the generated subclasses.
+	 * @param index the unknown index
+	 */
+	protected IllegalArgumentException unknownPropertyIndex(int index) {
+		return new IllegalArgumentException("No compiled accessor method for property index " + index);
+	}
+
+
+	void addReadIndex(String propertyName, int index) {
+		this.readIndexes.put(propertyName, index);
+	}
+
+	void addWriteIndex(String propertyName, int index) {
+		this.writeIndexes.put(propertyName, index);
+	}
+
+	/**
+	 * Return the index of the compiled read method for the given property,
+	 * or -1 if the property has no compiled read method.
+	 */
+	int getReadIndex(String propertyName) {
+		Integer index = this.readIndexes.get(propertyName);
+		return (index != null ? index : -1);
+	}
+
+	/**
+	 * Return the index of the compiled write method for the given property,
+	 * or -1 if the property has no compiled write method.
+	 */
+	int getWriteIndex(String propertyName) {
+		Integer index = this.writeIndexes.get(propertyName);
+		return (index != null ? index : -1);
+	}
+
+	/**
+	 * Invoke {@link #getValue}, translating any exception thrown by the read
+	 * method into an {@link InvocationTargetException}, just like reflection.
+	 */
+	@Nullable
+	Object invokeGetter(Object target, int index) throws InvocationTargetException {
+		try {
+			return getValue(target, index);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Invoke {@link #setValue}, translating any exception thrown by the write
+	 * method into an {@link InvocationTargetException}, just like reflection.
+	 */
+	void invokeSetter(Object target, int index, @Nullable Object value) throws InvocationTargetException {
+		try {
+			setValue(target, index, value);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+}
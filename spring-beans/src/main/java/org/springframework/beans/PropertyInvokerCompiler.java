@@ -0,0 +1,232 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.InvokerCompilerUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generates {@link CompiledPropertyInvoker} subclasses for bean classes, using
+ * the ASM library. Each generated class calls the public read and write methods
+ * of a bean class directly instead of going through reflection.
+ *
+ * <p>Only public read and write methods declared on public, non-proxy classes
+ * get compiled; all other properties keep using reflection.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see CachedIntrospectionResults#getCompiledPropertyInvoker()
+ */
+final class PropertyInvokerCompiler implements Opcodes {
+
+	private static final Log logger = LogFactory.getLog(PropertyInvokerCompiler.class);
+
+	private static final String SUPERCLASS_NAME = Type.getInternalName(CompiledPropertyInvoker.class);
+
+	private static final String CLASS_NAME_PREFIX = "org/springframework/beans/generated/PropertyInvoker";
+
+
+	private PropertyInvokerCompiler() {
+	}
+
+
+	/**
+	 * Generate a {@link CompiledPropertyInvoker} for the given bean class.
+	 * @param beanClass the bean class
+	 * @param pds the property descriptors of the bean class
+	 * @return the compiled invoker, or {@code null} if the bean class or none
+	 * of its properties are eligible for compilation
+	 */
+	@Nullable
+	static CompiledPropertyInvoker compile(Class<?> beanClass, Collection<PropertyDescriptor> pds) {
+		ClassLoader beanClassLoader = beanClass.getClassLoader();
+		if (!Modifier.isPublic(beanClass.getModifiers()) || beanClass.isInterface() ||
+				Proxy.isProxyClass(beanClass) ||
+				!InvokerCompilerUtils.isSupported(CompiledPropertyInvoker.class, beanClassLoader)) {
+			return null;
+		}
+
+		Method[] readMethods = new Method[pds.size()];
+		Method[] writeMethods = new Method[pds.size()];
+		boolean found = false;
+		int index = 0;
+		for (PropertyDescriptor pd : pds) {
+			Method readMethod = pd.getReadMethod();
+			if (readMethod != null && isCompilable(readMethod)) {
+				readMethods[index] = readMethod;
+				found = true;
+			}
+			Method writeMethod = pd.getWriteMethod();
+			if (writeMethod != null && pd instanceof GenericTypeAwarePropertyDescriptor) {
+				writeMethod = ((GenericTypeAwarePropertyDescriptor) pd).getWriteMethodForActualAccess();
+			}
+			if (writeMethod != null && isCompilable(writeMethod)) {
+				writeMethods[index] = writeMethod;
+				found = true;
+			}
+			index++;
+		}
+		if (!found) {
+			return null;
+		}
+
+		try {
+			String className = InvokerCompilerUtils.generateClassName(CLASS_NAME_PREFIX);
+			byte[] bytes = generateClass(className, Type.getInternalName(beanClass),
+					readMethods, writeMethods, beanClassLoader);
+			Class<?> invokerClass = InvokerCompilerUtils.defineClass(beanClassLoader, className, bytes);
+			CompiledPropertyInvoker invoker =
+					(CompiledPropertyInvoker) ReflectionUtils.accessibleConstructor(invokerClass).newInstance();
+			index = 0;
+			for (PropertyDescriptor pd : pds) {
+				if (readMethods[index] != null) {
+					invoker.addReadIndex(pd.getName(), index);
+				}
+				if (writeMethods[index] != null) {
+					invoker.addWriteIndex(pd.getName(), index);
+				}
+				index++;
+			}
+			if (logger.isTraceEnabled()) {
+				logger.trace("Compiled property invoker for class [" + beanClass.getName() + "]");
+			}
+			return invoker;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to compile property invoker for class [" + beanClass.getName() +
+						"] - falling back to reflection", ex);
+			}
+			return null;
+		}
+	}
+
+	private static boolean isCompilable(Method method) {
+		return (!Modifier.isStatic(method.getModifiers()) && InvokerCompilerUtils.isCompilable(method));
+	}
+
+	private static byte[] generateClass(String className, String beanType,
+			Method[] readMethods, Method[] writeMethods, ClassLoader classLoader) {
+
+		ClassWriter cw = InvokerCompilerUtils.createClassWriter(classLoader);
+		cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, SUPERCLASS_NAME, null);
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, SUPERCLASS_NAME, "<init>", "()V", false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		generateGetValue(cw, beanType, readMethods);
+		generateSetValue(cw, beanType, writeMethods);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private static void generateGetValue(ClassWriter cw, String beanType, Method[] readMethods) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getValue",
+				"(Ljava/lang/Object;I)Ljava/lang/Object;", null, null);
+		mv.visitCode();
+		Label defaultLabel = new Label();
+		Label[] labels = createLabels(readMethods, defaultLabel);
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+		for (int i = 0; i < readMethods.length; i++) {
+			Method readMethod = readMethods[i];
+			if (readMethod != null) {
+				mv.visitLabel(labels[i]);
+				mv.visitVarInsn(ALOAD, 1);
+				mv.visitTypeInsn(CHECKCAST, beanType);
+				mv.visitMethodInsn(INVOKEVIRTUAL, beanType, readMethod.getName(),
+						Type.getMethodDescriptor(readMethod), false);
+				InvokerCompilerUtils.boxOrNull(mv, readMethod.getReturnType());
+				mv.visitInsn(ARETURN);
+			}
+		}
+		generateUnknownIndex(mv, defaultLabel);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void generateSetValue(ClassWriter cw, String beanType, Method[] writeMethods) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "setValue",
+				"(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+		mv.visitCode();
+		Label defaultLabel = new Label();
+		Label[] labels = createLabels(writeMethods, defaultLabel);
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+		for (int i = 0; i < writeMethods.length; i++) {
+			Method writeMethod = writeMethods[i];
+			if (writeMethod != null) {
+				mv.visitLabel(labels[i]);
+				mv.visitVarInsn(ALOAD, 1);
+				mv.visitTypeInsn(CHECKCAST, beanType);
+				mv.visitVarInsn(ALOAD, 3);
+				InvokerCompilerUtils.unboxOrCast(mv, writeMethod.getParameterTypes()[0]);
+				mv.visitMethodInsn(INVOKEVIRTUAL, beanType, writeMethod.getName(),
+						Type.getMethodDescriptor(writeMethod), false);
+				Class<?> returnType = writeMethod.getReturnType();
+				if (returnType == long.class || returnType == double.class) {
+					mv.visitInsn(POP2);
+				}
+				else if (returnType != void.class) {
+					mv.visitInsn(POP);
+				}
+				mv.visitInsn(RETURN);
+			}
+		}
+		generateUnknownIndex(mv, defaultLabel);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static Label[] createLabels(Method[] methods, Label defaultLabel) {
+		Label[] labels = new Label[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			labels[i] = (methods[i] != null ? new Label() : defaultLabel);
+		}
+		return labels;
+	}
+
+	private static void generateUnknownIndex(MethodVisitor mv, Label defaultLabel) {
+		mv.visitLabel(defaultLabel);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS_NAME, "unknownPropertyIndex",
+				"(I)Ljava/lang/IllegalArgumentException;", false);
+		mv.visitInsn(ATHROW);
+	}
+
+}
@@ -43,6 +43,7 @@ import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -219,6 +220,9 @@ class ConstructorResolver {
 								getUserDeclaredConstructor(candidate), autowiring, candidates.length == 1);
 					}
 					catch (UnsatisfiedDependencyException ex) {
+						if (this.beanFactory.isSingletonCreationBackingOff()) {
+							throw ex;
+						}
 						if (logger.isTraceEnabled()) {
 							logger.trace("Ignoring constructor [" + candidate + "] of bean '" + beanName + "': " + ex);
 						}
@@ -510,6 +514,9 @@ class ConstructorResolver {
 									paramTypes, paramNames, candidate, autowiring, candidates.length == 1);
 						}
 						catch (UnsatisfiedDependencyException ex) {
+							if (this.beanFactory.isSingletonCreationBackingOff()) {
+								throw ex;
+							}
 							if (logger.isTraceEnabled()) {
 								logger.trace("Ignoring factory method [" + candidate + "] of bean '" + beanName + "': " + ex);
 							}
@@ -794,14 +801,23 @@ class ConstructorResolver {
 		BeanDefinitionValueResolver valueResolver =
 				new BeanDefinitionValueResolver(this.beanFactory, beanName, mbd, converter);
 		Class<?>[] paramTypes = executable.getParameterTypes();
+		InstantiationPlan plan = (this.beanFactory.isCacheInstantiationPlans() ?
+				obtainInstantiationPlan(mbd, executable, argsToResolve) : null);
 
 		Object[] resolvedArgs = new Object[argsToResolve.length];
 		for (int argIndex = 0; argIndex < argsToResolve.length; argIndex++) {
 			Object argValue = argsToResolve[argIndex];
-			MethodParameter methodParam = MethodParameter.forExecutable(executable, argIndex);
-			GenericTypeResolver.resolveParameterType(methodParam, executable.getDeclaringClass());
+			MethodParameter methodParam;
+			if (plan != null) {
+				methodParam = plan.getParameter(argIndex);
+			}
+			else {
+				methodParam = MethodParameter.forExecutable(executable, argIndex);
+				GenericTypeResolver.resolveParameterType(methodParam, executable.getDeclaringClass());
+			}
 			if (argValue instanceof AutowiredArgumentMarker) {
-				argValue = resolveAutowiredArgument(methodParam, beanName, null, converter, fallback);
+				argValue = (plan != null ? resolvePlannedArgument(plan, argIndex, beanName, converter, fallback) :
+						resolveAutowiredArgument(methodParam, beanName, null, converter, fallback));
 			}
 			else if (argValue instanceof BeanMetadataElement) {
 				argValue = valueResolver.resolveValueIfNecessary("constructor argument", argValue);
@@ -823,6 +839,67 @@ class ConstructorResolver {
 		return resolvedArgs;
 	}
 
+	/**
+	 * Obtain the instantiation plan for the given constructor or factory method,
+	 * preparing the method parameters and dependency descriptors on first access.
+	 */
+	private InstantiationPlan obtainInstantiationPlan(
+			RootBeanDefinition mbd, Executable executable, Object[] argsToResolve) {
+
+		InstantiationPlan plan = mbd.instantiationPlan;
+		if (plan == null || plan.getExecutable() != executable) {
+			MethodParameter[] parameters = new MethodParameter[argsToResolve.length];
+			DependencyDescriptor[] descriptors = new DependencyDescriptor[argsToResolve.length];
+			for (int argIndex = 0; argIndex < argsToResolve.length; argIndex++) {
+				MethodParameter methodParam = MethodParameter.forExecutable(executable, argIndex);
+				GenericTypeResolver.resolveParameterType(methodParam, executable.getDeclaringClass());
+				parameters[argIndex] = methodParam;
+				if (argsToResolve[argIndex] instanceof AutowiredArgumentMarker &&
+						!InjectionPoint.class.isAssignableFrom(methodParam.getParameterType())) {
+					descriptors[argIndex] = new DependencyDescriptor(methodParam, true);
+				}
+			}
+			plan = new InstantiationPlan(executable, parameters, descriptors);
+			mbd.instantiationPlan = plan;
+		}
+		return plan;
+	}
+
+	/**
+	 * Resolve the specified autowired argument through the given instantiation plan,
+	 * registering a bean name shortcut in the plan once a single target bean is known.
+	 */
+	@Nullable
+	private Object resolvePlannedArgument(InstantiationPlan plan, int argIndex, String beanName,
+			TypeConverter typeConverter, boolean fallback) {
+
+		DependencyDescriptor descriptor = plan.getDependencyDescriptor(argIndex);
+		if (descriptor == null) {
+			return resolveAutowiredArgument(plan.getParameter(argIndex), beanName, null, typeConverter, fallback);
+		}
+		if (plan.hasShortcut(argIndex)) {
+			try {
+				return this.beanFactory.resolveDependency(descriptor, beanName, null, typeConverter);
+			}
+			catch (NoSuchBeanDefinitionException | BeanNotOfRequiredTypeException ex) {
+				// Shortcut target bean has been removed or replaced in the meantime -> re-resolve by type.
+				plan.removeShortcut(argIndex);
+				descriptor = plan.getDependencyDescriptor(argIndex);
+				Assert.state(descriptor != null, "No DependencyDescriptor");
+			}
+		}
+		Set<String> autowiredBeanNames = new LinkedHashSet<>(1);
+		Object argValue = resolveAutowiredArgument(descriptor, beanName, autowiredBeanNames, typeConverter, fallback);
+		if (autowiredBeanNames.size() == 1) {
+			String autowiredBeanName = autowiredBeanNames.iterator().next();
+			if (this.beanFactory.containsBean(autowiredBeanName) &&
+					this.beanFactory.isTypeMatch(autowiredBeanName, descriptor.getDependencyType())) {
+				plan.registerShortcut(argIndex, autowiredBeanName);
+			}
+		}
+		return argValue;
+	}
+
 	protected Constructor<?> getUserDeclaredConstructor(Constructor<?> constructor) {
 		Class<?> declaringClass = constructor.getDeclaringClass();
 		Class<?> userClass = ClassUtils.getUserClass(declaringClass);
@@ -853,9 +930,21 @@ class ConstructorResolver {
 			}
 			return injectionPoint;
 		}
+		return resolveAutowiredArgument(
+				new DependencyDescriptor(param, true), beanName, autowiredBeanNames, typeConverter, fallback);
+	}
+
+	/**
+	 * Resolve the given dependency descriptor for an autowired argument,
+	 * falling back to an empty array/collection/map if demanded.
+	 */
+	@Nullable
+	private Object resolveAutowiredArgument(DependencyDescriptor descriptor, String beanName,
+			@Nullable Set<String> autowiredBeanNames, TypeConverter typeConverter, boolean fallback) {
+
+		Class<?> paramType = descriptor.getDependencyType();
 		try {
-			return this.beanFactory.resolveDependency(
-					new DependencyDescriptor(param, true), beanName, autowiredBeanNames, typeConverter);
+			return this.beanFactory.resolveDependency(descriptor, beanName, autowiredBeanNames, typeConverter);
 		}
 		catch (NoUniqueBeanDefinitionException ex) {
 			throw ex;
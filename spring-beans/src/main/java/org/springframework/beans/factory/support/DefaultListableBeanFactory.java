@@ -30,6 +30,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -40,11 +41,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import javax.inject.Provider;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -68,8 +71,10 @@ import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -146,6 +151,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Whether to allow eager class loading even for lazy-init beans. */
 	private boolean allowEagerClassLoading = true;
 
+	/** Number of threads to pre-instantiate singletons with. */
+	private int preInstantiationParallelism = 1;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -262,6 +270,40 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.allowEagerClassLoading;
 	}
 
+	/**
+	 * Set the number of threads to use for pre-instantiating non-lazy singletons
+	 * in {@link #preInstantiateSingletons()}.
+	 * <p>Default is 1, creating all singletons one by one on the calling thread.
+	 * A higher value creates singletons on a dedicated
+	 * {@link java.util.concurrent.ForkJoinPool} of the given size, scheduling each
+	 * bean once its known dependencies (explicit "depends-on" declarations, bean
+	 * references and factory beans in the bean definition, as well as registered
+	 * dependent beans) have been created. Contention on the singleton lock gets
+	 * monitored while the pool is active and reported at debug level afterwards.
+	 * <p>Requires {@link #setAllowConcurrentSingletonCreation concurrent singleton
+	 * creation} to be switched on as well: otherwise all singleton creation gets
+	 * serialized through the singleton mutex, so the factory logs a warning and
+	 * pre-instantiates its singletons one by one on the calling thread instead.
+	 * <p>Only switch this on for bean definitions which are safe to initialize
+	 * concurrently: beans with initialization side effects on shared state which
+	 * is not expressed as a dependency may observe each other in a different order.
+	 * @since 5.2
+	 * @see #setAllowConcurrentSingletonCreation
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setPreInstantiationParallelism(int preInstantiationParallelism) {
+		Assert.isTrue(preInstantiationParallelism > 0, "Pre-instantiation parallelism must be greater than 0");
+		this.preInstantiationParallelism = preInstantiationParallelism;
+	}
+
+	/**
+	 * Return the number of threads to use for pre-instantiating singletons.
+	 * @since 5.2
+	 */
+	public int getPreInstantiationParallelism() {
+		return this.preInstantiationParallelism;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -317,6 +359,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			DefaultListableBeanFactory otherListableFactory = (DefaultListableBeanFactory) otherFactory;
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
+			this.preInstantiationParallelism = otherListableFactory.preInstantiationParallelism;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware...
 			setAutowireCandidateResolver(BeanUtils.instantiateClass(getAutowireCandidateResolver().getClass()));
@@ -547,33 +590,49 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 		// Check manually registered singletons too.
 		for (String beanName : this.manualSingletonNames) {
-			try {
-				// In case of FactoryBean, match object created by FactoryBean.
-				if (isFactoryBean(beanName)) {
-					if ((includeNonSingletons || isSingleton(beanName)) && isTypeMatch(beanName, type)) {
-						result.add(beanName);
-						// Match found for this bean: do not match FactoryBean itself anymore.
-						continue;
-					}
-					// In case of FactoryBean, try to match FactoryBean itself next.
-					beanName = FACTORY_BEAN_PREFIX + beanName;
-				}
-				// Match raw bean instance (might be raw FactoryBean).
-				if (isTypeMatch(beanName, type)) {
-					result.add(beanName);
-				}
-			}
-			catch (NoSuchBeanDefinitionException ex) {
-				// Shouldn't happen - probably a result of circular reference resolution...
-				if (logger.isTraceEnabled()) {
-					logger.trace("Failed to check manually registered singleton with name '" + beanName + "'", ex);
-				}
+			String matchingBeanName = getMatchingManualSingletonName(beanName, type, includeNonSingletons);
+			if (matchingBeanName != null) {
+				result.add(matchingBeanName);
 			}
 		}
 
 		return StringUtils.toStringArray(result);
 	}
 
+	/**
+	 * Check whether the given manually registered singleton matches the given type.
+	 * @param beanName the name of the manually registered singleton
+	 * @param type the type to match
+	 * @param includeNonSingletons whether to include prototype objects of a FactoryBean
+	 * @return the name under which the singleton matches (with the factory bean
+	 * prefix when matching a FactoryBean itself), or {@code null} if not matching
+	 */
+	@Nullable
+	private String getMatchingManualSingletonName(String beanName, ResolvableType type, boolean includeNonSingletons) {
+		try {
+			// In case of FactoryBean, match object created by FactoryBean.
+			if (isFactoryBean(beanName)) {
+				if ((includeNonSingletons || isSingleton(beanName)) && isTypeMatch(beanName, type)) {
+					// Match found for this bean: do not match FactoryBean itself anymore.
+					return beanName;
+				}
+				// In case of FactoryBean, try to match FactoryBean itself next.
+				beanName = FACTORY_BEAN_PREFIX + beanName;
+			}
+			// Match raw bean instance (might be raw FactoryBean).
+			if (isTypeMatch(beanName, type)) {
+				return beanName;
+			}
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			// Shouldn't happen - probably a result of circular reference resolution...
+			if (logger.isTraceEnabled()) {
+				logger.trace("Failed to check manually registered singleton with name '" + beanName + "'", ex);
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Check whether the specified bean would need to be eagerly initialized
 	 * in order to determine its type.
@@ -606,7 +665,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			}
 			catch (BeanCreationException ex) {
 				Throwable rootCause = ex.getMostSpecificCause();
-				if (rootCause instanceof BeanCurrentlyInCreationException) {
+				if (rootCause instanceof BeanCurrentlyInCreationException && !isSingletonCreationBackingOff()) {
 					BeanCreationException bce = (BeanCreationException) rootCause;
 					String exBeanName = bce.getBeanName();
 					if (exBeanName != null && isCurrentlyInCreation(exBeanName)) {
@@ -820,31 +879,16 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				if (isFactoryBean(beanName)) {
-					Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
-					if (bean instanceof FactoryBean) {
-						final FactoryBean<?> factory = (FactoryBean<?>) bean;
-						boolean isEagerInit;
-						if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
-							isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>)
-											((SmartFactoryBean<?>) factory)::isEagerInit,
-									getAccessControlContext());
-						}
-						else {
-							isEagerInit = (factory instanceof SmartFactoryBean &&
-									((SmartFactoryBean<?>) factory).isEagerInit());
-						}
-						if (isEagerInit) {
-							getBean(beanName);
-						}
-					}
-				}
-				else {
-					getBean(beanName);
-				}
+		if (this.preInstantiationParallelism > 1 && !isAllowConcurrentSingletonCreation()) {
+			logger.warn("Ignoring pre-instantiation parallelism " + this.preInstantiationParallelism +
+					" since concurrent singleton creation is not allowed in " + this);
+		}
+		if (this.preInstantiationParallelism > 1 && isAllowConcurrentSingletonCreation()) {
+			preInstantiateSingletonsInParallel(beanNames);
+		}
+		else {
+			for (String beanName : beanNames) {
+				preInstantiateSingleton(beanName);
 			}
 		}
 
@@ -867,6 +911,117 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Trigger initialization of the given bean if it is a non-lazy singleton,
+	 * including the target object of eager-init {@link SmartFactoryBean SmartFactoryBeans}.
+	 * @param beanName the name of the bean
+	 */
+	private void preInstantiateSingleton(String beanName) {
+		RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+		if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+			if (isFactoryBean(beanName)) {
+				Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
+				if (bean instanceof FactoryBean) {
+					final FactoryBean<?> factory = (FactoryBean<?>) bean;
+					boolean isEagerInit;
+					if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
+						isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>)
+										((SmartFactoryBean<?>) factory)::isEagerInit,
+								getAccessControlContext());
+					}
+					else {
+						isEagerInit = (factory instanceof SmartFactoryBean &&
+								((SmartFactoryBean<?>) factory).isEagerInit());
+					}
+					if (isEagerInit) {
+						getBean(beanName);
+					}
+				}
+			}
+			else {
+				getBean(beanName);
+			}
+		}
+	}
+
+	/**
+	 * Trigger initialization of the given beans on a pool of
+	 * {@link #setPreInstantiationParallelism "preInstantiationParallelism"} threads,
+	 * monitoring contention on the singleton lock in the meantime.
+	 * @param beanNames the names of all bean definitions, in registration order
+	 * @see ParallelSingletonInstantiator
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames) {
+		List<String> candidateNames = new ArrayList<>(beanNames.size());
+		for (String beanName : beanNames) {
+			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+				candidateNames.add(beanName);
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiating " + candidateNames.size() + " singletons with parallelism " +
+					this.preInstantiationParallelism + " in " + this);
+		}
+		SingletonLockMonitor lockMonitor = startSingletonLockMonitoring();
+		try {
+			new ParallelSingletonInstantiator(this.preInstantiationParallelism,
+					this::getKnownDependencies, this::preInstantiateSingleton).instantiate(candidateNames);
+		}
+		finally {
+			stopSingletonLockMonitoring();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Parallel pre-instantiation finished: " + lockMonitor);
+			}
+		}
+	}
+
+	/**
+	 * Determine the names of the beans that the given bean is known to depend on
+	 * before its creation: explicit "depends-on" declarations, registered dependent
+	 * beans, its factory bean and bean references in its constructor arguments and
+	 * property values.
+	 * @param beanName the name of the bean
+	 * @return the names of the known dependencies (canonical names, possibly
+	 * including names of beans which are not pre-instantiated)
+	 */
+	private Collection<String> getKnownDependencies(String beanName) {
+		RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+		Set<String> dependencies = new LinkedHashSet<>();
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dependsOnBean : dependsOn) {
+				dependencies.add(canonicalName(dependsOnBean));
+			}
+		}
+		Collections.addAll(dependencies, getDependenciesForBean(beanName));
+		if (bd.getFactoryBeanName() != null) {
+			dependencies.add(canonicalName(bd.getFactoryBeanName()));
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getIndexedArgumentValues().values()) {
+				addBeanReference(valueHolder.getValue(), dependencies);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getGenericArgumentValues()) {
+				addBeanReference(valueHolder.getValue(), dependencies);
+			}
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				addBeanReference(pv.getValue(), dependencies);
+			}
+		}
+		return dependencies;
+	}
+
+	private void addBeanReference(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof RuntimeBeanReference && !((RuntimeBeanReference) value).isToParent()) {
+			dependencies.add(canonicalName(((RuntimeBeanReference) value).getBeanName()));
+		}
+	}
+
+
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
 	//---------------------------------------------------------------------
@@ -1026,10 +1181,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		super.registerSingleton(beanName, singletonObject);
 
+		boolean manualSingleton;
 		if (hasBeanCreationStarted()) {
 			// Cannot modify startup-time collection elements anymore (for stable iteration)
 			synchronized (this.beanDefinitionMap) {
-				if (!this.beanDefinitionMap.containsKey(beanName)) {
+				manualSingleton = !this.beanDefinitionMap.containsKey(beanName);
+				if (manualSingleton) {
 					Set<String> updatedSingletons = new LinkedHashSet<>(this.manualSingletonNames.size() + 1);
 					updatedSingletons.addAll(this.manualSingletonNames);
 					updatedSingletons.add(beanName);
@@ -1039,19 +1196,31 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 		else {
 			// Still in startup registration phase
-			if (!this.beanDefinitionMap.containsKey(beanName)) {
+			manualSingleton = !this.beanDefinitionMap.containsKey(beanName);
+			if (manualSingleton) {
 				this.manualSingletonNames.add(beanName);
 			}
 		}
 
-		clearByTypeCache();
+		if (manualSingleton) {
+			// Appended to the manual singletons -> append to matching by-type mappings
+			addToByTypeCache(this.allBeanNamesByType, beanName, true);
+			addToByTypeCache(this.singletonBeanNamesByType, beanName, false);
+		}
+		else {
+			clearByTypeCache();
+		}
 	}
 
 	@Override
 	public void destroySingleton(String beanName) {
 		super.destroySingleton(beanName);
-		this.manualSingletonNames.remove(beanName);
-		clearByTypeCache();
+		if (this.manualSingletonNames.remove(beanName)) {
+			removeFromByTypeCache(beanName);
+		}
+		else {
+			clearByTypeCache();
+		}
 	}
 
 	@Override
@@ -1069,6 +1238,49 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.singletonBeanNamesByType.clear();
 	}
 
+	/**
+	 * Add the given manually registered singleton to the cached by-type mappings
+	 * that it matches, keeping the other mappings intact.
+	 * @param cache the by-type cache to update
+	 * @param beanName the name of the manually registered singleton
+	 * @param includeNonSingletons whether the cache includes non-singleton beans
+	 */
+	private void addToByTypeCache(Map<Class<?>, String[]> cache, String beanName, boolean includeNonSingletons) {
+		for (Class<?> type : cache.keySet()) {
+			String matchingBeanName =
+					getMatchingManualSingletonName(beanName, ResolvableType.forRawClass(type), includeNonSingletons);
+			if (matchingBeanName != null) {
+				cache.computeIfPresent(type, (key, beanNames) ->
+						(ObjectUtils.containsElement(beanNames, matchingBeanName) ? beanNames :
+								StringUtils.addStringToArray(beanNames, matchingBeanName)));
+			}
+		}
+	}
+
+	/**
+	 * Remove the given manually registered singleton from the cached by-type
+	 * mappings, keeping the other mappings intact.
+	 * @param beanName the name of the manually registered singleton
+	 */
+	private void removeFromByTypeCache(String beanName) {
+		String factoryBeanName = FACTORY_BEAN_PREFIX + beanName;
+		BiFunction<Class<?>, String[], String[]> removal = (type, beanNames) -> {
+			if (!ObjectUtils.containsElement(beanNames, beanName) &&
+					!ObjectUtils.containsElement(beanNames, factoryBeanName)) {
+				return beanNames;
+			}
+			List<String> remainingNames = new ArrayList<>(beanNames.length);
+			for (String name : beanNames) {
+				if (!name.equals(beanName) && !name.equals(factoryBeanName)) {
+					remainingNames.add(name);
+				}
+			}
+			return StringUtils.toStringArray(remainingNames);
+		};
+		this.allBeanNamesByType.replaceAll(removal);
+		this.singletonBeanNamesByType.replaceAll(removal);
+	}
+
 
 	//---------------------------------------------------------------------
 	// Dependency resolution functionality
@@ -25,6 +25,8 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
@@ -32,6 +34,7 @@ import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -61,6 +64,12 @@ import org.springframework.util.StringUtils;
  * (which inherit from it). Can alternatively also be used as a nested
  * helper to delegate to.
  *
+ * <p>As of 5.2, fully initialized singletons are obtained without any locking.
+ * Singleton creation is serialized through the registry-wide singleton mutex
+ * by default; see {@link #setAllowConcurrentSingletonCreation} for locking
+ * each bean individually instead, so that unrelated singletons can be created
+ * on several threads at the same time.
+ *
  * @author Juergen Hoeller
  * @since 2.0
  * @see #registerSingleton
@@ -90,12 +99,18 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Set<String> inCreationCheckExclusions =
 			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
 
-	/** List of suppressed Exceptions, available for associating related causes. */
-	@Nullable
-	private Set<Exception> suppressedExceptions;
+	/** Suppressed Exceptions of the current thread, available for associating related causes. */
+	private final ThreadLocal<Set<Exception>> suppressedExceptions =
+			new NamedThreadLocal<>("Suppressed exceptions during singleton creation");
 
 	/** Flag that indicates whether we're currently within destroySingletons. */
-	private boolean singletonsCurrentlyInDestruction = false;
+	private volatile boolean singletonsCurrentlyInDestruction = false;
+
+	/** Whether to lock individual beans instead of the entire registry during singleton creation. */
+	private volatile boolean allowConcurrentSingletonCreation = false;
+
+	/** Per-bean creation locks, used if concurrent singleton creation is allowed. */
+	private final SingletonCreationLocks singletonCreationLocks = new SingletonCreationLocks(this.singletonObjects);
 
 	/** Disposable bean instances: bean name to disposable instance. */
 	private final Map<String, Object> disposableBeans = new LinkedHashMap<>();
@@ -109,6 +124,38 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Map between depending bean names: bean name to Set of bean names for the bean's dependencies. */
 	private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap<>(64);
 
+	/** Statistics on singleton lock acquisitions for bean creation, if currently monitored. */
+	@Nullable
+	private volatile SingletonLockMonitor singletonLockMonitor;
+
+
+	/**
+	 * Set whether singletons may be created on several threads at the same time,
+	 * locking each bean individually while it is being created.
+	 * <p>Default is "false", serializing all singleton creation through the
+	 * registry-wide {@link #getSingletonMutex() singleton mutex}. Switch this flag
+	 * to "true" for factories whose singletons get created on several threads,
+	 * e.g. with {@link DefaultListableBeanFactory#setPreInstantiationParallelism
+	 * parallel pre-instantiation} or for lazy-init beans behind concurrent requests.
+	 * <p>Code which obtains a bean while holding the singleton mutex does not
+	 * block the thread which creates that bean: if that other thread holds the
+	 * creation lock for the bean, the caller waits on the singleton mutex, which
+	 * releases the mutex until the bean is available.
+	 * <p>To be switched before any singletons get created.
+	 * @since 5.2
+	 */
+	public void setAllowConcurrentSingletonCreation(boolean allowConcurrentSingletonCreation) {
+		this.allowConcurrentSingletonCreation = allowConcurrentSingletonCreation;
+	}
+
+	/**
+	 * Return whether singletons may be created on several threads at the same time.
+	 * @since 5.2
+	 */
+	public boolean isAllowConcurrentSingletonCreation() {
+		return this.allowConcurrentSingletonCreation;
+	}
+
 
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
@@ -176,17 +223,51 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	protected Object getSingleton(String beanName, boolean allowEarlyReference) {
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
-			synchronized (this.singletonObjects) {
-				singletonObject = this.earlySingletonObjects.get(beanName);
-				if (singletonObject == null && allowEarlyReference) {
-					ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-					if (singletonFactory != null) {
-						singletonObject = singletonFactory.getObject();
-						this.earlySingletonObjects.put(beanName, singletonObject);
-						this.singletonFactories.remove(beanName);
+			if (!this.allowConcurrentSingletonCreation) {
+				synchronized (this.singletonObjects) {
+					singletonObject = this.earlySingletonObjects.get(beanName);
+					if (singletonObject == null && allowEarlyReference) {
+						ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+						if (singletonFactory != null) {
+							singletonObject = singletonFactory.getObject();
+							this.earlySingletonObjects.put(beanName, singletonObject);
+							this.singletonFactories.remove(beanName);
+						}
 					}
 				}
 			}
+			else if (!this.singletonCreationLocks.isLockedByOtherThread(beanName)) {
+				// In creation on the current thread -> circular reference.
+				// Early singleton references of other threads remain invisible,
+				// the caller is supposed to wait for the fully initialized bean.
+				singletonObject = getEarlySingleton(beanName, allowEarlyReference);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Obtain an early reference to a singleton which is currently in creation
+	 * on the current thread, calling its singleton factory outside of the
+	 * singleton mutex.
+	 */
+	@Nullable
+	private Object getEarlySingleton(String beanName, boolean allowEarlyReference) {
+		ObjectFactory<?> singletonFactory;
+		synchronized (this.singletonObjects) {
+			Object singletonObject = this.earlySingletonObjects.get(beanName);
+			if (singletonObject != null || !allowEarlyReference) {
+				return singletonObject;
+			}
+			singletonFactory = this.singletonFactories.get(beanName);
+		}
+		if (singletonFactory == null) {
+			return null;
+		}
+		Object singletonObject = singletonFactory.getObject();
+		synchronized (this.singletonObjects) {
+			this.earlySingletonObjects.put(beanName, singletonObject);
+			this.singletonFactories.remove(beanName);
 		}
 		return singletonObject;
 	}
@@ -201,55 +282,134 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
-		synchronized (this.singletonObjects) {
-			Object singletonObject = this.singletonObjects.get(beanName);
-			if (singletonObject == null) {
-				if (this.singletonsCurrentlyInDestruction) {
-					throw new BeanCreationNotAllowedException(beanName,
-							"Singleton bean creation not allowed while singletons of this factory are in destruction " +
-							"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
-				}
-				beforeSingletonCreation(beanName);
-				boolean newSingleton = false;
-				boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
-				if (recordSuppressedExceptions) {
-					this.suppressedExceptions = new LinkedHashSet<>();
-				}
-				try {
-					singletonObject = singletonFactory.getObject();
-					newSingleton = true;
-				}
-				catch (IllegalStateException ex) {
-					// Has the singleton object implicitly appeared in the meantime ->
-					// if yes, proceed with it since the exception indicates that state.
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						throw ex;
-					}
-				}
-				catch (BeanCreationException ex) {
-					if (recordSuppressedExceptions) {
-						for (Exception suppressedException : this.suppressedExceptions) {
-							ex.addRelatedCause(suppressedException);
-						}
-					}
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject != null) {
+			return singletonObject;
+		}
+		return doWithSingletonCreationLock(beanName, () -> createSingleton(beanName, singletonFactory));
+	}
+
+	/**
+	 * Create the singleton through the given factory, unless it has been
+	 * registered in the meantime. To be called within the creation lock.
+	 */
+	private Object createSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject == null) {
+			if (this.singletonsCurrentlyInDestruction) {
+				throw new BeanCreationNotAllowedException(beanName,
+						"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+						"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+			}
+			beforeSingletonCreation(beanName);
+			boolean newSingleton = false;
+			Set<Exception> suppressedExceptions = this.suppressedExceptions.get();
+			boolean recordSuppressedExceptions = (suppressedExceptions == null);
+			if (recordSuppressedExceptions) {
+				suppressedExceptions = new LinkedHashSet<>();
+				this.suppressedExceptions.set(suppressedExceptions);
+			}
+			try {
+				singletonObject = singletonFactory.getObject();
+				newSingleton = true;
+			}
+			catch (IllegalStateException ex) {
+				// Has the singleton object implicitly appeared in the meantime ->
+				// if yes, proceed with it since the exception indicates that state.
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject == null) {
 					throw ex;
 				}
-				finally {
-					if (recordSuppressedExceptions) {
-						this.suppressedExceptions = null;
+			}
+			catch (BeanCreationException ex) {
+				if (recordSuppressedExceptions) {
+					for (Exception suppressedException : suppressedExceptions) {
+						ex.addRelatedCause(suppressedException);
 					}
-					afterSingletonCreation(beanName);
 				}
-				if (newSingleton) {
-					addSingleton(beanName, singletonObject);
+				throw ex;
+			}
+			finally {
+				if (recordSuppressedExceptions) {
+					this.suppressedExceptions.remove();
 				}
+				afterSingletonCreation(beanName);
 			}
-			return singletonObject;
+			if (newSingleton) {
+				addSingleton(beanName, singletonObject);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Perform the given action within the creation lock for the specified bean:
+	 * a lock for that specific bean if {@link #setAllowConcurrentSingletonCreation
+	 * concurrent singleton creation} is allowed, or the singleton mutex otherwise.
+	 * <p>The action may be performed again if the current thread had to back off
+	 * from a cycle of threads waiting for each other's beans.
+	 * @param beanName the name of the bean
+	 * @param action the action to perform, e.g. creating the bean
+	 * @return the result of the action
+	 * @since 5.2
+	 */
+	<T> T doWithSingletonCreationLock(String beanName, Supplier<T> action) {
+		SingletonLockMonitor lockMonitor = this.singletonLockMonitor;
+		Supplier<T> actionToPerform = action;
+		if (lockMonitor != null) {
+			long lockRequestTime = System.nanoTime();
+			actionToPerform = () -> {
+				long waitNanos = System.nanoTime() - lockRequestTime;
+				if (lockMonitor.recordAcquisition(waitNanos) && logger.isTraceEnabled()) {
+					logger.trace("Waited " + TimeUnit.NANOSECONDS.toMicros(waitNanos) +
+							" microseconds for singleton lock in order to obtain bean '" + beanName + "'");
+				}
+				return action.get();
+			};
+		}
+		if (this.allowConcurrentSingletonCreation) {
+			return this.singletonCreationLocks.execute(beanName, actionToPerform);
 		}
+		synchronized (this.singletonObjects) {
+			return actionToPerform.get();
+		}
+	}
+
+	/**
+	 * Return whether the current thread is backing off from concurrent singleton
+	 * creation, in favor of another thread which waits for its creation locks.
+	 * <p>Exceptions raised for nested beans in that state must be propagated,
+	 * not be handled as a regular creation failure (e.g. skipping the bean).
+	 * @since 5.2
+	 * @see SingletonCreationBackOffException
+	 */
+	boolean isSingletonCreationBackingOff() {
+		return (this.allowConcurrentSingletonCreation && this.singletonCreationLocks.isBackingOff());
+	}
+
+	/**
+	 * Start collecting statistics on contended acquisitions of the singleton lock
+	 * for bean creation, e.g. while singletons get created on several threads.
+	 * @return the monitor which collects the statistics from now on
+	 * @since 5.2
+	 * @see #stopSingletonLockMonitoring()
+	 */
+	SingletonLockMonitor startSingletonLockMonitoring() {
+		SingletonLockMonitor lockMonitor = new SingletonLockMonitor();
+		this.singletonLockMonitor = lockMonitor;
+		return lockMonitor;
+	}
+
+	/**
+	 * Stop collecting statistics on acquisitions of the singleton lock.
+	 * @since 5.2
+	 * @see #startSingletonLockMonitoring()
+	 */
+	void stopSingletonLockMonitoring() {
+		this.singletonLockMonitor = null;
 	}
 
 	/**
@@ -258,10 +418,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @param ex the Exception to register
 	 */
 	protected void onSuppressedException(Exception ex) {
-		synchronized (this.singletonObjects) {
-			if (this.suppressedExceptions != null) {
-				this.suppressedExceptions.add(ex);
-			}
+		Set<Exception> suppressedExceptions = this.suppressedExceptions.get();
+		if (suppressedExceptions != null) {
+			suppressedExceptions.add(ex);
 		}
 	}
 
@@ -611,6 +770,11 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * any sort of extended singleton creation phase. In particular, subclasses
 	 * should <i>not</i> have their own mutexes involved in singleton creation,
 	 * to avoid the potential for deadlocks in lazy-init situations.
+	 * <p>Note that, with {@link #setAllowConcurrentSingletonCreation concurrent
+	 * singleton creation}, the singleton mutex only guards short-lived updates
+	 * of the registry's state. Obtaining a bean from the factory while holding
+	 * it may temporarily release it, while waiting for another thread which
+	 * needs it for completing the creation of that bean.
 	 */
 	public final Object getSingletonMutex() {
 		return this.singletonObjects;
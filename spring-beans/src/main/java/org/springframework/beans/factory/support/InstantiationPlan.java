@@ -0,0 +1,145 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.lang.reflect.Executable;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Precomputed plan for re-creating a bean through its resolved constructor or
+ * factory method: the method parameters with their generic types resolved once,
+ * plus a {@link DependencyDescriptor} per autowired argument which turns into a
+ * shortcut to the target bean name once that bean has been determined.
+ *
+ * <p>Cached in the merged {@link RootBeanDefinition} when
+ * {@link AbstractAutowireCapableBeanFactory#setCacheInstantiationPlans} is on,
+ * and discarded along with the merged bean definition.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see ConstructorResolver
+ */
+final class InstantiationPlan {
+
+	private final Executable executable;
+
+	private final MethodParameter[] parameters;
+
+	private final DependencyDescriptor[] dependencyDescriptors;
+
+	private final boolean[] shortcuts;
+
+
+	/**
+	 * Create a new plan for the given constructor or factory method.
+	 * @param executable the resolved constructor or factory method
+	 * @param parameters the method parameters, with generic types resolved
+	 * @param dependencyDescriptors the dependency descriptors for autowired
+	 * arguments, with {@code null} entries for all other arguments
+	 */
+	InstantiationPlan(Executable executable, MethodParameter[] parameters,
+			DependencyDescriptor[] dependencyDescriptors) {
+
+		this.executable = executable;
+		this.parameters = parameters;
+		this.dependencyDescriptors = dependencyDescriptors;
+		this.shortcuts = new boolean[parameters.length];
+	}
+
+
+	/**
+	 * Return the constructor or factory method that this plan applies to.
+	 */
+	public Executable getExecutable() {
+		return this.executable;
+	}
+
+	/**
+	 * Return the prepared method parameter at the given index.
+	 */
+	public MethodParameter getParameter(int argIndex) {
+		return this.parameters[argIndex];
+	}
+
+	/**
+	 * Return the dependency descriptor for the autowired argument at the given
+	 * index, or {@code null} if the argument is not resolved as a dependency.
+	 */
+	@Nullable
+	public DependencyDescriptor getDependencyDescriptor(int argIndex) {
+		return this.dependencyDescriptors[argIndex];
+	}
+
+	/**
+	 * Return whether the dependency descriptor at the given index points to
+	 * a specific bean name already.
+	 */
+	public boolean hasShortcut(int argIndex) {
+		return this.shortcuts[argIndex];
+	}
+
+	/**
+	 * Resolve the argument at the given index directly against the given bean
+	 * name from now on, skipping the by-type candidate lookup.
+	 * @param argIndex the index of the autowired argument
+	 * @param beanName the name of the single bean that got autowired
+	 */
+	public void registerShortcut(int argIndex, String beanName) {
+		MethodParameter parameter = this.parameters[argIndex];
+		this.dependencyDescriptors[argIndex] =
+				new ShortcutDependencyDescriptor(parameter, beanName, parameter.getParameterType());
+		this.shortcuts[argIndex] = true;
+	}
+
+	/**
+	 * Drop the shortcut for the argument at the given index, e.g. after the
+	 * target bean definition has been removed, reverting to by-type resolution.
+	 */
+	public void removeShortcut(int argIndex) {
+		this.dependencyDescriptors[argIndex] = new DependencyDescriptor(this.parameters[argIndex], true);
+		this.shortcuts[argIndex] = false;
+	}
+
+
+	/**
+	 * DependencyDescriptor variant with a pre-resolved target bean name.
+	 */
+	@SuppressWarnings("serial")
+	private static class ShortcutDependencyDescriptor extends DependencyDescriptor {
+
+		private final String shortcut;
+
+		private final Class<?> requiredType;
+
+		public ShortcutDependencyDescriptor(MethodParameter parameter, String shortcut, Class<?> requiredType) {
+			super(parameter, true);
+			this.shortcut = shortcut;
+			this.requiredType = requiredType;
+		}
+
+		@Override
+		public Object resolveShortcut(BeanFactory beanFactory) throws BeansException {
+			return beanFactory.getBean(this.shortcut, this.requiredType);
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Pre-instantiates a set of singleton beans on a {@link ForkJoinPool}, following
+ * the dependency graph between them: each bean gets scheduled as soon as all of
+ * its known dependencies have been created, so that independent parts of the
+ * graph get created concurrently.
+ *
+ * <p>Known dependencies are those available upfront, e.g. from
+ * {@link org.springframework.beans.factory.config.BeanDefinition#getDependsOn()}
+ * and dependent bean registrations. Dependencies which only become apparent
+ * during creation (e.g. autowired fields) are resolved on the creating thread
+ * through the regular {@code getBean} algorithm. Beans which cannot be scheduled
+ * because of a cycle in their known dependencies get created sequentially on
+ * the calling thread once the pool has completed its work.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see DefaultListableBeanFactory#setPreInstantiationParallelism
+ */
+final class ParallelSingletonInstantiator {
+
+	private static final Log logger = LogFactory.getLog(ParallelSingletonInstantiator.class);
+
+	private final int parallelism;
+
+	private final Function<String, Collection<String>> dependencyResolver;
+
+	private final Consumer<String> instantiator;
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+
+	/**
+	 * Create a new instantiator.
+	 * @param parallelism the number of threads to create beans with
+	 * @param dependencyResolver returns the names of the known dependencies for a bean
+	 * @param instantiator creates the bean with the given name
+	 */
+	ParallelSingletonInstantiator(int parallelism,
+			Function<String, Collection<String>> dependencyResolver, Consumer<String> instantiator) {
+
+		this.parallelism = parallelism;
+		this.dependencyResolver = dependencyResolver;
+		this.instantiator = instantiator;
+	}
+
+
+	/**
+	 * Create the given beans, in parallel where their known dependencies allow for it.
+	 * @param beanNames the names of the beans to create, in registration order
+	 * @throws RuntimeException the first exception encountered during bean creation
+	 * (with further creation attempts being skipped at that point)
+	 */
+	public void instantiate(List<String> beanNames) {
+		Map<String, Node> nodes = buildGraph(beanNames);
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism,
+				new InstantiatorThreadFactory(Thread.currentThread().getContextClassLoader()), null, false);
+		try {
+			for (Node node : nodes.values()) {
+				if (node.pendingDependencies.get() == 0) {
+					pool.execute(() -> run(pool, node));
+				}
+			}
+			pool.awaitQuiescence(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		finally {
+			pool.shutdown();
+		}
+		rethrowFailureIfNecessary();
+
+		List<String> remaining = new ArrayList<>();
+		for (Node node : nodes.values()) {
+			if (!node.done) {
+				remaining.add(node.beanName);
+			}
+		}
+		if (!remaining.isEmpty()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Sequentially creating " + remaining.size() +
+						" beans with circular dependencies: " + remaining);
+			}
+			remaining.forEach(this.instantiator);
+		}
+	}
+
+	private Map<String, Node> buildGraph(List<String> beanNames) {
+		Map<String, Node> nodes = new LinkedHashMap<>(beanNames.size());
+		for (String beanName : beanNames) {
+			nodes.put(beanName, new Node(beanName));
+		}
+		for (Node node : nodes.values()) {
+			for (String dependency : this.dependencyResolver.apply(node.beanName)) {
+				Node dependencyNode = nodes.get(dependency);
+				if (dependencyNode != null && dependencyNode != node && !dependencyNode.dependents.contains(node)) {
+					dependencyNode.dependents.add(node);
+					node.pendingDependencies.incrementAndGet();
+				}
+			}
+		}
+		return nodes;
+	}
+
+	private void run(ForkJoinPool pool, Node node) {
+		if (this.failure.get() != null) {
+			return;
+		}
+		try {
+			this.instantiator.accept(node.beanName);
+		}
+		catch (Throwable ex) {
+			if (!this.failure.compareAndSet(null, ex) && logger.isDebugEnabled()) {
+				logger.debug("Further failure during parallel creation of bean '" + node.beanName + "'", ex);
+			}
+			return;
+		}
+		node.done = true;
+		for (Node dependent : node.dependents) {
+			if (dependent.pendingDependencies.decrementAndGet() == 0) {
+				pool.execute(() -> run(pool, dependent));
+			}
+		}
+	}
+
+	private void rethrowFailureIfNecessary() {
+		Throwable ex = this.failure.get();
+		if (ex instanceof RuntimeException) {
+			throw (RuntimeException) ex;
+		}
+		if (ex instanceof Error) {
+			throw (Error) ex;
+		}
+		if (ex != null) {
+			throw new IllegalStateException("Unexpected exception during parallel bean creation", ex);
+		}
+	}
+
+
+	/**
+	 * A bean in the dependency graph.
+	 */
+	private static class Node {
+
+		final String beanName;
+
+		final List<Node> dependents = new ArrayList<>(4);
+
+		final AtomicInteger pendingDependencies = new AtomicInteger();
+
+		volatile boolean done;
+
+		Node(String beanName) {
+			this.beanName = beanName;
+		}
+	}
+
+
+	/**
+	 * Worker thread factory which exposes the caller's context ClassLoader
+	 * and identifies the threads as pre-instantiation workers.
+	 */
+	private static class InstantiatorThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Nullable
+		private final ClassLoader contextClassLoader;
+
+		InstantiatorThreadFactory(@Nullable ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("singleton-preinstantiation-" + this.threadCount.incrementAndGet());
+			thread.setContextClassLoader(this.contextClassLoader);
+			return thread;
+		}
+	}
+
+}
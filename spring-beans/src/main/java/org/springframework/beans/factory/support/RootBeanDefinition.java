@@ -97,6 +97,10 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	Object[] preparedConstructorArguments;
 
+	/** Package-visible field for caching the instantiation plan for prepared constructor arguments. */
+	@Nullable
+	volatile InstantiationPlan instantiationPlan;
+
 	/** Common lock for the two post-processing fields below. */
 	final Object postProcessingLock = new Object();
 
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2002-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.springframework.beans.factory.BeanCreationException;
+
+/**
+ * Internal exception thrown by {@link SingletonCreationLocks} when the current
+ * thread backs off from concurrent singleton creation, to be propagated to the
+ * outermost creation step which then gets retried within the fallback lock.
+ *
+ * <p>Deliberately not a {@link org.springframework.beans.factory.BeanCurrentlyInCreationException}:
+ * this is not a circular reference which callers may skip, e.g. when collecting
+ * beans of a type, but a transient lock contention signal.
+ *
+ * @author Juergen Hoeller
+ * @since 5.2
+ * @see DefaultSingletonBeanRegistry#isSingletonCreationBackingOff()
+ */
+@SuppressWarnings("serial")
+class SingletonCreationBackOffException extends BeanCreationException {
+
+	public SingletonCreationBackOffException(String beanName, String msg) {
+		super(beanName, msg);
+	}
+
+}
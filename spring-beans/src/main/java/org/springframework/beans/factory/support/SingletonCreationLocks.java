@@ -0,0 +1,269 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+
+/**
+ * Per-bean creation locks for a {@link DefaultSingletonBeanRegistry}, allowing
+ * unrelated singletons to be created on several threads at the same time.
+ *
+ * <p>Since every thread locks the beans in the order of its own dependency graph,
+ * two threads may end up waiting for each other, e.g. when each of them creates
+ * one side of a circular reference. Waiting threads therefore keep checking for
+ * such a cycle; a thread which detects one backs off, releasing all of its locks,
+ * and retries its entire creation step while holding a single fallback lock.
+ * Within the fallback lock, a thread never backs off, so the cycle gets resolved
+ * by the regular early singleton reference mechanism, just like with a single
+ * global lock.
+ *
+ * <p>A thread which holds the registry's singleton mutex never blocks on a
+ * creation lock: it waits on the mutex instead, releasing it for the lock owner,
+ * which may need it in order to complete the creation of its bean.
+ *
+ * @author Juergen Hoeller
+ * @since 5.2
+ * @see DefaultSingletonBeanRegistry#setAllowConcurrentSingletonCreation
+ */
+final class SingletonCreationLocks {
+
+	/** Interval for re-checking the waits-for graph while waiting for a lock. */
+	private static final long DEADLOCK_CHECK_INTERVAL_MILLIS = 10;
+
+	private static final Log logger = LogFactory.getLog(SingletonCreationLocks.class);
+
+
+	private final Object singletonMutex;
+
+	private final Map<String, CreationLock> locks = new ConcurrentHashMap<>(256);
+
+	private final Map<Thread, CreationLock> waitingThreads = new ConcurrentHashMap<>(16);
+
+	private final ReentrantLock fallbackLock = new ReentrantLock();
+
+	private final ThreadLocal<CreationState> creationState =
+			new NamedThreadLocal<>("Singleton creation state");
+
+
+	/**
+	 * Create a new {@code SingletonCreationLocks} instance.
+	 * @param singletonMutex the singleton mutex of the registry, which must
+	 * never be held while blocking on a creation lock
+	 */
+	SingletonCreationLocks(Object singletonMutex) {
+		this.singletonMutex = singletonMutex;
+	}
+
+	/**
+	 * Perform the given action while holding the creation lock for the given bean.
+	 * <p>If the current thread had to back off from a cycle of waiting threads
+	 * within its outermost action, that action is performed again within the
+	 * fallback lock.
+	 * @param beanName the name of the bean to lock
+	 * @param action the action to perform
+	 * @return the result of the action
+	 */
+	public <T> T execute(String beanName, Supplier<T> action) {
+		CreationState state = this.creationState.get();
+		if (state != null) {
+			return executeLocked(beanName, action, state);
+		}
+		state = new CreationState();
+		this.creationState.set(state);
+		try {
+			try {
+				return executeLocked(beanName, action, state);
+			}
+			catch (RuntimeException | Error ex) {
+				if (!state.backingOff) {
+					throw ex;
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Backed off from concurrent creation of singleton bean '" + beanName +
+							"' - retrying within fallback lock", ex);
+				}
+			}
+			state.backingOff = false;
+			state.fallback = true;
+			acquireFallbackLock(beanName);
+			try {
+				return executeLocked(beanName, action, state);
+			}
+			finally {
+				this.fallbackLock.unlock();
+			}
+		}
+		finally {
+			this.creationState.remove();
+		}
+	}
+
+	/**
+	 * Return whether the current thread is backing off from a cycle of
+	 * waiting threads, i.e. on its way out to its outermost action.
+	 */
+	public boolean isBackingOff() {
+		CreationState state = this.creationState.get();
+		return (state != null && state.backingOff);
+	}
+
+	/**
+	 * Return whether the creation lock for the given bean is currently held
+	 * by a thread other than the current thread.
+	 * @param beanName the name of the bean
+	 */
+	public boolean isLockedByOtherThread(String beanName) {
+		CreationLock lock = this.locks.get(beanName);
+		return (lock != null && lock.isLocked() && !lock.isHeldByCurrentThread());
+	}
+
+	private <T> T executeLocked(String beanName, Supplier<T> action, CreationState state) {
+		CreationLock lock = this.locks.computeIfAbsent(beanName, name -> new CreationLock());
+		if (!lock.tryLock()) {
+			if (state.backingOff) {
+				throw new SingletonCreationBackOffException(beanName,
+						"Backing off from singleton creation in favor of another thread");
+			}
+			awaitLock(beanName, lock, state);
+		}
+		try {
+			return action.get();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void awaitLock(String beanName, CreationLock lock, CreationState state) {
+		Thread currentThread = Thread.currentThread();
+		boolean holdsMutex = Thread.holdsLock(this.singletonMutex);
+		this.waitingThreads.put(currentThread, lock);
+		try {
+			while (!tryLock(lock, holdsMutex)) {
+				if (!state.fallback && isWaitingForItself(currentThread, lock)) {
+					state.backingOff = true;
+					throw new SingletonCreationBackOffException(beanName,
+							"Singleton bean is being created by another thread which in turn waits for " +
+							"the current thread: backing off in order to resolve the circular reference");
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			currentThread.interrupt();
+			throw new BeanCreationException(beanName,
+					"Interrupted while waiting for singleton bean to be created by another thread", ex);
+		}
+		finally {
+			this.waitingThreads.remove(currentThread);
+		}
+	}
+
+	private void acquireFallbackLock(String beanName) {
+		if (!Thread.holdsLock(this.singletonMutex)) {
+			this.fallbackLock.lock();
+			return;
+		}
+		try {
+			// The fallback lock owner never waits for the current thread: keep waiting
+			boolean locked = false;
+			while (!locked) {
+				locked = tryLock(this.fallbackLock, true);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BeanCreationException(beanName,
+					"Interrupted while waiting for singleton bean creation on another thread", ex);
+		}
+	}
+
+	/**
+	 * Try to acquire the given lock within the deadlock check interval.
+	 * <p>If the current thread holds the singleton mutex, it waits on the mutex
+	 * instead of blocking on the lock, so that the lock owner may enter the
+	 * mutex in the meantime.
+	 */
+	private boolean tryLock(ReentrantLock lock, boolean holdsMutex) throws InterruptedException {
+		if (holdsMutex) {
+			if (lock.tryLock()) {
+				return true;
+			}
+			this.singletonMutex.wait(DEADLOCK_CHECK_INTERVAL_MILLIS);
+			return lock.tryLock();
+		}
+		return lock.tryLock(DEADLOCK_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Follow the chain of lock owners and the locks that they are waiting for,
+	 * checking whether it leads back to the given thread.
+	 */
+	private boolean isWaitingForItself(Thread currentThread, CreationLock lock) {
+		Set<Thread> seen = new HashSet<>();
+		Thread owner = lock.getOwner();
+		while (owner != null && seen.add(owner)) {
+			if (owner == currentThread) {
+				return true;
+			}
+			CreationLock awaitedLock = this.waitingThreads.get(owner);
+			if (awaitedLock == null) {
+				return false;
+			}
+			owner = awaitedLock.getOwner();
+		}
+		return false;
+	}
+
+
+	/**
+	 * Creation lock for a specific bean, exposing its current owner.
+	 */
+	@SuppressWarnings("serial")
+	private static class CreationLock extends ReentrantLock {
+
+		@Override
+		@Nullable
+		public Thread getOwner() {
+			return super.getOwner();
+		}
+	}
+
+
+	/**
+	 * Creation state of the current thread, from its outermost locked action on.
+	 */
+	private static class CreationState {
+
+		boolean backingOff;
+
+		boolean fallback;
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics on acquisitions of the singleton lock in a
+ * {@link DefaultSingletonBeanRegistry} while monitoring is active,
+ * e.g. during parallel pre-instantiation of singletons.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see DefaultSingletonBeanRegistry#startSingletonLockMonitoring()
+ */
+final class SingletonLockMonitor {
+
+	/** Wait time above which an acquisition counts as contended: 10 microseconds. */
+	static final long CONTENDED_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+
+	private final long startTime = System.nanoTime();
+
+	private final LongAdder acquisitions = new LongAdder();
+
+	private final LongAdder contendedAcquisitions = new LongAdder();
+
+	private final LongAdder waitNanos = new LongAdder();
+
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+
+
+	/**
+	 * Record an acquisition of the singleton lock.
+	 * @param waitNanos the time spent waiting for the lock, in nanoseconds
+	 * @return whether the acquisition counts as contended
+	 */
+	boolean recordAcquisition(long waitNanos) {
+		this.acquisitions.increment();
+		if (waitNanos < CONTENDED_THRESHOLD_NANOS) {
+			return false;
+		}
+		this.contendedAcquisitions.increment();
+		this.waitNanos.add(waitNanos);
+		this.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+		return true;
+	}
+
+	/**
+	 * Return the total number of lock acquisitions recorded.
+	 */
+	public long getAcquisitionCount() {
+		return this.acquisitions.sum();
+	}
+
+	/**
+	 * Return the number of lock acquisitions which had to wait for another thread.
+	 */
+	public long getContendedAcquisitionCount() {
+		return this.contendedAcquisitions.sum();
+	}
+
+	/**
+	 * Return the accumulated time spent waiting for the lock, in milliseconds.
+	 */
+	public long getTotalWaitTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.waitNanos.sum());
+	}
+
+	/**
+	 * Return the longest single wait for the lock, in milliseconds.
+	 */
+	public long getMaxWaitTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos.get());
+	}
+
+	/**
+	 * Return the time elapsed since monitoring started, in milliseconds.
+	 */
+	public long getElapsedTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime);
+	}
+
+
+	@Override
+	public String toString() {
+		return "singleton lock acquired " + getAcquisitionCount() + " times, " +
+				getContendedAcquisitionCount() + " times contended; total wait " + getTotalWaitTimeMillis() +
+				" ms, max wait " + getMaxWaitTimeMillis() + " ms, elapsed " + getElapsedTimeMillis() + " ms";
+	}
+
+}
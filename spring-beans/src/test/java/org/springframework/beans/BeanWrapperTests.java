@@ -218,6 +218,57 @@ public class BeanWrapperTests extends AbstractPropertyAccessorTests {
 		}
 	}
 
+	@Test
+	public void propertyAccessWithCompiledInvoker() {
+		CompiledBean target = new CompiledBean();
+		BeanWrapper accessor = createAccessor(target);
+		for (int i = 0; i < 40; i++) {
+			accessor.setPropertyValue("name", "name" + i);
+			accessor.setPropertyValue("age", i);
+			accessor.setPropertyValue("amount", (long) i);
+			accessor.setPropertyValue("tags", new String[] {"tag" + i});
+			assertEquals("name" + i, accessor.getPropertyValue("name"));
+			assertEquals(i, accessor.getPropertyValue("age"));
+			assertEquals((long) i, accessor.getPropertyValue("amount"));
+			assertArrayEquals(new String[] {"tag" + i}, (String[]) accessor.getPropertyValue("tags"));
+		}
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(CompiledBean.class);
+		assertNotNull(results.getCompiledPropertyInvoker());
+
+		// Conversions and widening still applied before invoking the write method
+		accessor.setPropertyValue("age", "99");
+		accessor.setPropertyValue("amount", 5);
+		accessor.setPropertyValue("tags", "x");
+		assertEquals(99, target.getAge());
+		assertEquals(5L, target.getAmount());
+		assertArrayEquals(new String[] {"x"}, target.getTags());
+	}
+
+	@Test
+	public void propertyAccessWithCompiledInvokerPropagatesExceptions() {
+		CompiledBean target = new CompiledBean();
+		BeanWrapper accessor = createAccessor(target);
+		for (int i = 0; i < 40; i++) {
+			accessor.getPropertyValue("name");
+		}
+		assertNotNull(CachedIntrospectionResults.forClass(CompiledBean.class).getCompiledPropertyInvoker());
+
+		try {
+			accessor.setPropertyValue("failing", "value");
+			fail("Should have thrown MethodInvocationException");
+		}
+		catch (MethodInvocationException ex) {
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+		try {
+			accessor.getPropertyValue("failing");
+			fail("Should have thrown InvalidPropertyException");
+		}
+		catch (InvalidPropertyException ex) {
+			assertTrue(ex.getCause().getCause() instanceof IllegalStateException);
+		}
+	}
+
 
 	private interface BaseProperty {
 
@@ -324,4 +375,57 @@ public class BeanWrapperTests extends AbstractPropertyAccessorTests {
 		}
 	}
 
+
+	public static class CompiledBean {
+
+		private String name;
+
+		private int age;
+
+		private long amount;
+
+		private String[] tags;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public long getAmount() {
+			return this.amount;
+		}
+
+		public CompiledBean setAmount(long amount) {
+			this.amount = amount;
+			return this;
+		}
+
+		public String[] getTags() {
+			return this.tags;
+		}
+
+		public void setTags(String[] tags) {
+			this.tags = tags;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException("getter failure");
+		}
+
+		public void setFailing(String value) {
+			throw new IllegalStateException("setter failure");
+		}
+	}
+
 }
@@ -37,6 +37,12 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Priority;
 import javax.security.auth.Subject;
@@ -1415,6 +1421,252 @@ public class DefaultListableBeanFactoryTests {
 		}
 	}
 
+	@Test
+	public void testParallelPreInstantiationWithDependsOn() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setPreInstantiationParallelism(4);
+		lbf.setAllowConcurrentSingletonCreation(true);
+		List<String> creationOrder = new CopyOnWriteArrayList<>();
+		lbf.registerBeanDefinition("a", creationRecordingBeanDefinition(creationOrder, "a", "b"));
+		lbf.registerBeanDefinition("b", creationRecordingBeanDefinition(creationOrder, "b", "c"));
+		lbf.registerBeanDefinition("c", creationRecordingBeanDefinition(creationOrder, "c"));
+		for (int i = 0; i < 20; i++) {
+			lbf.registerBeanDefinition("independent" + i, creationRecordingBeanDefinition(creationOrder, "independent" + i));
+		}
+		RootBeanDefinition lazy = creationRecordingBeanDefinition(creationOrder, "lazy");
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+		lbf.preInstantiateSingletons();
+
+		assertEquals(23, creationOrder.size());
+		assertFalse(creationOrder.contains("lazy"));
+		assertTrue(creationOrder.indexOf("c") < creationOrder.indexOf("b"));
+		assertTrue(creationOrder.indexOf("b") < creationOrder.indexOf("a"));
+		assertTrue(lbf.containsSingleton("a"));
+		assertTrue(lbf.containsSingleton("independent19"));
+		assertFalse(lbf.containsSingleton("lazy"));
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithDependsOnCycle() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setPreInstantiationParallelism(4);
+		lbf.setAllowConcurrentSingletonCreation(true);
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		bd1.setDependsOn("tb2");
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.setDependsOn("tb1");
+		lbf.registerBeanDefinition("tb2", bd2);
+		lbf.registerBeanDefinition("tb3", new RootBeanDefinition(TestBean.class));
+		try {
+			lbf.preInstantiateSingletons();
+			fail("Should have thrown BeanCreationException");
+		}
+		catch (BeanCreationException ex) {
+			// expected
+			assertTrue(ex.getMessage().contains("Circular"));
+		}
+		assertTrue(lbf.containsSingleton("tb3"));
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithFailure() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setPreInstantiationParallelism(4);
+		lbf.setAllowConcurrentSingletonCreation(true);
+		List<String> creationOrder = new CopyOnWriteArrayList<>();
+		RootBeanDefinition failing = new RootBeanDefinition(TestBean.class);
+		failing.setInitMethodName("nonExistentInitMethod");
+		lbf.registerBeanDefinition("failing", failing);
+		lbf.registerBeanDefinition("dependent", creationRecordingBeanDefinition(creationOrder, "dependent", "failing"));
+		try {
+			lbf.preInstantiateSingletons();
+			fail("Should have thrown BeanCreationException");
+		}
+		catch (BeanCreationException ex) {
+			// expected
+			assertEquals("failing", ex.getBeanName());
+		}
+		assertFalse(creationOrder.contains("dependent"));
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithoutConcurrentSingletonCreation() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setPreInstantiationParallelism(4);
+		List<String> creationOrder = new CopyOnWriteArrayList<>();
+		lbf.registerBeanDefinition("a", creationRecordingBeanDefinition(creationOrder, "a", "b"));
+		lbf.registerBeanDefinition("b", creationRecordingBeanDefinition(creationOrder, "b"));
+		for (int i = 0; i < 5; i++) {
+			lbf.registerBeanDefinition("independent" + i, creationRecordingBeanDefinition(creationOrder, "independent" + i));
+		}
+		lbf.preInstantiateSingletons();
+
+		// falls back to sequential pre-instantiation in registration order
+		assertEquals(Arrays.asList("b", "a", "independent0", "independent1", "independent2",
+				"independent3", "independent4"), creationOrder);
+	}
+
+	private static RootBeanDefinition creationRecordingBeanDefinition(
+			List<String> creationOrder, String name, String... dependsOn) {
+
+		RootBeanDefinition bd = new RootBeanDefinition(CreationRecordingBean.class);
+		bd.getConstructorArgumentValues().addIndexedArgumentValue(0, creationOrder);
+		bd.getConstructorArgumentValues().addIndexedArgumentValue(1, name);
+		bd.setDependsOn(dependsOn);
+		return bd;
+	}
+
+	@Test
+	public void testConcurrentSingletonCreation() throws Exception {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setAllowConcurrentSingletonCreation(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		lbf.registerBeanDefinition("tb1", rendezvousBeanDefinition(latch));
+		lbf.registerBeanDefinition("tb2", rendezvousBeanDefinition(latch));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> tb1 = executor.submit(() -> lbf.getBean("tb1"));
+			Future<Object> tb2 = executor.submit(() -> lbf.getBean("tb2"));
+			// Both beans need to be in creation at the same time for their rendezvous
+			assertTrue(((RendezvousBean) tb1.get(10, TimeUnit.SECONDS)).isMet());
+			assertTrue(((RendezvousBean) tb2.get(10, TimeUnit.SECONDS)).isMet());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertSame(lbf.getBean("tb1"), lbf.getBean("tb1"));
+	}
+
+	@Test
+	public void testConcurrentSingletonCreationWithCircularReference() throws Exception {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setAllowConcurrentSingletonCreation(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		RootBeanDefinition bd1 = rendezvousBeanDefinition(latch);
+		bd1.getPropertyValues().add("spouse", new RuntimeBeanReference("tb2"));
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = rendezvousBeanDefinition(latch);
+		bd2.getPropertyValues().add("spouse", new RuntimeBeanReference("tb1"));
+		lbf.registerBeanDefinition("tb2", bd2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// Each thread holds the lock for one side of the circular reference
+			// while waiting for the other one -> one of them has to back off
+			Future<Object> tb1 = executor.submit(() -> lbf.getBean("tb1"));
+			Future<Object> tb2 = executor.submit(() -> lbf.getBean("tb2"));
+			TestBean bean1 = (TestBean) tb1.get(10, TimeUnit.SECONDS);
+			TestBean bean2 = (TestBean) tb2.get(10, TimeUnit.SECONDS);
+			assertSame(bean1, lbf.getBean("tb1"));
+			assertSame(bean2, lbf.getBean("tb2"));
+			assertSame(bean2, bean1.getSpouse());
+			assertSame(bean1, bean2.getSpouse());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentSingletonCreationWithBeansOfTypeLookup() throws Exception {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setAllowConcurrentSingletonCreation(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		RootBeanDefinition bd1 = new RootBeanDefinition(BeansOfTypeRendezvousBean.class);
+		bd1.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(BeansOfTypeRendezvousBean.class);
+		bd2.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("tb2", bd2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// Each thread looks up the other thread's bean while holding the lock for its own
+			// -> the thread which backs off must not skip the other bean as currently in creation
+			Future<Object> tb1 = executor.submit(() -> lbf.getBean("tb1"));
+			Future<Object> tb2 = executor.submit(() -> lbf.getBean("tb2"));
+			BeansOfTypeRendezvousBean bean1 = (BeansOfTypeRendezvousBean) tb1.get(10, TimeUnit.SECONDS);
+			BeansOfTypeRendezvousBean bean2 = (BeansOfTypeRendezvousBean) tb2.get(10, TimeUnit.SECONDS);
+			assertEquals(2, bean1.getBeansOfType().size());
+			assertEquals(2, bean2.getBeansOfType().size());
+			assertSame(bean1, lbf.getBean("tb1"));
+			assertSame(bean2, lbf.getBean("tb2"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testGetBeanWhileHoldingSingletonMutex() throws Exception {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		doTestGetBeanWhileHoldingSingletonMutex(lbf);
+	}
+
+	@Test
+	public void testGetBeanWhileHoldingSingletonMutexWithConcurrentSingletonCreation() throws Exception {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setAllowConcurrentSingletonCreation(true);
+		doTestGetBeanWhileHoldingSingletonMutex(lbf);
+	}
+
+	private void doTestGetBeanWhileHoldingSingletonMutex(DefaultListableBeanFactory lbf) throws Exception {
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CountDownLatch mutexHeld = new CountDownLatch(1);
+		RootBeanDefinition bd = new RootBeanDefinition(MutexRendezvousBean.class);
+		bd.getConstructorArgumentValues().addIndexedArgumentValue(0, inCreation);
+		bd.getConstructorArgumentValues().addIndexedArgumentValue(1, mutexHeld);
+		lbf.registerBeanDefinition("tb", bd);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// One thread creates the bean, which needs the singleton mutex for registering it,
+			// while the other thread obtains the same bean from within the singleton mutex
+			Future<Object> creating = executor.submit(() -> lbf.getBean("tb"));
+			assertTrue(inCreation.await(10, TimeUnit.SECONDS));
+			Future<Object> holdingMutex = executor.submit(() -> {
+				synchronized (lbf.getSingletonMutex()) {
+					mutexHeld.countDown();
+					return lbf.getBean("tb");
+				}
+			});
+			Object bean = creating.get(10, TimeUnit.SECONDS);
+			assertSame(bean, holdingMutex.get(10, TimeUnit.SECONDS));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static RootBeanDefinition rendezvousBeanDefinition(CountDownLatch latch) {
+		RootBeanDefinition bd = new RootBeanDefinition(RendezvousBean.class);
+		bd.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		return bd;
+	}
+
+	@Test
+	public void testGetBeanNamesForTypeAfterRegisteringAndDestroyingSingletons() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		assertArrayEquals(new String[] {"tb"}, lbf.getBeanNamesForType(TestBean.class));
+		assertArrayEquals(new String[] {"tb"}, lbf.getBeanNamesForType(TestBean.class, false, true));
+		assertEquals(0, lbf.getBeanNamesForType(DummyFactory.class).length);
+
+		lbf.registerSingleton("manualTb", new TestBean());
+		lbf.registerSingleton("manualFactory", new DummyFactory());
+		assertArrayEquals(new String[] {"tb", "manualTb", "manualFactory"}, lbf.getBeanNamesForType(TestBean.class));
+		assertArrayEquals(new String[] {"tb", "manualTb", "manualFactory"},
+				lbf.getBeanNamesForType(TestBean.class, false, true));
+		assertArrayEquals(new String[] {"&manualFactory"}, lbf.getBeanNamesForType(DummyFactory.class));
+
+		lbf.destroySingleton("manualTb");
+		assertArrayEquals(new String[] {"tb", "manualFactory"}, lbf.getBeanNamesForType(TestBean.class));
+		lbf.destroySingleton("manualFactory");
+		assertArrayEquals(new String[] {"tb"}, lbf.getBeanNamesForType(TestBean.class));
+		assertArrayEquals(new String[] {"tb"}, lbf.getBeanNamesForType(TestBean.class, false, true));
+		assertEquals(0, lbf.getBeanNamesForType(DummyFactory.class).length);
+	}
+
 	@Test(expected = NoSuchBeanDefinitionException.class)
 	public void testGetBeanByTypeWithNoneFound() {
 		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
@@ -2519,6 +2771,80 @@ public class DefaultListableBeanFactoryTests {
 		assertTrue("Prototype creation took too long: " + sw.getTotalTimeMillis(), sw.getTotalTimeMillis() < 4000);
 	}
 
+	@Test
+	public void testPrototypeWithConstructorAutowiringAndInstantiationPlan() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setCacheInstantiationPlans(true);
+		RootBeanDefinition rbd = new RootBeanDefinition(ConstructorDependency.class);
+		rbd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		rbd.setAutowireMode(RootBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+		lbf.registerBeanDefinition("test", rbd);
+		lbf.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+		TestBean spouse = (TestBean) lbf.getBean("spouse");
+		for (int i = 0; i < 3; i++) {
+			ConstructorDependency bean = (ConstructorDependency) lbf.getBean("test");
+			assertSame(spouse, bean.spouse);
+		}
+	}
+
+	@Test
+	public void testPrototypeWithConstructorAutowiringAndInstantiationPlanAfterDependencyReplaced() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setCacheInstantiationPlans(true);
+		RootBeanDefinition rbd = new RootBeanDefinition(ConstructorDependency.class);
+		rbd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		rbd.setAutowireMode(RootBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+		lbf.registerBeanDefinition("test", rbd);
+		lbf.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+		assertSame(lbf.getBean("spouse"), ((ConstructorDependency) lbf.getBean("test")).spouse);
+		assertSame(lbf.getBean("spouse"), ((ConstructorDependency) lbf.getBean("test")).spouse);
+
+		lbf.removeBeanDefinition("spouse");
+		lbf.registerBeanDefinition("otherSpouse", new RootBeanDefinition(TestBean.class));
+		assertSame(lbf.getBean("otherSpouse"), ((ConstructorDependency) lbf.getBean("test")).spouse);
+		assertSame(lbf.getBean("otherSpouse"), ((ConstructorDependency) lbf.getBean("test")).spouse);
+	}
+
+	@Test
+	public void testPrototypeWithConstructorReferenceAndInstantiationPlan() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setCacheInstantiationPlans(true);
+		RootBeanDefinition rbd = new RootBeanDefinition(ConstructorDependency.class);
+		rbd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		rbd.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("spouse"));
+		lbf.registerBeanDefinition("test", rbd);
+		lbf.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+		ConstructorDependency bean1 = (ConstructorDependency) lbf.getBean("test");
+		ConstructorDependency bean2 = (ConstructorDependency) lbf.getBean("test");
+		assertNotSame(bean1, bean2);
+		assertSame(lbf.getBean("spouse"), bean1.spouse);
+		assertSame(lbf.getBean("spouse"), bean2.spouse);
+	}
+
+	@Test
+	public void testPrototypeCreationWithInstantiationPlanIsFastEnough() {
+		Assume.group(TestGroup.PERFORMANCE);
+		Assume.notLogging(factoryLog);
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setCacheInstantiationPlans(true);
+		RootBeanDefinition rbd = new RootBeanDefinition(ConstructorDependency.class);
+		rbd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		rbd.setAutowireMode(RootBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+		lbf.registerBeanDefinition("test", rbd);
+		lbf.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		TestBean spouse = (TestBean) lbf.getBean("spouse");
+		StopWatch sw = new StopWatch();
+		sw.start("prototype");
+		for (int i = 0; i < 100000; i++) {
+			ConstructorDependency bean = (ConstructorDependency) lbf.getBean("test");
+			assertSame(spouse, bean.spouse);
+		}
+		sw.stop();
+		// System.out.println(sw.getTotalTimeMillis());
+		assertTrue("Prototype creation took too long: " + sw.getTotalTimeMillis(), sw.getTotalTimeMillis() < 4000);
+	}
+
 	@Test
 	public void testPrototypeCreationWithPropertiesIsFastEnough() {
 		Assume.group(TestGroup.PERFORMANCE);
@@ -3064,6 +3390,58 @@ public class DefaultListableBeanFactoryTests {
 	}
 
 
+	public static class CreationRecordingBean {
+
+		public CreationRecordingBean(List<String> creationOrder, String name) {
+			creationOrder.add(name);
+		}
+	}
+
+
+	public static class RendezvousBean extends TestBean {
+
+		private final boolean met;
+
+		public RendezvousBean(CountDownLatch latch) throws InterruptedException {
+			latch.countDown();
+			this.met = latch.await(5, TimeUnit.SECONDS);
+		}
+
+		public boolean isMet() {
+			return this.met;
+		}
+	}
+
+
+	public static class BeansOfTypeRendezvousBean extends RendezvousBean implements InitializingBean {
+
+		private Map<String, TestBean> beansOfType;
+
+		public BeansOfTypeRendezvousBean(CountDownLatch latch) throws InterruptedException {
+			super(latch);
+		}
+
+		@Override
+		public void afterPropertiesSet() {
+			this.beansOfType = ((ListableBeanFactory) getBeanFactory()).getBeansOfType(TestBean.class);
+		}
+
+		public Map<String, TestBean> getBeansOfType() {
+			return this.beansOfType;
+		}
+	}
+
+
+	public static class MutexRendezvousBean extends TestBean {
+
+		public MutexRendezvousBean(CountDownLatch inCreation, CountDownLatch mutexHeld) throws InterruptedException {
+			inCreation.countDown();
+			// Only reached with concurrent singleton creation, otherwise times out
+			mutexHeld.await(1, TimeUnit.SECONDS);
+		}
+	}
+
+
 	public static class UnsatisfiedConstructorDependency {
 
 		public UnsatisfiedConstructorDependency(TestBean t, SideEffectBean b) {
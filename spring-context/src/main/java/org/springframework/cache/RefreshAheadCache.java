@@ -0,0 +1,41 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache;
+
+/**
+ * Extension of the {@link Cache} interface for caches able to tell when an
+ * entry is due for refresh, ahead of its expiry. The caching infrastructure
+ * then reloads such an entry in the background while still serving the
+ * current value, instead of letting all callers miss once it expires.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see org.springframework.cache.interceptor.CacheAspectSupport#setRefreshExecutor
+ */
+public interface RefreshAheadCache extends Cache {
+
+	/**
+	 * Claim the refresh of the entry for the given key, if present and due
+	 * for refresh. Only one caller gets to claim the refresh of a given
+	 * entry until it is written again or the refresh interval elapses again.
+	 * @param key the key of the entry
+	 * @return {@code true} if the caller should reload the entry,
+	 * {@code false} if no refresh is due or another caller already claimed it
+	 */
+	boolean claimRefresh(Object key);
+
+}
@@ -174,6 +174,17 @@ public @interface Cacheable {
 	 * This is effectively a hint and the actual cache provider that you are
 	 * using may not support it in a synchronized fashion. Check your provider
 	 * documentation for more details on the actual semantics.
+	 * <p>As of 5.2, if the caching interceptor has been configured to
+	 * {@link org.springframework.cache.interceptor.CacheAspectSupport#setCacheAsyncValues
+	 * cache asynchronous values}, methods returning a
+	 * {@link java.util.concurrent.CompletableFuture}, a
+	 * {@link java.util.concurrent.CompletionStage}, or a reactive type such as a
+	 * Reactor {@code Mono} or {@code Flux} are not synchronized but coalesced without
+	 * blocking: concurrent callers for the same key share the pending result of a
+	 * single invocation, and the produced value (the list of elements for a
+	 * multi-value type) is cached once available. In that mode, {@link #unless()}
+	 * and several caches are supported. By default, the returned future or
+	 * publisher itself gets cached.
 	 * @since 4.3
 	 * @see org.springframework.cache.Cache#get(Object, Callable)
 	 */
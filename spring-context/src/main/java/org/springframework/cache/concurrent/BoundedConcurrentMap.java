@@ -0,0 +1,719 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link ConcurrentMap} implementation bounded in size or weight, with optional
+ * expiry of entries after write and after access. Used as the store of a
+ * {@link BoundedConcurrentMapCache}.
+ *
+ * <p>Entries get evicted according to a segmented LRU policy: new entries start
+ * in a probationary segment and get promoted to a protected segment (holding up to
+ * 80% of the maximum weight) once read again, so that entries read only once are
+ * evicted before frequently read ones. Reads record their access without blocking:
+ * under contention, an access may not be recorded, making the order approximate.
+ *
+ * <p>Expired entries are never returned. They get removed when accessed, when
+ * found at the end of a segment on a write, or on {@link #cleanUp()}. Entries
+ * may also become due for refresh some time after write, letting a single caller
+ * {@linkplain #claimRefresh claim} their reload while they are still served.
+ *
+ * <p>This map does not allow {@code null} keys or values.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see BoundedConcurrentMapCache
+ */
+public class BoundedConcurrentMap extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	/**
+	 * Strategy for determining the weight of an entry, to bound the map by
+	 * the total weight of its entries instead of their number.
+	 */
+	@FunctionalInterface
+	public interface Weigher {
+
+		/**
+		 * Return the weight of the given entry.
+		 * @param key the key of the entry
+		 * @param value the value of the entry
+		 * @return the weight of the entry (not negative)
+		 */
+		int weigh(Object key, Object value);
+	}
+
+
+	private static final int PROTECTED_PERCENTAGE = 80;
+
+
+	private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>(256);
+
+	private final long maximumWeight;
+
+	private final long maximumProtectedWeight;
+
+	@Nullable
+	private final Weigher weigher;
+
+	private final long expireAfterWriteNanos;
+
+	private final long expireAfterAccessNanos;
+
+	private final long refreshAfterWriteNanos;
+
+	private LongSupplier ticker = System::nanoTime;
+
+	/** Guards the segments and the weighted size. */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final Segment probationSegment = new Segment();
+
+	private final Segment protectedSegment = new Segment();
+
+	private volatile long weightedSize;
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder expirationCount = new LongAdder();
+
+
+	/**
+	 * Create a new BoundedConcurrentMap holding at most the given number of entries.
+	 * @param maximumSize the maximum number of entries
+	 */
+	public BoundedConcurrentMap(long maximumSize) {
+		this(maximumSize, null, null, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMap.
+	 * @param maximumWeight the maximum total weight of the entries, or the
+	 * maximum number of entries if no {@code weigher} is specified
+	 * (may be {@link Long#MAX_VALUE} for no bound)
+	 * @param weigher the weigher to determine the weight of each entry
+	 * (may be {@code null} for a weight of 1 per entry)
+	 * @param expireAfterWrite the time after which an entry expires once written
+	 * (may be {@code null} for no expiry)
+	 * @param expireAfterAccess the time after which an entry expires once last read
+	 * or written (may be {@code null} for no expiry)
+	 */
+	public BoundedConcurrentMap(long maximumWeight, @Nullable Weigher weigher,
+			@Nullable Duration expireAfterWrite, @Nullable Duration expireAfterAccess) {
+
+		this(maximumWeight, weigher, expireAfterWrite, expireAfterAccess, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMap.
+	 * @param maximumWeight the maximum total weight of the entries, or the
+	 * maximum number of entries if no {@code weigher} is specified
+	 * (may be {@link Long#MAX_VALUE} for no bound)
+	 * @param weigher the weigher to determine the weight of each entry
+	 * (may be {@code null} for a weight of 1 per entry)
+	 * @param expireAfterWrite the time after which an entry expires once written
+	 * (may be {@code null} for no expiry)
+	 * @param expireAfterAccess the time after which an entry expires once last read
+	 * or written (may be {@code null} for no expiry)
+	 * @param refreshAfterWrite the time after which an entry is due for refresh
+	 * once written (may be {@code null} for no refresh)
+	 * @see #claimRefresh
+	 */
+	public BoundedConcurrentMap(long maximumWeight, @Nullable Weigher weigher, @Nullable Duration expireAfterWrite,
+			@Nullable Duration expireAfterAccess, @Nullable Duration refreshAfterWrite) {
+
+		Assert.isTrue(maximumWeight > 0, "Maximum weight must be greater than 0");
+		Assert.isTrue(expireAfterWrite == null || !expireAfterWrite.isNegative(),
+				"Expire-after-write duration must not be negative");
+		Assert.isTrue(expireAfterAccess == null || !expireAfterAccess.isNegative(),
+				"Expire-after-access duration must not be negative");
+		Assert.isTrue(refreshAfterWrite == null || !refreshAfterWrite.isNegative(),
+				"Refresh-after-write duration must not be negative");
+		this.maximumWeight = maximumWeight;
+		this.maximumProtectedWeight = (maximumWeight / 100) * PROTECTED_PERCENTAGE +
+				(maximumWeight % 100) * PROTECTED_PERCENTAGE / 100;
+		this.weigher = weigher;
+		this.expireAfterWriteNanos = (expireAfterWrite != null ? expireAfterWrite.toNanos() : 0);
+		this.expireAfterAccessNanos = (expireAfterAccess != null ? expireAfterAccess.toNanos() : 0);
+		this.refreshAfterWriteNanos = (refreshAfterWrite != null ? refreshAfterWrite.toNanos() : 0);
+	}
+
+
+	/**
+	 * Set the time source in nanoseconds, for testing purposes.
+	 */
+	void setTicker(LongSupplier ticker) {
+		this.ticker = ticker;
+	}
+
+	/**
+	 * Return the maximum total weight of the entries.
+	 */
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * Return the current total weight of the entries.
+	 */
+	public long getWeightedSize() {
+		return this.weightedSize;
+	}
+
+	/**
+	 * Return the number of entries evicted to stay within the maximum weight.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Return the number of entries removed because they expired.
+	 */
+	public long getExpirationCount() {
+		return this.expirationCount.sum();
+	}
+
+	/**
+	 * Claim the refresh of the entry for the given key, if present and written
+	 * longer ago than the refresh-after-write duration. Once claimed, the refresh
+	 * of that entry can only be claimed again after another such duration,
+	 * unless the entry gets written again in the meantime.
+	 * @param key the key of the entry
+	 * @return {@code true} if the caller should reload the entry
+	 */
+	public boolean claimRefresh(Object key) {
+		if (this.refreshAfterWriteNanos <= 0) {
+			return false;
+		}
+		long now = currentTime();
+		Node node = this.data.get(key);
+		if (node == null || isExpired(node, now) || now - node.writeTime < this.refreshAfterWriteNanos) {
+			return false;
+		}
+		synchronized (node) {
+			if (node.refreshClaimed && now - node.refreshClaimTime < this.refreshAfterWriteNanos) {
+				return false;
+			}
+			node.refreshClaimed = true;
+			node.refreshClaimTime = now;
+			return true;
+		}
+	}
+
+	/**
+	 * Remove all expired entries.
+	 */
+	public void cleanUp() {
+		long now = currentTime();
+		this.evictionLock.lock();
+		try {
+			expireAll(this.probationSegment, now);
+			expireAll(this.protectedSegment, now);
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+
+	@Override
+	public int size() {
+		return this.data.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (getLiveNode(key, currentTime(), false) != null);
+	}
+
+	@Override
+	@Nullable
+	public Object get(Object key) {
+		Node node = getLiveNode(key, currentTime(), true);
+		return (node != null ? node.value : null);
+	}
+
+	@Override
+	@Nullable
+	public Object put(Object key, Object value) {
+		long now = currentTime();
+		Node node = newNode(key, value, now);
+		Node previous = this.data.put(key, node);
+		afterWrite(previous, node);
+		return (previous != null && !isExpired(previous, now) ? previous.value : null);
+	}
+
+	@Override
+	@Nullable
+	public Object putIfAbsent(Object key, Object value) {
+		long now = currentTime();
+		Node node = newNode(key, value, now);
+		Node[] replaced = new Node[1];
+		Node result = this.data.compute(key, (k, existing) -> {
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			replaced[0] = existing;
+			return node;
+		});
+		if (result == node) {
+			afterWrite(replaced[0], node);
+			return null;
+		}
+		recordAccess(result, now);
+		return result.value;
+	}
+
+	@Override
+	@Nullable
+	public Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+		long now = currentTime();
+		Node node = getLiveNode(key, now, true);
+		if (node != null) {
+			return node.value;
+		}
+		Node[] replaced = new Node[1];
+		Node[] created = new Node[1];
+		Node result = this.data.compute(key, (k, existing) -> {
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			replaced[0] = existing;
+			Object value = mappingFunction.apply(k);
+			if (value == null) {
+				return null;
+			}
+			created[0] = newNode(k, value, now);
+			return created[0];
+		});
+		if (replaced[0] != null || created[0] != null) {
+			afterWrite(replaced[0], created[0]);
+		}
+		return (result != null ? result.value : null);
+	}
+
+	@Override
+	@Nullable
+	public Object replace(Object key, Object value) {
+		long now = currentTime();
+		Node node = newNode(key, value, now);
+		while (true) {
+			Node existing = this.data.get(key);
+			if (existing == null || isExpired(existing, now)) {
+				return null;
+			}
+			if (this.data.replace(key, existing, node)) {
+				afterWrite(existing, node);
+				return existing.value;
+			}
+		}
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+		long now = currentTime();
+		Node node = newNode(key, newValue, now);
+		while (true) {
+			Node existing = this.data.get(key);
+			if (existing == null || isExpired(existing, now) ||
+					!ObjectUtils.nullSafeEquals(existing.value, oldValue)) {
+				return false;
+			}
+			if (this.data.replace(key, existing, node)) {
+				afterWrite(existing, node);
+				return true;
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public Object remove(Object key) {
+		Node removed = this.data.remove(key);
+		if (removed == null) {
+			return null;
+		}
+		afterWrite(removed, null);
+		return (!isExpired(removed, currentTime()) ? removed.value : null);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		Node existing = this.data.get(key);
+		if (existing != null && !isExpired(existing, currentTime()) &&
+				ObjectUtils.nullSafeEquals(existing.value, value) && this.data.remove(key, existing)) {
+			afterWrite(existing, null);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		this.evictionLock.lock();
+		try {
+			this.data.clear();
+			retireAll(this.probationSegment);
+			retireAll(this.protectedSegment);
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+
+	private long currentTime() {
+		return (this.expireAfterWriteNanos > 0 || this.expireAfterAccessNanos > 0 ||
+				this.refreshAfterWriteNanos > 0 ? this.ticker.getAsLong() : 0);
+	}
+
+	private Node newNode(Object key, Object value, long now) {
+		Assert.notNull(value, "Value must not be null");
+		int weight = (this.weigher != null ? this.weigher.weigh(key, value) : 1);
+		Assert.isTrue(weight >= 0, "Weight must not be negative");
+		return new Node(key, value, weight, now);
+	}
+
+	private boolean isExpired(Node node, long now) {
+		return ((this.expireAfterWriteNanos > 0 && now - node.writeTime >= this.expireAfterWriteNanos) ||
+				(this.expireAfterAccessNanos > 0 && now - node.accessTime >= this.expireAfterAccessNanos));
+	}
+
+	/**
+	 * Return the node for the given key if present and not expired,
+	 * removing it if expired.
+	 */
+	@Nullable
+	private Node getLiveNode(Object key, long now, boolean recordAccess) {
+		Node node = this.data.get(key);
+		if (node == null) {
+			return null;
+		}
+		if (isExpired(node, now)) {
+			if (this.data.remove(key, node)) {
+				this.expirationCount.increment();
+				afterWrite(node, null);
+			}
+			return null;
+		}
+		if (recordAccess) {
+			recordAccess(node, now);
+		}
+		return node;
+	}
+
+	/**
+	 * Record a read of the given node, promoting it to the protected segment.
+	 * Skipped if the eviction lock is currently held by another thread.
+	 */
+	private void recordAccess(Node node, long now) {
+		if (this.expireAfterAccessNanos > 0) {
+			node.accessTime = now;
+		}
+		if (this.evictionLock.tryLock()) {
+			try {
+				Segment segment = node.segment;
+				if (segment == this.protectedSegment) {
+					segment.remove(node);
+					segment.addFirst(node);
+				}
+				else if (segment == this.probationSegment) {
+					segment.remove(node);
+					this.protectedSegment.addFirst(node);
+					while (this.protectedSegment.weight > this.maximumProtectedWeight) {
+						Node demoted = this.protectedSegment.tail;
+						Assert.state(demoted != null, "Inconsistent protected segment");
+						this.protectedSegment.remove(demoted);
+						this.probationSegment.addFirst(demoted);
+					}
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Account for a replaced or removed node and for a newly added node,
+	 * evicting entries as necessary.
+	 */
+	private void afterWrite(@Nullable Node oldNode, @Nullable Node newNode) {
+		this.evictionLock.lock();
+		try {
+			if (oldNode != null) {
+				retire(oldNode);
+			}
+			if (newNode != null && !newNode.retired) {
+				this.probationSegment.addFirst(newNode);
+				this.weightedSize += newNode.weight;
+			}
+			if (this.expireAfterWriteNanos > 0 || this.expireAfterAccessNanos > 0) {
+				long now = this.ticker.getAsLong();
+				expireTail(this.probationSegment, now);
+				expireTail(this.protectedSegment, now);
+			}
+			while (this.weightedSize > this.maximumWeight) {
+				Node victim = (this.probationSegment.tail != null ?
+						this.probationSegment.tail : this.protectedSegment.tail);
+				if (victim == null) {
+					break;
+				}
+				retire(victim);
+				if (this.data.remove(victim.key, victim)) {
+					this.evictionCount.increment();
+				}
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	private void expireTail(Segment segment, long now) {
+		Node node = segment.tail;
+		while (node != null && isExpired(node, now)) {
+			Node previous = node.previous;
+			expire(node);
+			node = previous;
+		}
+	}
+
+	private void expireAll(Segment segment, long now) {
+		Node node = segment.head;
+		while (node != null) {
+			Node next = node.next;
+			if (isExpired(node, now)) {
+				expire(node);
+			}
+			node = next;
+		}
+	}
+
+	private void expire(Node node) {
+		retire(node);
+		if (this.data.remove(node.key, node)) {
+			this.expirationCount.increment();
+		}
+	}
+
+	private void retireAll(Segment segment) {
+		Node node = segment.head;
+		while (node != null) {
+			Node next = node.next;
+			retire(node);
+			node = next;
+		}
+	}
+
+	/**
+	 * Unlink the given node, if linked, and prevent it from being linked later on.
+	 * To be called with the eviction lock held.
+	 */
+	private void retire(Node node) {
+		if (node.segment != null) {
+			node.segment.remove(node);
+			this.weightedSize -= node.weight;
+		}
+		node.retired = true;
+	}
+
+
+	/**
+	 * An entry in the map, linked into one of the segments.
+	 */
+	private static final class Node {
+
+		final Object key;
+
+		final Object value;
+
+		final int weight;
+
+		final long writeTime;
+
+		volatile long accessTime;
+
+		// Guarded by the node itself
+
+		boolean refreshClaimed;
+
+		long refreshClaimTime;
+
+		// Guarded by the eviction lock
+
+		@Nullable
+		Segment segment;
+
+		@Nullable
+		Node previous;
+
+		@Nullable
+		Node next;
+
+		boolean retired;
+
+		Node(Object key, Object value, int weight, long now) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = now;
+			this.accessTime = now;
+		}
+	}
+
+
+	/**
+	 * Doubly-linked list of nodes, from most recently to least recently used.
+	 */
+	private static final class Segment {
+
+		@Nullable
+		Node head;
+
+		@Nullable
+		Node tail;
+
+		long weight;
+
+		void addFirst(Node node) {
+			node.segment = this;
+			node.previous = null;
+			node.next = this.head;
+			if (this.head != null) {
+				this.head.previous = node;
+			}
+			else {
+				this.tail = node;
+			}
+			this.head = node;
+			this.weight += node.weight;
+		}
+
+		void remove(Node node) {
+			if (node.previous != null) {
+				node.previous.next = node.next;
+			}
+			else {
+				this.head = node.next;
+			}
+			if (node.next != null) {
+				node.next.previous = node.previous;
+			}
+			else {
+				this.tail = node.previous;
+			}
+			node.segment = null;
+			node.previous = null;
+			node.next = null;
+			this.weight -= node.weight;
+		}
+	}
+
+
+	/**
+	 * Entry set view over the live entries of the map.
+	 */
+	private class EntrySet extends AbstractSet<Map.Entry<Object, Object>> {
+
+		@Override
+		public int size() {
+			return BoundedConcurrentMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			BoundedConcurrentMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<Object, Object>> iterator() {
+			return new EntryIterator();
+		}
+	}
+
+
+	/**
+	 * Iterator over the live entries of the map.
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<Object, Object>> {
+
+		private final Iterator<Node> nodes = BoundedConcurrentMap.this.data.values().iterator();
+
+		private final long now = currentTime();
+
+		@Nullable
+		private Node next;
+
+		@Nullable
+		private Node last;
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null && this.nodes.hasNext()) {
+				Node node = this.nodes.next();
+				if (!isExpired(node, this.now)) {
+					this.next = node;
+				}
+			}
+			return (this.next != null);
+		}
+
+		@Override
+		public Map.Entry<Object, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Node node = this.next;
+			Assert.state(node != null, "No next node");
+			this.last = node;
+			this.next = null;
+			return new SimpleImmutableEntry<>(node.key, node.value);
+		}
+
+		@Override
+		public void remove() {
+			Assert.state(this.last != null, "No element to remove");
+			BoundedConcurrentMap.this.remove(this.last.key, this.last.value);
+			this.last = null;
+		}
+	}
+
+}
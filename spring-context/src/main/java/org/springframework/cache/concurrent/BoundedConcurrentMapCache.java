@@ -0,0 +1,224 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.RefreshAheadCache;
+import org.springframework.cache.support.CacheStatistics;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ConcurrentMapCache} variant backed by a {@link BoundedConcurrentMap},
+ * evicting entries beyond a maximum size or weight and expiring entries after
+ * write or access, as configured on the store.
+ *
+ * <p>Keeps track of hits, misses and puts, exposed along with the evictions and
+ * expirations of the store through {@link #getStatistics()} and, once registered
+ * with an {@link org.springframework.jmx.export.annotation.AnnotationMBeanExporter},
+ * as JMX attributes.
+ *
+ * <p>Entries written longer ago than the refresh-after-write duration of the
+ * store are reported as due for refresh through {@link #claimRefresh}.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see ConcurrentMapCacheManager#setMaximumSize
+ */
+@ManagedResource(description = "Bounded in-memory cache")
+public class BoundedConcurrentMapCache extends ConcurrentMapCache implements RefreshAheadCache {
+
+	private final BoundedConcurrentMap boundedStore;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder putCount = new LongAdder();
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name,
+	 * holding at most the given number of entries.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries
+	 */
+	public BoundedConcurrentMapCache(String name, long maximumSize) {
+		this(name, new BoundedConcurrentMap(maximumSize), true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and the
+	 * given internal {@link BoundedConcurrentMap} to use.
+	 * @param name the name of the cache
+	 * @param store the BoundedConcurrentMap to use as an internal store
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 */
+	public BoundedConcurrentMapCache(String name, BoundedConcurrentMap store, boolean allowNullValues) {
+		this(name, store, allowNullValues, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and the
+	 * given internal {@link BoundedConcurrentMap} to use. If the
+	 * {@link SerializationDelegate} is specified,
+	 * {@link #isStoreByValue() store-by-value} is enabled
+	 * @param name the name of the cache
+	 * @param store the BoundedConcurrentMap to use as an internal store
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 */
+	protected BoundedConcurrentMapCache(String name, BoundedConcurrentMap store,
+			boolean allowNullValues, @Nullable SerializationDelegate serialization) {
+
+		super(name, store, allowNullValues, serialization);
+		this.boundedStore = store;
+	}
+
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		Object value = super.lookup(key);
+		(value != null ? this.hitCount : this.missCount).increment();
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		boolean[] loaded = new boolean[1];
+		Object storeValue = this.boundedStore.computeIfAbsent(key, k -> {
+			loaded[0] = true;
+			try {
+				return toStoreValue(valueLoader.call());
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+		});
+		if (loaded[0]) {
+			this.missCount.increment();
+			this.putCount.increment();
+		}
+		else {
+			this.hitCount.increment();
+		}
+		return (T) fromStoreValue(storeValue);
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		super.put(key, value);
+		this.putCount.increment();
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		ValueWrapper existing = super.putIfAbsent(key, value);
+		if (existing == null) {
+			this.putCount.increment();
+		}
+		return existing;
+	}
+
+
+	@Override
+	public boolean claimRefresh(Object key) {
+		return this.boundedStore.claimRefresh(key);
+	}
+
+
+	/**
+	 * Return a snapshot of the statistics of this cache.
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(this.hitCount.sum(), this.missCount.sum(), this.putCount.sum(),
+				this.boundedStore.getEvictionCount(), this.boundedStore.getExpirationCount(),
+				this.boundedStore.size());
+	}
+
+	/**
+	 * Reset the hit, miss and put counters of this cache.
+	 */
+	@ManagedOperation(description = "Reset the hit, miss and put counters")
+	public void resetStatistics() {
+		this.hitCount.reset();
+		this.missCount.reset();
+		this.putCount.reset();
+	}
+
+	/**
+	 * Remove all expired entries from this cache.
+	 * @see BoundedConcurrentMap#cleanUp()
+	 */
+	@ManagedOperation(description = "Remove all expired entries")
+	public void cleanUp() {
+		this.boundedStore.cleanUp();
+	}
+
+	@ManagedAttribute(description = "Number of lookups that found an entry")
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	@ManagedAttribute(description = "Number of lookups that did not find an entry")
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	@ManagedAttribute(description = "Ratio of lookups that found an entry")
+	public double getHitRatio() {
+		return getStatistics().getHitRatio();
+	}
+
+	@ManagedAttribute(description = "Number of entries written to the cache")
+	public long getPutCount() {
+		return this.putCount.sum();
+	}
+
+	@ManagedAttribute(description = "Number of entries evicted to stay within the maximum size")
+	public long getEvictionCount() {
+		return this.boundedStore.getEvictionCount();
+	}
+
+	@ManagedAttribute(description = "Number of entries removed because they expired")
+	public long getExpirationCount() {
+		return this.boundedStore.getExpirationCount();
+	}
+
+	@ManagedAttribute(description = "Current number of entries")
+	public long getSize() {
+		return this.boundedStore.size();
+	}
+
+	@ManagedAttribute(description = "Current total weight of the entries")
+	public long getWeightedSize() {
+		return this.boundedStore.getWeightedSize();
+	}
+
+}
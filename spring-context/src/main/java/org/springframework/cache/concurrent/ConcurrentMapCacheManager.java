@@ -16,6 +16,7 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,6 +29,8 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -35,7 +38,11 @@ import org.springframework.lang.Nullable;
  * the set of cache names is pre-defined through {@link #setCacheNames}, with no
  * dynamic creation of further cache regions at runtime.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
+ * <p>Caches are unbounded by default. Specifying a maximum size or weight,
+ * or an expiry, creates {@link BoundedConcurrentMapCache} instances instead,
+ * which also keep track of their statistics.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with few
  * cache configuration options. However, it may be useful for testing or simple
  * caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.jcache.JCacheCacheManager},
@@ -45,6 +52,7 @@ import org.springframework.lang.Nullable;
  * @author Juergen Hoeller
  * @since 3.1
  * @see ConcurrentMapCache
+ * @see BoundedConcurrentMapCache
  */
 public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderAware {
 
@@ -59,6 +67,22 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	@Nullable
 	private SerializationDelegate serialization;
 
+	private long maximumSize = Long.MAX_VALUE;
+
+	private long maximumWeight = Long.MAX_VALUE;
+
+	@Nullable
+	private BoundedConcurrentMap.Weigher weigher;
+
+	@Nullable
+	private Duration expireAfterWrite;
+
+	@Nullable
+	private Duration expireAfterAccess;
+
+	@Nullable
+	private Duration refreshAfterWrite;
+
 
 	/**
 	 * Construct a dynamic ConcurrentMapCacheManager,
@@ -146,6 +170,120 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify the maximum number of entries of each cache, evicting the least
+	 * recently used entries beyond that number.
+	 * <p>Default is none, with unbounded caches.
+	 * <p>Note: A change of the maximum size will reset all existing caches,
+	 * if any, to reconfigure them with the new bound.
+	 * @throws IllegalStateException if a {@link #setWeigher weigher} has been
+	 * specified already, which requires a maximum weight instead
+	 * @since 5.2
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setMaximumSize(long maximumSize) {
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+		Assert.state(this.weigher == null, "Maximum size cannot be combined with a weigher: " +
+				"specify a maximum weight instead");
+		if (maximumSize != this.maximumSize) {
+			this.maximumSize = maximumSize;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Specify the maximum total weight of the entries of each cache, as
+	 * determined by the {@link #setWeigher weigher}, evicting the least
+	 * recently used entries beyond that weight.
+	 * <p>A maximum weight requires a weigher, to be specified before any caches
+	 * get created: either before or after this call in case of static cache names.
+	 * <p>Note: A change of the maximum weight will reset all existing caches,
+	 * if any, to reconfigure them with the new bound, once a weigher is present.
+	 * @since 5.2
+	 * @see #setWeigher
+	 */
+	public void setMaximumWeight(long maximumWeight) {
+		Assert.isTrue(maximumWeight > 0, "Maximum weight must be greater than 0");
+		if (maximumWeight != this.maximumWeight) {
+			this.maximumWeight = maximumWeight;
+			if (this.weigher != null) {
+				recreateCaches();
+			}
+		}
+	}
+
+	/**
+	 * Specify the weigher determining the weight of each entry, to be used
+	 * in combination with a {@link #setMaximumWeight maximum weight}.
+	 * @throws IllegalStateException if a {@link #setMaximumSize maximum size}
+	 * has been specified already, which cannot be combined with a weigher
+	 * @since 5.2
+	 */
+	public void setWeigher(@Nullable BoundedConcurrentMap.Weigher weigher) {
+		Assert.state(weigher == null || this.maximumSize == Long.MAX_VALUE,
+				"Weigher cannot be combined with a maximum size: specify a maximum weight instead");
+		if (weigher != this.weigher) {
+			this.weigher = weigher;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Specify the time after which an entry of each cache expires once written.
+	 * <p>Default is none, with entries never expiring.
+	 * <p>Note: A change of the expiry will reset all existing caches,
+	 * if any, to reconfigure them with the new expiry.
+	 * @since 5.2
+	 */
+	public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+		if (!ObjectUtils.nullSafeEquals(expireAfterWrite, this.expireAfterWrite)) {
+			this.expireAfterWrite = expireAfterWrite;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Specify the time after which an entry of each cache expires once last
+	 * read or written.
+	 * <p>Default is none, with entries never expiring.
+	 * <p>Note: A change of the expiry will reset all existing caches,
+	 * if any, to reconfigure them with the new expiry.
+	 * @since 5.2
+	 */
+	public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+		if (!ObjectUtils.nullSafeEquals(expireAfterAccess, this.expireAfterAccess)) {
+			this.expireAfterAccess = expireAfterAccess;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Specify the time after which an entry of each cache is due for refresh
+	 * once written, letting the caching infrastructure reload it ahead of
+	 * its expiry while still serving the current value.
+	 * <p>Default is none, with entries never refreshed ahead.
+	 * <p>Note: A change of the refresh interval will reset all existing caches,
+	 * if any, to reconfigure them with the new interval.
+	 * @since 5.2
+	 * @see org.springframework.cache.RefreshAheadCache
+	 */
+	public void setRefreshAfterWrite(@Nullable Duration refreshAfterWrite) {
+		if (!ObjectUtils.nullSafeEquals(refreshAfterWrite, this.refreshAfterWrite)) {
+			this.refreshAfterWrite = refreshAfterWrite;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return whether this cache manager creates bounded, expiring or refreshing caches.
+	 * @since 5.2
+	 */
+	public boolean isBounded() {
+		return (this.maximumSize != Long.MAX_VALUE || this.maximumWeight != Long.MAX_VALUE ||
+				this.weigher != null || this.expireAfterWrite != null || this.expireAfterAccess != null ||
+				this.refreshAfterWrite != null);
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -190,9 +328,24 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	 */
 	protected Cache createConcurrentMapCache(String name) {
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
+		if (isBounded()) {
+			return new BoundedConcurrentMapCache(name, createBoundedStore(),
+					isAllowNullValues(), actualSerialization);
+		}
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256),
 				isAllowNullValues(), actualSerialization);
 
 	}
 
+	private BoundedConcurrentMap createBoundedStore() {
+		Assert.state(this.weigher != null || this.maximumWeight == Long.MAX_VALUE,
+				"Maximum weight specified without a weigher");
+		if (this.weigher != null) {
+			return new BoundedConcurrentMap(this.maximumWeight, this.weigher,
+					this.expireAfterWrite, this.expireAfterAccess, this.refreshAfterWrite);
+		}
+		return new BoundedConcurrentMap(this.maximumSize, null,
+				this.expireAfterWrite, this.expireAfterAccess, this.refreshAfterWrite);
+	}
+
 }
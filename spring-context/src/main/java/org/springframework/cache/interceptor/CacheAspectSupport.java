@@ -25,11 +25,19 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.aop.support.AopUtils;
@@ -42,8 +50,11 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.RefreshAheadCache;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -69,6 +80,15 @@ import org.springframework.util.function.SupplierUtils;
  * used for determining caching operations, a {@link KeyGenerator} will build the
  * cache keys, and a {@link CacheResolver} will resolve the actual cache(s) to use.
  *
+ * <p>If {@link #setCacheAsyncValues "cacheAsyncValues"} is switched on, synchronized
+ * {@code @Cacheable} methods returning a {@link CompletableFuture}, a
+ * {@link CompletionStage}, or a reactive type known to the {@link ReactiveAdapterRegistry}
+ * coalesce concurrent loads for the same key without blocking, caching the produced
+ * value rather than the returned future or publisher. A reactive return value is
+ * then only looked up and loaded once subscribed to. Entries of a
+ * {@link RefreshAheadCache} due for refresh get reloaded in the background while
+ * their current value is still returned.
+ *
  * <p>Note: A cache aspect is serializable but does not perform any actual caching
  * after deserialization.
  *
@@ -83,6 +103,10 @@ import org.springframework.util.function.SupplierUtils;
 public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		implements BeanFactoryAware, InitializingBean, SmartInitializingSingleton {
 
+	private static final boolean reactorPresent = ClassUtils.isPresent(
+			"reactor.core.publisher.Mono", CacheAspectSupport.class.getClassLoader());
+
+
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final Map<CacheOperationCacheKey, CacheOperationMetadata> metadataCache = new ConcurrentHashMap<>(1024);
@@ -100,6 +124,14 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	@Nullable
 	private BeanFactory beanFactory;
 
+	private boolean cacheAsyncValues = false;
+
+	@Nullable
+	private Executor refreshExecutor;
+
+	/** Pending asynchronous loads, keyed by cache names and key. */
+	private final Map<Object, CompletableFuture<Object>> asyncLoads = new ConcurrentHashMap<>(64);
+
 	private boolean initialized = false;
 
 
@@ -194,6 +226,57 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		this.cacheResolver = SingletonSupplier.of(new SimpleCacheResolver(cacheManager));
 	}
 
+	/**
+	 * Set whether synchronized {@code @Cacheable} methods with an asynchronous
+	 * return type ({@link CompletableFuture}, {@link CompletionStage} or a reactive
+	 * type such as a Reactor {@code Mono} or {@code Flux}) should coalesce concurrent
+	 * loads for the same key without blocking and cache the produced value (the list
+	 * of elements for a multi-value type) once available.
+	 * <p>Default is "false", caching the returned future or publisher itself.
+	 * Note that entries written in either mode are not compatible with the other
+	 * one: only switch this on for caches which are not shared with code that
+	 * expects the returned instance to be cached.
+	 * @since 5.2
+	 * @see org.springframework.cache.annotation.Cacheable#sync()
+	 */
+	public void setCacheAsyncValues(boolean cacheAsyncValues) {
+		this.cacheAsyncValues = cacheAsyncValues;
+	}
+
+	/**
+	 * Return whether the produced values of asynchronous return types get cached
+	 * for synchronized {@code @Cacheable} methods.
+	 * @since 5.2
+	 */
+	public boolean isCacheAsyncValues() {
+		return this.cacheAsyncValues;
+	}
+
+	/**
+	 * Set the executor to reload entries of a {@link RefreshAheadCache} that are
+	 * due for refresh, while their current value is still returned to the caller.
+	 * <p>Default is none: entries are only refreshed ahead for synchronized methods
+	 * with an asynchronous return type, which get invoked on the calling thread
+	 * (if {@link #setCacheAsyncValues "cacheAsyncValues"} is switched on).
+	 * <p>Reloads on this executor invoke the target method directly, not through
+	 * the rest of the interceptor chain of the original invocation: anything bound
+	 * to the calling thread (e.g. a transaction) is not available to them.
+	 * @since 5.2
+	 * @see RefreshAheadCache#claimRefresh
+	 */
+	public void setRefreshExecutor(@Nullable Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Return the executor to reload entries due for refresh, if any.
+	 * @since 5.2
+	 */
+	@Nullable
+	public Executor getRefreshExecutor() {
+		return this.refreshExecutor;
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
@@ -376,9 +459,15 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
 			if (isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
 				Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
+				if (isAsyncValueCaching(method)) {
+					return executeAsync(invoker, method, context, key);
+				}
 				Cache cache = context.getCaches().iterator().next();
 				try {
-					return wrapCacheValue(method, cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker))));
+					Object returnValue = wrapCacheValue(method,
+							cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker))));
+					refreshIfDue(contexts, Collections.singletonList(context));
+					return returnValue;
 				}
 				catch (Cache.ValueRetrievalException ex) {
 					// The invoker wraps any Throwable in a ThrowableWrapper instance so we
@@ -414,6 +503,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			// If there are no put requests, just use the cache hit
 			cacheValue = cacheHit.get();
 			returnValue = wrapCacheValue(method, cacheValue);
+			refreshIfDue(contexts, contexts.get(CacheableOperation.class));
 		}
 		else {
 			// Invoke the method if we don't have a cache hit
@@ -435,6 +525,188 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return returnValue;
 	}
 
+	/**
+	 * Execute a synchronized {@code @Cacheable} method with an asynchronous
+	 * return type, sharing a pending load for the same key between callers.
+	 * A reactive return value defers the cache lookup and the load until subscribed.
+	 */
+	private Object executeAsync(CacheOperationInvoker invoker, Method method,
+			CacheOperationContext context, Object key) {
+
+		ReactiveAdapter adapter = getReactiveAdapter(method.getReturnType());
+		if (adapter != null) {
+			return ReactiveCachingHandler.defer(adapter, () -> findOrLoadAsync(invoker, adapter, context, key));
+		}
+		return findOrLoadAsync(invoker, null, context, key);
+	}
+
+	private CompletableFuture<Object> findOrLoadAsync(CacheOperationInvoker invoker,
+			@Nullable ReactiveAdapter adapter, CacheOperationContext context, Object key) {
+
+		Cache.ValueWrapper cacheHit = findInCaches(context, key);
+		if (cacheHit != null) {
+			if (claimRefresh(context, key)) {
+				try {
+					loadAsync(invoker, adapter, context, key);
+				}
+				catch (RuntimeException ex) {
+					logRefreshFailure(context.getCacheNames(), ex);
+				}
+			}
+			return CompletableFuture.completedFuture(cacheHit.get());
+		}
+		CompletableFuture<Object> load = loadAsync(invoker, adapter, context, key);
+		// Each caller gets its own dependent future: the shared one must not be completed by callers
+		return load.thenApply(Function.identity());
+	}
+
+	/**
+	 * Start loading the value for the given key, unless already being loaded,
+	 * and cache the produced value once available.
+	 * @return the pending load
+	 */
+	private CompletableFuture<Object> loadAsync(CacheOperationInvoker invoker,
+			@Nullable ReactiveAdapter adapter, CacheOperationContext context, Object key) {
+
+		Object loadKey = new SimpleKey(context.getCacheNames(), key);
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> existingLoad = this.asyncLoads.putIfAbsent(loadKey, load);
+		if (existingLoad != null) {
+			return existingLoad;
+		}
+		try {
+			unwrapAsyncValue(adapter, invokeOperation(invoker)).whenComplete((value, ex) -> {
+				try {
+					if (ex == null && context.canPutToCache(value)) {
+						for (Cache cache : context.getCaches()) {
+							doPut(cache, key, value);
+						}
+					}
+				}
+				finally {
+					this.asyncLoads.remove(loadKey, load);
+					if (ex != null) {
+						load.completeExceptionally(
+								ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+					}
+					else {
+						load.complete(value);
+					}
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.asyncLoads.remove(loadKey, load);
+			// Callers which joined the load expect the original exception, not the invoker's wrapper
+			load.completeExceptionally(ex instanceof CacheOperationInvoker.ThrowableWrapper ?
+					((CacheOperationInvoker.ThrowableWrapper) ex).getOriginal() : ex);
+			throw ex;
+		}
+		return load;
+	}
+
+	private boolean isAsyncValueCaching(Method method) {
+		return (this.cacheAsyncValues && isAsyncReturnType(method));
+	}
+
+	private boolean isAsyncReturnType(Method method) {
+		Class<?> returnType = method.getReturnType();
+		return (returnType == CompletableFuture.class || returnType == CompletionStage.class ||
+				getReactiveAdapter(returnType) != null);
+	}
+
+	/**
+	 * Return the adapter for the given reactive return type, if Reactor is present
+	 * to bridge it and if the type emits values.
+	 */
+	@Nullable
+	private ReactiveAdapter getReactiveAdapter(Class<?> returnType) {
+		if (!reactorPresent || returnType == CompletableFuture.class || returnType == CompletionStage.class) {
+			return null;
+		}
+		ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType);
+		return (adapter != null && !adapter.isNoValue() ? adapter : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompletableFuture<Object> unwrapAsyncValue(@Nullable ReactiveAdapter adapter, @Nullable Object returnValue) {
+		if (returnValue == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if (returnValue instanceof CompletionStage) {
+			return ((CompletionStage<Object>) returnValue).toCompletableFuture();
+		}
+		if (adapter != null) {
+			return ReactiveCachingHandler.toFuture(adapter, returnValue);
+		}
+		throw new IllegalStateException("Unsupported asynchronous return value: " + returnValue);
+	}
+
+	/**
+	 * Reload the entries of the given cacheable operations in the background
+	 * if one of them is due for refresh.
+	 */
+	private void refreshIfDue(CacheOperationContexts operationContexts, Collection<CacheOperationContext> contexts) {
+		Executor executor = this.refreshExecutor;
+		if (executor == null) {
+			return;
+		}
+		for (CacheOperationContext context : contexts) {
+			if (hasRefreshAheadCache(context) &&
+					isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT) &&
+					claimRefresh(context, generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT))) {
+				// Not the original invoker: its invocation is bound to the calling thread
+				CacheOperationInvoker invoker = operationContexts.getTargetInvoker();
+				executor.execute(() -> refresh(invoker, contexts));
+				return;
+			}
+		}
+	}
+
+	private void refresh(CacheOperationInvoker invoker, Collection<CacheOperationContext> contexts) {
+		try {
+			Object cacheValue = unwrapReturnValue(invokeOperation(invoker));
+			List<CachePutRequest> cachePutRequests = new ArrayList<>(contexts.size());
+			collectPutRequests(contexts, cacheValue, cachePutRequests);
+			for (CachePutRequest cachePutRequest : cachePutRequests) {
+				cachePutRequest.apply(cacheValue);
+			}
+		}
+		catch (RuntimeException ex) {
+			for (CacheOperationContext context : contexts) {
+				logRefreshFailure(context.getCacheNames(), ex);
+			}
+		}
+	}
+
+	private boolean hasRefreshAheadCache(CacheOperationContext context) {
+		for (Cache cache : context.getCaches()) {
+			if (cache instanceof RefreshAheadCache) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean claimRefresh(CacheOperationContext context, Object key) {
+		for (Cache cache : context.getCaches()) {
+			if (cache instanceof RefreshAheadCache && ((RefreshAheadCache) cache).claimRefresh(key)) {
+				if (logger.isTraceEnabled()) {
+					logger.trace("Refreshing cache entry for key '" + key + "' in cache(s) " + context.getCacheNames());
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void logRefreshFailure(Collection<String> cacheNames, Throwable ex) {
+		Throwable cause = (ex instanceof CacheOperationInvoker.ThrowableWrapper ? ex.getCause() : ex);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Failed to refresh cache entry in cache(s) " + cacheNames, cause);
+		}
+	}
+
 	@Nullable
 	private Object wrapCacheValue(Method method, @Nullable Object cacheValue) {
 		if (method.getReturnType() == Optional.class &&
@@ -590,6 +862,12 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final boolean sync;
 
+		private final Object target;
+
+		private final Method method;
+
+		private final Object[] args;
+
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
 				Object[] args, Object target, Class<?> targetClass) {
 
@@ -598,6 +876,9 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				this.contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
 			}
 			this.sync = determineSyncFlag(method);
+			this.target = target;
+			this.method = method;
+			this.args = args;
 		}
 
 		public Collection<CacheOperationContext> get(Class<? extends CacheOperation> operationClass) {
@@ -609,6 +890,21 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.sync;
 		}
 
+		/**
+		 * Return an invoker calling the target method directly, for reloads
+		 * performed outside of the original invocation.
+		 */
+		public CacheOperationInvoker getTargetInvoker() {
+			return () -> {
+				try {
+					return AopUtils.invokeJoinpointUsingReflection(this.target, this.method, this.args);
+				}
+				catch (Throwable ex) {
+					throw new CacheOperationInvoker.ThrowableWrapper(ex);
+				}
+			};
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheOperationContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheOperationContexts == null) {  // no @Cacheable operation at all
@@ -632,6 +928,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 				CacheOperationContext cacheOperationContext = cacheOperationContexts.iterator().next();
 				CacheableOperation operation = (CacheableOperation) cacheOperationContext.getOperation();
+				if (isAsyncValueCaching(method)) {
+					// Coalesced without blocking: unless and several caches are fine
+					return true;
+				}
 				if (cacheOperationContext.getCaches().size() > 1) {
 					throw new IllegalStateException(
 							"@Cacheable(sync=true) only allows a single cache on '" + operation + "'");
@@ -824,6 +1124,38 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Inner class to avoid a hard dependency on Reactor at runtime.
+	 */
+	private static class ReactiveCachingHandler {
+
+		public static CompletableFuture<Object> toFuture(ReactiveAdapter adapter, Object returnValue) {
+			Publisher<Object> publisher = adapter.toPublisher(returnValue);
+			if (adapter.isMultiValue()) {
+				return Flux.from(publisher).collectList().map(list -> (Object) list).toFuture();
+			}
+			return Mono.from(publisher).toFuture();
+		}
+
+		@SuppressWarnings("unchecked")
+		public static Object defer(ReactiveAdapter adapter, Supplier<CompletableFuture<Object>> futureSupplier) {
+			Mono<Object> mono = Mono.defer(() -> {
+				try {
+					return Mono.fromFuture(futureSupplier.get()).onErrorMap(CompletionException.class,
+							ex -> (ex.getCause() != null ? ex.getCause() : ex));
+				}
+				catch (CacheOperationInvoker.ThrowableWrapper ex) {
+					return Mono.error(ex.getOriginal());
+				}
+			});
+			if (adapter.isMultiValue()) {
+				return adapter.fromPublisher(mono.flatMapIterable(list -> (List<Object>) list));
+			}
+			return adapter.fromPublisher(mono);
+		}
+	}
+
+
 	private static final class CacheOperationCacheKey implements Comparable<CacheOperationCacheKey> {
 
 		private final CacheOperation cacheOperation;
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+/**
+ * Immutable snapshot of the statistics of a {@link org.springframework.cache.Cache}.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see org.springframework.cache.concurrent.BoundedConcurrentMapCache#getStatistics()
+ */
+public final class CacheStatistics {
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long putCount;
+
+	private final long evictionCount;
+
+	private final long expirationCount;
+
+	private final long size;
+
+
+	/**
+	 * Create a new CacheStatistics instance.
+	 * @param hitCount the number of lookups that found an entry
+	 * @param missCount the number of lookups that did not find an entry
+	 * @param putCount the number of entries written to the cache
+	 * @param evictionCount the number of entries evicted to stay within the bounds of the cache
+	 * @param expirationCount the number of entries removed because they expired
+	 * @param size the current number of entries
+	 */
+	public CacheStatistics(long hitCount, long missCount, long putCount,
+			long evictionCount, long expirationCount, long size) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.putCount = putCount;
+		this.evictionCount = evictionCount;
+		this.expirationCount = expirationCount;
+		this.size = size;
+	}
+
+
+	/**
+	 * Return the number of lookups that found an entry.
+	 */
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Return the number of lookups that did not find an entry.
+	 */
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Return the total number of lookups.
+	 */
+	public long getRequestCount() {
+		return this.hitCount + this.missCount;
+	}
+
+	/**
+	 * Return the ratio of lookups that found an entry, or {@code 1.0}
+	 * if there was no lookup.
+	 */
+	public double getHitRatio() {
+		long requestCount = getRequestCount();
+		return (requestCount > 0 ? (double) this.hitCount / requestCount : 1.0);
+	}
+
+	/**
+	 * Return the number of entries written to the cache.
+	 */
+	public long getPutCount() {
+		return this.putCount;
+	}
+
+	/**
+	 * Return the number of entries evicted to stay within the bounds of the cache.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount;
+	}
+
+	/**
+	 * Return the number of entries removed because they expired.
+	 */
+	public long getExpirationCount() {
+		return this.expirationCount;
+	}
+
+	/**
+	 * Return the number of entries at the time of the snapshot.
+	 */
+	public long getSize() {
+		return this.size;
+	}
+
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof CacheStatistics)) {
+			return false;
+		}
+		CacheStatistics otherStats = (CacheStatistics) other;
+		return (this.hitCount == otherStats.hitCount && this.missCount == otherStats.missCount &&
+				this.putCount == otherStats.putCount && this.evictionCount == otherStats.evictionCount &&
+				this.expirationCount == otherStats.expirationCount && this.size == otherStats.size);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.hitCount) * 31 + Long.hashCode(this.missCount);
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStatistics: hits=" + this.hitCount + ", misses=" + this.missCount +
+				", puts=" + this.putCount + ", evictions=" + this.evictionCount +
+				", expirations=" + this.expirationCount + ", size=" + this.size;
+	}
+
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Cache} implementation stacking a near cache, typically an in-process
+ * one, over a remote cache shared between processes. Reads are served by the
+ * near cache when possible and fall back to the remote cache, populating the
+ * near cache on the way back. Writes always go to the remote cache first.
+ *
+ * <p>A near cache entry populated by a read is discarded again if a write or
+ * eviction for the same key went through this cache in the meantime, so that
+ * a value read from the remote cache before a concurrent write cannot outlive
+ * that write in the near cache.
+ *
+ * <p>The consistency of the near cache with respect to writes through this cache
+ * is configurable through the {@link WriteMode}. Changes made to the remote
+ * cache by other processes are only visible once the near entry is gone: use a
+ * near cache with a short expiry, and/or propagate remote evictions through
+ * {@link #evictNear} and {@link #clearNear}.
+ *
+ * <p>Note: The near cache needs to accept {@code null} values if the remote
+ * cache holds any.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see TieredCacheManager
+ */
+public class TieredCache implements Cache {
+
+	/**
+	 * Enumeration of the ways to reflect a write on the near cache.
+	 */
+	public enum WriteMode {
+
+		/**
+		 * Write the value to the near cache as well, serving subsequent reads
+		 * from the near cache right away.
+		 */
+		WRITE_THROUGH,
+
+		/**
+		 * Evict the entry from the near cache, letting the next read fetch
+		 * the value from the remote cache again.
+		 */
+		INVALIDATE
+	}
+
+
+	/** Number of invalidation stamps, with keys spread across them by hash code. */
+	private static final int INVALIDATION_STAMP_COUNT = 256;
+
+
+	private final Cache nearCache;
+
+	private final Cache remoteCache;
+
+	private final WriteMode writeMode;
+
+	/** Invalidation stamps, incremented for every write or eviction affecting the keys. */
+	private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STAMP_COUNT);
+
+	private final LongAdder nearHitCount = new LongAdder();
+
+	private final LongAdder remoteHitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+
+	/**
+	 * Create a new TieredCache writing through to the near cache.
+	 * @param nearCache the near cache, consulted first
+	 * @param remoteCache the remote cache, holding the authoritative entries
+	 */
+	public TieredCache(Cache nearCache, Cache remoteCache) {
+		this(nearCache, remoteCache, WriteMode.WRITE_THROUGH);
+	}
+
+	/**
+	 * Create a new TieredCache.
+	 * @param nearCache the near cache, consulted first
+	 * @param remoteCache the remote cache, holding the authoritative entries
+	 * @param writeMode how to reflect writes on the near cache
+	 */
+	public TieredCache(Cache nearCache, Cache remoteCache, WriteMode writeMode) {
+		Assert.notNull(nearCache, "Near cache must not be null");
+		Assert.notNull(remoteCache, "Remote cache must not be null");
+		Assert.notNull(writeMode, "WriteMode must not be null");
+		this.nearCache = nearCache;
+		this.remoteCache = remoteCache;
+		this.writeMode = writeMode;
+	}
+
+
+	/**
+	 * Return the near cache, consulted first.
+	 */
+	public final Cache getNearCache() {
+		return this.nearCache;
+	}
+
+	/**
+	 * Return the remote cache, holding the authoritative entries.
+	 */
+	public final Cache getRemoteCache() {
+		return this.remoteCache;
+	}
+
+	/**
+	 * Return how writes are reflected on the near cache.
+	 */
+	public final WriteMode getWriteMode() {
+		return this.writeMode;
+	}
+
+	/**
+	 * Return the name of the remote cache.
+	 */
+	@Override
+	public String getName() {
+		return this.remoteCache.getName();
+	}
+
+	/**
+	 * Return the native cache of the remote cache.
+	 */
+	@Override
+	public Object getNativeCache() {
+		return this.remoteCache.getNativeCache();
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper get(Object key) {
+		ValueWrapper wrapper = this.nearCache.get(key);
+		if (wrapper != null) {
+			this.nearHitCount.increment();
+			return wrapper;
+		}
+		long stamp = this.invalidationStamps.get(stampIndex(key));
+		wrapper = this.remoteCache.get(key);
+		if (wrapper != null) {
+			this.remoteHitCount.increment();
+			populateNear(key, wrapper.get(), stamp);
+		}
+		else {
+			this.missCount.increment();
+		}
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T get(Object key, @Nullable Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null ? wrapper.get() : null);
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = this.nearCache.get(key);
+		if (wrapper != null) {
+			this.nearHitCount.increment();
+			return (T) wrapper.get();
+		}
+		// Let the remote cache synchronize the loading of the value, if supported
+		long stamp = this.invalidationStamps.get(stampIndex(key));
+		boolean[] loaded = new boolean[1];
+		T value = this.remoteCache.get(key, () -> {
+			loaded[0] = true;
+			return valueLoader.call();
+		});
+		(loaded[0] ? this.missCount : this.remoteHitCount).increment();
+		populateNear(key, value, stamp);
+		return value;
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		this.remoteCache.put(key, value);
+		invalidate(key);
+		updateNear(key, value);
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		ValueWrapper existing = this.remoteCache.putIfAbsent(key, value);
+		invalidate(key);
+		if (existing != null) {
+			this.nearCache.put(key, existing.get());
+		}
+		else {
+			updateNear(key, value);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.remoteCache.evict(key);
+		invalidate(key);
+		this.nearCache.evict(key);
+	}
+
+	@Override
+	public void clear() {
+		this.remoteCache.clear();
+		invalidateAll();
+		this.nearCache.clear();
+	}
+
+	/**
+	 * Evict the entry for the given key from the near cache only, for instance
+	 * when notified of its eviction from the remote cache by another process.
+	 * @param key the key whose near entry is to be evicted
+	 */
+	public void evictNear(Object key) {
+		invalidate(key);
+		this.nearCache.evict(key);
+	}
+
+	/**
+	 * Clear the near cache only, for instance when notified of the remote
+	 * cache being cleared by another process.
+	 */
+	public void clearNear() {
+		invalidateAll();
+		this.nearCache.clear();
+	}
+
+	/**
+	 * Populate the near cache with a value read from the remote cache,
+	 * discarding it again if the key got invalidated since the given stamp.
+	 * <p>Writers invalidate the key after writing to the remote cache but
+	 * before updating the near cache: either this check sees the invalidation,
+	 * or the writer's near cache update happens after the put here.
+	 */
+	private void populateNear(Object key, @Nullable Object value, long stamp) {
+		this.nearCache.put(key, value);
+		if (this.invalidationStamps.get(stampIndex(key)) != stamp) {
+			this.nearCache.evict(key);
+		}
+	}
+
+	private void invalidate(Object key) {
+		this.invalidationStamps.incrementAndGet(stampIndex(key));
+	}
+
+	private void invalidateAll() {
+		for (int i = 0; i < INVALIDATION_STAMP_COUNT; i++) {
+			this.invalidationStamps.incrementAndGet(i);
+		}
+	}
+
+	private static int stampIndex(Object key) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (INVALIDATION_STAMP_COUNT - 1);
+	}
+
+	private void updateNear(Object key, @Nullable Object value) {
+		if (this.writeMode == WriteMode.WRITE_THROUGH) {
+			this.nearCache.put(key, value);
+		}
+		else {
+			this.nearCache.evict(key);
+		}
+	}
+
+
+	/**
+	 * Return the number of lookups served by the near cache.
+	 */
+	public long getNearHitCount() {
+		return this.nearHitCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups that missed the near cache
+	 * but were served by the remote cache.
+	 */
+	public long getRemoteHitCount() {
+		return this.remoteHitCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups that missed both caches.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return a snapshot of the statistics of the near cache: its hits, and its
+	 * misses whether served by the remote cache or not. Puts, evictions,
+	 * expirations and size are not tracked at this level.
+	 */
+	public CacheStatistics getNearStatistics() {
+		return new CacheStatistics(getNearHitCount(), getRemoteHitCount() + getMissCount(), 0, 0, 0, 0);
+	}
+
+	@Override
+	public String toString() {
+		return "TieredCache '" + getName() + "' [near=" + this.nearCache + ", remote=" + this.remoteCache +
+				", writeMode=" + this.writeMode + "]";
+	}
+
+}
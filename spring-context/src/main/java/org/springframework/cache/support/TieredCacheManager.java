@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheManager} implementation stacking the caches of a near
+ * {@link CacheManager}, typically an in-process one, over the caches of the
+ * same name of a remote {@link CacheManager}, as {@link TieredCache} instances.
+ *
+ * <p>The cache names are driven by the remote cache manager: a cache it does
+ * not know is not exposed, whereas a cache the near cache manager does not know
+ * is exposed as is, without a near cache in front of it.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see TieredCache
+ * @see org.springframework.cache.concurrent.ConcurrentMapCacheManager
+ */
+public class TieredCacheManager extends AbstractCacheManager {
+
+	@Nullable
+	private CacheManager nearCacheManager;
+
+	@Nullable
+	private CacheManager remoteCacheManager;
+
+	private TieredCache.WriteMode writeMode = TieredCache.WriteMode.WRITE_THROUGH;
+
+
+	/**
+	 * Construct a TieredCacheManager, with the near and remote
+	 * CacheManagers to be set via the corresponding properties.
+	 * @see #setNearCacheManager
+	 * @see #setRemoteCacheManager
+	 */
+	public TieredCacheManager() {
+	}
+
+	/**
+	 * Construct a TieredCacheManager for the given near and remote CacheManagers.
+	 * @param nearCacheManager the CacheManager providing the near caches
+	 * @param remoteCacheManager the CacheManager providing the remote caches
+	 */
+	public TieredCacheManager(CacheManager nearCacheManager, CacheManager remoteCacheManager) {
+		this.nearCacheManager = nearCacheManager;
+		this.remoteCacheManager = remoteCacheManager;
+	}
+
+
+	/**
+	 * Set the CacheManager providing the near caches, consulted first.
+	 */
+	public void setNearCacheManager(CacheManager nearCacheManager) {
+		this.nearCacheManager = nearCacheManager;
+	}
+
+	/**
+	 * Set the CacheManager providing the remote caches, holding the
+	 * authoritative entries.
+	 */
+	public void setRemoteCacheManager(CacheManager remoteCacheManager) {
+		this.remoteCacheManager = remoteCacheManager;
+	}
+
+	/**
+	 * Specify how writes are reflected on the near caches.
+	 * <p>Default is {@link TieredCache.WriteMode#WRITE_THROUGH}.
+	 */
+	public void setWriteMode(TieredCache.WriteMode writeMode) {
+		Assert.notNull(writeMode, "WriteMode must not be null");
+		this.writeMode = writeMode;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.state(this.nearCacheManager != null, "Property 'nearCacheManager' is required");
+		Assert.state(this.remoteCacheManager != null, "Property 'remoteCacheManager' is required");
+		super.afterPropertiesSet();
+	}
+
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		CacheManager remoteCacheManager = obtainRemoteCacheManager();
+		List<Cache> caches = new ArrayList<>();
+		for (String name : remoteCacheManager.getCacheNames()) {
+			Cache cache = createTieredCache(name);
+			if (cache != null) {
+				caches.add(cache);
+			}
+		}
+		return caches;
+	}
+
+	@Override
+	@Nullable
+	protected Cache getMissingCache(String name) {
+		return createTieredCache(name);
+	}
+
+	/**
+	 * Create the cache for the given name, stacking the near cache of that name
+	 * over the remote cache of that name.
+	 * @param name the name of the cache
+	 * @return the TieredCache, the remote cache if there is no such near cache,
+	 * or {@code null} if there is no such remote cache
+	 */
+	@Nullable
+	protected Cache createTieredCache(String name) {
+		Cache remoteCache = obtainRemoteCacheManager().getCache(name);
+		if (remoteCache == null) {
+			return null;
+		}
+		Assert.state(this.nearCacheManager != null, "No near CacheManager set");
+		Cache nearCache = this.nearCacheManager.getCache(name);
+		return (nearCache != null ? new TieredCache(nearCache, remoteCache, this.writeMode) : remoteCache);
+	}
+
+	private CacheManager obtainRemoteCacheManager() {
+		Assert.state(this.remoteCacheManager != null, "No remote CacheManager set");
+		return this.remoteCacheManager;
+	}
+
+}
@@ -16,9 +16,12 @@
 
 package org.springframework.context;
 
+import java.util.Map;
+
 import org.springframework.core.ResolvableType;
 import org.springframework.core.ResolvableTypeProvider;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * An {@link ApplicationEvent} that carries an arbitrary payload.
@@ -32,6 +35,9 @@ import org.springframework.util.Assert;
 @SuppressWarnings("serial")
 public class PayloadApplicationEvent<T> extends ApplicationEvent implements ResolvableTypeProvider {
 
+	/** Cache of resolved event types per payload class, for plain PayloadApplicationEvents. */
+	private static final Map<Class<?>, ResolvableType> resolvableTypeCache = new ConcurrentReferenceHashMap<>(64);
+
 	private final T payload;
 
 
@@ -49,7 +55,12 @@ public class PayloadApplicationEvent<T> extends ApplicationEvent implements Reso
 
 	@Override
 	public ResolvableType getResolvableType() {
-		return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(getPayload()));
+		if (getClass() != PayloadApplicationEvent.class || this.payload instanceof ResolvableTypeProvider) {
+			return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(getPayload()));
+		}
+		// Same type for every event with the same payload class: avoid re-resolving it per event
+		return resolvableTypeCache.computeIfAbsent(this.payload.getClass(), payloadClass ->
+				ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, payloadClass));
 	}
 
 	/**
@@ -23,6 +23,7 @@ import org.springframework.beans.factory.support.BeanNameGenerator;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -170,6 +171,23 @@ public class AnnotationConfigApplicationContext extends GenericApplicationContex
 		this.scanner.scan(basePackages);
 	}
 
+	/**
+	 * Register the bean definitions from the given snapshot, as written at build
+	 * time by {@link BeanDefinitionSnapshotWriter}, instead of registering and
+	 * parsing the original annotated classes.
+	 * <p>Note that {@link #refresh()} must be called in order for the context
+	 * to fully process the new bean definitions.
+	 * @param snapshot the snapshot resource
+	 * @return the number of bean definitions found
+	 * @since 5.2
+	 * @see BeanDefinitionSnapshotReader
+	 * @see #refresh()
+	 */
+	public int loadBeanDefinitionSnapshot(Resource snapshot) {
+		Assert.notNull(snapshot, "Snapshot resource must not be null");
+		return new BeanDefinitionSnapshotReader(this).loadBeanDefinitions(snapshot);
+	}
+
 
 	//---------------------------------------------------------------------
 	// Convenient methods for registering individual beans
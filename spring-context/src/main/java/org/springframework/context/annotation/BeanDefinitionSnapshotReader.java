@@ -0,0 +1,429 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanNameReference;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinitionReader;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.ManagedList;
+import org.springframework.beans.factory.support.ManagedMap;
+import org.springframework.beans.factory.support.ManagedSet;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Bean definition reader for snapshots written by {@link BeanDefinitionSnapshotWriter},
+ * registering the captured bean definitions as they were after configuration class
+ * processing - without parsing any configuration class or scanning the classpath again.
+ *
+ * <p>Configuration classes contained in a snapshot are marked as processed, so that
+ * {@link ConfigurationClassPostProcessor} leaves them alone apart from enhancing
+ * {@link Configuration @Configuration} classes. The import registry captured along
+ * with the bean definitions is exposed for {@link ImportAware} configuration classes.
+ *
+ * <p>A snapshot reflects the conditions evaluated for the profiles active at the time
+ * of writing it: loading it into an {@link Environment} with a different set of active
+ * (or, if none, default) profiles is rejected with a {@link BeanDefinitionStoreException}.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see BeanDefinitionSnapshotWriter
+ * @see AnnotationConfigApplicationContext#loadBeanDefinitionSnapshot
+ */
+public class BeanDefinitionSnapshotReader extends AbstractBeanDefinitionReader {
+
+	static final int MAGIC = 0x53424453;
+
+	static final short VERSION = 1;
+
+	static final byte KIND_GENERIC = 0;
+
+	static final byte KIND_ROOT = 1;
+
+	static final byte VALUE_NULL = 0;
+
+	static final byte VALUE_STRING = 1;
+
+	static final byte VALUE_BOOLEAN = 2;
+
+	static final byte VALUE_INTEGER = 3;
+
+	static final byte VALUE_LONG = 4;
+
+	static final byte VALUE_CLASS = 5;
+
+	static final byte VALUE_TYPED_STRING = 6;
+
+	static final byte VALUE_BEAN_REFERENCE = 7;
+
+	static final byte VALUE_BEAN_NAME_REFERENCE = 8;
+
+	static final byte VALUE_BEAN_DEFINITION = 9;
+
+	static final byte VALUE_LIST = 10;
+
+	static final byte VALUE_SET = 11;
+
+	static final byte VALUE_MAP = 12;
+
+
+	/**
+	 * Create a new BeanDefinitionSnapshotReader for the given bean factory.
+	 * @param registry the BeanFactory to load bean definitions into,
+	 * in the form of a BeanDefinitionRegistry
+	 */
+	public BeanDefinitionSnapshotReader(BeanDefinitionRegistry registry) {
+		super(registry);
+	}
+
+
+	/**
+	 * Load bean definitions from the specified snapshot.
+	 * @param resource the resource descriptor for the snapshot
+	 * @return the number of bean definitions found
+	 * @throws BeanDefinitionStoreException in case of loading or parsing errors,
+	 * or if the snapshot has been written for different profiles
+	 */
+	@Override
+	public int loadBeanDefinitions(Resource resource) throws BeanDefinitionStoreException {
+		if (logger.isTraceEnabled()) {
+			logger.trace("Loading bean definition snapshot from " + resource);
+		}
+		try (InputStream is = resource.getInputStream()) {
+			int count = registerBeanDefinitions(new DataInputStream(new BufferedInputStream(is)), resource);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded " + count + " bean definitions from snapshot " + resource);
+			}
+			return count;
+		}
+		catch (IOException ex) {
+			throw new BeanDefinitionStoreException("Could not read bean definition snapshot from " + resource, ex);
+		}
+	}
+
+	private int registerBeanDefinitions(DataInputStream in, Resource resource) throws IOException {
+		String resourceDescription = resource.getDescription();
+		if (in.readInt() != MAGIC) {
+			throw new BeanDefinitionStoreException(resourceDescription, "Not a bean definition snapshot");
+		}
+		short version = in.readShort();
+		if (version != VERSION) {
+			throw new BeanDefinitionStoreException(resourceDescription,
+					"Unsupported bean definition snapshot version " + version + " (expected " + VERSION + ")");
+		}
+
+		Set<String> profiles = new LinkedHashSet<>(Arrays.asList(readStringArray(in)));
+		Set<String> currentProfiles = getEffectiveProfiles(getEnvironment());
+		if (!profiles.equals(currentProfiles)) {
+			throw new BeanDefinitionStoreException(resourceDescription, "Bean definition snapshot has been written " +
+					"for profiles " + profiles + " but the current profiles are " + currentProfiles);
+		}
+
+		int importCount = in.readInt();
+		Map<String, String> imports = new LinkedHashMap<>(importCount);
+		for (int i = 0; i < importCount; i++) {
+			imports.put(in.readUTF(), in.readUTF());
+		}
+
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			BeanDefinitionHolder holder = readBeanDefinitionHolder(in);
+			getRegistry().registerBeanDefinition(holder.getBeanName(), holder.getBeanDefinition());
+			String[] aliases = holder.getAliases();
+			if (aliases != null) {
+				for (String alias : aliases) {
+					getRegistry().registerAlias(holder.getBeanName(), alias);
+				}
+			}
+		}
+
+		if (!imports.isEmpty()) {
+			registerImportRegistry(imports);
+		}
+		return count;
+	}
+
+	private void registerImportRegistry(Map<String, String> imports) {
+		SingletonBeanRegistry sbr = null;
+		BeanDefinitionRegistry registry = getRegistry();
+		if (registry instanceof SingletonBeanRegistry) {
+			sbr = (SingletonBeanRegistry) registry;
+		}
+		else if (registry instanceof ConfigurableApplicationContext) {
+			sbr = ((ConfigurableApplicationContext) registry).getBeanFactory();
+		}
+		if (sbr != null && !sbr.containsSingleton(ConfigurationClassPostProcessor.IMPORT_REGISTRY_BEAN_NAME)) {
+			sbr.registerSingleton(ConfigurationClassPostProcessor.IMPORT_REGISTRY_BEAN_NAME,
+					new SnapshotImportRegistry(imports, new CachingMetadataReaderFactory(getResourceLoader())));
+		}
+	}
+
+	private BeanDefinitionHolder readBeanDefinitionHolder(DataInputStream in) throws IOException {
+		String beanName = in.readUTF();
+		String[] aliases = readStringArray(in);
+		AbstractBeanDefinition bd = readBeanDefinition(in);
+		return new BeanDefinitionHolder(bd, beanName, (aliases.length > 0 ? aliases : null));
+	}
+
+	private AbstractBeanDefinition readBeanDefinition(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		AbstractBeanDefinition bd = (kind == KIND_ROOT ? new RootBeanDefinition() : new GenericBeanDefinition());
+		String parentName = readNullableString(in);
+		if (parentName != null) {
+			bd.setParentName(parentName);
+		}
+		bd.setBeanClassName(readNullableString(in));
+		bd.setScope(readNullableString(in));
+		bd.setFactoryBeanName(readNullableString(in));
+		String factoryMethodName = readNullableString(in);
+		if (in.readBoolean() && bd instanceof RootBeanDefinition && factoryMethodName != null) {
+			((RootBeanDefinition) bd).setUniqueFactoryMethodName(factoryMethodName);
+		}
+		else {
+			bd.setFactoryMethodName(factoryMethodName);
+		}
+		bd.setInitMethodName(readNullableString(in));
+		bd.setDestroyMethodName(readNullableString(in));
+		bd.setDescription(readNullableString(in));
+		bd.setResourceDescription(readNullableString(in));
+		bd.setAbstract(in.readBoolean());
+		bd.setLazyInit(in.readBoolean());
+		bd.setAutowireCandidate(in.readBoolean());
+		bd.setPrimary(in.readBoolean());
+		bd.setNonPublicAccessAllowed(in.readBoolean());
+		bd.setLenientConstructorResolution(in.readBoolean());
+		bd.setEnforceInitMethod(in.readBoolean());
+		bd.setEnforceDestroyMethod(in.readBoolean());
+		bd.setSynthetic(in.readBoolean());
+		bd.setAutowireMode(in.readInt());
+		bd.setDependencyCheck(in.readInt());
+		bd.setRole(in.readInt());
+		String[] dependsOn = readStringArray(in);
+		if (dependsOn.length > 0) {
+			bd.setDependsOn(dependsOn);
+		}
+
+		int qualifierCount = in.readInt();
+		for (int i = 0; i < qualifierCount; i++) {
+			String typeName = in.readUTF();
+			Object value = readValue(in);
+			bd.addQualifier(value != null ? new AutowireCandidateQualifier(typeName, value) :
+					new AutowireCandidateQualifier(typeName));
+		}
+
+		ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+		int indexedCount = in.readInt();
+		for (int i = 0; i < indexedCount; i++) {
+			int index = in.readInt();
+			cav.addIndexedArgumentValue(index, readValueHolder(in));
+		}
+		int genericCount = in.readInt();
+		for (int i = 0; i < genericCount; i++) {
+			cav.addGenericArgumentValue(readValueHolder(in));
+		}
+
+		int propertyCount = in.readInt();
+		for (int i = 0; i < propertyCount; i++) {
+			String name = in.readUTF();
+			bd.getPropertyValues().add(name, readValue(in));
+		}
+
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			String name = in.readUTF();
+			bd.setAttribute(name, readValue(in));
+		}
+
+		if (in.readBoolean() && bd instanceof RootBeanDefinition) {
+			((RootBeanDefinition) bd).setDecoratedDefinition(readBeanDefinitionHolder(in));
+		}
+		return bd;
+	}
+
+	private ConstructorArgumentValues.ValueHolder readValueHolder(DataInputStream in) throws IOException {
+		Object value = readValue(in);
+		String type = readNullableString(in);
+		String name = readNullableString(in);
+		return new ConstructorArgumentValues.ValueHolder(value, type, name);
+	}
+
+	@Nullable
+	private Object readValue(DataInputStream in) throws IOException {
+		byte tag = in.readByte();
+		switch (tag) {
+			case VALUE_NULL:
+				return null;
+			case VALUE_STRING:
+				return in.readUTF();
+			case VALUE_BOOLEAN:
+				return in.readBoolean();
+			case VALUE_INTEGER:
+				return in.readInt();
+			case VALUE_LONG:
+				return in.readLong();
+			case VALUE_CLASS:
+				return new TypedStringValue(in.readUTF(), Class.class);
+			case VALUE_TYPED_STRING:
+				String value = readNullableString(in);
+				String targetTypeName = readNullableString(in);
+				TypedStringValue typedValue = new TypedStringValue(value);
+				typedValue.setTargetTypeName(targetTypeName);
+				return typedValue;
+			case VALUE_BEAN_REFERENCE:
+				String beanName = in.readUTF();
+				return new RuntimeBeanReference(beanName, in.readBoolean());
+			case VALUE_BEAN_NAME_REFERENCE:
+				return new RuntimeBeanNameReference(in.readUTF());
+			case VALUE_BEAN_DEFINITION:
+				return readBeanDefinitionHolder(in);
+			case VALUE_LIST:
+				ManagedList<Object> list = new ManagedList<>();
+				String elementTypeName = readNullableString(in);
+				if (elementTypeName != null) {
+					list.setElementTypeName(elementTypeName);
+				}
+				list.setMergeEnabled(in.readBoolean());
+				int listSize = in.readInt();
+				for (int i = 0; i < listSize; i++) {
+					list.add(readValue(in));
+				}
+				return list;
+			case VALUE_SET:
+				ManagedSet<Object> set = new ManagedSet<>();
+				String setElementTypeName = readNullableString(in);
+				if (setElementTypeName != null) {
+					set.setElementTypeName(setElementTypeName);
+				}
+				set.setMergeEnabled(in.readBoolean());
+				int setSize = in.readInt();
+				for (int i = 0; i < setSize; i++) {
+					set.add(readValue(in));
+				}
+				return set;
+			case VALUE_MAP:
+				ManagedMap<Object, Object> map = new ManagedMap<>();
+				map.setKeyTypeName(readNullableString(in));
+				map.setValueTypeName(readNullableString(in));
+				map.setMergeEnabled(in.readBoolean());
+				int mapSize = in.readInt();
+				for (int i = 0; i < mapSize; i++) {
+					map.put(readValue(in), readValue(in));
+				}
+				return map;
+			default:
+				throw new IOException("Unknown value tag " + tag + " in bean definition snapshot");
+		}
+	}
+
+	@Nullable
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return (in.readBoolean() ? in.readUTF() : null);
+	}
+
+	private static String[] readStringArray(DataInputStream in) throws IOException {
+		String[] array = new String[in.readInt()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = in.readUTF();
+		}
+		return array;
+	}
+
+
+	/**
+	 * Determine the profiles that the bean definitions for the given
+	 * {@link Environment} get evaluated against: the active profiles if any,
+	 * or the default profiles otherwise.
+	 */
+	static Set<String> getEffectiveProfiles(Environment environment) {
+		String[] profiles = environment.getActiveProfiles();
+		if (profiles.length == 0) {
+			profiles = environment.getDefaultProfiles();
+		}
+		Set<String> result = new LinkedHashSet<>(Arrays.asList(profiles));
+		return (result.isEmpty() ? Collections.emptySet() : result);
+	}
+
+
+	/**
+	 * {@link ImportRegistry} restored from a snapshot, lazily reading the metadata
+	 * of importing classes on demand.
+	 */
+	private static class SnapshotImportRegistry implements ImportRegistry {
+
+		private final Map<String, String> imports;
+
+		private final MetadataReaderFactory metadataReaderFactory;
+
+		SnapshotImportRegistry(Map<String, String> imports, MetadataReaderFactory metadataReaderFactory) {
+			this.imports = new LinkedHashMap<>(imports);
+			this.metadataReaderFactory = metadataReaderFactory;
+		}
+
+		@Override
+		@Nullable
+		public synchronized AnnotationMetadata getImportingClassFor(String importedClass) {
+			String importingClass = this.imports.get(importedClass);
+			if (importingClass == null) {
+				return null;
+			}
+			try {
+				return this.metadataReaderFactory.getMetadataReader(importingClass).getAnnotationMetadata();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Could not read metadata for importing class [" +
+						importingClass + "]", ex);
+			}
+		}
+
+		@Override
+		public synchronized void removeImportingClass(String importingClass) {
+			this.imports.values().removeIf(importingClass::equals);
+		}
+
+		@Override
+		public synchronized Map<String, String> getImportingClassNames() {
+			return new LinkedHashMap<>(this.imports);
+		}
+	}
+
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanNameReference;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.ManagedList;
+import org.springframework.beans.factory.support.ManagedMap;
+import org.springframework.beans.factory.support.ManagedSet;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Writes a snapshot of the bean definitions derived from a set of component classes,
+ * typically {@link Configuration @Configuration} classes, for use with
+ * {@link BeanDefinitionSnapshotReader} at application startup: the snapshot captures
+ * the bean definitions after component scanning, configuration class parsing and
+ * condition evaluation against the {@link ConfigurableEnvironment} given here.
+ *
+ * <p>Intended to be run as part of the build, e.g. from a Gradle {@code JavaExec} task
+ * through {@link #main}, with the application's runtime classpath and active profiles
+ * (specified via the {@code spring.profiles.active} system property).
+ *
+ * <p>Bean definitions are written with their effective settings, constructor arguments,
+ * property values and simple attributes. Definitions which cannot be represented, e.g.
+ * with an instance supplier, method overrides or arbitrary value objects, are rejected
+ * with a {@link BeanDefinitionStoreException}, and so are {@link PropertySource @PropertySource}
+ * declarations: their property sources would be missing when loading the snapshot.
+ * Note that conditions based on anything but the active profiles (e.g. the presence
+ * of classes or properties) are evaluated against the build environment.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see BeanDefinitionSnapshotReader
+ */
+public class BeanDefinitionSnapshotWriter {
+
+	private final ConfigurableEnvironment environment;
+
+	private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+
+	/**
+	 * Create a new BeanDefinitionSnapshotWriter for a {@link StandardEnvironment}.
+	 */
+	public BeanDefinitionSnapshotWriter() {
+		this(new StandardEnvironment());
+	}
+
+	/**
+	 * Create a new BeanDefinitionSnapshotWriter for the given {@link ConfigurableEnvironment},
+	 * evaluating conditions against its profiles.
+	 */
+	public BeanDefinitionSnapshotWriter(ConfigurableEnvironment environment) {
+		Assert.notNull(environment, "Environment must not be null");
+		this.environment = environment;
+	}
+
+
+	/**
+	 * Set the {@link ResourceLoader} to use for component scanning and for loading
+	 * bean classes.
+	 * <p>Default is a {@link DefaultResourceLoader}.
+	 */
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		Assert.notNull(resourceLoader, "ResourceLoader must not be null");
+		this.resourceLoader = resourceLoader;
+	}
+
+
+	/**
+	 * Process the given component classes the way an {@link AnnotationConfigApplicationContext}
+	 * would, and write the resulting bean definitions to the given stream.
+	 * <p>The given stream is flushed but not closed.
+	 * @param out the stream to write the snapshot to
+	 * @param componentClasses one or more component classes,
+	 * e.g. {@link Configuration @Configuration} classes
+	 * @return the number of bean definitions written
+	 * @throws IOException in case of I/O errors
+	 * @throws BeanDefinitionStoreException if a bean definition cannot be represented
+	 * in a snapshot
+	 */
+	public int write(OutputStream out, Class<?>... componentClasses) throws IOException {
+		Assert.notEmpty(componentClasses, "At least one component class must be specified");
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.setBeanClassLoader(this.resourceLoader.getClassLoader());
+		AnnotatedBeanDefinitionReader reader = new AnnotatedBeanDefinitionReader(beanFactory, this.environment);
+		// Annotation config processors get registered by the loading context itself
+		Set<String> infrastructureBeanNames = new HashSet<>(Arrays.asList(beanFactory.getBeanDefinitionNames()));
+		reader.register(componentClasses);
+
+		ConfigurationClassPostProcessor postProcessor = new ConfigurationClassPostProcessor();
+		postProcessor.setEnvironment(this.environment);
+		postProcessor.setResourceLoader(this.resourceLoader);
+		postProcessor.setBeanClassLoader(beanFactory.getBeanClassLoader());
+		int propertySourceCount = this.environment.getPropertySources().size();
+		postProcessor.postProcessBeanDefinitionRegistry(beanFactory);
+		if (this.environment.getPropertySources().size() != propertySourceCount) {
+			throw new BeanDefinitionStoreException("@PropertySource declarations cannot be captured in a " +
+					"bean definition snapshot: register the property sources with the Environment instead");
+		}
+
+		Map<String, String> imports = null;
+		if (beanFactory.containsSingleton(ConfigurationClassPostProcessor.IMPORT_REGISTRY_BEAN_NAME)) {
+			imports = ((ImportRegistry) beanFactory.getSingleton(
+					ConfigurationClassPostProcessor.IMPORT_REGISTRY_BEAN_NAME)).getImportingClassNames();
+		}
+
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+		dos.writeInt(BeanDefinitionSnapshotReader.MAGIC);
+		dos.writeShort(BeanDefinitionSnapshotReader.VERSION);
+		writeStringArray(dos, BeanDefinitionSnapshotReader.getEffectiveProfiles(this.environment));
+		if (imports != null) {
+			dos.writeInt(imports.size());
+			for (Map.Entry<String, String> entry : imports.entrySet()) {
+				dos.writeUTF(entry.getKey());
+				dos.writeUTF(entry.getValue());
+			}
+		}
+		else {
+			dos.writeInt(0);
+		}
+
+		String[] beanNames = beanFactory.getBeanDefinitionNames();
+		int count = 0;
+		for (String beanName : beanNames) {
+			if (!infrastructureBeanNames.contains(beanName)) {
+				count++;
+			}
+		}
+		dos.writeInt(count);
+		for (String beanName : beanNames) {
+			if (!infrastructureBeanNames.contains(beanName)) {
+				writeBeanDefinitionHolder(dos, beanName, beanFactory.getAliases(beanName),
+						beanFactory.getBeanDefinition(beanName));
+			}
+		}
+		dos.flush();
+		return count;
+	}
+
+	private void writeBeanDefinitionHolder(DataOutputStream out, String beanName,
+			@Nullable String[] aliases, BeanDefinition bd) throws IOException {
+
+		out.writeUTF(beanName);
+		writeStringArray(out, (aliases != null ? Arrays.asList(aliases) : null));
+		writeBeanDefinition(out, beanName, bd);
+	}
+
+	private void writeBeanDefinition(DataOutputStream out, String beanName, BeanDefinition definition)
+			throws IOException {
+
+		if (!(definition instanceof AbstractBeanDefinition)) {
+			throw new BeanDefinitionStoreException(definition.getResourceDescription(), beanName,
+					"Cannot write bean definition of type [" + definition.getClass().getName() + "] to snapshot");
+		}
+		AbstractBeanDefinition bd = (AbstractBeanDefinition) definition;
+		if (bd.getInstanceSupplier() != null) {
+			throw new BeanDefinitionStoreException(bd.getResourceDescription(), beanName,
+					"Cannot write bean definition with instance supplier to snapshot");
+		}
+		if (bd.hasMethodOverrides()) {
+			throw new BeanDefinitionStoreException(bd.getResourceDescription(), beanName,
+					"Cannot write bean definition with method overrides to snapshot");
+		}
+
+		out.writeByte(bd instanceof RootBeanDefinition ?
+				BeanDefinitionSnapshotReader.KIND_ROOT : BeanDefinitionSnapshotReader.KIND_GENERIC);
+		writeNullableString(out, bd.getParentName());
+		writeNullableString(out, bd.getBeanClassName());
+		writeNullableString(out, bd.getScope());
+		writeNullableString(out, bd.getFactoryBeanName());
+		writeNullableString(out, bd.getFactoryMethodName());
+		out.writeBoolean(isUniqueFactoryMethod(bd));
+		writeNullableString(out, bd.getInitMethodName());
+		writeNullableString(out, bd.getDestroyMethodName());
+		writeNullableString(out, bd.getDescription());
+		writeNullableString(out, bd.getResourceDescription());
+		out.writeBoolean(bd.isAbstract());
+		out.writeBoolean(bd.isLazyInit());
+		out.writeBoolean(bd.isAutowireCandidate());
+		out.writeBoolean(bd.isPrimary());
+		out.writeBoolean(bd.isNonPublicAccessAllowed());
+		out.writeBoolean(bd.isLenientConstructorResolution());
+		out.writeBoolean(bd.isEnforceInitMethod());
+		out.writeBoolean(bd.isEnforceDestroyMethod());
+		out.writeBoolean(bd.isSynthetic());
+		out.writeInt(bd.getAutowireMode());
+		out.writeInt(bd.getDependencyCheck());
+		out.writeInt(bd.getRole());
+		String[] dependsOn = bd.getDependsOn();
+		writeStringArray(out, (dependsOn != null ? Arrays.asList(dependsOn) : null));
+
+		Set<AutowireCandidateQualifier> qualifiers = bd.getQualifiers();
+		out.writeInt(qualifiers.size());
+		for (AutowireCandidateQualifier qualifier : qualifiers) {
+			out.writeUTF(qualifier.getTypeName());
+			writeValue(out, beanName, qualifier.getAttribute(AutowireCandidateQualifier.VALUE_KEY));
+		}
+
+		ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+		Map<Integer, ConstructorArgumentValues.ValueHolder> indexedArgumentValues = cav.getIndexedArgumentValues();
+		out.writeInt(indexedArgumentValues.size());
+		for (Map.Entry<Integer, ConstructorArgumentValues.ValueHolder> entry : indexedArgumentValues.entrySet()) {
+			out.writeInt(entry.getKey());
+			writeValueHolder(out, beanName, entry.getValue());
+		}
+		List<ConstructorArgumentValues.ValueHolder> genericArgumentValues = cav.getGenericArgumentValues();
+		out.writeInt(genericArgumentValues.size());
+		for (ConstructorArgumentValues.ValueHolder valueHolder : genericArgumentValues) {
+			writeValueHolder(out, beanName, valueHolder);
+		}
+
+		PropertyValue[] pvs = bd.getPropertyValues().getPropertyValues();
+		out.writeInt(pvs.length);
+		for (PropertyValue pv : pvs) {
+			out.writeUTF(pv.getName());
+			writeValue(out, beanName, pv.getValue());
+		}
+
+		String[] attributeNames = Arrays.stream(bd.attributeNames())
+				.filter(name -> isSimpleValue(bd.getAttribute(name))).toArray(String[]::new);
+		out.writeInt(attributeNames.length);
+		for (String attributeName : attributeNames) {
+			out.writeUTF(attributeName);
+			writeValue(out, beanName, bd.getAttribute(attributeName));
+		}
+
+		BeanDefinitionHolder decoratedDefinition = (bd instanceof RootBeanDefinition ?
+				((RootBeanDefinition) bd).getDecoratedDefinition() : null);
+		out.writeBoolean(decoratedDefinition != null);
+		if (decoratedDefinition != null) {
+			writeBeanDefinitionHolder(out, decoratedDefinition.getBeanName(),
+					decoratedDefinition.getAliases(), decoratedDefinition.getBeanDefinition());
+		}
+	}
+
+	/**
+	 * Determine whether the given bean definition has been registered for
+	 * an instance {@link Bean @Bean} method without overloaded variants.
+	 * @see ConfigurationClassBeanDefinitionReader
+	 */
+	private boolean isUniqueFactoryMethod(AbstractBeanDefinition bd) {
+		if (bd instanceof RootBeanDefinition && bd instanceof AnnotatedBeanDefinition &&
+				bd.getFactoryBeanName() != null) {
+			MethodMetadata factoryMethodMetadata = ((AnnotatedBeanDefinition) bd).getFactoryMethodMetadata();
+			return (factoryMethodMetadata != null && !factoryMethodMetadata.isStatic());
+		}
+		return false;
+	}
+
+	private void writeValueHolder(DataOutputStream out, String beanName,
+			ConstructorArgumentValues.ValueHolder valueHolder) throws IOException {
+
+		writeValue(out, beanName, valueHolder.getValue());
+		writeNullableString(out, valueHolder.getType());
+		writeNullableString(out, valueHolder.getName());
+	}
+
+	private void writeValue(DataOutputStream out, String beanName, @Nullable Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_NULL);
+		}
+		else if (value instanceof String) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_STRING);
+			out.writeUTF((String) value);
+		}
+		else if (value instanceof Boolean) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Integer) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_INTEGER);
+			out.writeInt((Integer) value);
+		}
+		else if (value instanceof Long) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_LONG);
+			out.writeLong((Long) value);
+		}
+		else if (value instanceof Class) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_CLASS);
+			out.writeUTF(((Class<?>) value).getName());
+		}
+		else if (value instanceof TypedStringValue) {
+			TypedStringValue typedValue = (TypedStringValue) value;
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_TYPED_STRING);
+			writeNullableString(out, typedValue.getValue());
+			writeNullableString(out, typedValue.getTargetTypeName());
+		}
+		else if (value instanceof RuntimeBeanReference) {
+			RuntimeBeanReference reference = (RuntimeBeanReference) value;
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_BEAN_REFERENCE);
+			out.writeUTF(reference.getBeanName());
+			out.writeBoolean(reference.isToParent());
+		}
+		else if (value instanceof RuntimeBeanNameReference) {
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_BEAN_NAME_REFERENCE);
+			out.writeUTF(((RuntimeBeanNameReference) value).getBeanName());
+		}
+		else if (value instanceof BeanDefinitionHolder) {
+			BeanDefinitionHolder holder = (BeanDefinitionHolder) value;
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_BEAN_DEFINITION);
+			writeBeanDefinitionHolder(out, holder.getBeanName(), holder.getAliases(), holder.getBeanDefinition());
+		}
+		else if (value instanceof ManagedList) {
+			ManagedList<?> list = (ManagedList<?>) value;
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_LIST);
+			writeNullableString(out, list.getElementTypeName());
+			out.writeBoolean(list.isMergeEnabled());
+			writeValues(out, beanName, list);
+		}
+		else if (value instanceof ManagedSet) {
+			ManagedSet<?> set = (ManagedSet<?>) value;
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_SET);
+			writeNullableString(out, set.getElementTypeName());
+			out.writeBoolean(set.isMergeEnabled());
+			writeValues(out, beanName, set);
+		}
+		else if (value instanceof ManagedMap) {
+			ManagedMap<?, ?> map = (ManagedMap<?, ?>) value;
+			out.writeByte(BeanDefinitionSnapshotReader.VALUE_MAP);
+			writeNullableString(out, map.getKeyTypeName());
+			writeNullableString(out, map.getValueTypeName());
+			out.writeBoolean(map.isMergeEnabled());
+			out.writeInt(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeValue(out, beanName, entry.getKey());
+				writeValue(out, beanName, entry.getValue());
+			}
+		}
+		else {
+			throw new BeanDefinitionStoreException(null, beanName,
+					"Cannot write value of type [" + value.getClass().getName() + "] to snapshot");
+		}
+	}
+
+	private void writeValues(DataOutputStream out, String beanName, Collection<?> values) throws IOException {
+		out.writeInt(values.size());
+		for (Object value : values) {
+			writeValue(out, beanName, value);
+		}
+	}
+
+	private static boolean isSimpleValue(@Nullable Object value) {
+		return (value instanceof String || value instanceof Boolean ||
+				value instanceof Integer || value instanceof Long);
+	}
+
+	private static void writeNullableString(DataOutputStream out, @Nullable String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static void writeStringArray(DataOutputStream out, @Nullable Collection<String> values)
+			throws IOException {
+
+		if (values == null) {
+			out.writeInt(0);
+			return;
+		}
+		out.writeInt(values.size());
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+
+	/**
+	 * Write a bean definition snapshot for the given component classes to a file,
+	 * evaluating conditions against a {@link StandardEnvironment}.
+	 * <p>Expects the target file followed by the fully qualified names of the
+	 * component classes as arguments.
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			throw new IllegalArgumentException(
+					"Usage: BeanDefinitionSnapshotWriter <target file> <component class> [<component class> ...]");
+		}
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		Class<?>[] componentClasses = new Class<?>[args.length - 1];
+		for (int i = 1; i < args.length; i++) {
+			componentClasses[i - 1] = ClassUtils.forName(args[i], classLoader);
+		}
+		try (OutputStream out = new FileOutputStream(new File(args[0]))) {
+			new BeanDefinitionSnapshotWriter().write(out, componentClasses);
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.context.annotation;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.HashSet;
@@ -23,6 +24,9 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,6 +40,7 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.index.CandidateComponentsIndex;
 import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.EnvironmentCapable;
@@ -60,6 +65,8 @@ import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * A component provider that provides candidate components from a base package. Can
@@ -89,6 +96,27 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	static final String DEFAULT_RESOURCE_PATTERN = "**/*.class";
 
+	/**
+	 * System property that specifies the default number of threads to read class
+	 * metadata with during classpath scanning: "spring.scan.parallelism".
+	 * <p>The default is 1, i.e. reading class files on the calling thread only.
+	 * @since 5.2
+	 * @see #setScanParallelism
+	 */
+	public static final String SCAN_PARALLELISM_PROPERTY_NAME = "spring.scan.parallelism";
+
+	/**
+	 * System property that specifies the default file to cache the names of
+	 * unannotated class files in between classpath scans: "spring.scan.cache-file".
+	 * <p>By default, no such cache is used.
+	 * @since 5.2
+	 * @see #setScanCacheFile
+	 */
+	public static final String SCAN_CACHE_FILE_PROPERTY_NAME = "spring.scan.cache-file";
+
+	/** Number of resources below which a metadata reading task is not split any further. */
+	private static final int SCAN_BATCH_SIZE = 32;
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -113,6 +141,11 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	private int scanParallelism = getDefaultScanParallelism();
+
+	@Nullable
+	private File scanCacheFile = getDefaultScanCacheFile();
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -303,6 +336,57 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	}
 
 
+	/**
+	 * Set the number of threads to read class metadata with during classpath scanning.
+	 * <p>Default is 1, or the value of the {@value #SCAN_PARALLELISM_PROPERTY_NAME}
+	 * system property, if specified. A higher value reads the class files found in
+	 * a scan on a dedicated {@link ForkJoinPool} of the given size, with candidate
+	 * filters and conditions still getting applied on the calling thread in the
+	 * original resource order.
+	 * <p>The {@link #setMetadataReaderFactory MetadataReaderFactory} in use needs
+	 * to be thread-safe for this purpose, as the default one is.
+	 * @since 5.2
+	 */
+	public void setScanParallelism(int scanParallelism) {
+		Assert.isTrue(scanParallelism > 0, "Scan parallelism must be greater than 0");
+		this.scanParallelism = scanParallelism;
+	}
+
+	/**
+	 * Return the number of threads to read class metadata with during classpath scanning.
+	 * @since 5.2
+	 */
+	public int getScanParallelism() {
+		return this.scanParallelism;
+	}
+
+	/**
+	 * Set a file to keep track of class files without type-level annotations in,
+	 * allowing for subsequent scans (typically after a restart) to skip reading such
+	 * class files altogether, as long as their content length and last-modified
+	 * timestamp (or those of their containing jar) remain unchanged.
+	 * <p>Default is none, or the value of the {@value #SCAN_CACHE_FILE_PROPERTY_NAME}
+	 * system property, if specified. The file gets created if necessary.
+	 * <p>Class files are only skipped when all include filters are plain
+	 * {@link AnnotationTypeFilter AnnotationTypeFilters} which do not consider
+	 * superclasses or interfaces, as is the case for the default filters, and
+	 * {@link #isCandidateComponent(MetadataReader)} has not been overridden.
+	 * @since 5.2
+	 */
+	public void setScanCacheFile(@Nullable File scanCacheFile) {
+		this.scanCacheFile = scanCacheFile;
+	}
+
+	/**
+	 * Return the file to keep track of unannotated class files in, if any.
+	 * @since 5.2
+	 */
+	@Nullable
+	public File getScanCacheFile() {
+		return this.scanCacheFile;
+	}
+
+
 	/**
 	 * Scan the class path for candidate components.
 	 * @param basePackage the package to check for annotated classes
@@ -419,15 +503,24 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
+			UnannotatedClassCache unannotatedClasses =
+					(this.scanCacheFile != null ? UnannotatedClassCache.forFile(this.scanCacheFile) : null);
+			UnannotatedClassCache cacheToSkip =
+					(unannotatedClasses != null && isUnannotatedClassSkippable() ? unannotatedClasses : null);
+			// Read all metadata up front if in parallel, otherwise one resource at a time below
+			MetadataReader[] metadataReaders = (this.scanParallelism > 1 && resources.length > SCAN_BATCH_SIZE ?
+					readMetadata(resources, unannotatedClasses, cacheToSkip) : null);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
 				if (traceEnabled) {
 					logger.trace("Scanning " + resource);
 				}
-				if (resource.isReadable()) {
+				MetadataReader metadataReader = (metadataReaders != null ? metadataReaders[i] :
+						readMetadata(resource, unannotatedClasses, cacheToSkip));
+				if (metadataReader != null) {
 					try {
-						MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
 						if (isCandidateComponent(metadataReader)) {
 							ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 							sbd.setResource(resource);
@@ -457,10 +550,13 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 				}
 				else {
 					if (traceEnabled) {
-						logger.trace("Ignored because not readable: " + resource);
+						logger.trace("Ignored because not readable or known to be unannotated: " + resource);
 					}
 				}
 			}
+			if (unannotatedClasses != null) {
+				unannotatedClasses.save();
+			}
 		}
 		catch (IOException ex) {
 			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
@@ -468,6 +564,84 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	/**
+	 * Read the metadata for the given class file resources in parallel,
+	 * according to the {@link #setScanParallelism scan parallelism}.
+	 * @param resources the class file resources
+	 * @param unannotatedClasses the cache of unannotated class files, if any
+	 * @param cacheToSkip the cache of unannotated class files to skip, if any
+	 * @return the metadata readers for the given resources, in the same order,
+	 * with {@code null} entries for resources which are not readable or which
+	 * may be skipped as known unannotated class files
+	 */
+	private MetadataReader[] readMetadata(Resource[] resources,
+			@Nullable UnannotatedClassCache unannotatedClasses, @Nullable UnannotatedClassCache cacheToSkip) {
+
+		MetadataReader[] metadataReaders = new MetadataReader[resources.length];
+		ForkJoinPool pool = new ForkJoinPool(this.scanParallelism);
+		try {
+			pool.submit(new MetadataReadingTask(
+					resources, metadataReaders, 0, resources.length, unannotatedClasses, cacheToSkip)).get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BeanDefinitionStoreException("Interrupted during classpath scanning", ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new BeanDefinitionStoreException("Failed to read candidate component classes", cause);
+		}
+		finally {
+			pool.shutdown();
+		}
+		return metadataReaders;
+	}
+
+	@Nullable
+	private MetadataReader readMetadata(Resource resource,
+			@Nullable UnannotatedClassCache unannotatedClasses, @Nullable UnannotatedClassCache cacheToSkip) {
+
+		if (!resource.isReadable() || (cacheToSkip != null && cacheToSkip.isUnannotated(resource))) {
+			return null;
+		}
+		try {
+			MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+			if (unannotatedClasses != null) {
+				unannotatedClasses.register(resource, metadataReader);
+			}
+			return metadataReader;
+		}
+		catch (Throwable ex) {
+			throw new BeanDefinitionStoreException(
+					"Failed to read candidate component class: " + resource, ex);
+		}
+	}
+
+	/**
+	 * Determine whether class files without type-level annotations can never
+	 * qualify as candidate components with the current configuration.
+	 */
+	private boolean isUnannotatedClassSkippable() {
+		if (ReflectionUtils.findMethod(getClass(), "isCandidateComponent", MetadataReader.class).getDeclaringClass() !=
+				ClassPathScanningCandidateComponentProvider.class) {
+			return false;
+		}
+		for (TypeFilter filter : this.includeFilters) {
+			if (filter.getClass() != AnnotationTypeFilter.class ||
+					((AnnotationTypeFilter) filter).isConsiderInherited() ||
+					((AnnotationTypeFilter) filter).isConsiderInterfaces()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 
 	/**
 	 * Resolve the specified base package into a pattern specification for
@@ -541,4 +715,66 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		}
 	}
 
+
+	private static int getDefaultScanParallelism() {
+		String parallelism = SpringProperties.getProperty(SCAN_PARALLELISM_PROPERTY_NAME);
+		return (StringUtils.hasText(parallelism) ? Integer.parseInt(parallelism.trim()) : 1);
+	}
+
+	@Nullable
+	private static File getDefaultScanCacheFile() {
+		String cacheFile = SpringProperties.getProperty(SCAN_CACHE_FILE_PROPERTY_NAME);
+		return (StringUtils.hasText(cacheFile) ? new File(cacheFile.trim()) : null);
+	}
+
+
+	/**
+	 * Reads the metadata for a range of resources, splitting the range
+	 * into batches of {@link #SCAN_BATCH_SIZE} resources.
+	 */
+	@SuppressWarnings("serial")
+	private class MetadataReadingTask extends RecursiveAction {
+
+		private final Resource[] resources;
+
+		private final MetadataReader[] metadataReaders;
+
+		private final int from;
+
+		private final int to;
+
+		@Nullable
+		private final UnannotatedClassCache unannotatedClasses;
+
+		@Nullable
+		private final UnannotatedClassCache cacheToSkip;
+
+		MetadataReadingTask(Resource[] resources, MetadataReader[] metadataReaders, int from, int to,
+				@Nullable UnannotatedClassCache unannotatedClasses, @Nullable UnannotatedClassCache cacheToSkip) {
+
+			this.resources = resources;
+			this.metadataReaders = metadataReaders;
+			this.from = from;
+			this.to = to;
+			this.unannotatedClasses = unannotatedClasses;
+			this.cacheToSkip = cacheToSkip;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= SCAN_BATCH_SIZE) {
+				for (int i = this.from; i < this.to; i++) {
+					this.metadataReaders[i] = readMetadata(this.resources[i], this.unannotatedClasses, this.cacheToSkip);
+				}
+			}
+			else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new MetadataReadingTask(this.resources, this.metadataReaders, this.from, middle,
+								this.unannotatedClasses, this.cacheToSkip),
+						new MetadataReadingTask(this.resources, this.metadataReaders, middle, this.to,
+								this.unannotatedClasses, this.cacheToSkip));
+			}
+		}
+	}
+
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.context.annotation;
 
+import java.util.Map;
+
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.lang.Nullable;
 
@@ -32,4 +34,11 @@ interface ImportRegistry {
 
 	void removeImportingClass(String importingClass);
 
+	/**
+	 * Return the names of all imported classes, each mapped to the name
+	 * of the class that {@link #getImportingClassFor imported it}.
+	 * @since 5.2
+	 */
+	Map<String, String> getImportingClassNames();
+
 }
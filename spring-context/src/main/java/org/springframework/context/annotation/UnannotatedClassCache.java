@@ -0,0 +1,192 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.classreading.MetadataReader;
+
+/**
+ * Persistent record of scanned class files which do not declare any type-level
+ * annotations, allowing subsequent scans to skip reading such class files
+ * altogether as long as their fingerprint (content length and last-modified
+ * timestamp of the class file or its containing jar) remains unchanged.
+ *
+ * <p>One instance is shared per cache file; entries get written back to the
+ * file after each scan which encountered new unannotated classes.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see ClassPathScanningCandidateComponentProvider#setScanCacheFile
+ */
+final class UnannotatedClassCache {
+
+	private static final String HEADER = "# Unannotated class files detected by Spring classpath scanning";
+
+	private static final Log logger = LogFactory.getLog(UnannotatedClassCache.class);
+
+	private static final Map<File, UnannotatedClassCache> caches = new ConcurrentHashMap<>(4);
+
+
+	private final File file;
+
+	/** Fingerprints keyed by class file URL. */
+	private final Map<String, String> fingerprints = new ConcurrentHashMap<>(256);
+
+	private volatile boolean modified;
+
+
+	private UnannotatedClassCache(File file) {
+		this.file = file;
+		load();
+	}
+
+
+	/**
+	 * Return the shared cache for the given file, loading existing entries
+	 * on first access.
+	 * @param file the cache file (may not exist yet)
+	 */
+	static UnannotatedClassCache forFile(File file) {
+		return caches.computeIfAbsent(file.getAbsoluteFile(), UnannotatedClassCache::new);
+	}
+
+
+	/**
+	 * Determine whether the given class file is known to carry no
+	 * type-level annotations, with an unchanged fingerprint.
+	 * @param resource the class file resource
+	 */
+	boolean isUnannotated(Resource resource) {
+		if (this.fingerprints.isEmpty()) {
+			return false;
+		}
+		try {
+			String fingerprint = this.fingerprints.get(resource.getURL().toString());
+			return (fingerprint != null && fingerprint.equals(fingerprint(resource)));
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Record the given class file if its metadata reveals no type-level annotations.
+	 * @param resource the class file resource
+	 * @param metadataReader the metadata read from the resource
+	 */
+	void register(Resource resource, MetadataReader metadataReader) {
+		if (!metadataReader.getAnnotationMetadata().getAnnotationTypes().isEmpty()) {
+			return;
+		}
+		try {
+			String fingerprint = fingerprint(resource);
+			if (!fingerprint.equals(this.fingerprints.put(resource.getURL().toString(), fingerprint))) {
+				this.modified = true;
+			}
+		}
+		catch (IOException ex) {
+			// Not able to fingerprint -> simply not cached
+		}
+	}
+
+	/**
+	 * Write the current entries back to the cache file, if modified.
+	 */
+	synchronized void save() {
+		if (!this.modified) {
+			return;
+		}
+		this.modified = false;
+		try {
+			Path target = this.file.toPath();
+			Path parent = target.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempFile = Files.createTempFile(parent, this.file.getName(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				writer.write(HEADER);
+				writer.newLine();
+				for (Map.Entry<String, String> entry : this.fingerprints.entrySet()) {
+					writer.write(entry.getValue());
+					writer.write(' ');
+					writer.write(entry.getKey());
+					writer.newLine();
+				}
+			}
+			try {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to write classpath scanning cache to " + this.file, ex);
+			}
+		}
+	}
+
+	private void load() {
+		if (!this.file.isFile()) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.file.toPath(), StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf(' ');
+				if (!line.startsWith("#") && separator > 0) {
+					this.fingerprints.put(line.substring(separator + 1), line.substring(0, separator));
+				}
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded " + this.fingerprints.size() +
+						" unannotated class entries from classpath scanning cache " + this.file);
+			}
+		}
+		catch (IOException ex) {
+			this.fingerprints.clear();
+			if (logger.isInfoEnabled()) {
+				logger.info("Ignoring unreadable classpath scanning cache " + this.file + ": " + ex);
+			}
+		}
+	}
+
+	private static String fingerprint(Resource resource) throws IOException {
+		return resource.contentLength() + ":" + resource.lastModified();
+	}
+
+	@Override
+	public String toString() {
+		return "UnannotatedClassCache for " + this.file;
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.context.event;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.ResolvableType;
@@ -53,6 +55,10 @@ import org.springframework.util.ObjectUtils;
  * all events to all registered listeners, invoking them in the calling thread.
  * Alternative implementations could be more sophisticated in those respects.
  *
+ * <p>Pre-filtered listeners are cached per event type and source type. Adding or
+ * removing a listener instance updates the affected cache entries incrementally,
+ * whereas changes to listener bean registrations reset the cache.
+ *
  * @author Juergen Hoeller
  * @author Stephane Nicoll
  * @since 1.2.3
@@ -66,6 +72,9 @@ public abstract class AbstractApplicationEventMulticaster
 
 	final Map<ListenerCacheKey, ListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
 
+	/** Incremented on every change of the registered listeners, under the retrieval mutex. */
+	private volatile int listenerRegistrationGeneration;
+
 	@Nullable
 	private ClassLoader beanClassLoader;
 
@@ -109,9 +118,11 @@ public abstract class AbstractApplicationEventMulticaster
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(listener);
 			if (singletonTarget instanceof ApplicationListener) {
 				this.defaultRetriever.applicationListeners.remove(singletonTarget);
+				removeFromRetrieverCache((ApplicationListener<?>) singletonTarget);
 			}
 			this.defaultRetriever.applicationListeners.add(listener);
-			this.retrieverCache.clear();
+			addToRetrieverCache(listener);
+			this.listenerRegistrationGeneration++;
 		}
 	}
 
@@ -120,6 +131,7 @@ public abstract class AbstractApplicationEventMulticaster
 		synchronized (this.retrievalMutex) {
 			this.defaultRetriever.applicationListenerBeans.add(listenerBeanName);
 			this.retrieverCache.clear();
+			this.listenerRegistrationGeneration++;
 		}
 	}
 
@@ -127,7 +139,15 @@ public abstract class AbstractApplicationEventMulticaster
 	public void removeApplicationListener(ApplicationListener<?> listener) {
 		synchronized (this.retrievalMutex) {
 			this.defaultRetriever.applicationListeners.remove(listener);
-			this.retrieverCache.clear();
+			if (isListenerBean(listener)) {
+				// Still registered through its bean name -> let the cached retrievers
+				// be rebuilt, since they may have deduplicated it against the instance
+				this.retrieverCache.clear();
+			}
+			else {
+				removeFromRetrieverCache(listener);
+			}
+			this.listenerRegistrationGeneration++;
 		}
 	}
 
@@ -136,6 +156,7 @@ public abstract class AbstractApplicationEventMulticaster
 		synchronized (this.retrievalMutex) {
 			this.defaultRetriever.applicationListenerBeans.remove(listenerBeanName);
 			this.retrieverCache.clear();
+			this.listenerRegistrationGeneration++;
 		}
 	}
 
@@ -145,7 +166,65 @@ public abstract class AbstractApplicationEventMulticaster
 			this.defaultRetriever.applicationListeners.clear();
 			this.defaultRetriever.applicationListenerBeans.clear();
 			this.retrieverCache.clear();
+			this.listenerRegistrationGeneration++;
+		}
+	}
+
+
+	/**
+	 * Incrementally add the given listener to all cached retrievers for
+	 * event and source types that it supports, instead of resetting the cache.
+	 * <p>Cached retrievers are replaced rather than modified, since they may
+	 * be in use by concurrent event publication.
+	 */
+	private void addToRetrieverCache(ApplicationListener<?> listener) {
+		this.retrieverCache.replaceAll((cacheKey, retriever) -> {
+			if (retriever.applicationListeners.contains(listener) ||
+					!supportsEvent(listener, cacheKey.eventType, cacheKey.sourceType)) {
+				return retriever;
+			}
+			ListenerRetriever updated = new ListenerRetriever(retriever);
+			updated.applicationListeners.add(listener);
+			updated.sortApplicationListeners();
+			return updated;
+		});
+	}
+
+	/**
+	 * Determine whether the given listener instance is also registered as a
+	 * listener bean, i.e. whether it remains reachable through its bean name.
+	 * <p>Conservatively returns {@code true} for listener bean registrations
+	 * whose singleton instances cannot be checked.
+	 */
+	private boolean isListenerBean(ApplicationListener<?> listener) {
+		if (this.defaultRetriever.applicationListenerBeans.isEmpty()) {
+			return false;
+		}
+		if (!(this.beanFactory instanceof SingletonBeanRegistry)) {
+			return true;
+		}
+		SingletonBeanRegistry sbr = (SingletonBeanRegistry) this.beanFactory;
+		for (String listenerBeanName : this.defaultRetriever.applicationListenerBeans) {
+			if (!sbr.containsSingleton(listenerBeanName) || sbr.getSingleton(listenerBeanName) == listener) {
+				return true;
+			}
 		}
+		return false;
+	}
+
+	/**
+	 * Incrementally remove the given listener from all cached retrievers
+	 * containing it, instead of resetting the cache.
+	 */
+	private void removeFromRetrieverCache(ApplicationListener<?> listener) {
+		this.retrieverCache.replaceAll((cacheKey, retriever) -> {
+			if (!retriever.applicationListeners.contains(listener)) {
+				return retriever;
+			}
+			ListenerRetriever updated = new ListenerRetriever(retriever);
+			updated.applicationListeners.remove(listener);
+			return updated;
+		});
 	}
 
 
@@ -155,9 +234,14 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @see org.springframework.context.ApplicationListener
 	 */
 	protected Collection<ApplicationListener<?>> getApplicationListeners() {
+		ListenerRetriever retriever = new ListenerRetriever(false);
 		synchronized (this.retrievalMutex) {
-			return this.defaultRetriever.getApplicationListeners();
+			retriever.applicationListeners.addAll(this.defaultRetriever.applicationListeners);
+			retriever.applicationListenerBeans.addAll(this.defaultRetriever.applicationListenerBeans);
 		}
+		// Listener beans to be obtained outside of the retrieval mutex (the singleton
+		// mutex by default) since their creation may depend on other threads...
+		return retriever.getApplicationListeners();
 	}
 
 	/**
@@ -166,7 +250,8 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @param event the event to be propagated. Allows for excluding
 	 * non-matching listeners early, based on cached matching information.
 	 * @param eventType the event type
-	 * @return a Collection of ApplicationListeners
+	 * @return a Collection of ApplicationListeners (not to be modified, since
+	 * it may be shared across invocations for the same event type)
 	 * @see org.springframework.context.ApplicationListener
 	 */
 	protected Collection<ApplicationListener<?>> getApplicationListeners(
@@ -185,18 +270,19 @@ public abstract class AbstractApplicationEventMulticaster
 		if (this.beanClassLoader == null ||
 				(ClassUtils.isCacheSafe(event.getClass(), this.beanClassLoader) &&
 						(sourceType == null || ClassUtils.isCacheSafe(sourceType, this.beanClassLoader)))) {
-			// Fully synchronized building and caching of a ListenerRetriever
+			// Building a ListenerRetriever outside of the retrieval mutex (the singleton
+			// mutex by default) since listener beans may have to be created, then caching
+			// it unless the registered listeners changed in the meantime
+			int generation = this.listenerRegistrationGeneration;
+			retriever = new ListenerRetriever(true);
+			Collection<ApplicationListener<?>> listeners =
+					retrieveApplicationListeners(eventType, sourceType, retriever);
 			synchronized (this.retrievalMutex) {
-				retriever = this.retrieverCache.get(cacheKey);
-				if (retriever != null) {
-					return retriever.getApplicationListeners();
+				if (this.listenerRegistrationGeneration == generation) {
+					this.retrieverCache.putIfAbsent(cacheKey, retriever);
 				}
-				retriever = new ListenerRetriever(true);
-				Collection<ApplicationListener<?>> listeners =
-						retrieveApplicationListeners(eventType, sourceType, retriever);
-				this.retrieverCache.put(cacheKey, retriever);
-				return listeners;
 			}
+			return listeners;
 		}
 		else {
 			// No ListenerRetriever caching -> no synchronization necessary
@@ -371,11 +457,39 @@ public abstract class AbstractApplicationEventMulticaster
 
 		private final boolean preFiltered;
 
+		/** Shared view of the pre-filtered listeners, if not backed by listener beans. */
+		@Nullable
+		private volatile List<ApplicationListener<?>> preFilteredListeners;
+
 		public ListenerRetriever(boolean preFiltered) {
 			this.preFiltered = preFiltered;
 		}
 
+		public ListenerRetriever(ListenerRetriever original) {
+			this.applicationListeners.addAll(original.applicationListeners);
+			this.applicationListenerBeans.addAll(original.applicationListenerBeans);
+			this.preFiltered = original.preFiltered;
+		}
+
+		public void sortApplicationListeners() {
+			if (this.applicationListenerBeans.isEmpty()) {
+				List<ApplicationListener<?>> sorted = new ArrayList<>(this.applicationListeners);
+				AnnotationAwareOrderComparator.sort(sorted);
+				this.applicationListeners.clear();
+				this.applicationListeners.addAll(sorted);
+			}
+		}
+
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
+			if (this.preFiltered && this.applicationListenerBeans.isEmpty()) {
+				// Pre-filtered and pre-sorted: no need to copy on every event
+				List<ApplicationListener<?>> listeners = this.preFilteredListeners;
+				if (listeners == null) {
+					listeners = Collections.unmodifiableList(new ArrayList<>(this.applicationListeners));
+					this.preFilteredListeners = listeners;
+				}
+				return listeners;
+			}
 			List<ApplicationListener<?>> allListeners = new ArrayList<>(
 					this.applicationListeners.size() + this.applicationListenerBeans.size());
 			allListeners.addAll(this.applicationListeners);
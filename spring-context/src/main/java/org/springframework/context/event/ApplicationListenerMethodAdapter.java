@@ -53,12 +53,17 @@ import org.springframework.util.StringUtils;
  * to define any arbitrary event type. If a condition is defined, it is
  * evaluated prior to invoking the underlying method.
  *
+ * <p>Methods declared as {@linkplain EventListener#batch() batch listeners}
+ * receive a {@code List} of events (or payloads) through
+ * {@link #processEvents(List)}.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @author Sam Brannen
  * @since 4.2
  */
-public class ApplicationListenerMethodAdapter implements GenericApplicationListener {
+public class ApplicationListenerMethodAdapter
+		implements GenericApplicationListener, BatchApplicationListener<ApplicationEvent> {
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -70,6 +75,8 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 
 	private final AnnotatedElementKey methodKey;
 
+	private final boolean batch;
+
 	private final List<ResolvableType> declaredEventTypes;
 
 	@Nullable
@@ -92,6 +99,7 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		this.methodKey = new AnnotatedElementKey(this.targetMethod, targetClass);
 
 		EventListener ann = AnnotatedElementUtils.findMergedAnnotation(this.targetMethod, EventListener.class);
+		this.batch = (ann != null && ann.batch());
 		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann);
 		this.condition = (ann != null ? ann.condition() : null);
 		this.order = resolveOrder(method);
@@ -104,6 +112,10 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			throw new IllegalStateException(
 					"Maximum one parameter is allowed for event listener method: " + method);
 		}
+		if (this.batch && (count == 0 || !List.class.isAssignableFrom(method.getParameterTypes()[0]))) {
+			throw new IllegalStateException(
+					"A List parameter is mandatory for batch event listener method: " + method);
+		}
 
 		if (ann != null) {
 			Class<?>[] classes = ann.classes();
@@ -120,7 +132,16 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			throw new IllegalStateException(
 					"Event parameter is mandatory for event listener method: " + method);
 		}
-		return Collections.singletonList(ResolvableType.forMethodParameter(method, 0));
+		ResolvableType parameterType = ResolvableType.forMethodParameter(method, 0);
+		if (this.batch) {
+			ResolvableType elementType = parameterType.asCollection().getGeneric();
+			if (elementType.resolve() == null) {
+				throw new IllegalStateException(
+						"Cannot resolve event type from List parameter of batch event listener method: " + method);
+			}
+			return Collections.singletonList(elementType);
+		}
+		return Collections.singletonList(parameterType);
 	}
 
 	private int resolveOrder(Method method) {
@@ -142,6 +163,23 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		processEvent(event);
 	}
 
+	@Override
+	public void onApplicationEvents(List<ApplicationEvent> events) {
+		if (this.batch) {
+			processEvents(events);
+		}
+		else {
+			for (ApplicationEvent event : events) {
+				onApplicationEvent(event);
+			}
+		}
+	}
+
+	@Override
+	public boolean supportsBatchedEvents() {
+		return this.batch;
+	}
+
 	@Override
 	public boolean supportsEventType(ResolvableType eventType) {
 		for (ResolvableType declaredEventType : this.declaredEventTypes) {
@@ -186,6 +224,33 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		}
 	}
 
+	/**
+	 * Process the specified batch of {@link ApplicationEvent ApplicationEvents},
+	 * checking the condition for each of them and invoking the underlying method
+	 * once with all matching events, handling non-null result, if any.
+	 * <p>Only applicable to {@linkplain EventListener#batch() batch listeners}.
+	 * @since 5.2
+	 */
+	public void processEvents(List<? extends ApplicationEvent> events) {
+		Assert.state(this.batch, "Not a batch event listener method");
+		List<Object> batchArgument = new ArrayList<>(events.size());
+		for (ApplicationEvent event : events) {
+			Object[] args = resolveArguments(event);
+			if (shouldHandle(event, args)) {
+				batchArgument.addAll((List<?>) args[0]);
+			}
+		}
+		if (!batchArgument.isEmpty()) {
+			Object result = doInvoke(batchArgument);
+			if (result != null) {
+				handleResult(result);
+			}
+			else {
+				logger.trace("No result object given - no result to handle");
+			}
+		}
+	}
+
 	/**
 	 * Resolve the method arguments to use for the specified {@link ApplicationEvent}.
 	 * <p>These arguments will be used to invoke the method handled by this instance. Can
@@ -201,13 +266,12 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		if (this.method.getParameterCount() == 0) {
 			return new Object[0];
 		}
+		Object argument = event;
 		if (!ApplicationEvent.class.isAssignableFrom(declaredEventType.toClass()) &&
 				event instanceof PayloadApplicationEvent) {
-			return new Object[] {((PayloadApplicationEvent) event).getPayload()};
-		}
-		else {
-			return new Object[] {event};
+			argument = ((PayloadApplicationEvent) event).getPayload();
 		}
+		return new Object[] {this.batch ? Collections.singletonList(argument) : argument};
 	}
 
 	protected void handleResult(Object result) {
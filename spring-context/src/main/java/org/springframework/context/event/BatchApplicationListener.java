@@ -0,0 +1,67 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Extended variant of the standard {@link ApplicationListener} interface,
+ * able to receive several events at once.
+ *
+ * <p>Batches are formed by a multicaster supporting batched delivery such as
+ * {@link BatchingApplicationEventMulticaster}. Other multicasters deliver each
+ * event individually through {@link #onApplicationEvent}, which by default
+ * hands it over as a single-element batch.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @param <E> the specific ApplicationEvent subclass to listen to
+ * @see BatchingApplicationEventMulticaster
+ * @see EventListener#batch()
+ */
+@FunctionalInterface
+public interface BatchApplicationListener<E extends ApplicationEvent> extends ApplicationListener<E> {
+
+	/**
+	 * Handle the given batch of application events, in publication order.
+	 * @param events the events to respond to (never empty)
+	 */
+	void onApplicationEvents(List<E> events);
+
+	/**
+	 * Handle a single application event as a single-element batch.
+	 */
+	@Override
+	default void onApplicationEvent(E event) {
+		onApplicationEvents(Collections.singletonList(event));
+	}
+
+	/**
+	 * Determine whether this listener actually wants to receive batches.
+	 * <p>If {@code false}, a batching multicaster delivers each event
+	 * individually through {@link #onApplicationEvent}.
+	 * <p>The default implementation returns {@code true}.
+	 */
+	default boolean supportsBatchedEvents() {
+		return true;
+	}
+
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Asynchronous variant of {@link SimpleApplicationEventMulticaster}, queueing
+ * events per listener instead of submitting a task per listener and event.
+ *
+ * <p>Each listener has a bounded queue of pending events, drained by at most
+ * one task at a time on the configured {@link #setTaskExecutor task executor}.
+ * Listeners therefore receive their events in publication order, and the
+ * executor sees at most one pending task per listener. A drain task hands up to
+ * {@link #setMaxBatchSize maxBatchSize} events to a {@link BatchApplicationListener}
+ * (including {@link EventListener#batch() batch} {@code @EventListener} methods)
+ * at once, while other listeners receive them one by one.
+ *
+ * <p>When a listener's queue is full, the configured {@link OverflowPolicy}
+ * applies: blocking the publisher (back-pressure), running the listener in the
+ * publishing thread, or discarding events. {@link #getQueueDepth()} and
+ * {@link #getDiscardedEventCount()} expose the state of the queues for monitoring.
+ *
+ * <p>Queues are kept per listener instance and released once drained, so
+ * non-singleton listeners (receiving each event on a new instance) do not
+ * accumulate queues.
+ * Without a task executor, events are delivered synchronously just like
+ * with {@link SimpleApplicationEventMulticaster}.
+ *
+ * <p>To use it in an application context, declare a bean of this type
+ * named {@code "applicationEventMulticaster"}.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see #setTaskExecutor
+ * @see BatchApplicationListener
+ */
+public class BatchingApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+	/**
+	 * Policy to apply when publishing an event to a listener with a full queue.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the publishing thread until the listener's queue has space
+		 * (back-pressure). This is the default.
+		 * <p>Note that a listener publishing events to itself with a full
+		 * queue will block forever.
+		 */
+		BLOCK,
+
+		/**
+		 * Invoke the listener in the publishing thread, bypassing its queue.
+		 * <p>Note that the listener may then see events out of order.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Discard the event being published.
+		 */
+		DISCARD,
+
+		/**
+		 * Discard the oldest pending event in the listener's queue.
+		 */
+		DISCARD_OLDEST
+	}
+
+
+	private int queueCapacity = 1024;
+
+	private int maxBatchSize = 100;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private final Map<ApplicationListener<?>, ListenerQueue> listenerQueues = new ConcurrentHashMap<>(64);
+
+	private final LongAdder discardedEventCount = new LongAdder();
+
+
+	/**
+	 * Create a new BatchingApplicationEventMulticaster.
+	 */
+	public BatchingApplicationEventMulticaster() {
+	}
+
+	/**
+	 * Create a new BatchingApplicationEventMulticaster for the given BeanFactory.
+	 */
+	public BatchingApplicationEventMulticaster(BeanFactory beanFactory) {
+		super(beanFactory);
+	}
+
+
+	/**
+	 * Set the maximum number of pending events per listener.
+	 * <p>Default is 1024. Takes effect for listeners receiving their first event
+	 * after this call.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Return the maximum number of pending events per listener.
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Set the maximum number of events to hand to a {@link BatchApplicationListener}
+	 * at once. Default is 100; specify 1 to turn batching off.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Return the maximum number of events per batch.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Set the policy to apply when a listener's queue is full.
+	 * <p>Default is {@link OverflowPolicy#BLOCK}.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Return the policy to apply when a listener's queue is full.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Return the number of events currently pending for all listeners.
+	 */
+	public int getQueueDepth() {
+		int depth = 0;
+		for (ListenerQueue queue : this.listenerQueues.values()) {
+			depth += queue.events.size();
+		}
+		return depth;
+	}
+
+	/**
+	 * Return the number of events currently pending for the given listener.
+	 */
+	public int getQueueDepth(ApplicationListener<?> listener) {
+		ListenerQueue queue = this.listenerQueues.get(listener);
+		return (queue != null ? queue.events.size() : 0);
+	}
+
+	/**
+	 * Return the number of events discarded so far, either through a
+	 * discarding {@link OverflowPolicy} or an interrupted publisher.
+	 */
+	public long getDiscardedEventCount() {
+		return this.discardedEventCount.sum();
+	}
+
+
+	@Override
+	public void removeApplicationListener(ApplicationListener<?> listener) {
+		super.removeApplicationListener(listener);
+		this.listenerQueues.remove(listener);
+	}
+
+	@Override
+	public void removeAllListeners() {
+		super.removeAllListeners();
+		this.listenerQueues.clear();
+	}
+
+	@Override
+	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+		Executor executor = getTaskExecutor();
+		if (executor == null) {
+			super.multicastEvent(event, eventType);
+			return;
+		}
+		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
+		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+			ListenerQueue queue = this.listenerQueues.compute(listener, (key, existing) -> {
+				ListenerQueue queueToUse = (existing != null ? existing : new ListenerQueue(key, this.queueCapacity));
+				queueToUse.publishers.incrementAndGet();
+				return queueToUse;
+			});
+			try {
+				if (enqueue(queue, event)) {
+					schedule(queue, executor);
+				}
+			}
+			finally {
+				queue.publishers.decrementAndGet();
+				releaseIfIdle(queue);
+			}
+		}
+	}
+
+	/**
+	 * Remove the given listener queue if it is neither used by a publisher
+	 * nor holding or draining any events. The check happens atomically with
+	 * the queue lookup in {@link #multicastEvent}, so there is never more
+	 * than one queue per listener.
+	 */
+	private void releaseIfIdle(ListenerQueue queue) {
+		if (queue.publishers.get() == 0 && queue.events.isEmpty() && !queue.scheduled.get()) {
+			this.listenerQueues.computeIfPresent(queue.listener, (key, existing) ->
+					(existing == queue && queue.publishers.get() == 0 && queue.events.isEmpty() &&
+							!queue.scheduled.get() ? null : existing));
+		}
+	}
+
+	/**
+	 * Add the given event to the given listener queue, applying the overflow
+	 * policy if necessary.
+	 * @return whether the event got queued
+	 */
+	private boolean enqueue(ListenerQueue queue, ApplicationEvent event) {
+		if (queue.events.offer(event)) {
+			return true;
+		}
+		switch (this.overflowPolicy) {
+			case BLOCK:
+				try {
+					queue.events.put(event);
+					return true;
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					this.discardedEventCount.increment();
+					return false;
+				}
+			case CALLER_RUNS:
+				invokeListener(queue.listener, event);
+				return false;
+			case DISCARD_OLDEST:
+				while (!queue.events.offer(event)) {
+					if (queue.events.poll() != null) {
+						this.discardedEventCount.increment();
+					}
+				}
+				return true;
+			default:
+				this.discardedEventCount.increment();
+				return false;
+		}
+	}
+
+	private void schedule(ListenerQueue queue, Executor executor) {
+		if (queue.scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(() -> drain(queue, executor));
+			}
+			catch (RuntimeException ex) {
+				queue.scheduled.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	/**
+	 * Deliver the next batch of pending events for the given listener queue,
+	 * rescheduling the queue if further events are pending.
+	 */
+	private void drain(ListenerQueue queue, Executor executor) {
+		try {
+			List<ApplicationEvent> events = new ArrayList<>(Math.min(queue.events.size(), this.maxBatchSize));
+			queue.events.drainTo(events, this.maxBatchSize);
+			if (!events.isEmpty()) {
+				deliver(queue.listener, events);
+			}
+		}
+		finally {
+			queue.scheduled.set(false);
+			if (!queue.events.isEmpty()) {
+				schedule(queue, executor);
+			}
+			else {
+				releaseIfIdle(queue);
+			}
+		}
+	}
+
+	/**
+	 * Deliver the given events to the given listener, as a batch if supported.
+	 * @param listener the ApplicationListener to invoke
+	 * @param events the pending events, in publication order
+	 */
+	protected void deliver(ApplicationListener<?> listener, List<ApplicationEvent> events) {
+		if (listener instanceof BatchApplicationListener &&
+				((BatchApplicationListener<?>) listener).supportsBatchedEvents()) {
+			invokeBatchListener((BatchApplicationListener<?>) listener, events);
+		}
+		else {
+			for (ApplicationEvent event : events) {
+				invokeListener(listener, event);
+			}
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private void invokeBatchListener(BatchApplicationListener listener, List<ApplicationEvent> events) {
+		ErrorHandler errorHandler = getErrorHandler();
+		if (errorHandler != null) {
+			try {
+				listener.onApplicationEvents(events);
+			}
+			catch (Throwable err) {
+				errorHandler.handleError(err);
+			}
+		}
+		else {
+			listener.onApplicationEvents(events);
+		}
+	}
+
+
+	/**
+	 * Bounded queue of pending events for a specific listener.
+	 */
+	private static class ListenerQueue {
+
+		final ApplicationListener<?> listener;
+
+		final BlockingQueue<ApplicationEvent> events;
+
+		final AtomicBoolean scheduled = new AtomicBoolean();
+
+		final AtomicInteger publishers = new AtomicInteger();
+
+		ListenerQueue(ApplicationListener<?> listener, int capacity) {
+			this.listener = listener;
+			this.events = new ArrayBlockingQueue<>(capacity);
+		}
+	}
+
+}
@@ -102,4 +102,18 @@ public @interface EventListener {
 	 */
 	String condition() default "";
 
+	/**
+	 * Whether the annotated method receives events in batches.
+	 * <p>If {@code true}, the method must declare a single {@link java.util.List}
+	 * parameter whose element type reflects the event type to listen to (unless
+	 * specified through {@link #classes}). Events are grouped into batches by a
+	 * {@link BatchingApplicationEventMulticaster}; with other multicasters, each
+	 * event is delivered as a single-element list.
+	 * <p>A {@link #condition} is evaluated for each event individually, with
+	 * its arguments referring to a single-element list.
+	 * @since 5.2
+	 * @see BatchApplicationListener
+	 */
+	boolean batch() default false;
+
 }
@@ -16,28 +16,76 @@
 
 package org.springframework.context.expression;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Shared utility class used to evaluate and cache SpEL expressions that
  * are defined on {@link java.lang.reflect.AnnotatedElement}.
  *
+ * <p>Parsed expressions are held in a bounded cache per evaluator, keyed by
+ * annotated element and expression, and shared by all specific caches passed
+ * into {@link #getExpression(Map, AnnotatedElementKey, String)}. The cache limit
+ * defaults to {@link #DEFAULT_EXPRESSION_CACHE_LIMIT} and may be changed through
+ * the {@link #EXPRESSION_CACHE_LIMIT_PROPERTY_NAME} system property.
+ *
  * @author Stephane Nicoll
  * @since 4.2
  * @see AnnotatedElementKey
  */
 public abstract class CachedExpressionEvaluator {
 
+	/**
+	 * Default maximum number of entries for the expression cache of each evaluator: 4096.
+	 * @since 5.2
+	 */
+	public static final int DEFAULT_EXPRESSION_CACHE_LIMIT = 4096;
+
+	/**
+	 * System property that overrides the maximum number of entries for the
+	 * expression cache of each evaluator: {@code "spring.expression.cache-limit"}.
+	 * @since 5.2
+	 */
+	public static final String EXPRESSION_CACHE_LIMIT_PROPERTY_NAME = "spring.expression.cache-limit";
+
+
 	private final SpelExpressionParser parser;
 
-	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+	private final int expressionCacheLimit = determineExpressionCacheLimit();
+
+	/** Fast access cache for parsed expressions, returning already cached instances without a global lock. */
+	private final Map<ExpressionKey, Expression> expressionAccessCache = new ConcurrentHashMap<>(256);
+
+	/** Least-recently-used map of parsed expressions, synchronized for parsing and eviction. */
+	@SuppressWarnings("serial")
+	private final Map<ExpressionKey, Expression> expressionCreationCache =
+			new LinkedHashMap<ExpressionKey, Expression>(256, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<ExpressionKey, Expression> eldest) {
+					if (size() > expressionCacheLimit) {
+						expressionAccessCache.remove(eldest.getKey());
+						return true;
+					}
+					return false;
+				}
+			};
+
+	private final ParameterNameDiscoverer parameterNameDiscoverer =
+			new CachingParameterNameDiscoverer(new DefaultParameterNameDiscoverer());
 
 
 	/**
@@ -64,7 +112,8 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 	/**
-	 * Return a shared parameter name discoverer which caches data internally.
+	 * Return a shared parameter name discoverer which caches the
+	 * discovered parameter names per method and constructor.
 	 * @since 4.3
 	 */
 	protected ParameterNameDiscoverer getParameterNameDiscoverer() {
@@ -85,16 +134,72 @@ public abstract class CachedExpressionEvaluator {
 		ExpressionKey expressionKey = createKey(elementKey, expression);
 		Expression expr = cache.get(expressionKey);
 		if (expr == null) {
-			expr = getParser().parseExpression(expression);
+			expr = getSharedExpression(expressionKey);
 			cache.put(expressionKey, expr);
 		}
 		return expr;
 	}
 
+	/**
+	 * Return the {@link Expression} for the specified SpEL value from
+	 * the expression cache of this evaluator.
+	 * <p>Parse the expression if it hasn't been already.
+	 * @param elementKey the element on which the expression is defined
+	 * @param expression the expression to parse
+	 * @since 5.2
+	 */
+	protected Expression getExpression(AnnotatedElementKey elementKey, String expression) {
+		return getSharedExpression(createKey(elementKey, expression));
+	}
+
+	/**
+	 * Remove all expressions from the expression cache of this evaluator.
+	 * @since 5.2
+	 */
+	protected void clearExpressions() {
+		synchronized (this.expressionCreationCache) {
+			this.expressionAccessCache.clear();
+			this.expressionCreationCache.clear();
+		}
+	}
+
+	private Expression getSharedExpression(ExpressionKey expressionKey) {
+		Expression expr = this.expressionAccessCache.get(expressionKey);
+		if (expr == null) {
+			synchronized (this.expressionCreationCache) {
+				expr = this.expressionCreationCache.get(expressionKey);
+				if (expr == null) {
+					expr = getParser().parseExpression(expressionKey.expression);
+					this.expressionAccessCache.put(expressionKey, expr);
+					this.expressionCreationCache.put(expressionKey, expr);
+				}
+			}
+		}
+		return expr;
+	}
+
 	private ExpressionKey createKey(AnnotatedElementKey elementKey, String expression) {
 		return new ExpressionKey(elementKey, expression);
 	}
 
+	private static int determineExpressionCacheLimit() {
+		String limit = SpringProperties.getProperty(EXPRESSION_CACHE_LIMIT_PROPERTY_NAME);
+		if (!StringUtils.hasText(limit)) {
+			return DEFAULT_EXPRESSION_CACHE_LIMIT;
+		}
+		try {
+			int value = Integer.parseInt(limit.trim());
+			if (value >= 0) {
+				return value;
+			}
+		}
+		catch (NumberFormatException ex) {
+			// fall through to exception below
+		}
+		throw new IllegalStateException("Invalid value for '" + EXPRESSION_CACHE_LIMIT_PROPERTY_NAME +
+				"' property: expected a non-negative integer but got \"" + limit + "\"");
+	}
+
 
 	/**
 	 * An expression key.
@@ -145,4 +250,44 @@ public abstract class CachedExpressionEvaluator {
 		}
 	}
 
+
+	/**
+	 * {@link ParameterNameDiscoverer} decorator that caches the discovered
+	 * parameter names, avoiding repeated reflection for each evaluation.
+	 */
+	private static final class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+		private static final String[] NO_NAMES = new String[0];
+
+		private final ParameterNameDiscoverer delegate;
+
+		private final Map<Object, String[]> parameterNamesCache = new ConcurrentReferenceHashMap<>(256);
+
+		CachingParameterNameDiscoverer(ParameterNameDiscoverer delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames(Method method) {
+			String[] names = this.parameterNamesCache.get(method);
+			if (names == null) {
+				names = this.delegate.getParameterNames(method);
+				this.parameterNamesCache.put(method, (names != null ? names : NO_NAMES));
+			}
+			return (names != NO_NAMES ? names : null);
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames(Constructor<?> ctor) {
+			String[] names = this.parameterNamesCache.get(ctor);
+			if (names == null) {
+				names = this.delegate.getParameterNames(ctor);
+				this.parameterNamesCache.put(ctor, (names != null ? names : NO_NAMES));
+			}
+			return (names != NO_NAMES ? names : null);
+		}
+	}
+
 }
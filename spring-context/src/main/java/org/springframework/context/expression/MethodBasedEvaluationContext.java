@@ -35,18 +35,28 @@ import org.springframework.util.ObjectUtils;
  * <li>the name of the parameter as discovered by a configurable {@link ParameterNameDiscoverer}</li>
  * </ol>
  *
+ * <p>Arguments are resolved by index on lookup, without populating the
+ * variable map for every parameter up front.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @since 4.2
  */
 public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 
+	private static final Object UNRESOLVED = new Object();
+
 	private final Method method;
 
 	private final Object[] arguments;
 
 	private final ParameterNameDiscoverer parameterNameDiscoverer;
 
+	@Nullable
+	private String[] paramNames;
+
+	private boolean paramNamesLoaded = false;
+
 	private boolean argumentsLoaded = false;
 
 
@@ -68,6 +78,10 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 			return variable;
 		}
 		if (!this.argumentsLoaded) {
+			Object argument = resolveArgument(name);
+			if (argument != UNRESOLVED) {
+				return argument;
+			}
 			lazyLoadArguments();
 			this.argumentsLoaded = true;
 			variable = super.lookupVariable(name);
@@ -75,8 +89,62 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 		return variable;
 	}
 
+	/**
+	 * Resolve the argument for the given variable name by parameter index,
+	 * returning {@code UNRESOLVED} if the name does not denote a parameter.
+	 */
+	@Nullable
+	private Object resolveArgument(String name) {
+		if (ObjectUtils.isEmpty(this.arguments)) {
+			return UNRESOLVED;
+		}
+		if (!this.paramNamesLoaded) {
+			this.paramNames = this.parameterNameDiscoverer.getParameterNames(this.method);
+			this.paramNamesLoaded = true;
+		}
+		int paramCount = (this.paramNames != null ? this.paramNames.length : this.method.getParameterCount());
+		int index = -1;
+		if (this.paramNames != null) {
+			for (int i = 0; i < paramCount; i++) {
+				if (name.equals(this.paramNames[i])) {
+					index = i;
+					break;
+				}
+			}
+		}
+		if (index == -1) {
+			index = parseIndex(name);
+		}
+		if (index < 0 || index >= paramCount) {
+			return UNRESOLVED;
+		}
+		int argsCount = this.arguments.length;
+		if (argsCount > paramCount && index == paramCount - 1) {
+			// Expose remaining arguments as vararg array for last parameter
+			return Arrays.copyOfRange(this.arguments, index, argsCount);
+		}
+		return (argsCount > index ? this.arguments[index] : null);
+	}
+
+	private static int parseIndex(String name) {
+		int length = name.length();
+		if (length < 2 || (name.charAt(0) != 'a' && name.charAt(0) != 'p')) {
+			return -1;
+		}
+		int index = 0;
+		for (int i = 1; i < length; i++) {
+			char ch = name.charAt(i);
+			if (ch < '0' || ch > '9' || i > 9) {
+				return -1;
+			}
+			index = index * 10 + (ch - '0');
+		}
+		return index;
+	}
+
 	/**
 	 * Load the param information only when needed.
+	 * <p>Only used for variables that do not denote a method parameter.
 	 */
 	protected void lazyLoadArguments() {
 		// Shortcut if no args need to be loaded
@@ -16,15 +16,23 @@
 
 package org.springframework.aop.framework;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
 import org.junit.Test;
 
+import org.springframework.aop.AopInvocationException;
+import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+import org.springframework.tests.aop.interceptor.NopInterceptor;
 import org.springframework.tests.sample.beans.IOther;
 import org.springframework.tests.sample.beans.ITestBean;
 import org.springframework.tests.sample.beans.TestBean;
@@ -140,9 +148,121 @@ public class JdkDynamicProxyTests extends AbstractAopProxyTests implements Seria
 
 	@Test  // SPR-13328
 	public void testVarargsWithEnumArray() throws Exception {
-		ProxyFactory proxyFactory = new ProxyFactory(new VarargTestBean());
+		VarargTestBean target = new VarargTestBean();
+		ProxyFactory proxyFactory = new ProxyFactory(target);
 		VarargTestInterface proxy = (VarargTestInterface) proxyFactory.getProxy();
 		assertTrue(proxy.doWithVarargs(MyEnum.A, MyOtherEnum.C));
+		assertTrue(isInvokedThroughReflection(target.lastStackTrace));
+		assertFalse(isInvokedThroughCompiledInvoker(target.lastStackTrace));
+	}
+
+	@Test
+	public void testFrozenProxyWithStaticTarget() throws Throwable {
+		StackRecordingTestBean target = new StackRecordingTestBean();
+		target.setAge(27);
+		NopInterceptor nop = new NopInterceptor();
+		NameMatchMethodPointcut pointcut = new NameMatchMethodPointcut();
+		pointcut.addMethodName("getAge");
+		pointcut.addMethodName("exceptional");
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addAdvisor(new DefaultPointcutAdvisor(pointcut, nop));
+		proxyFactory.setFrozen(true);
+		ITestBean proxy = (ITestBean) proxyFactory.getProxy();
+
+		assertNotNull(getCompiledInvoker(proxy, ITestBean.class.getMethod("getAge")));
+		assertNotNull(getCompiledInvoker(proxy, ITestBean.class.getMethod("setAge", int.class)));
+		assertEquals(27, proxy.getAge());
+		assertTrue(isInvokedThroughCompiledInvoker(target.lastStackTrace));
+		assertFalse(isInvokedThroughReflection(target.lastStackTrace));
+		assertEquals(1, nop.getCount());
+		proxy.setAge(28);
+		assertEquals(28, target.getAge());
+		assertEquals(1, nop.getCount());
+		assertSame(target, proxy.returnsThis());
+		try {
+			proxy.exceptional(new IOException("checked"));
+			fail("Should have thrown IOException");
+		}
+		catch (IOException ex) {
+			assertEquals("checked", ex.getMessage());
+		}
+		assertEquals(2, nop.getCount());
+		try {
+			proxy.exceptional(new IllegalStateException("unchecked"));
+			fail("Should have thrown IllegalStateException");
+		}
+		catch (IllegalStateException ex) {
+			assertEquals("unchecked", ex.getMessage());
+		}
+		assertEquals(3, nop.getCount());
+	}
+
+	@Test
+	public void testFrozenProxyWithMismatchedArguments() throws Exception {
+		TestBean target = new TestBean();
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			((ProxyMethodInvocation) invocation).setArguments("28");
+			return invocation.proceed();
+		});
+		proxyFactory.setFrozen(true);
+		ITestBean proxy = (ITestBean) proxyFactory.getProxy();
+
+		Method setAge = ITestBean.class.getMethod("setAge", int.class);
+		CompiledJoinpointInvoker invoker = getCompiledInvoker(proxy, setAge);
+		assertNotNull(invoker);
+		int index = invoker.getIndex(setAge);
+		assertTrue(invoker.isDirectlyInvocable(index, target, new Object[] {28}));
+		assertFalse(invoker.isDirectlyInvocable(index, target, new Object[] {"28"}));
+		try {
+			proxy.setAge(28);
+			fail("Should have thrown AopInvocationException");
+		}
+		catch (AopInvocationException ex) {
+			assertTrue(ex.getCause() instanceof IllegalArgumentException);
+		}
+		assertEquals(0, target.getAge());
+	}
+
+	@Test
+	public void testFrozenProxyWithVarargs() throws Exception {
+		VarargTestBean target = new VarargTestBean();
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addAdvice(new NopInterceptor());
+		proxyFactory.setFrozen(true);
+		VarargTestInterface proxy = (VarargTestInterface) proxyFactory.getProxy();
+		assertTrue(proxy.doWithVarargs(MyEnum.A, MyOtherEnum.C));
+		assertTrue(isInvokedThroughCompiledInvoker(target.lastStackTrace));
+		assertFalse(isInvokedThroughReflection(target.lastStackTrace));
+	}
+
+	private static CompiledJoinpointInvoker getCompiledInvoker(Object proxy, Method method) {
+		return ((JdkDynamicAopProxy) Proxy.getInvocationHandler(proxy)).getCompiledInvoker(method);
+	}
+
+	private static boolean isInvokedThroughCompiledInvoker(StackTraceElement[] stackTrace) {
+		return containsJoinpointFrame(stackTrace, "org.springframework.aop.framework.generated.", "doInvoke");
+	}
+
+	private static boolean isInvokedThroughReflection(StackTraceElement[] stackTrace) {
+		return containsJoinpointFrame(stackTrace, Method.class.getName(), "invoke");
+	}
+
+	private static boolean containsJoinpointFrame(StackTraceElement[] stackTrace, String classNamePrefix,
+			String methodName) {
+
+		// Only consider the frames between the target method and the proxy,
+		// not the test framework calling the test method reflectively.
+		for (StackTraceElement element : stackTrace) {
+			if (element.getClassName().equals(JdkDynamicAopProxy.class.getName()) &&
+					element.getMethodName().equals("invoke")) {
+				return false;
+			}
+			if (element.getClassName().startsWith(classNamePrefix) && element.getMethodName().equals(methodName)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 
@@ -217,14 +337,29 @@ public class JdkDynamicProxyTests extends AbstractAopProxyTests implements Seria
 
 	public static class VarargTestBean implements VarargTestInterface {
 
+		StackTraceElement[] lastStackTrace;
+
 		@SuppressWarnings("unchecked")
 		@Override
 		public <V extends MyInterface> boolean doWithVarargs(V... args) {
+			this.lastStackTrace = new Throwable().getStackTrace();
 			return true;
 		}
 	}
 
 
+	public static class StackRecordingTestBean extends TestBean {
+
+		StackTraceElement[] lastStackTrace;
+
+		@Override
+		public int getAge() {
+			this.lastStackTrace = new Throwable().getStackTrace();
+			return super.getAge();
+		}
+	}
+
+
 	public interface MyInterface {
 	}
 
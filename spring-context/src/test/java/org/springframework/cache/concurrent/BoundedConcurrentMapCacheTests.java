@@ -0,0 +1,244 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.CacheStatistics;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Spring Framework Team
+ */
+public class BoundedConcurrentMapCacheTests
+		extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private BoundedConcurrentMap nativeCache;
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+	private final AtomicLong time = new AtomicLong();
+
+
+	@Before
+	public void setUp() {
+		this.nativeCache = new BoundedConcurrentMap(1000);
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME, this.nativeCache, true);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL, new BoundedConcurrentMap(1000), false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected BoundedConcurrentMap getNativeCache() {
+		return this.nativeCache;
+	}
+
+
+	@Test
+	public void evictBeyondMaximumSize() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 3);
+		for (int i = 0; i < 5; i++) {
+			cache.put(i, "value" + i);
+		}
+		assertEquals(3, cache.getNativeCache().size());
+		assertNull(cache.get(0));
+		assertNull(cache.get(1));
+		assertEquals("value4", cache.get(4, String.class));
+		assertEquals(2, cache.getEvictionCount());
+	}
+
+	@Test
+	public void evictEntriesReadOnlyOnceFirst() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		cache.put("hot", "value");
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, "value" + i);
+			assertNotNull(cache.get("hot"));
+		}
+		assertEquals(10, cache.getNativeCache().size());
+		assertEquals("value", cache.get("hot", String.class));
+	}
+
+	@Test
+	public void evictBeyondMaximumWeight() {
+		BoundedConcurrentMap store = new BoundedConcurrentMap(10, (key, value) -> ((String) value).length(), null, null);
+		store.put("a", "12345");
+		store.put("b", "1234");
+		assertEquals(9, store.getWeightedSize());
+		store.put("c", "123");
+		assertNull(store.get("a"));
+		assertEquals(7, store.getWeightedSize());
+		store.put("b", "1");
+		assertEquals(4, store.getWeightedSize());
+		store.remove("c");
+		assertEquals(1, store.getWeightedSize());
+		assertEquals(1, store.getEvictionCount());
+	}
+
+	@Test
+	public void expireAfterWrite() {
+		BoundedConcurrentMap store = new BoundedConcurrentMap(Long.MAX_VALUE, null, Duration.ofSeconds(10), null);
+		store.setTicker(this.time::get);
+		store.put("a", "value");
+		this.time.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertEquals("value", store.get("a"));
+		this.time.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertNull(store.get("a"));
+		assertTrue(store.isEmpty());
+		assertEquals(1, store.getExpirationCount());
+	}
+
+	@Test
+	public void expireAfterAccess() {
+		BoundedConcurrentMap store = new BoundedConcurrentMap(Long.MAX_VALUE, null, null, Duration.ofSeconds(10));
+		store.setTicker(this.time::get);
+		store.put("a", "value");
+		store.put("b", "value");
+		for (int i = 0; i < 3; i++) {
+			this.time.addAndGet(Duration.ofSeconds(5).toNanos());
+			assertEquals("value", store.get("a"));
+		}
+		assertFalse(store.containsKey("b"));
+		store.cleanUp();
+		assertEquals(1, store.size());
+		assertEquals(1, store.getExpirationCount());
+	}
+
+	@Test
+	public void expiredEntryNotIterated() {
+		BoundedConcurrentMap store = new BoundedConcurrentMap(Long.MAX_VALUE, null, Duration.ofSeconds(10), null);
+		store.setTicker(this.time::get);
+		store.put("a", "value");
+		this.time.addAndGet(Duration.ofSeconds(10).toNanos());
+		store.put("b", "value");
+		assertEquals(1, store.entrySet().size());
+		assertEquals("b", store.keySet().iterator().next());
+	}
+
+	@Test
+	public void claimRefreshAfterWrite() {
+		BoundedConcurrentMap store = new BoundedConcurrentMap(Long.MAX_VALUE, null, null, null, Duration.ofSeconds(10));
+		store.setTicker(this.time::get);
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, store, true);
+		cache.put("a", "value");
+		assertFalse(cache.claimRefresh("a"));
+		assertFalse(cache.claimRefresh("b"));
+
+		this.time.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertTrue(cache.claimRefresh("a"));
+		assertFalse(cache.claimRefresh("a"));
+		assertEquals("value", cache.get("a", String.class));
+
+		cache.put("a", "refreshed");
+		assertFalse(cache.claimRefresh("a"));
+	}
+
+	@Test
+	public void statistics() {
+		this.cache.put("a", "value");
+		assertNotNull(this.cache.get("a"));
+		assertNull(this.cache.get("b"));
+		assertEquals("loaded", this.cache.get("c", () -> "loaded"));
+		assertEquals("loaded", this.cache.get("c", () -> "other"));
+		assertNull(this.cache.putIfAbsent("d", "value"));
+		assertNotNull(this.cache.putIfAbsent("d", "other"));
+
+		CacheStatistics statistics = this.cache.getStatistics();
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(0.5, statistics.getHitRatio(), 0.0);
+		assertEquals(3, statistics.getPutCount());
+		assertEquals(0, statistics.getEvictionCount());
+		assertEquals(3, statistics.getSize());
+
+		this.cache.resetStatistics();
+		assertEquals(0, this.cache.getHitCount());
+		assertEquals(1.0, this.cache.getHitRatio(), 0.0);
+	}
+
+	@Test
+	public void cacheManagerCreatesBoundedCaches() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+		Cache cache = cacheManager.getCache("c1");
+		assertFalse(cache instanceof BoundedConcurrentMapCache);
+
+		cacheManager.setMaximumSize(2);
+		cache = cacheManager.getCache("c1");
+		assertTrue(cache instanceof BoundedConcurrentMapCache);
+		cache.put("a", "value");
+		cache.put("b", "value");
+		cache.put("c", "value");
+		assertEquals(2, ((BoundedConcurrentMapCache) cache).getSize());
+
+		cacheManager.setExpireAfterWrite(Duration.ofMinutes(1));
+		assertNotSame(cache, cacheManager.getCache("c1"));
+	}
+
+	@Test
+	public void cacheManagerCreatesWeightBoundedCaches() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("c1");
+		cacheManager.setMaximumWeight(10);
+		cacheManager.setWeigher((key, value) -> value.toString().length());
+		Cache cache = cacheManager.getCache("c1");
+		assertTrue(cache instanceof BoundedConcurrentMapCache);
+		cache.put("a", "value");
+		cache.put("b", "value");
+		cache.put("c", "value");
+		assertEquals(2, ((BoundedConcurrentMapCache) cache).getSize());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cacheManagerRejectsMaximumWeightWithoutWeigher() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+		cacheManager.setMaximumWeight(10);
+		assertTrue(cacheManager.isBounded());
+		cacheManager.getCache("c1");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cacheManagerRejectsWeigherWithMaximumSize() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+		cacheManager.setMaximumSize(10);
+		cacheManager.setWeigher((key, value) -> 1);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cacheManagerRejectsMaximumSizeWithWeigher() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+		cacheManager.setWeigher((key, value) -> 1);
+		cacheManager.setMaximumSize(10);
+	}
+
+}
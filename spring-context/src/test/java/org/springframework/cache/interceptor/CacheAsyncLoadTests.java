@@ -0,0 +1,382 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.RefreshAheadCache;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the coalescing of asynchronous loads and the refresh-ahead of
+ * cache entries in {@link CacheAspectSupport}.
+ *
+ * @author Spring Framework Team
+ */
+public class CacheAsyncLoadTests {
+
+	private final RefreshingCache cache = new RefreshingCache("testCache");
+
+	private final CacheInterceptor interceptor = new CacheInterceptor();
+
+	private final DefaultService target = new DefaultService();
+
+	private Service service;
+
+
+	@Before
+	public void setup() {
+		this.interceptor.setCacheAsyncValues(true);
+		this.service = createService(this.interceptor);
+	}
+
+	private Service createService(CacheInterceptor interceptor) {
+		SimpleCacheManager cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(Collections.singletonList(this.cache));
+		cacheManager.afterPropertiesSet();
+		interceptor.setCacheManager(cacheManager);
+		interceptor.setCacheOperationSources(new AnnotationCacheOperationSource());
+		interceptor.afterPropertiesSet();
+		interceptor.afterSingletonsInstantiated();
+
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.addInterface(Service.class);
+		proxyFactory.addAdvice(interceptor);
+		return (Service) proxyFactory.getProxy();
+	}
+
+
+	@Test
+	public void concurrentLoadsCoalesced() throws Exception {
+		CompletableFuture<Long> first = this.service.load("a");
+		CompletableFuture<Long> second = this.service.load("a");
+		assertFalse(first.isDone());
+		assertNotSame(first, second);
+		assertEquals(1, this.target.counter.get());
+
+		this.target.pending.complete(42L);
+		assertEquals(Long.valueOf(42L), first.get());
+		assertEquals(Long.valueOf(42L), second.get());
+		assertEquals(42L, this.cache.get("a").get());
+
+		CompletableFuture<Long> third = this.service.load("a");
+		assertTrue(third.isDone());
+		assertEquals(Long.valueOf(42L), third.get());
+		assertEquals(1, this.target.counter.get());
+	}
+
+	@Test
+	public void returnedFutureCachedWithoutAsyncValueCaching() throws Exception {
+		Service service = createService(new CacheInterceptor());
+		CompletableFuture<Long> first = service.load("a");
+		CompletableFuture<Long> second = service.load("a");
+		assertSame(this.target.pending, first);
+		assertSame(first, second);
+		assertSame(first, this.cache.get("a").get());
+		assertEquals(1, this.target.counter.get());
+	}
+
+	@Test
+	public void synchronousFailureUnwrappedForJoinedCallers() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<CompletableFuture<Long>> first = executor.submit(() -> this.service.loadOrFail("a"));
+			assertTrue(this.target.entered.await(5, TimeUnit.SECONDS));
+			CompletableFuture<Long> second = this.service.loadOrFail("a");
+			this.target.release.countDown();
+			try {
+				first.get(5, TimeUnit.SECONDS);
+				fail("Should have thrown ExecutionException");
+			}
+			catch (ExecutionException ex) {
+				assertTrue(ex.getCause() instanceof IllegalStateException);
+			}
+			try {
+				second.get(5, TimeUnit.SECONDS);
+				fail("Should have thrown ExecutionException");
+			}
+			catch (ExecutionException ex) {
+				assertTrue(ex.getCause() instanceof IllegalStateException);
+				assertEquals("test", ex.getCause().getMessage());
+			}
+			assertNull(this.cache.get("a"));
+			assertEquals(1, this.target.counter.get());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void failedLoadNotCached() throws Exception {
+		CompletableFuture<Long> first = this.service.load("a");
+		this.target.pending.completeExceptionally(new IllegalStateException("test"));
+		try {
+			first.get();
+			fail("Should have thrown ExecutionException");
+		}
+		catch (ExecutionException ex) {
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+		assertNull(this.cache.get("a"));
+
+		this.target.pending = CompletableFuture.completedFuture(1L);
+		assertEquals(Long.valueOf(1L), this.service.load("a").get());
+		assertEquals(2, this.target.counter.get());
+	}
+
+	@Test
+	public void unlessEvaluatedOnProducedValue() throws Exception {
+		assertEquals(Long.valueOf(1L), this.service.loadUnless("a").get());
+		assertNull(this.cache.get("a"));
+		assertEquals(Long.valueOf(2L), this.service.loadUnless("a").get());
+		assertEquals(2, this.target.counter.get());
+	}
+
+	@Test
+	public void asyncEntryRefreshedAhead() throws Exception {
+		this.target.pending = CompletableFuture.completedFuture(1L);
+		assertEquals(Long.valueOf(1L), this.service.load("a").get());
+
+		this.target.pending = new CompletableFuture<>();
+		this.cache.dueKeys.add("a");
+		CompletableFuture<Long> stale = this.service.load("a");
+		assertTrue(stale.isDone());
+		assertEquals(Long.valueOf(1L), stale.get());
+		assertEquals(2, this.target.counter.get());
+
+		this.target.pending.complete(2L);
+		assertEquals(2L, this.cache.get("a").get());
+		assertEquals(Long.valueOf(2L), this.service.load("a").get());
+		assertEquals(2, this.target.counter.get());
+	}
+
+	@Test
+	public void monoLoadDeferredUntilSubscription() throws Exception {
+		Mono<Long> first = this.service.loadMono("a");
+		Mono<Long> second = this.service.loadMono("a");
+		assertEquals(0, this.target.counter.get());
+		assertNull(this.cache.get("a"));
+
+		CompletableFuture<Long> firstResult = first.toFuture();
+		CompletableFuture<Long> secondResult = second.toFuture();
+		assertFalse(firstResult.isDone());
+		assertEquals(1, this.target.counter.get());
+
+		this.target.pending.complete(42L);
+		assertEquals(Long.valueOf(42L), firstResult.get());
+		assertEquals(Long.valueOf(42L), secondResult.get());
+		assertEquals(42L, this.cache.get("a").get());
+
+		assertEquals(Long.valueOf(42L), this.service.loadMono("a").block());
+		assertEquals(1, this.target.counter.get());
+	}
+
+	@Test
+	public void failedMonoLoadNotCached() {
+		Mono<Long> mono = this.service.loadMono("a");
+		this.target.pending.completeExceptionally(new IllegalStateException("test"));
+		try {
+			mono.block();
+			fail("Should have thrown IllegalStateException");
+		}
+		catch (IllegalStateException ex) {
+			assertEquals("test", ex.getMessage());
+		}
+		assertNull(this.cache.get("a"));
+		assertEquals(1, this.target.counter.get());
+	}
+
+	@Test
+	public void fluxLoadDeferredAndCachedAsList() {
+		Flux<Long> flux = this.service.loadFlux("a");
+		assertEquals(0, this.target.counter.get());
+
+		assertEquals(Arrays.asList(1L, 2L), flux.collectList().block());
+		assertEquals(Arrays.asList(1L, 2L), this.cache.get("a").get());
+		assertEquals(Arrays.asList(1L, 2L), this.service.loadFlux("a").collectList().block());
+		assertEquals(1, this.target.counter.get());
+	}
+
+	@Test
+	public void monoResubscriptionSeesRefreshedEntry() {
+		Mono<Long> mono = this.service.loadMono("a");
+		this.target.pending.complete(1L);
+		assertEquals(Long.valueOf(1L), mono.block());
+
+		this.cache.put("a", 2L);
+		assertEquals(Long.valueOf(2L), mono.block());
+		assertEquals(1, this.target.counter.get());
+	}
+
+	@Test
+	public void entryRefreshedAheadWithExecutor() {
+		this.interceptor.setRefreshExecutor(Runnable::run);
+		assertEquals(1L, this.service.compute("a"));
+		assertEquals(1L, this.service.compute("a"));
+
+		this.cache.dueKeys.add("a");
+		assertEquals(1L, this.service.compute("a"));
+		assertEquals(2L, this.service.compute("a"));
+		assertEquals(2, this.target.counter.get());
+	}
+
+	@Test
+	public void entryRefreshedAheadOnOtherThreadInvokesTarget() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			this.interceptor.setRefreshExecutor(executor);
+			assertEquals(1L, this.service.compute("a"));
+
+			this.cache.dueKeys.add("a");
+			assertEquals(1L, this.service.compute("a"));
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+			assertEquals(2L, this.cache.get("a").get());
+			assertEquals(2, this.target.counter.get());
+			assertNotSame(Thread.currentThread(), this.target.lastThread);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void entryNotRefreshedAheadWithoutExecutor() {
+		assertEquals(1L, this.service.compute("a"));
+		this.cache.dueKeys.add("a");
+		assertEquals(1L, this.service.compute("a"));
+		assertEquals(1L, this.service.compute("a"));
+		assertEquals(1, this.target.counter.get());
+	}
+
+
+	public interface Service {
+
+		CompletableFuture<Long> load(String key);
+
+		CompletableFuture<Long> loadUnless(String key);
+
+		CompletableFuture<Long> loadOrFail(String key);
+
+		Mono<Long> loadMono(String key);
+
+		Flux<Long> loadFlux(String key);
+
+		long compute(String key);
+	}
+
+
+	public static class DefaultService implements Service {
+
+		private final AtomicLong counter = new AtomicLong();
+
+		private volatile CompletableFuture<Long> pending = new CompletableFuture<>();
+
+		private volatile Thread lastThread;
+
+		private final CountDownLatch entered = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<Long> load(String key) {
+			this.counter.incrementAndGet();
+			return this.pending;
+		}
+
+		@Override
+		@Cacheable(cacheNames = "testCache", sync = true, unless = "#result < 10")
+		public CompletableFuture<Long> loadUnless(String key) {
+			return CompletableFuture.completedFuture(this.counter.incrementAndGet());
+		}
+
+		@Override
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<Long> loadOrFail(String key) {
+			this.counter.incrementAndGet();
+			this.entered.countDown();
+			try {
+				this.release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			throw new IllegalStateException("test");
+		}
+
+		@Override
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Mono<Long> loadMono(String key) {
+			this.counter.incrementAndGet();
+			return Mono.fromFuture(this.pending);
+		}
+
+		@Override
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Flux<Long> loadFlux(String key) {
+			this.counter.incrementAndGet();
+			return Flux.just(1L, 2L);
+		}
+
+		@Override
+		@Cacheable("testCache")
+		public long compute(String key) {
+			this.lastThread = Thread.currentThread();
+			return this.counter.incrementAndGet();
+		}
+	}
+
+
+	private static class RefreshingCache extends ConcurrentMapCache implements RefreshAheadCache {
+
+		private final Set<Object> dueKeys = ConcurrentHashMap.newKeySet();
+
+		RefreshingCache(String name) {
+			super(name);
+		}
+
+		@Override
+		public boolean claimRefresh(Object key) {
+			return this.dueKeys.remove(key);
+		}
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.cache.AbstractCacheTests;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Spring Framework Team
+ */
+public class TieredCacheTests extends AbstractCacheTests<TieredCache> {
+
+	private ConcurrentMapCache nearCache;
+
+	private ConcurrentMapCache remoteCache;
+
+	private TieredCache cache;
+
+
+	@Before
+	public void setUp() {
+		this.nearCache = new ConcurrentMapCache(CACHE_NAME);
+		this.remoteCache = new ConcurrentMapCache(CACHE_NAME);
+		this.cache = new TieredCache(this.nearCache, this.remoteCache);
+	}
+
+	@Override
+	protected TieredCache getCache() {
+		return this.cache;
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.remoteCache.getNativeCache();
+	}
+
+
+	@Test
+	public void readPopulatesNearCache() {
+		this.remoteCache.put("key", "value");
+		assertNull(this.nearCache.get("key"));
+		assertEquals("value", this.cache.get("key", String.class));
+		assertEquals("value", this.nearCache.get("key", String.class));
+
+		this.remoteCache.put("key", "changed");
+		assertEquals("value", this.cache.get("key", String.class));
+		assertEquals(1, this.cache.getNearHitCount());
+		assertEquals(1, this.cache.getRemoteHitCount());
+		assertEquals(0, this.cache.getMissCount());
+	}
+
+	@Test
+	public void writeThrough() {
+		this.cache.put("key", "value");
+		assertEquals("value", this.remoteCache.get("key", String.class));
+		assertEquals("value", this.nearCache.get("key", String.class));
+	}
+
+	@Test
+	public void writeInvalidatesNearCache() {
+		TieredCache cache = new TieredCache(this.nearCache, this.remoteCache, TieredCache.WriteMode.INVALIDATE);
+		this.nearCache.put("key", "stale");
+		cache.put("key", "value");
+		assertEquals("value", this.remoteCache.get("key", String.class));
+		assertNull(this.nearCache.get("key"));
+		assertEquals("value", cache.get("key", String.class));
+		assertEquals(1, cache.getRemoteHitCount());
+	}
+
+	@Test
+	public void putIfAbsentPopulatesNearCacheWithExistingValue() {
+		this.remoteCache.put("key", "existing");
+		assertEquals("existing", this.cache.putIfAbsent("key", "value").get());
+		assertEquals("existing", this.nearCache.get("key", String.class));
+	}
+
+	@Test
+	public void evictNearOnly() {
+		this.cache.put("key", "value");
+		this.remoteCache.put("key", "changed");
+		this.cache.evictNear("key");
+		assertEquals("changed", this.cache.get("key", String.class));
+
+		this.cache.clearNear();
+		assertNull(this.nearCache.get("key"));
+		assertEquals("changed", this.remoteCache.get("key", String.class));
+	}
+
+	@Test
+	public void readDoesNotPopulateNearCacheAfterConcurrentWrite() {
+		TieredCache[] tieredCache = new TieredCache[1];
+		ConcurrentMapCache remoteCache = new ConcurrentMapCache(CACHE_NAME) {
+			@Override
+			public ValueWrapper get(Object key) {
+				ValueWrapper wrapper = super.get(key);
+				// Concurrent write between the remote read and the near cache update
+				tieredCache[0].put(key, "changed");
+				return wrapper;
+			}
+		};
+		remoteCache.put("key", "value");
+		tieredCache[0] = new TieredCache(this.nearCache, remoteCache);
+
+		assertEquals("value", tieredCache[0].get("key", String.class));
+		assertNull(this.nearCache.get("key"));
+		assertEquals("changed", remoteCache.getNativeCache().get("key"));
+	}
+
+	@Test
+	public void loadDoesNotPopulateNearCacheAfterConcurrentEviction() {
+		assertEquals("value", this.cache.get("key", () -> {
+			// Remote eviction by another process, propagated while loading
+			this.cache.evictNear("key");
+			return "value";
+		}));
+		assertNull(this.nearCache.get("key"));
+	}
+
+	@Test
+	public void nearStatistics() {
+		this.cache.get("key", () -> "value");
+		this.cache.get("key", () -> "other");
+		this.nearCache.clear();
+		this.cache.get("key");
+		this.cache.get("missing");
+
+		CacheStatistics statistics = this.cache.getNearStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(3, statistics.getMissCount());
+		assertEquals(1, this.cache.getRemoteHitCount());
+		assertEquals(2, this.cache.getMissCount());
+	}
+
+	@Test
+	public void cacheManagerStacksNearCaches() {
+		ConcurrentMapCacheManager nearCacheManager = new ConcurrentMapCacheManager("c1");
+		ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager("c1", "c2");
+		TieredCacheManager cacheManager = new TieredCacheManager(nearCacheManager, remoteCacheManager);
+		cacheManager.afterPropertiesSet();
+
+		assertEquals(Arrays.asList("c1", "c2"),
+				cacheManager.getCacheNames().stream().sorted().collect(Collectors.toList()));
+		Cache c1 = cacheManager.getCache("c1");
+		assertTrue(c1 instanceof TieredCache);
+		assertSame(nearCacheManager.getCache("c1"), ((TieredCache) c1).getNearCache());
+		assertSame(remoteCacheManager.getCache("c2"), cacheManager.getCache("c2"));
+		assertNull(cacheManager.getCache("c3"));
+	}
+
+}
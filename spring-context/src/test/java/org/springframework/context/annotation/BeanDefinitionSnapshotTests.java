@@ -0,0 +1,171 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.tests.sample.beans.TestBean;
+import org.springframework.util.ClassUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BeanDefinitionSnapshotWriter} and {@link BeanDefinitionSnapshotReader}.
+ *
+ * @author Spring Framework Team
+ */
+public class BeanDefinitionSnapshotTests {
+
+	@Test
+	public void loadSnapshotOfConfigurationClass() throws IOException {
+		Resource snapshot = writeSnapshot(new StandardEnvironment(), SnapshotConfig.class);
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		assertEquals(5, ctx.loadBeanDefinitionSnapshot(snapshot));
+		ctx.refresh();
+
+		TestBean spouse = ctx.getBean("spouse", TestBean.class);
+		TestBean person = ctx.getBean("person", TestBean.class);
+		assertSame(spouse, person.getSpouse());
+		assertEquals("person", person.getName());
+		assertTrue(ctx.getBeanFactory().getBeanDefinition("spouse").isLazyInit());
+		assertTrue(ClassUtils.isCglibProxy(ctx.getBean(SnapshotConfig.class)));
+		assertFalse(ctx.containsBean("profileBean"));
+
+		AnnotationMetadata importMetadata = ctx.getBean(ImportAwareSnapshotConfig.class).importMetadata;
+		assertNotNull(importMetadata);
+		assertEquals(SnapshotConfig.class.getName(), importMetadata.getClassName());
+		assertEquals("snapshot", importMetadata.getAnnotationAttributes(EnableImportAwareConfig.class.getName()).get("value"));
+		assertEquals("imported", ctx.getBean("importedBean", TestBean.class).getName());
+		ctx.close();
+	}
+
+	@Test
+	public void loadSnapshotWithActiveProfile() throws IOException {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.setActiveProfiles("snapshot");
+		Resource snapshot = writeSnapshot(environment, SnapshotConfig.class);
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getEnvironment().setActiveProfiles("snapshot");
+		ctx.loadBeanDefinitionSnapshot(snapshot);
+		ctx.refresh();
+		assertTrue(ctx.containsBean("profileBean"));
+		ctx.close();
+	}
+
+	@Test(expected = BeanDefinitionStoreException.class)
+	public void loadSnapshotWithDifferentProfile() throws IOException {
+		Resource snapshot = writeSnapshot(new StandardEnvironment(), SnapshotConfig.class);
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getEnvironment().setActiveProfiles("snapshot");
+		ctx.loadBeanDefinitionSnapshot(snapshot);
+	}
+
+	@Test(expected = BeanDefinitionStoreException.class)
+	public void writeSnapshotWithPropertySource() throws IOException {
+		writeSnapshot(new StandardEnvironment(), PropertySourceConfig.class);
+	}
+
+	@Test
+	public void snapshotPreservesInfrastructureRole() throws IOException {
+		Resource snapshot = writeSnapshot(new StandardEnvironment(), SnapshotConfig.class);
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.loadBeanDefinitionSnapshot(snapshot);
+		assertEquals(BeanDefinition.ROLE_INFRASTRUCTURE, ctx.getBeanDefinition("importedBean").getRole());
+		assertEquals(BeanDefinition.ROLE_APPLICATION, ctx.getBeanDefinition("person").getRole());
+	}
+
+
+	private static Resource writeSnapshot(StandardEnvironment environment, Class<?>... componentClasses)
+			throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new BeanDefinitionSnapshotWriter(environment).write(out, componentClasses);
+		return new ByteArrayResource(out.toByteArray());
+	}
+
+
+	@Configuration
+	@EnableImportAwareConfig("snapshot")
+	static class SnapshotConfig {
+
+		@Bean
+		public TestBean person() {
+			TestBean person = new TestBean("person");
+			person.setSpouse(spouse());
+			return person;
+		}
+
+		@Bean
+		@Lazy
+		public TestBean spouse() {
+			return new TestBean("spouse");
+		}
+
+		@Bean
+		@Profile("snapshot")
+		public TestBean profileBean() {
+			return new TestBean("profile");
+		}
+	}
+
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Import(ImportAwareSnapshotConfig.class)
+	@interface EnableImportAwareConfig {
+
+		String value();
+	}
+
+
+	@Configuration
+	static class ImportAwareSnapshotConfig implements ImportAware {
+
+		AnnotationMetadata importMetadata;
+
+		@Override
+		public void setImportMetadata(AnnotationMetadata importMetadata) {
+			this.importMetadata = importMetadata;
+		}
+
+		@Bean
+		@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+		public TestBean importedBean() {
+			return new TestBean("imported");
+		}
+	}
+
+
+	@Configuration
+	@PropertySource("classpath:org/springframework/context/annotation/p1.properties")
+	static class PropertySourceConfig {
+	}
+
+}
@@ -16,8 +16,12 @@
 
 package org.springframework.context.annotation;
 
+import java.io.File;
+import java.io.FileReader;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -25,6 +29,7 @@ import example.profilescan.DevComponent;
 import example.profilescan.ProfileAnnotatedComponent;
 import example.profilescan.ProfileMetaAnnotatedComponent;
 import example.scannable.AutowiredQualifierFooService;
+import example.scannable.CustomAnnotations;
 import example.scannable.CustomStereotype;
 import example.scannable.DefaultNamedComponent;
 import example.scannable.FooDao;
@@ -38,7 +43,9 @@ import example.scannable.ServiceInvocationCounter;
 import example.scannable.StubFooDao;
 import example.scannable.sub.BarComponent;
 import org.aspectj.lang.annotation.Aspect;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -47,6 +54,7 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.FileCopyUtils;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
@@ -74,6 +82,9 @@ public class ClassPathScanningCandidateComponentProviderTests {
 			ClassPathScanningCandidateComponentProviderTests.class.getClassLoader(),
 			new ClassPathResource("spring.components", NamedComponent.class));
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 
 	@Test
 	public void defaultsWithScan() {
@@ -144,6 +155,70 @@ public class ClassPathScanningCandidateComponentProviderTests {
 		assertEquals(0, candidates.size());
 	}
 
+	@Test
+	public void parallelScanFindsSameCandidatesInSameOrder() {
+		String basePackage = getClass().getPackage().getName();
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		List<String> expected = getBeanClassNames(provider.findCandidateComponents(basePackage));
+
+		ClassPathScanningCandidateComponentProvider parallelProvider = new ClassPathScanningCandidateComponentProvider(true);
+		parallelProvider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		parallelProvider.setScanParallelism(4);
+		assertEquals(4, parallelProvider.getScanParallelism());
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, getBeanClassNames(parallelProvider.findCandidateComponents(basePackage)));
+	}
+
+	@Test
+	public void scanWithCacheFile() throws Exception {
+		File cacheFile = new File(this.temporaryFolder.getRoot(), "scan.cache");
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setScanCacheFile(cacheFile);
+		testDefault(provider, ScannedGenericBeanDefinition.class);
+		assertTrue(cacheFile.exists());
+		String content = FileCopyUtils.copyToString(new FileReader(cacheFile));
+		assertThat(content, containsString("/" + FooDao.class.getSimpleName() + ".class"));
+		assertThat(content, not(containsString("/" + FooServiceImpl.class.getSimpleName() + ".class")));
+
+		ClassPathScanningCandidateComponentProvider cachedProvider = new ClassPathScanningCandidateComponentProvider(true);
+		cachedProvider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		cachedProvider.setScanCacheFile(cacheFile);
+		testDefault(cachedProvider, ScannedGenericBeanDefinition.class);
+	}
+
+	@Test
+	public void scanWithCacheFileAndCustomFilter() throws Exception {
+		File cacheFile = new File(this.temporaryFolder.getRoot(), "scan.cache");
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setScanCacheFile(cacheFile);
+		testDefault(provider, ScannedGenericBeanDefinition.class);
+
+		ClassPathScanningCandidateComponentProvider customProvider = new ClassPathScanningCandidateComponentProvider(false);
+		customProvider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		customProvider.setScanCacheFile(cacheFile);
+		customProvider.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*CustomAnnotations")));
+		Set<BeanDefinition> candidates = customProvider.findCandidateComponents(TEST_BASE_PACKAGE);
+		assertTrue(containsBeanClass(candidates, CustomAnnotations.class));
+		assertEquals(1, candidates.size());
+	}
+
+	private List<String> getBeanClassNames(Set<BeanDefinition> candidates) {
+		List<String> beanClassNames = new ArrayList<>();
+		for (BeanDefinition candidate : candidates) {
+			beanClassNames.add(candidate.getBeanClassName());
+		}
+		return beanClassNames;
+	}
+
 	@Test
 	public void customFiltersFollowedByResetUseIndex() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
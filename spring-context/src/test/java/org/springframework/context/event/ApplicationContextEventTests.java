@@ -16,6 +16,10 @@
 
 package org.springframework.context.event;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -29,6 +33,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -206,6 +211,60 @@ public class ApplicationContextEventTests extends AbstractApplicationEventListen
 		assertEquals(2, listener1.seenEvents.size());
 	}
 
+	@Test
+	public void listenerRegistrationUpdatesCachedListeners() {
+		MyOrderedListener1 listener1 = new MyOrderedListener1();
+		MyOrderedListener2 listener2 = new MyOrderedListener2(listener1);
+		MyEvent event = new MyEvent(this);
+		ResolvableType eventType = ResolvableType.forInstance(event);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.addApplicationListener(listener2);
+		assertEquals(Collections.singletonList(listener2),
+				new ArrayList<>(smc.getApplicationListeners(event, eventType)));
+
+		smc.addApplicationListener(listener1);
+		assertEquals(Arrays.asList(listener1, listener2),
+				new ArrayList<>(smc.getApplicationListeners(event, eventType)));
+
+		smc.removeApplicationListener(listener2);
+		Collection<ApplicationListener<?>> listeners = smc.getApplicationListeners(event, eventType);
+		assertEquals(Collections.singletonList(listener1), new ArrayList<>(listeners));
+		assertSame(listeners, smc.getApplicationListeners(event, eventType));
+
+		smc.multicastEvent(event);
+		assertEquals(1, listener1.seenEvents.size());
+	}
+
+	@Test
+	public void removeListenerInstanceStillRegisteredAsBean() {
+		MyOrderedListener1 listener = new MyOrderedListener1();
+		MyEvent event = new MyEvent(this);
+		ResolvableType eventType = ResolvableType.forInstance(event);
+
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		bf.registerSingleton("listener", listener);
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster(bf);
+		smc.addApplicationListenerBean("listener");
+		smc.addApplicationListener(listener);
+		assertEquals(Collections.singletonList(listener),
+				new ArrayList<>(smc.getApplicationListeners(event, eventType)));
+
+		smc.removeApplicationListener(listener);
+		assertEquals(Collections.singletonList(listener),
+				new ArrayList<>(smc.getApplicationListeners(event, eventType)));
+
+		smc.multicastEvent(event);
+		assertEquals(1, listener.seenEvents.size());
+	}
+
+	@Test
+	public void payloadEventTypeSharedPerPayloadClass() {
+		ResolvableType eventType = new PayloadApplicationEvent<>(this, "a").getResolvableType();
+		assertSame(eventType, new PayloadApplicationEvent<>(this, "b").getResolvableType());
+		assertEquals(ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, String.class), eventType);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void proxiedListeners() {
@@ -296,7 +355,8 @@ public class ApplicationContextEventTests extends AbstractApplicationEventListen
 		assertTrue(listener1.seenEvents.contains(event4));
 
 		AbstractApplicationEventMulticaster multicaster = context.getBean(AbstractApplicationEventMulticaster.class);
-		assertEquals(2, multicaster.retrieverCache.size());
+		// ContextRefreshedEvent entry retained across the lazy registration of listener2
+		assertEquals(3, multicaster.retrieverCache.size());
 
 		context.close();
 	}
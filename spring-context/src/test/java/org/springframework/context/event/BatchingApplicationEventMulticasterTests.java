@@ -0,0 +1,263 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.BatchingApplicationEventMulticaster.OverflowPolicy;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.stereotype.Component;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BatchingApplicationEventMulticaster}.
+ *
+ * @author Spring Framework Team
+ */
+public class BatchingApplicationEventMulticasterTests {
+
+	private final QueueingExecutor executor = new QueueingExecutor();
+
+	private final BatchingApplicationEventMulticaster multicaster = new BatchingApplicationEventMulticaster();
+
+
+	@Test
+	public void singleTaskPerListener() {
+		EventCollector listener = new EventCollector();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListener(listener);
+
+		TestEvent event1 = new TestEvent(this);
+		TestEvent event2 = new TestEvent(this);
+		this.multicaster.multicastEvent(event1);
+		this.multicaster.multicastEvent(event2);
+		assertEquals(1, this.executor.tasks.size());
+		assertEquals(2, this.multicaster.getQueueDepth(listener));
+		assertEquals(2, this.multicaster.getQueueDepth());
+		assertTrue(listener.events.isEmpty());
+
+		this.executor.runAll();
+		assertEquals(Arrays.asList(event1, event2), listener.events);
+		assertEquals(0, this.multicaster.getQueueDepth());
+	}
+
+	@Test
+	public void releaseDrainedQueues() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		RootBeanDefinition bd = new RootBeanDefinition(EventCollector.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		beanFactory.registerBeanDefinition("listener", bd);
+		BatchingApplicationEventMulticaster multicaster = new BatchingApplicationEventMulticaster(beanFactory);
+		multicaster.setTaskExecutor(this.executor);
+		multicaster.addApplicationListenerBean("listener");
+
+		multicaster.multicastEvent(new TestEvent(this));
+		multicaster.multicastEvent(new TestEvent(this));
+		assertEquals(2, this.executor.tasks.size());
+		assertEquals(2, getListenerQueues(multicaster).size());
+
+		this.executor.runAll();
+		assertEquals(0, multicaster.getQueueDepth());
+		assertTrue(getListenerQueues(multicaster).isEmpty());
+	}
+
+	@Test
+	public void batchListenerReceivesBatches() {
+		BatchCollector listener = new BatchCollector();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setMaxBatchSize(2);
+		this.multicaster.addApplicationListener(listener);
+
+		for (int i = 0; i < 5; i++) {
+			this.multicaster.multicastEvent(new TestEvent(this));
+		}
+		this.executor.runAll();
+		assertEquals(3, listener.batches.size());
+		assertEquals(2, listener.batches.get(0).size());
+		assertEquals(2, listener.batches.get(1).size());
+		assertEquals(1, listener.batches.get(2).size());
+	}
+
+	@Test
+	public void discardWhenQueueIsFull() {
+		EventCollector listener = new EventCollector();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(2);
+		this.multicaster.setOverflowPolicy(OverflowPolicy.DISCARD);
+		this.multicaster.addApplicationListener(listener);
+
+		TestEvent event1 = new TestEvent(this);
+		TestEvent event2 = new TestEvent(this);
+		this.multicaster.multicastEvent(event1);
+		this.multicaster.multicastEvent(event2);
+		this.multicaster.multicastEvent(new TestEvent(this));
+		assertEquals(1, this.multicaster.getDiscardedEventCount());
+
+		this.executor.runAll();
+		assertEquals(Arrays.asList(event1, event2), listener.events);
+	}
+
+	@Test
+	public void discardOldestWhenQueueIsFull() {
+		EventCollector listener = new EventCollector();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(2);
+		this.multicaster.setOverflowPolicy(OverflowPolicy.DISCARD_OLDEST);
+		this.multicaster.addApplicationListener(listener);
+
+		this.multicaster.multicastEvent(new TestEvent(this));
+		TestEvent event2 = new TestEvent(this);
+		TestEvent event3 = new TestEvent(this);
+		this.multicaster.multicastEvent(event2);
+		this.multicaster.multicastEvent(event3);
+		assertEquals(1, this.multicaster.getDiscardedEventCount());
+
+		this.executor.runAll();
+		assertEquals(Arrays.asList(event2, event3), listener.events);
+	}
+
+	@Test
+	public void callerRunsWhenQueueIsFull() {
+		EventCollector listener = new EventCollector();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(1);
+		this.multicaster.setOverflowPolicy(OverflowPolicy.CALLER_RUNS);
+		this.multicaster.addApplicationListener(listener);
+
+		TestEvent event1 = new TestEvent(this);
+		TestEvent event2 = new TestEvent(this);
+		this.multicaster.multicastEvent(event1);
+		this.multicaster.multicastEvent(event2);
+		assertEquals(Arrays.asList(event2), listener.events);
+
+		this.executor.runAll();
+		assertEquals(Arrays.asList(event2, event1), listener.events);
+		assertEquals(0, this.multicaster.getDiscardedEventCount());
+	}
+
+	@Test
+	public void synchronousWithoutTaskExecutor() {
+		EventCollector listener = new EventCollector();
+		this.multicaster.addApplicationListener(listener);
+
+		TestEvent event = new TestEvent(this);
+		this.multicaster.multicastEvent(event);
+		assertEquals(Arrays.asList(event), listener.events);
+	}
+
+	@Test
+	public void batchEventListenerMethod() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		this.multicaster.setTaskExecutor(this.executor);
+		context.getBeanFactory().registerSingleton(
+				AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, this.multicaster);
+		context.register(BatchEventListener.class);
+		context.refresh();
+		this.executor.runAll();
+
+		context.publishEvent("one");
+		context.publishEvent("two");
+		context.publishEvent(new TestEvent(this));
+		this.executor.runAll();
+
+		BatchEventListener listener = context.getBean(BatchEventListener.class);
+		assertEquals(1, listener.batches.size());
+		assertEquals(Arrays.asList("one", "two"), listener.batches.get(0));
+		context.close();
+	}
+
+
+	@SuppressWarnings("serial")
+	static class TestEvent extends ApplicationEvent {
+
+		TestEvent(Object source) {
+			super(source);
+		}
+	}
+
+
+	private static Map<?, ?> getListenerQueues(BatchingApplicationEventMulticaster multicaster) {
+		return (Map<?, ?>) new DirectFieldAccessor(multicaster).getPropertyValue("listenerQueues");
+	}
+
+
+	static class EventCollector implements ApplicationListener<TestEvent> {
+
+		final List<TestEvent> events = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvent(TestEvent event) {
+			this.events.add(event);
+		}
+	}
+
+
+	static class BatchCollector implements BatchApplicationListener<TestEvent> {
+
+		final List<List<TestEvent>> batches = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvents(List<TestEvent> events) {
+			this.batches.add(new ArrayList<>(events));
+		}
+	}
+
+
+	@Component
+	static class BatchEventListener {
+
+		final List<List<String>> batches = new ArrayList<>();
+
+		@EventListener(batch = true)
+		public void handle(List<String> payloads) {
+			this.batches.add(new ArrayList<>(payloads));
+		}
+	}
+
+
+	static class QueueingExecutor implements Executor {
+
+		final LinkedList<Runnable> tasks = new LinkedList<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.tasks.add(command);
+		}
+
+		void runAll() {
+			while (!this.tasks.isEmpty()) {
+				this.tasks.removeFirst().run();
+			}
+		}
+	}
+
+}
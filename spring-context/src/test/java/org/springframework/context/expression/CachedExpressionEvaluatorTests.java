@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
@@ -64,6 +65,53 @@ public class CachedExpressionEvaluatorTests {
 		assertEquals("Cached expression should be based on type", 2, expressionEvaluator.testCache.size());
 	}
 
+	@Test
+	public void shareExpressionBetweenCaches() {
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+
+		Expression expression = expressionEvaluator.getSharedTestExpression("1 + 1", method, getClass());
+		assertSame(expression, expressionEvaluator.getSharedTestExpression("1 + 1", method, getClass()));
+		assertSame(expression, expressionEvaluator.getTestExpression("1 + 1", method, getClass()));
+		hasParsedExpression("1 + 1");
+	}
+
+	@Test
+	public void clearSharedExpressions() {
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = expressionEvaluator.getSharedTestExpression("2 + 2", method, getClass());
+		expressionEvaluator.clearExpressions();
+
+		assertNotSame(expression, expressionEvaluator.getSharedTestExpression("2 + 2", method, getClass()));
+		verify(expressionEvaluator.getParser(), times(2)).parseExpression("2 + 2");
+	}
+
+	@Test
+	public void clearSharedExpressionsOfOwnEvaluatorOnly() {
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		TestExpressionEvaluator other = new TestExpressionEvaluator(expressionEvaluator.getParser());
+		Expression expression = other.getSharedTestExpression("3 + 3", method, getClass());
+		expressionEvaluator.getSharedTestExpression("3 + 3", method, getClass());
+		expressionEvaluator.clearExpressions();
+
+		assertSame(expression, other.getSharedTestExpression("3 + 3", method, getClass()));
+		verify(expressionEvaluator.getParser(), times(2)).parseExpression("3 + 3");
+	}
+
+	@Test
+	public void invalidExpressionCacheLimit() {
+		SpringProperties.setProperty(CachedExpressionEvaluator.EXPRESSION_CACHE_LIMIT_PROPERTY_NAME, "many");
+		try {
+			new TestExpressionEvaluator();
+			fail("Should have thrown IllegalStateException");
+		}
+		catch (IllegalStateException ex) {
+			assertTrue(ex.getMessage().contains(CachedExpressionEvaluator.EXPRESSION_CACHE_LIMIT_PROPERTY_NAME));
+		}
+		finally {
+			SpringProperties.setProperty(CachedExpressionEvaluator.EXPRESSION_CACHE_LIMIT_PROPERTY_NAME, null);
+		}
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
@@ -76,10 +124,18 @@ public class CachedExpressionEvaluatorTests {
 			super(mockSpelExpressionParser());
 		}
 
+		public TestExpressionEvaluator(SpelExpressionParser parser) {
+			super(parser);
+		}
+
 		public Expression getTestExpression(String expression, Method method, Class<?> type) {
 			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
 		}
 
+		public Expression getSharedTestExpression(String expression, Method method, Class<?> type) {
+			return getExpression(new AnnotatedElementKey(method, type), expression);
+		}
+
 		private static SpelExpressionParser mockSpelExpressionParser() {
 			SpelExpressionParser parser = new SpelExpressionParser();
 			return spy(parser);
@@ -125,6 +125,32 @@ public class MethodBasedEvaluationContextTests {
 		assertArrayEquals(new Object[] {"hello", "hi"}, (Object[]) context.lookupVariable("vararg"));
 	}
 
+	@Test
+	public void argumentsResolvedWithoutLoadingVariables() {
+		Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", String.class, Boolean.class);
+		MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+				this, method, new Object[] {"test", true}, this.paramDiscover) {
+			@Override
+			protected void lazyLoadArguments() {
+				throw new IllegalStateException("Should not load arguments for parameter lookups");
+			}
+		};
+
+		assertEquals("test", context.lookupVariable("foo"));
+		assertEquals(true, context.lookupVariable("p1"));
+		assertEquals(true, context.lookupVariable("a1"));
+	}
+
+	@Test
+	public void explicitVariableTakesPrecedence() {
+		Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", String.class, Boolean.class);
+		MethodBasedEvaluationContext context = createEvaluationContext(method, "test", true);
+		context.setVariable("foo", "override");
+
+		assertEquals("override", context.lookupVariable("foo"));
+		assertEquals("test", context.lookupVariable("a0"));
+	}
+
 	private MethodBasedEvaluationContext createEvaluationContext(Method method, Object... args) {
 		return new MethodBasedEvaluationContext(this, method, args, this.paramDiscover);
 	}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Benchmarks for {@link AnnotationUtils#findAnnotation} and
+ * {@link AnnotatedElementUtils#findMergedAnnotation} on directly present,
+ * meta-present and inherited annotations.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AnnotationUtilsBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public Method annotatedMethod;
+
+		public Method inheritedMethod;
+
+		public Method plainMethod;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.annotatedMethod = ClassUtils.getMethod(AnnotatedClass.class, "annotated");
+			this.inheritedMethod = ClassUtils.getMethod(AnnotatedClass.class, "inherited");
+			this.plainMethod = ClassUtils.getMethod(AnnotatedClass.class, "plain");
+		}
+	}
+
+
+	@Benchmark
+	public Object findDirectAnnotationOnClass() {
+		return AnnotationUtils.findAnnotation(AnnotatedClass.class, Component.class);
+	}
+
+	@Benchmark
+	public Object findMetaAnnotationOnClass() {
+		return AnnotationUtils.findAnnotation(AnnotatedClass.class, Indexed.class);
+	}
+
+	@Benchmark
+	public Object findAnnotationOnInterface() {
+		return AnnotationUtils.findAnnotation(AnnotatedClass.class, Marker.class);
+	}
+
+	@Benchmark
+	public Object findMissingAnnotationOnClass() {
+		return AnnotationUtils.findAnnotation(AnnotatedClass.class, Deprecated.class);
+	}
+
+	@Benchmark
+	public Object findAnnotationOnMethod(BenchmarkState state) {
+		return AnnotationUtils.findAnnotation(state.annotatedMethod, Transactional.class);
+	}
+
+	@Benchmark
+	public Object findAnnotationOnInterfaceMethod(BenchmarkState state) {
+		return AnnotationUtils.findAnnotation(state.inheritedMethod, Transactional.class);
+	}
+
+	@Benchmark
+	public Object findMissingAnnotationOnMethod(BenchmarkState state) {
+		return AnnotationUtils.findAnnotation(state.plainMethod, Transactional.class);
+	}
+
+	@Benchmark
+	public Object findMergedAnnotationOnClass() {
+		return AnnotatedElementUtils.findMergedAnnotation(AnnotatedClass.class, Component.class);
+	}
+
+	@Benchmark
+	public Object findMergedMetaAnnotationOnMethod(BenchmarkState state) {
+		return AnnotatedElementUtils.findMergedAnnotation(state.annotatedMethod, Transactional.class);
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@interface Indexed {
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Indexed
+	@interface Component {
+
+		String value() default "";
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Inherited
+	@interface Marker {
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+	@interface Transactional {
+
+		@AliasFor("transactionManager")
+		String value() default "";
+
+		@AliasFor("value")
+		String transactionManager() default "";
+
+		boolean readOnly() default false;
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	@Transactional(readOnly = true)
+	@interface ReadOnlyTransactional {
+
+		@AliasFor(annotation = Transactional.class)
+		String transactionManager() default "";
+	}
+
+
+	@Marker
+	interface AnnotatedInterface {
+
+		@Transactional("tm")
+		void inherited();
+	}
+
+
+	@Component("annotated")
+	static class AnnotatedClass implements AnnotatedInterface {
+
+		@ReadOnlyTransactional(transactionManager = "tm")
+		public void annotated() {
+		}
+
+		@Override
+		public void inherited() {
+		}
+
+		public void plain() {
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Base class for bytecode-generated invokers of a single method, calling the
+ * method directly instead of going through {@link Method#invoke}. Used for
+ * handler methods that get invoked over and over again, e.g. by the
+ * {@code InvocableHandlerMethod} variants in the web and messaging modules.
+ *
+ * <p>Obtain an invoker through {@link #forMethod(Method)}, which generates
+ * the invoker class on first request and caches it per method. Generated
+ * subclasses implement {@link #doInvoke} by casting the target and the
+ * arguments to the declared types of the method.
+ *
+ * <p>{@link #invoke} behaves like {@link Method#invoke}: any exception thrown
+ * by the method is wrapped in an {@link InvocationTargetException}, and calls
+ * with a target or arguments that do not match the method signature (e.g.
+ * requiring primitive widening) are delegated to reflection.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see MethodInvokerCompiler
+ */
+public abstract class CompiledMethodInvoker {
+
+	/**
+	 * System property that instructs Spring to not generate bytecode for invoking
+	 * handler methods: "spring.methodinvoker.compile.ignore", with a value of "true"
+	 * always using reflection.
+	 * <p>The default is "false", generating a {@code CompiledMethodInvoker} for
+	 * each eligible method on first request.
+	 * @see #forMethod(Method)
+	 */
+	public static final String IGNORE_COMPILATION_PROPERTY_NAME = "spring.methodinvoker.compile.ignore";
+
+	private static final boolean shouldIgnoreCompilation =
+			SpringProperties.getFlag(IGNORE_COMPILATION_PROPERTY_NAME);
+
+
+	private final Method method;
+
+	private final Class<?>[] parameterTypes;
+
+	private final boolean isStatic;
+
+
+	/**
+	 * Create a new invoker for the given method. Called by the generated subclasses.
+	 * @param method the method to invoke
+	 */
+	protected CompiledMethodInvoker(Method method) {
+		Assert.notNull(method, "Method must not be null");
+		this.method = method;
+		this.parameterTypes = method.getParameterTypes();
+		this.isStatic = Modifier.isStatic(method.getModifiers());
+	}
+
+
+	/**
+	 * Return the method that this invoker calls.
+	 */
+	public final Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Invoke the method on the given target with the given arguments,
+	 * with the same semantics as {@link Method#invoke}.
+	 * @param target the target instance, or {@code null} for a static method
+	 * @param args the arguments for the method
+	 * @return the value returned by the method, boxed if primitive,
+	 * or {@code null} for a {@code void} method
+	 * @throws IllegalAccessException if thrown by {@link Method#invoke}
+	 * when delegating to reflection
+	 * @throws IllegalArgumentException if the target or the arguments do not
+	 * match the method signature
+	 * @throws InvocationTargetException if the method throws an exception
+	 */
+	@Nullable
+	public final Object invoke(@Nullable Object target, Object... args)
+			throws IllegalAccessException, InvocationTargetException {
+
+		if (!isDirectlyInvocable(target, args)) {
+			return this.method.invoke(target, args);
+		}
+		try {
+			return doInvoke(target, args);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Invoke the method directly. Implemented by the generated subclasses.
+	 * @param target the target instance, or {@code null} for a static method
+	 * @param args the arguments, already matching the parameter types
+	 * @return the value returned by the method, boxed if primitive,
+	 * or {@code null} for a {@code void} method
+	 * @throws Throwable any exception thrown by the method
+	 */
+	@Nullable
+	protected abstract Object doInvoke(@Nullable Object target, Object[] args) throws Throwable;
+
+	private boolean isDirectlyInvocable(@Nullable Object target, Object[] args) {
+		if (!this.isStatic && !this.method.getDeclaringClass().isInstance(target)) {
+			return false;
+		}
+		if (args.length != this.parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			if (!ClassUtils.isAssignableValue(this.parameterTypes[i], args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "CompiledMethodInvoker for " + this.method.toGenericString();
+	}
+
+
+	/**
+	 * Return a compiled invoker for the given method, generating it on first
+	 * request for the method.
+	 * <p>Only public methods declared on public classes, with public parameter
+	 * types, are eligible for compilation.
+	 * @param method the method to invoke
+	 * @return the compiled invoker, or {@code null} if the method is not
+	 * eligible or compilation is switched off
+	 * @see #IGNORE_COMPILATION_PROPERTY_NAME
+	 */
+	@Nullable
+	public static CompiledMethodInvoker forMethod(Method method) {
+		if (shouldIgnoreCompilation) {
+			return null;
+		}
+		return MethodInvokerCompiler.getInvoker(method);
+	}
+
+}
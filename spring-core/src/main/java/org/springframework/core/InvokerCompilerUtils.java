@@ -0,0 +1,196 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Shared infrastructure for generating invoker classes with the ASM library,
+ * calling methods directly instead of going through reflection: class naming,
+ * class definition in a ClassLoader per user ClassLoader, eligibility checks,
+ * and emitters for boxing and unboxing method arguments and return values.
+ *
+ * <p>Mainly for internal use within the framework, e.g. by
+ * {@link CompiledMethodInvoker} as well as the property and joinpoint
+ * invokers in the beans and AOP modules.
+ *
+ * @author Juergen Hoeller
+ * @since 5.2
+ */
+public abstract class InvokerCompilerUtils {
+
+	/** ClassLoaders for generated classes, keyed by the ClassLoader of the invoked classes. */
+	private static final Map<ClassLoader, InvokerClassLoader> classLoaders = new ConcurrentReferenceHashMap<>();
+
+	private static final AtomicInteger suffixId = new AtomicInteger(1);
+
+
+	/**
+	 * Determine whether classes generated for the given ClassLoader are able to
+	 * extend the given invoker base class.
+	 * @param invokerClass the base class of the generated invokers
+	 * @param classLoader the ClassLoader of the invoked classes (may be {@code null}
+	 * for the bootstrap ClassLoader, which is never supported)
+	 */
+	public static boolean isSupported(Class<?> invokerClass, @Nullable ClassLoader classLoader) {
+		return (classLoader != null && ClassUtils.isVisible(invokerClass, classLoader));
+	}
+
+	/**
+	 * Determine whether generated code is able to call the given method directly:
+	 * i.e. whether the method is public and non-synthetic, and all of its parameter
+	 * types (or array component types) are primitive or public.
+	 * <p>Checks on the declaring class or the static modifier are left to the caller.
+	 * @param method the method to check
+	 */
+	public static boolean isCompilable(Method method) {
+		if (!Modifier.isPublic(method.getModifiers()) || method.isSynthetic()) {
+			return false;
+		}
+		for (Class<?> paramType : method.getParameterTypes()) {
+			Class<?> typeToCheck = paramType;
+			while (typeToCheck.isArray()) {
+				typeToCheck = typeToCheck.getComponentType();
+			}
+			// The generated code casts each argument to its parameter type
+			if (!typeToCheck.isPrimitive() && !Modifier.isPublic(typeToCheck.getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Generate a unique internal name for a new invoker class.
+	 * @param prefix the internal name prefix, e.g. "org/springframework/core/generated/MethodInvoker"
+	 * @return the internal name (with '/' separators)
+	 */
+	public static String generateClassName(String prefix) {
+		return prefix + suffixId.getAndIncrement();
+	}
+
+	/**
+	 * Create a {@link ClassWriter} which computes frames and maximums, resolving
+	 * common super classes against the given ClassLoader.
+	 * @param classLoader the ClassLoader of the invoked classes
+	 */
+	public static ClassWriter createClassWriter(ClassLoader classLoader) {
+		return new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+			@Override
+			protected ClassLoader getClassLoader() {
+				return classLoader;
+			}
+		};
+	}
+
+	/**
+	 * Define a generated invoker class in a ClassLoader delegating to the given
+	 * ClassLoader, reusing a single such ClassLoader per given ClassLoader.
+	 * @param classLoader the ClassLoader of the invoked classes
+	 * @param className the internal name of the generated class
+	 * @param bytes the bytecode of the generated class
+	 * @return the defined class
+	 */
+	public static Class<?> defineClass(ClassLoader classLoader, String className, byte[] bytes) {
+		InvokerClassLoader invokerClassLoader = classLoaders.computeIfAbsent(classLoader, InvokerClassLoader::new);
+		return invokerClassLoader.defineClass(className.replace('/', '.'), bytes);
+	}
+
+	/**
+	 * Emit the most compact instruction for pushing the given int constant.
+	 * @param mv the method visitor to emit to
+	 * @param value the non-negative constant
+	 */
+	public static void pushInt(MethodVisitor mv, int value) {
+		if (value <= 5) {
+			mv.visitInsn(Opcodes.ICONST_0 + value);
+		}
+		else if (value <= Byte.MAX_VALUE) {
+			mv.visitIntInsn(Opcodes.BIPUSH, value);
+		}
+		else if (value <= Short.MAX_VALUE) {
+			mv.visitIntInsn(Opcodes.SIPUSH, value);
+		}
+		else {
+			mv.visitLdcInsn(value);
+		}
+	}
+
+	/**
+	 * Emit the conversion of the {@code Object} on top of the stack to the given
+	 * parameter type: unboxing for primitives, a cast for all other types.
+	 * @param mv the method visitor to emit to
+	 * @param paramType the declared parameter type
+	 */
+	public static void unboxOrCast(MethodVisitor mv, Class<?> paramType) {
+		if (paramType.isPrimitive()) {
+			String wrapperType = Type.getInternalName(ClassUtils.resolvePrimitiveIfNecessary(paramType));
+			mv.visitTypeInsn(Opcodes.CHECKCAST, wrapperType);
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapperType, paramType.getName() + "Value",
+					"()" + Type.getDescriptor(paramType), false);
+		}
+		else if (paramType != Object.class) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(paramType));
+		}
+	}
+
+	/**
+	 * Emit the conversion of a value of the given return type on top of the
+	 * stack to an {@code Object}: boxing for primitives, and {@code null} for
+	 * {@code void}.
+	 * @param mv the method visitor to emit to
+	 * @param returnType the declared return type
+	 */
+	public static void boxOrNull(MethodVisitor mv, Class<?> returnType) {
+		if (returnType == void.class) {
+			mv.visitInsn(Opcodes.ACONST_NULL);
+		}
+		else if (returnType.isPrimitive()) {
+			Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(returnType);
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapperType), "valueOf",
+					"(" + Type.getDescriptor(returnType) + ")" + Type.getDescriptor(wrapperType), false);
+		}
+	}
+
+
+	/**
+	 * ClassLoader for generated invoker classes, delegating to the
+	 * ClassLoader of the corresponding invoked classes.
+	 */
+	private static class InvokerClassLoader extends ClassLoader {
+
+		InvokerClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		Class<?> defineClass(String name, byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+}
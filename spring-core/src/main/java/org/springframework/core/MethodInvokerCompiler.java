@@ -0,0 +1,160 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generates {@link CompiledMethodInvoker} subclasses for individual methods,
+ * using the ASM library, and caches them per method.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see CompiledMethodInvoker#forMethod(Method)
+ */
+final class MethodInvokerCompiler implements Opcodes {
+
+	private static final Log logger = LogFactory.getLog(MethodInvokerCompiler.class);
+
+	private static final String SUPERCLASS_NAME = Type.getInternalName(CompiledMethodInvoker.class);
+
+	private static final String CLASS_NAME_PREFIX = "org/springframework/core/generated/MethodInvoker";
+
+	/** Marker for methods that are not eligible for compilation. */
+	private static final Object NOT_COMPILABLE = new Object();
+
+	/** Compiled invokers (or the NOT_COMPILABLE marker), keyed by method. */
+	private static final Map<Method, Object> invokerCache = new ConcurrentReferenceHashMap<>(256);
+
+
+	private MethodInvokerCompiler() {
+	}
+
+
+	/**
+	 * Return the cached invoker for the given method, compiling it if necessary.
+	 * @param method the method to invoke
+	 * @return the compiled invoker, or {@code null} if not eligible for compilation
+	 */
+	@Nullable
+	static CompiledMethodInvoker getInvoker(Method method) {
+		Object invoker = invokerCache.get(method);
+		if (invoker == null) {
+			invoker = compile(method);
+			if (invoker == null) {
+				invoker = NOT_COMPILABLE;
+			}
+			Object existing = invokerCache.putIfAbsent(method, invoker);
+			if (existing != null) {
+				invoker = existing;
+			}
+		}
+		return (invoker != NOT_COMPILABLE ? (CompiledMethodInvoker) invoker : null);
+	}
+
+	@Nullable
+	private static CompiledMethodInvoker compile(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		ClassLoader classLoader = declaringClass.getClassLoader();
+		if (!InvokerCompilerUtils.isCompilable(method) || !Modifier.isPublic(declaringClass.getModifiers()) ||
+				!InvokerCompilerUtils.isSupported(CompiledMethodInvoker.class, classLoader)) {
+			return null;
+		}
+
+		try {
+			String className = InvokerCompilerUtils.generateClassName(CLASS_NAME_PREFIX);
+			byte[] bytes = generateClass(className, method, classLoader);
+			Class<?> invokerClass = InvokerCompilerUtils.defineClass(classLoader, className, bytes);
+			CompiledMethodInvoker invoker = (CompiledMethodInvoker)
+					ReflectionUtils.accessibleConstructor(invokerClass, Method.class).newInstance(method);
+			if (logger.isTraceEnabled()) {
+				logger.trace("Compiled invoker for method [" + method.toGenericString() + "]");
+			}
+			return invoker;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to compile invoker for method [" + method.toGenericString() +
+						"] - falling back to reflection", ex);
+			}
+			return null;
+		}
+	}
+
+	private static byte[] generateClass(String className, Method method, ClassLoader classLoader) {
+		ClassWriter cw = InvokerCompilerUtils.createClassWriter(classLoader);
+		cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, SUPERCLASS_NAME, null);
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/reflect/Method;)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKESPECIAL, SUPERCLASS_NAME, "<init>", "(Ljava/lang/reflect/Method;)V", false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		generateDoInvoke(cw, method);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private static void generateDoInvoke(ClassWriter cw, Method method) {
+		MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "doInvoke",
+				"(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+		mv.visitCode();
+
+		Class<?> declaringClass = method.getDeclaringClass();
+		String declaringType = Type.getInternalName(declaringClass);
+		boolean isStatic = Modifier.isStatic(method.getModifiers());
+		if (!isStatic) {
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitTypeInsn(CHECKCAST, declaringType);
+		}
+
+		Class<?>[] paramTypes = method.getParameterTypes();
+		for (int i = 0; i < paramTypes.length; i++) {
+			mv.visitVarInsn(ALOAD, 2);
+			InvokerCompilerUtils.pushInt(mv, i);
+			mv.visitInsn(AALOAD);
+			InvokerCompilerUtils.unboxOrCast(mv, paramTypes[i]);
+		}
+
+		boolean isInterface = declaringClass.isInterface();
+		int opcode = (isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL);
+		mv.visitMethodInsn(opcode, declaringType, method.getName(), Type.getMethodDescriptor(method), isInterface);
+
+		InvokerCompilerUtils.boxOrNull(mv, method.getReturnType());
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+}
@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.core.SerializableTypeWrapper.FieldTypeProvider;
 import org.springframework.core.SerializableTypeWrapper.MethodParameterTypeProvider;
@@ -93,6 +94,20 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	/** Interned {@link #forClass(Class)} instances, sharing their lazily resolved state. */
+	private static final ConcurrentReferenceHashMap<Class<?>, ResolvableType> classTypeCache =
+			new ConcurrentReferenceHashMap<>(256);
+
+	/** Maximum number of entries in the assignability cache before it gets reset. */
+	private static final int ASSIGNABILITY_CACHE_LIMIT = 4096;
+
+	private static final ConcurrentReferenceHashMap<AssignabilityCacheKey, Boolean> assignabilityCache =
+			new ConcurrentReferenceHashMap<>(256);
+
+	private static final LongAdder assignabilityCacheHits = new LongAdder();
+
+	private static final LongAdder assignabilityCacheMisses = new LongAdder();
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -277,9 +292,33 @@ public class ResolvableType implements Serializable {
 		return isAssignableFrom(other, null);
 	}
 
+	/**
+	 * Top-level assignability check, consulting the assignability cache for
+	 * plain {@code ResolvableType} instances (as opposed to subclasses with
+	 * custom assignability semantics such as {@link #forRawClass}).
+	 */
 	private boolean isAssignableFrom(ResolvableType other, @Nullable Map<Type, Type> matchedBefore) {
 		Assert.notNull(other, "ResolvableType must not be null");
+		if (matchedBefore != null || this == NONE || other == NONE ||
+				getClass() != ResolvableType.class || other.getClass() != ResolvableType.class) {
+			return doIsAssignableFrom(other, matchedBefore);
+		}
+		AssignabilityCacheKey cacheKey = new AssignabilityCacheKey(this, other);
+		Boolean assignable = assignabilityCache.get(cacheKey);
+		if (assignable != null) {
+			assignabilityCacheHits.increment();
+			return assignable;
+		}
+		assignabilityCacheMisses.increment();
+		assignable = doIsAssignableFrom(other, null);
+		if (assignabilityCache.size() >= ASSIGNABILITY_CACHE_LIMIT) {
+			assignabilityCache.clear();
+		}
+		assignabilityCache.put(cacheKey, assignable);
+		return assignable;
+	}
 
+	private boolean doIsAssignableFrom(ResolvableType other, @Nullable Map<Type, Type> matchedBefore) {
 		// If we cannot resolve types, we are not assignable
 		if (this == NONE || other == NONE) {
 			return false;
@@ -984,11 +1023,12 @@ public class ResolvableType implements Serializable {
 	 * @param clazz the class to introspect ({@code null} is semantically
 	 * equivalent to {@code Object.class} for typical use cases here}
 	 * @return a {@link ResolvableType} for the specified class
+	 * (as of 5.2, a shared instance per class)
 	 * @see #forClass(Class, Class)
 	 * @see #forClassWithGenerics(Class, Class...)
 	 */
 	public static ResolvableType forClass(@Nullable Class<?> clazz) {
-		return new ResolvableType(clazz);
+		return classTypeCache.computeIfAbsent((clazz != null ? clazz : Object.class), ResolvableType::new);
 	}
 
 	/**
@@ -1430,9 +1470,31 @@ public class ResolvableType implements Serializable {
 	 */
 	public static void clearCache() {
 		cache.clear();
+		classTypeCache.clear();
+		assignabilityCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
+	/**
+	 * Return the number of {@link #isAssignableFrom(ResolvableType)} checks
+	 * that have been answered from the internal assignability cache so far.
+	 * @since 5.2
+	 * @see #getAssignabilityCacheMissCount()
+	 */
+	public static long getAssignabilityCacheHitCount() {
+		return assignabilityCacheHits.sum();
+	}
+
+	/**
+	 * Return the number of {@link #isAssignableFrom(ResolvableType)} checks
+	 * that had to be computed since no cached result was available.
+	 * @since 5.2
+	 * @see #getAssignabilityCacheHitCount()
+	 */
+	public static long getAssignabilityCacheMissCount() {
+		return assignabilityCacheMisses.sum();
+	}
+
 
 	/**
 	 * Strategy interface used to resolve {@link TypeVariable TypeVariables}.
@@ -1656,6 +1718,42 @@ public class ResolvableType implements Serializable {
 	}
 
 
+	/**
+	 * Cache key for the assignability cache, with a pre-calculated hash.
+	 */
+	private static final class AssignabilityCacheKey {
+
+		private final ResolvableType target;
+
+		private final ResolvableType source;
+
+		private final int hash;
+
+		AssignabilityCacheKey(ResolvableType target, ResolvableType source) {
+			this.target = target;
+			this.source = source;
+			this.hash = target.hashCode() * 31 + source.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof AssignabilityCacheKey)) {
+				return false;
+			}
+			AssignabilityCacheKey otherKey = (AssignabilityCacheKey) other;
+			return (this.target.equals(otherKey.target) && this.source.equals(otherKey.source));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+
 	/**
 	 * Internal {@link Type} used to represent an empty value.
 	 */
@@ -18,6 +18,7 @@ package org.springframework.core.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +33,7 @@ import java.util.Set;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
@@ -107,6 +109,15 @@ public abstract class AnnotatedElementUtils {
 
 	private static final Processor<Boolean> alwaysTrueAnnotationProcessor = new AlwaysTrueBooleanAnnotationProcessor();
 
+	/** Marker for a cached search without a matching annotation. */
+	private static final Object NO_ANNOTATION = new Object();
+
+	private static final Map<MergedAnnotationCacheKey, Object> mergedAnnotationCache =
+			new ConcurrentReferenceHashMap<>(256);
+
+	private static final Map<MergedAnnotationCacheKey, Boolean> annotationPresenceCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * Build an adapted {@link AnnotatedElement} for the given annotations,
@@ -261,7 +272,16 @@ public abstract class AnnotatedElementUtils {
 		if (element.isAnnotationPresent(annotationType)) {
 			return true;
 		}
-		return Boolean.TRUE.equals(searchWithGetSemantics(element, annotationType, null, alwaysTrueAnnotationProcessor));
+		if (!isCacheable(element)) {
+			return Boolean.TRUE.equals(searchWithGetSemantics(element, annotationType, null, alwaysTrueAnnotationProcessor));
+		}
+		MergedAnnotationCacheKey cacheKey = new MergedAnnotationCacheKey(element, annotationType, false);
+		Boolean present = annotationPresenceCache.get(cacheKey);
+		if (present == null) {
+			present = Boolean.TRUE.equals(searchWithGetSemantics(element, annotationType, null, alwaysTrueAnnotationProcessor));
+			annotationPresenceCache.put(cacheKey, present);
+		}
+		return present;
 	}
 
 	/**
@@ -386,6 +406,21 @@ public abstract class AnnotatedElementUtils {
 	 */
 	@Nullable
 	public static <A extends Annotation> A getMergedAnnotation(AnnotatedElement element, Class<A> annotationType) {
+		if (!isCacheable(element)) {
+			return doGetMergedAnnotation(element, annotationType);
+		}
+		MergedAnnotationCacheKey cacheKey = new MergedAnnotationCacheKey(element, annotationType, false);
+		Object result = mergedAnnotationCache.get(cacheKey);
+		if (result == null) {
+			A annotation = doGetMergedAnnotation(element, annotationType);
+			result = (annotation != null ? annotation : NO_ANNOTATION);
+			mergedAnnotationCache.put(cacheKey, result);
+		}
+		return (result != NO_ANNOTATION ? annotationType.cast(result) : null);
+	}
+
+	@Nullable
+	private static <A extends Annotation> A doGetMergedAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		// Shortcut: directly present on the element, with no merging needed?
 		A annotation = element.getDeclaredAnnotation(annotationType);
 		if (annotation != null) {
@@ -599,7 +634,16 @@ public abstract class AnnotatedElementUtils {
 		if (element.isAnnotationPresent(annotationType)) {
 			return true;
 		}
-		return Boolean.TRUE.equals(searchWithFindSemantics(element, annotationType, null, alwaysTrueAnnotationProcessor));
+		if (!isCacheable(element)) {
+			return Boolean.TRUE.equals(searchWithFindSemantics(element, annotationType, null, alwaysTrueAnnotationProcessor));
+		}
+		MergedAnnotationCacheKey cacheKey = new MergedAnnotationCacheKey(element, annotationType, true);
+		Boolean present = annotationPresenceCache.get(cacheKey);
+		if (present == null) {
+			present = Boolean.TRUE.equals(searchWithFindSemantics(element, annotationType, null, alwaysTrueAnnotationProcessor));
+			annotationPresenceCache.put(cacheKey, present);
+		}
+		return present;
 	}
 
 	/**
@@ -696,6 +740,21 @@ public abstract class AnnotatedElementUtils {
 	 */
 	@Nullable
 	public static <A extends Annotation> A findMergedAnnotation(AnnotatedElement element, Class<A> annotationType) {
+		if (!isCacheable(element)) {
+			return doFindMergedAnnotation(element, annotationType);
+		}
+		MergedAnnotationCacheKey cacheKey = new MergedAnnotationCacheKey(element, annotationType, true);
+		Object result = mergedAnnotationCache.get(cacheKey);
+		if (result == null) {
+			A annotation = doFindMergedAnnotation(element, annotationType);
+			result = (annotation != null ? annotation : NO_ANNOTATION);
+			mergedAnnotationCache.put(cacheKey, result);
+		}
+		return (result != NO_ANNOTATION ? annotationType.cast(result) : null);
+	}
+
+	@Nullable
+	private static <A extends Annotation> A doFindMergedAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		// Shortcut: directly present on the element, with no merging needed?
 		A annotation = element.getDeclaredAnnotation(annotationType);
 		if (annotation != null) {
@@ -1359,6 +1418,73 @@ public abstract class AnnotatedElementUtils {
 		return annotations;
 	}
 
+	/**
+	 * Determine whether search results for the given element may be cached,
+	 * i.e. whether the element is a {@link Class} or a reflective {@link Member}
+	 * with stable equality semantics (as opposed to, for example, an element
+	 * adapted via {@link #forAnnotations}).
+	 * @param element the annotated element
+	 * @since 5.2
+	 */
+	private static boolean isCacheable(AnnotatedElement element) {
+		return (element instanceof Class || element instanceof Member);
+	}
+
+	/**
+	 * Clear the internal merged annotation cache.
+	 * @since 5.2
+	 * @see AnnotationUtils#clearCache()
+	 */
+	static void clearCache() {
+		mergedAnnotationCache.clear();
+		annotationPresenceCache.clear();
+	}
+
+
+	/**
+	 * Cache key for merged annotation lookups, distinguishing between
+	 * <em>get</em> and <em>find</em> semantics.
+	 */
+	private static final class MergedAnnotationCacheKey {
+
+		private final AnnotatedElement element;
+
+		private final Class<? extends Annotation> annotationType;
+
+		private final boolean findSemantics;
+
+		public MergedAnnotationCacheKey(AnnotatedElement element, Class<? extends Annotation> annotationType,
+				boolean findSemantics) {
+
+			this.element = element;
+			this.annotationType = annotationType;
+			this.findSemantics = findSemantics;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof MergedAnnotationCacheKey)) {
+				return false;
+			}
+			MergedAnnotationCacheKey otherKey = (MergedAnnotationCacheKey) other;
+			return (this.element.equals(otherKey.element) && this.annotationType.equals(otherKey.annotationType) &&
+					this.findSemantics == otherKey.findSemantics);
+		}
+
+		@Override
+		public int hashCode() {
+			return ((this.element.hashCode() * 29 + this.annotationType.hashCode()) * 2 + (this.findSemantics ? 1 : 0));
+		}
+
+		@Override
+		public String toString() {
+			return "@" + this.annotationType + " on " + this.element + (this.findSemantics ? " (find)" : " (get)");
+		}
+	}
+
 
 	/**
 	 * Callback interface that is used to process annotations during a search.
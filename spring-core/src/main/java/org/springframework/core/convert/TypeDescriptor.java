@@ -33,6 +33,7 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -51,6 +52,8 @@ public class TypeDescriptor implements Serializable {
 
 	private static final Annotation[] EMPTY_ANNOTATION_ARRAY = new Annotation[0];
 
+	private static final Map<Class<?>, TypeDescriptor> typeCache = new ConcurrentReferenceHashMap<>(256);
+
 	private static final Map<Class<?>, TypeDescriptor> commonTypesCache = new HashMap<>(32);
 
 	private static final Class<?>[] CACHED_COMMON_TYPES = {
@@ -538,6 +541,8 @@ public class TypeDescriptor implements Serializable {
 	 * field is available to provide additional conversion context.
 	 * <p>Generally prefer use of {@link #forObject(Object)} for constructing type
 	 * descriptors from source objects, as it handles the {@code null} object case.
+	 * <p>As of 5.2, the returned descriptors are cached per type: repeated calls
+	 * for the same type return the same instance.
 	 * @param type the class (may be {@code null} to indicate {@code Object.class})
 	 * @return the corresponding type descriptor
 	 */
@@ -546,7 +551,17 @@ public class TypeDescriptor implements Serializable {
 			type = Object.class;
 		}
 		TypeDescriptor desc = commonTypesCache.get(type);
-		return (desc != null ? desc : new TypeDescriptor(ResolvableType.forClass(type), null, null));
+		if (desc == null) {
+			desc = typeCache.get(type);
+			if (desc == null) {
+				desc = new TypeDescriptor(ResolvableType.forClass(type), null, null);
+				TypeDescriptor existing = typeCache.putIfAbsent(type, desc);
+				if (existing != null) {
+					desc = existing;
+				}
+			}
+		}
+		return desc;
 	}
 
 	/**
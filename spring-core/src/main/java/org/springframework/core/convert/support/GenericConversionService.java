@@ -78,6 +78,14 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	/**
+	 * Converters per source and target class, for plain type descriptors
+	 * as returned by {@link TypeDescriptor#valueOf}: allows for lookups
+	 * without allocating cache keys or computing descriptor hash codes.
+	 */
+	private final Map<Class<?>, Map<Class<?>, GenericConverter>> converterDispatchTable =
+			new ConcurrentReferenceHashMap<>(64);
+
 
 	// ConverterRegistry implementation
 
@@ -251,24 +259,40 @@ public class GenericConversionService implements ConfigurableConversionService {
 	 */
 	@Nullable
 	protected GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
-		ConverterCacheKey key = new ConverterCacheKey(sourceType, targetType);
-		GenericConverter converter = this.converterCache.get(key);
-		if (converter != null) {
-			return (converter != NO_MATCH ? converter : null);
+		Map<Class<?>, GenericConverter> dispatchTable = null;
+		if (isPlainTypeDescriptor(sourceType) && isPlainTypeDescriptor(targetType)) {
+			// Quick check for plain descriptors, which only depend on their class
+			dispatchTable = this.converterDispatchTable.get(sourceType.getType());
+			if (dispatchTable == null) {
+				dispatchTable = new ConcurrentReferenceHashMap<>(16);
+				Map<Class<?>, GenericConverter> existing =
+						this.converterDispatchTable.putIfAbsent(sourceType.getType(), dispatchTable);
+				if (existing != null) {
+					dispatchTable = existing;
+				}
+			}
+			GenericConverter converter = dispatchTable.get(targetType.getType());
+			if (converter != null) {
+				return (converter != NO_MATCH ? converter : null);
+			}
 		}
 
-		converter = this.converters.find(sourceType, targetType);
+		ConverterCacheKey key = new ConverterCacheKey(sourceType, targetType);
+		GenericConverter converter = this.converterCache.get(key);
 		if (converter == null) {
-			converter = getDefaultConverter(sourceType, targetType);
-		}
-
-		if (converter != null) {
+			converter = this.converters.find(sourceType, targetType);
+			if (converter == null) {
+				converter = getDefaultConverter(sourceType, targetType);
+			}
+			if (converter == null) {
+				converter = NO_MATCH;
+			}
 			this.converterCache.put(key, converter);
-			return converter;
 		}
-
-		this.converterCache.put(key, NO_MATCH);
-		return null;
+		if (dispatchTable != null) {
+			dispatchTable.put(targetType.getType(), converter);
+		}
+		return (converter != NO_MATCH ? converter : null);
 	}
 
 	/**
@@ -302,8 +326,17 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	/**
+	 * Determine whether the given descriptor is the shared descriptor for its
+	 * class, i.e. carries no context beyond the class itself.
+	 */
+	private static boolean isPlainTypeDescriptor(TypeDescriptor typeDescriptor) {
+		return (TypeDescriptor.valueOf(typeDescriptor.getType()) == typeDescriptor);
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.converterDispatchTable.clear();
 	}
 
 	@Nullable
@@ -402,6 +435,9 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 		private final ConvertiblePair typeInfo;
 
+		/** Converters obtained from the factory, per target type. */
+		private final Map<Class<?>, Converter<Object, Object>> converterCache = new ConcurrentReferenceHashMap<>(16);
+
 		public ConverterFactoryAdapter(ConverterFactory<?, ?> converterFactory, ConvertiblePair typeInfo) {
 			this.converterFactory = (ConverterFactory<Object, Object>) converterFactory;
 			this.typeInfo = typeInfo;
@@ -419,7 +455,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 				matches = ((ConditionalConverter) this.converterFactory).matches(sourceType, targetType);
 			}
 			if (matches) {
-				Converter<?, ?> converter = this.converterFactory.getConverter(targetType.getType());
+				Converter<?, ?> converter = getConverter(targetType.getType());
 				if (converter instanceof ConditionalConverter) {
 					matches = ((ConditionalConverter) converter).matches(sourceType, targetType);
 				}
@@ -433,7 +469,16 @@ public class GenericConversionService implements ConfigurableConversionService {
 			if (source == null) {
 				return convertNullSource(sourceType, targetType);
 			}
-			return this.converterFactory.getConverter(targetType.getObjectType()).convert(source);
+			return getConverter(targetType.getObjectType()).convert(source);
+		}
+
+		private Converter<Object, Object> getConverter(Class<?> targetType) {
+			Converter<Object, Object> converter = this.converterCache.get(targetType);
+			if (converter == null) {
+				converter = (Converter<Object, Object>) this.converterFactory.getConverter(targetType);
+				this.converterCache.put(targetType, converter);
+			}
+			return converter;
 		}
 
 		@Override
@@ -503,6 +548,8 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 		private final Map<ConvertiblePair, ConvertersForPair> converters = new LinkedHashMap<>(36);
 
+		private final Map<Class<?>, List<Class<?>>> classHierarchyCache = new ConcurrentReferenceHashMap<>(64);
+
 		public void add(GenericConverter converter) {
 			Set<ConvertiblePair> convertibleTypes = converter.getConvertibleTypes();
 			if (convertibleTypes == null) {
@@ -583,6 +630,15 @@ public class GenericConversionService implements ConfigurableConversionService {
 		 * @return an ordered list of all classes that the given type extends or implements
 		 */
 		private List<Class<?>> getClassHierarchy(Class<?> type) {
+			List<Class<?>> hierarchy = this.classHierarchyCache.get(type);
+			if (hierarchy == null) {
+				hierarchy = Collections.unmodifiableList(buildClassHierarchy(type));
+				this.classHierarchyCache.put(type, hierarchy);
+			}
+			return hierarchy;
+		}
+
+		private List<Class<?>> buildClassHierarchy(Class<?> type) {
 			List<Class<?>> hierarchy = new ArrayList<>(20);
 			Set<Class<?>> visited = new HashSet<>(20);
 			addToClassHierarchy(0, ClassUtils.resolvePrimitiveIfNecessary(type), false, hierarchy, visited);
@@ -27,12 +27,16 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.zip.ZipException;
@@ -205,6 +209,8 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	private PathMatcher pathMatcher = new AntPathMatcher();
 
+	private final Map<String, JarEntryIndex> jarEntryIndexCache = new ConcurrentHashMap<>(16);
+
 
 	/**
 	 * Create a new PathMatchingResourcePatternResolver with a DefaultResourceLoader.
@@ -268,6 +274,18 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Clear the index of jar file entries that this resolver builds up
+	 * for each jar file that it has searched for matching resources.
+	 * <p>The index is kept for the lifetime of this resolver by default,
+	 * assuming that jar files on the classpath do not change in the meantime.
+	 * @since 5.2
+	 * @see #doFindPathMatchingJarResources
+	 */
+	public void clearCache() {
+		this.jarEntryIndexCache.clear();
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -588,20 +606,29 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			throws IOException {
 
 		URLConnection con = rootDirURL.openConnection();
-		JarFile jarFile;
+		JarFile jarFile = null;
 		String jarFileUrl;
 		String rootEntryPath;
-		boolean closeJarFile;
+		boolean closeJarFile = false;
+		JarEntryIndex entryIndex;
 
 		if (con instanceof JarURLConnection) {
 			// Should usually be the case for traditional JAR files.
 			JarURLConnection jarCon = (JarURLConnection) con;
 			ResourceUtils.useCachesIfNecessary(jarCon);
-			jarFile = jarCon.getJarFile();
 			jarFileUrl = jarCon.getJarFileURL().toExternalForm();
-			JarEntry jarEntry = jarCon.getJarEntry();
-			rootEntryPath = (jarEntry != null ? jarEntry.getName() : "");
-			closeJarFile = !jarCon.getUseCaches();
+			entryIndex = this.jarEntryIndexCache.get(jarFileUrl);
+			if (entryIndex != null) {
+				// Jar file indexed before: no need to open it again.
+				String entryName = jarCon.getEntryName();
+				rootEntryPath = (entryName != null ? entryName : "");
+			}
+			else {
+				jarFile = jarCon.getJarFile();
+				JarEntry jarEntry = jarCon.getJarEntry();
+				rootEntryPath = (jarEntry != null ? jarEntry.getName() : "");
+				closeJarFile = !jarCon.getUseCaches();
+			}
 		}
 		else {
 			// No JarURLConnection -> need to resort to URL file parsing.
@@ -617,14 +644,16 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 				if (separatorIndex != -1) {
 					jarFileUrl = urlFile.substring(0, separatorIndex);
 					rootEntryPath = urlFile.substring(separatorIndex + 2);  // both separators are 2 chars
-					jarFile = getJarFile(jarFileUrl);
 				}
 				else {
-					jarFile = new JarFile(urlFile);
 					jarFileUrl = urlFile;
 					rootEntryPath = "";
 				}
-				closeJarFile = true;
+				entryIndex = this.jarEntryIndexCache.get(jarFileUrl);
+				if (entryIndex == null) {
+					jarFile = (separatorIndex != -1 ? getJarFile(jarFileUrl) : new JarFile(urlFile));
+					closeJarFile = true;
+				}
 			}
 			catch (ZipException ex) {
 				if (logger.isDebugEnabled()) {
@@ -635,6 +664,14 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		}
 
 		try {
+			if (entryIndex == null) {
+				Assert.state(jarFile != null, "No JarFile to index");
+				if (logger.isTraceEnabled()) {
+					logger.trace("Indexing entries of jar file [" + jarFileUrl + "]");
+				}
+				entryIndex = new JarEntryIndex(jarFile);
+				this.jarEntryIndexCache.put(jarFileUrl, entryIndex);
+			}
 			if (logger.isTraceEnabled()) {
 				logger.trace("Looking for matching resources in jar file [" + jarFileUrl + "]");
 			}
@@ -644,25 +681,53 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 				rootEntryPath = rootEntryPath + "/";
 			}
 			Set<Resource> result = new LinkedHashSet<>(8);
-			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
-				JarEntry entry = entries.nextElement();
-				String entryPath = entry.getName();
-				if (entryPath.startsWith(rootEntryPath)) {
-					String relativePath = entryPath.substring(rootEntryPath.length());
-					if (getPathMatcher().match(subPattern, relativePath)) {
-						result.add(rootDirResource.createRelative(relativePath));
-					}
+			for (String entryPath : entryIndex.getEntries(rootEntryPath + determineStaticPrefix(subPattern))) {
+				String relativePath = entryPath.substring(rootEntryPath.length());
+				if (getPathMatcher().match(subPattern, relativePath)) {
+					result.add(rootDirResource.createRelative(relativePath));
 				}
 			}
 			return result;
 		}
 		finally {
-			if (closeJarFile) {
+			if (closeJarFile && jarFile != null) {
 				jarFile.close();
 			}
 		}
 	}
 
+	/**
+	 * Determine the leading directories of the given sub pattern which do not
+	 * contain any wildcards, restricting the range of jar entries to match against.
+	 * <p>Only applied if {@link #getPathMatcher()} returns a plain {@link AntPathMatcher}
+	 * in its default configuration; any other PathMatcher, or an AntPathMatcher
+	 * which is case-insensitive, trims tokens or uses another path separator,
+	 * may match entries which do not start with the prefix as given.
+	 * @param subPattern the sub pattern to match (below the root directory)
+	 * @return the static directory prefix, or an empty String if none
+	 */
+	private String determineStaticPrefix(String subPattern) {
+		if (!isDefaultAntPathMatcher(getPathMatcher())) {
+			return "";
+		}
+		int wildcardIndex = subPattern.length();
+		for (int i = 0; i < subPattern.length(); i++) {
+			char c = subPattern.charAt(i);
+			if (c == '*' || c == '?' || c == '{') {
+				wildcardIndex = i;
+				break;
+			}
+		}
+		int prefixEnd = subPattern.lastIndexOf('/', wildcardIndex - 1) + 1;
+		return (prefixEnd > 0 && !subPattern.startsWith("/") ? subPattern.substring(0, prefixEnd) : "");
+	}
+
+	private static boolean isDefaultAntPathMatcher(PathMatcher pathMatcher) {
+		// AntPathMatcher does not expose its settings: check their effect instead.
+		return (pathMatcher.getClass() == AntPathMatcher.class && !pathMatcher.match("a", "A") &&
+				!pathMatcher.match("a", " a") && !pathMatcher.match("*", "a/b"));
+	}
+
 	/**
 	 * Resolve the given jar file URL into a JarFile object.
 	 */
@@ -830,6 +895,64 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	}
 
 
+	/**
+	 * Index of the entry names in a jar file, sorted for range lookups by prefix
+	 * while retaining the original order of entries in the jar for the results.
+	 */
+	private static class JarEntryIndex {
+
+		private final String[] entryNames;
+
+		private final int[] sortedPositions;
+
+		public JarEntryIndex(JarFile jarFile) {
+			List<String> entryNames = new ArrayList<>();
+			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+				entryNames.add(entries.nextElement().getName());
+			}
+			this.entryNames = entryNames.toArray(new String[0]);
+			Integer[] positions = new Integer[this.entryNames.length];
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] = i;
+			}
+			Arrays.sort(positions, Comparator.comparing(position -> this.entryNames[position]));
+			this.sortedPositions = new int[positions.length];
+			for (int i = 0; i < positions.length; i++) {
+				this.sortedPositions[i] = positions[i];
+			}
+		}
+
+		/**
+		 * Return the names of all entries starting with the given prefix,
+		 * in their original order within the jar file.
+		 */
+		public List<String> getEntries(String prefix) {
+			int low = 0;
+			int high = this.sortedPositions.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (this.entryNames[this.sortedPositions[mid]].compareTo(prefix) < 0) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+			int end = low;
+			while (end < this.sortedPositions.length && this.entryNames[this.sortedPositions[end]].startsWith(prefix)) {
+				end++;
+			}
+			int[] matches = Arrays.copyOfRange(this.sortedPositions, low, end);
+			Arrays.sort(matches);
+			List<String> result = new ArrayList<>(matches.length);
+			for (int position : matches) {
+				result.add(this.entryNames[position]);
+			}
+			return result;
+		}
+	}
+
+
 	/**
 	 * Inner delegate class, avoiding a hard JBoss VFS API dependency at runtime.
 	 */
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import org.springframework.util.ReflectionUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link CompiledMethodInvoker}.
+ *
+ * @author Spring Framework Team
+ */
+public class CompiledMethodInvokerTests {
+
+	@Test
+	public void invokeWithObjectAndPrimitiveArguments() throws Exception {
+		Method method = ReflectionUtils.findMethod(Handler.class, "handle", String.class, int.class);
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		assertSame(method, invoker.getMethod());
+		assertEquals("foo3", invoker.invoke(new Handler(), "foo", 3));
+	}
+
+	@Test
+	public void invokeWithPrimitiveReturnType() throws Exception {
+		Method method = ReflectionUtils.findMethod(Handler.class, "length", String.class);
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		assertEquals(3L, invoker.invoke(new Handler(), "foo"));
+	}
+
+	@Test
+	public void invokeVoidMethod() throws Exception {
+		Method method = ReflectionUtils.findMethod(Handler.class, "record", String.class);
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		Handler handler = new Handler();
+		assertNull(invoker.invoke(handler, "foo"));
+		assertEquals("foo", handler.recorded);
+	}
+
+	@Test
+	public void invokeInterfaceMethod() throws Exception {
+		Method method = ReflectionUtils.findMethod(Greeter.class, "greet", String.class);
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		assertEquals("Hello foo", invoker.invoke((Greeter) name -> "Hello " + name, "foo"));
+	}
+
+	@Test
+	public void invokeWithWideningConversionFallsBackToReflection() throws Exception {
+		Method method = ReflectionUtils.findMethod(Handler.class, "twice", long.class);
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		assertEquals(42L, invoker.invoke(new Handler(), 21));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invokeWithMismatchedArgument() throws Exception {
+		Method method = ReflectionUtils.findMethod(Handler.class, "length", String.class);
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		invoker.invoke(new Handler(), 42);
+	}
+
+	@Test
+	public void invokeWithExceptionThrownByMethod() throws Exception {
+		Method method = ReflectionUtils.findMethod(Handler.class, "fail");
+		CompiledMethodInvoker invoker = CompiledMethodInvoker.forMethod(method);
+		assertNotNull(invoker);
+		try {
+			invoker.invoke(new Handler());
+			fail("Should have thrown InvocationTargetException");
+		}
+		catch (InvocationTargetException ex) {
+			assertTrue(ex.getTargetException() instanceof IOException);
+		}
+	}
+
+	@Test
+	public void invokerCachedPerMethod() {
+		Method method = ReflectionUtils.findMethod(Handler.class, "length", String.class);
+		assertSame(CompiledMethodInvoker.forMethod(method), CompiledMethodInvoker.forMethod(method));
+	}
+
+	@Test
+	public void nonPublicMethodNotCompiled() {
+		Method method = ReflectionUtils.findMethod(Handler.class, "internal");
+		assertNull(CompiledMethodInvoker.forMethod(method));
+	}
+
+	@Test
+	public void methodOnNonPublicClassNotCompiled() {
+		Method method = ReflectionUtils.findMethod(HiddenHandler.class, "handle");
+		assertNull(CompiledMethodInvoker.forMethod(method));
+	}
+
+
+	public static class Handler {
+
+		String recorded;
+
+		public String handle(String value, int count) {
+			return value + count;
+		}
+
+		public long length(String value) {
+			return value.length();
+		}
+
+		public void record(String value) {
+			this.recorded = value;
+		}
+
+		public long twice(long value) {
+			return value * 2;
+		}
+
+		public void fail() throws IOException {
+			throw new IOException("failed");
+		}
+
+		String internal() {
+			return "internal";
+		}
+	}
+
+
+	public interface Greeter {
+
+		String greet(String name);
+	}
+
+
+	static class HiddenHandler {
+
+		public String handle() {
+			return "hidden";
+		}
+	}
+
+}
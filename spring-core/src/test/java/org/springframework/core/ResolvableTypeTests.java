@@ -126,6 +126,13 @@ public class ResolvableTypeTests {
 		assertFalse(type.isAssignableFrom(ArrayList.class));
 	}
 
+	@Test
+	public void forClassReturnsSharedInstance() throws Exception {
+		assertThat(ResolvableType.forClass(ExtendsList.class), sameInstance(ResolvableType.forClass(ExtendsList.class)));
+		assertThat(ResolvableType.forClass(null), sameInstance(ResolvableType.forClass(Object.class)));
+		assertThat(ResolvableType.forRawClass(ExtendsList.class), not(sameInstance(ResolvableType.forClass(ExtendsList.class))));
+	}
+
 	@Test
 	public void forRawClassWithNull() throws Exception {
 		ResolvableType type = ResolvableType.forRawClass(null);
@@ -999,6 +1006,33 @@ public class ResolvableTypeTests {
 		assertFalse(stringType.isInstance(new StringBuilder("a StringBuilder")));
 	}
 
+	@Test
+	public void isAssignableFromUsesCache() throws Exception {
+		ResolvableType.clearCache();
+		long hits = ResolvableType.getAssignabilityCacheHitCount();
+		long misses = ResolvableType.getAssignabilityCacheMissCount();
+
+		ResolvableType stringList = ResolvableType.forField(Fields.class.getField("stringList"));
+		ResolvableType charSequenceList = ResolvableType.forField(Fields.class.getField("charSequenceList"));
+		assertTrue(stringList.isAssignableFrom(ResolvableType.forClassWithGenerics(ArrayList.class, String.class)));
+		assertFalse(charSequenceList.isAssignableFrom(ResolvableType.forClassWithGenerics(ArrayList.class, String.class)));
+		assertThat(ResolvableType.getAssignabilityCacheMissCount(), equalTo(misses + 2));
+		assertThat(ResolvableType.getAssignabilityCacheHitCount(), equalTo(hits));
+
+		// Equal but distinct instances hit the cache
+		stringList = ResolvableType.forField(Fields.class.getField("stringList"));
+		charSequenceList = ResolvableType.forField(Fields.class.getField("charSequenceList"));
+		assertTrue(stringList.isAssignableFrom(ResolvableType.forClassWithGenerics(ArrayList.class, String.class)));
+		assertFalse(charSequenceList.isAssignableFrom(ResolvableType.forClassWithGenerics(ArrayList.class, String.class)));
+		assertThat(ResolvableType.getAssignabilityCacheMissCount(), equalTo(misses + 2));
+		assertThat(ResolvableType.getAssignabilityCacheHitCount(), equalTo(hits + 2));
+
+		// Raw class types keep their own assignability semantics
+		assertTrue(ResolvableType.forRawClass(List.class).isAssignableFrom(
+				ResolvableType.forClassWithGenerics(ArrayList.class, String.class)));
+		assertThat(ResolvableType.getAssignabilityCacheHitCount(), equalTo(hits + 2));
+	}
+
 	@Test
 	public void isAssignableFromCannotBeResolved() throws Exception {
 		ResolvableType objectType = ResolvableType.forClass(Object.class);
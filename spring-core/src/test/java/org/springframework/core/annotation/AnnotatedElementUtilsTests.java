@@ -698,6 +698,37 @@ public class AnnotatedElementUtilsTests {
 		assertArrayEquals("path attribute: ", asArray("/test"), webMapping.path());
 	}
 
+	@Test
+	public void findMergedAnnotationReturnsCachedInstance() throws Exception {
+		Class<?> element = SpringAppConfigClass.class;
+		ContextConfig contextConfig = findMergedAnnotation(element, ContextConfig.class);
+		assertNotNull(contextConfig);
+		assertSame(contextConfig, findMergedAnnotation(element, ContextConfig.class));
+		assertSame(contextConfig, findMergedAnnotation(SpringAppConfigClass.class, ContextConfig.class));
+		assertNull(findMergedAnnotation(element, Order.class));
+		assertNull(findMergedAnnotation(element, Order.class));
+
+		Method method = WebController.class.getMethod("getMappedWithValueAttribute");
+		WebMapping webMapping = findMergedAnnotation(method, WebMapping.class);
+		assertSame(webMapping, findMergedAnnotation(WebController.class.getMethod("getMappedWithValueAttribute"), WebMapping.class));
+
+		AnnotationUtils.clearCache();
+		ContextConfig recomputed = findMergedAnnotation(element, ContextConfig.class);
+		assertNotSame(contextConfig, recomputed);
+		assertEquals(contextConfig, recomputed);
+	}
+
+	@Test
+	public void getAndFindMergedAnnotationCachedSeparately() {
+		Class<?> element = SubInheritedAnnotationInterface.class;
+		assertNull(getMergedAnnotation(element, Transactional.class));
+		assertFalse(isAnnotated(element, Transactional.class));
+		assertNotNull(findMergedAnnotation(element, Transactional.class));
+		assertTrue(hasAnnotation(element, Transactional.class));
+		assertNull(getMergedAnnotation(element, Transactional.class));
+		assertFalse(isAnnotated(element, Transactional.class));
+	}
+
 	@Test
 	public void javaLangAnnotationTypeViaFindMergedAnnotation() throws Exception {
 		Constructor<?> deprecatedCtor = Date.class.getConstructor(String.class);
@@ -344,6 +344,13 @@ public class TypeDescriptorTests {
 		assertEquals(Integer.class, typeDescriptor.getObjectType());
 	}
 
+	@Test
+	public void valueOfCached() {
+		TypeDescriptor typeDescriptor = TypeDescriptor.valueOf(TypeDescriptorTests.class);
+		assertSame(typeDescriptor, TypeDescriptor.valueOf(TypeDescriptorTests.class));
+		assertSame(typeDescriptor, TypeDescriptor.forObject(this));
+	}
+
 	@Test
 	public void valueOfPrimitive() {
 		TypeDescriptor typeDescriptor = TypeDescriptor.valueOf(int.class);
@@ -46,6 +46,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
 import org.springframework.tests.Assume;
 import org.springframework.tests.TestGroup;
+import org.springframework.util.NumberUtils;
 import org.springframework.util.StopWatch;
 import org.springframework.util.StringUtils;
 
@@ -456,6 +457,24 @@ public class GenericConversionServiceTests {
 		assertFalse(conversionService.canConvert(String.class, Color.class));
 	}
 
+	@Test
+	public void removeConvertibleAfterConversion() {
+		conversionService.addConverter(new ColorConverter());
+		assertEquals(Color.BLACK, conversionService.convert("#000000", Color.class));
+		conversionService.removeConvertible(String.class, Color.class);
+		assertFalse(conversionService.canConvert(String.class, Color.class));
+	}
+
+	@Test
+	public void converterFactoryConverterReusedPerTargetType() {
+		CountingConverterFactory factory = new CountingConverterFactory();
+		conversionService.addConverterFactory(factory);
+		assertEquals(Integer.valueOf(1), conversionService.convert("1", Integer.class));
+		assertEquals(Integer.valueOf(2), conversionService.convert("2", Integer.class));
+		assertEquals(Long.valueOf(3), conversionService.convert("3", Long.class));
+		assertEquals(2, factory.converterCount);
+	}
+
 	@Test
 	public void conditionalConverter() {
 		MyConditionalConverter converter = new MyConditionalConverter();
@@ -794,6 +813,18 @@ public class GenericConversionServiceTests {
 	}
 
 
+	private static class CountingConverterFactory implements ConverterFactory<String, Number> {
+
+		private int converterCount = 0;
+
+		@Override
+		public <T extends Number> Converter<String, T> getConverter(Class<T> targetType) {
+			this.converterCount++;
+			return source -> NumberUtils.parseNumber(source, targetType);
+		}
+	}
+
+
 	private static class MyConditionalConverterFactory implements ConverterFactory<String, Color>, ConditionalConverter {
 
 		private MyConditionalConverter converter = new MyConditionalConverter();
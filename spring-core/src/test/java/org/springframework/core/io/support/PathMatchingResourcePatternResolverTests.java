@@ -16,16 +16,26 @@
 
 package org.springframework.core.io.support;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 
 import static org.junit.Assert.*;
@@ -56,6 +66,9 @@ public class PathMatchingResourcePatternResolverTests {
 
 	private PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 
 	@Test(expected = FileNotFoundException.class)
 	public void invalidPrefixWithPatternElementInIt() throws IOException {
@@ -118,6 +131,60 @@ public class PathMatchingResourcePatternResolverTests {
 		assertTrue("Could not find aspectj_1_5_0.dtd in the root of the aspectjweaver jar", found);
 	}
 
+	@Test
+	public void repeatedPatternRetrievalInJarFile() throws IOException {
+		File jar = this.temporaryFolder.newFile("test.jar");
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (String entryName : new String[] {"com/", "com/acme/", "com/acme/Zeta.class", "com/acme/sub/",
+					"com/acme/sub/Alpha.class", "com/acme/Beta.class", "com/acmeother/Gamma.class", "META-INF/", "META-INF/a.xml"}) {
+				out.putNextEntry(new JarEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, null)) {
+			PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+			for (int i = 0; i < 2; i++) {
+				assertFilenames(resolver.getResources("classpath*:com/acme/**/*.class"),
+						"Zeta.class", "Alpha.class", "Beta.class");
+				assertFilenames(resolver.getResources("classpath*:com/acme/sub/*.class"), "Alpha.class");
+				assertFilenames(resolver.getResources("classpath*:com/**/*ta.class"), "Zeta.class", "Beta.class");
+				assertFilenames(resolver.getResources("classpath*:com/acme*/**/*.class"),
+						"Zeta.class", "Alpha.class", "Beta.class", "Gamma.class");
+				assertFilenames(resolver.getResources("classpath*:META-INF/*.xml"), "a.xml");
+			}
+			resolver.clearCache();
+			assertFilenames(resolver.getResources("classpath*:com/acme/sub/*.class"), "Alpha.class");
+		}
+	}
+
+	@Test
+	public void patternRetrievalInJarFileWithCaseInsensitivePathMatcher() throws IOException {
+		File jar = this.temporaryFolder.newFile("test.jar");
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (String entryName : new String[] {"com/", "com/acme/", "com/acme/Alpha.class", "com/other/Beta.class"}) {
+				out.putNextEntry(new JarEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		URL rootUrl = new URL("jar:" + jar.toURI().toURL() + "!/");
+		Resource rootResource = new UrlResource(rootUrl);
+		PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+		assertFilenames(resolver.doFindPathMatchingJarResources(rootResource, rootUrl, "COM/ACME/*.class")
+				.toArray(new Resource[0]));
+
+		((AntPathMatcher) resolver.getPathMatcher()).setCaseSensitive(false);
+		assertFilenames(resolver.doFindPathMatchingJarResources(rootResource, rootUrl, "COM/ACME/*.class")
+				.toArray(new Resource[0]), "Alpha.class");
+	}
+
+	private void assertFilenames(Resource[] resources, String... filenames) {
+		String[] actualNames = new String[resources.length];
+		for (int i = 0; i < resources.length; i++) {
+			actualNames[i] = resources[i].getFilename();
+		}
+		assertArrayEquals(filenames, actualNames);
+	}
+
 
 	private void assertProtocolAndFilenames(Resource[] resources, String protocol, String... filenames)
 			throws IOException {
@@ -18,6 +18,7 @@ package org.springframework.expression.spel;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -85,9 +86,16 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the evaluation context).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * The variable holding the currently active context object: the target
+	 * unless within a projection or selection, where it is the current element.
+	 */
+	private int activeContextVariableId = 1;
 
 
 	/**
@@ -105,11 +113,27 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context)), or the currently active context
+	 * object when within a projection or selection.
 	 * @param mv the visitor into which the load instruction should be inserted
+	 * @see #setActiveContextVariable(int)
 	 */
 	public void loadTarget(MethodVisitor mv) {
-		mv.visitVarInsn(ALOAD, 1);
+		mv.visitVarInsn(ALOAD, this.activeContextVariableId);
+	}
+
+	/**
+	 * Switch the active context object, as loaded by {@link #loadTarget}, to the
+	 * given local variable, e.g. for the current element within a projection.
+	 * @param variableId the id of the variable holding the active context object
+	 * @return the id of the variable previously holding the active context object,
+	 * to be restored through this method once the nested code has been generated
+	 * @since 5.2
+	 */
+	public int setActiveContextVariable(int variableId) {
+		int previousVariableId = this.activeContextVariableId;
+		this.activeContextVariableId = variableId;
+		return previousVariableId;
 	}
 
 	/**
@@ -529,6 +553,25 @@ public class CodeFlow implements Opcodes {
 		}
 	}
 
+	/**
+	 * Determine the descriptor for the nearest public type of an object instance
+	 * (or {@code null}), suitable for a CHECKCAST in generated code.
+	 * @param value an object (possibly {@code null})
+	 * @return the type descriptor for the object's class or its nearest public
+	 * superclass ("Ljava/lang/Object" for {@code null} value)
+	 * @since 5.2
+	 */
+	public static String toPublicDescriptorFromObject(@Nullable Object value) {
+		if (value == null) {
+			return "Ljava/lang/Object";
+		}
+		Class<?> type = value.getClass();
+		while (!Modifier.isPublic(type.getModifiers())) {
+			type = type.getSuperclass();
+		}
+		return toDescriptor(type);
+	}
+
 	/**
 	 * Determine whether the descriptor is for a boolean primitive or boolean reference type.
 	 * @param descriptor type descriptor
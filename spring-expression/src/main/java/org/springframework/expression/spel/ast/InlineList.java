@@ -131,11 +131,24 @@ public class InlineList extends SpelNodeImpl {
 
 	@Override
 	public boolean isCompilable() {
-		return isConstant();
+		if (isConstant()) {
+			return true;
+		}
+		for (SpelNodeImpl child : this.children) {
+			if (!child.isCompilable()) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		if (!isConstant()) {
+			generateListCode(mv, codeflow);
+			return;
+		}
+
 		final String constantFieldName = "inlineList$" + codeflow.nextFieldId();
 		final String className = codeflow.getClassName();
 
@@ -149,6 +162,24 @@ public class InlineList extends SpelNodeImpl {
 		codeflow.pushDescriptor("Ljava/util/List");
 	}
 
+	/**
+	 * Build a new list on each evaluation, evaluating each element
+	 * against the active context object.
+	 */
+	private void generateListCode(MethodVisitor mv, CodeFlow codeflow) {
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		CodeFlow.insertOptimalLoad(mv, getChildCount());
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "(I)V", false);
+		for (SpelNodeImpl child : this.children) {
+			mv.visitInsn(DUP);
+			generateCodeForArgument(mv, codeflow, child, "Ljava/lang/Object");
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+			mv.visitInsn(POP);
+		}
+		codeflow.pushDescriptor("Ljava/util/List");
+	}
+
 	void generateClinitCode(String clazzname, String constantFieldName, MethodVisitor mv, CodeFlow codeflow, boolean nested) {
 		mv.visitTypeInsn(NEW, "java/util/ArrayList");
 		mv.visitInsn(DUP);
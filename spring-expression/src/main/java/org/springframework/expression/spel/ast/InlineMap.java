@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.lang.Nullable;
@@ -164,4 +166,79 @@ public class InlineMap extends SpelNodeImpl {
 		return (Map<Object,Object>) this.constant.getValue();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		if (isConstant()) {
+			return true;
+		}
+		for (int c = 0; c < this.children.length; c++) {
+			SpelNodeImpl child = this.children[c];
+			boolean isKeyName = ((c % 2) == 0 && child instanceof PropertyOrFieldReference);
+			if (!isKeyName && !child.isCompilable()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		if (!isConstant()) {
+			generateMapCode(mv, codeflow, false);
+			codeflow.pushDescriptor("Ljava/util/Map");
+			return;
+		}
+
+		final String constantFieldName = "inlineMap$" + codeflow.nextFieldId();
+		final String className = codeflow.getClassName();
+
+		codeflow.registerNewField((cw, cflow) ->
+				cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constantFieldName, "Ljava/util/Map;", null, null));
+
+		codeflow.registerNewClinit((mVisitor, cflow) -> {
+			generateMapCode(mVisitor, cflow, true);
+			mVisitor.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+					"(Ljava/util/Map;)Ljava/util/Map;", false);
+			mVisitor.visitFieldInsn(PUTSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		});
+
+		mv.visitFieldInsn(GETSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		codeflow.pushDescriptor("Ljava/util/Map");
+	}
+
+	/**
+	 * Build a new map, either in the static initializer for a constant map
+	 * or on each evaluation (evaluating each entry against the active context object).
+	 */
+	private void generateMapCode(MethodVisitor mv, CodeFlow codeflow, boolean inClinit) {
+		mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+		for (int c = 0; c < this.children.length; c++) {
+			SpelNodeImpl keyChild = this.children[c++];
+			SpelNodeImpl valueChild = this.children[c];
+			mv.visitInsn(DUP);
+			if (keyChild instanceof PropertyOrFieldReference) {
+				mv.visitLdcInsn(((PropertyOrFieldReference) keyChild).getName());
+			}
+			else {
+				generateCodeForArgument(mv, codeflow, keyChild, "Ljava/lang/Object");
+			}
+			// Nested constant lists and maps need to be built directly within a
+			// static initializer, rather than registering further static initializers
+			if (inClinit && valueChild instanceof InlineList) {
+				((InlineList) valueChild).generateClinitCode(codeflow.getClassName(), "", mv, codeflow, true);
+			}
+			else if (inClinit && valueChild instanceof InlineMap) {
+				((InlineMap) valueChild).generateMapCode(mv, codeflow, true);
+			}
+			else {
+				generateCodeForArgument(mv, codeflow, valueChild, "Ljava/lang/Object");
+			}
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+	}
+
 }
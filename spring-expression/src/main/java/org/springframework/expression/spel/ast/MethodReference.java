@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.springframework.asm.Label;
 import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
@@ -42,6 +43,7 @@ import org.springframework.expression.spel.support.ReflectiveMethodExecutor;
 import org.springframework.expression.spel.support.ReflectiveMethodResolver;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -273,7 +275,10 @@ public class MethodReference extends SpelNodeImpl {
 
 	/**
 	 * A method reference is compilable if it has been resolved to a reflectively accessible method
-	 * and the child nodes (arguments to the method) are also compilable.
+	 * and the child nodes (arguments to the method) are also compilable. Arguments requiring type
+	 * conversion get converted through the {@link org.springframework.expression.TypeConverter}
+	 * of the evaluation context, as long as the method does not declare varargs, generic or
+	 * annotated parameters.
 	 */
 	@Override
 	public boolean isCompilable() {
@@ -290,7 +295,7 @@ public class MethodReference extends SpelNodeImpl {
 		}
 
 		ReflectiveMethodExecutor executor = (ReflectiveMethodExecutor) executorToCheck.get();
-		if (executor.didArgumentConversionOccur()) {
+		if (executor.didArgumentConversionOccur() && !isArgumentConversionCompilable(executor.getMethod())) {
 			return false;
 		}
 		Class<?> clazz = executor.getMethod().getDeclaringClass();
@@ -350,7 +355,12 @@ public class MethodReference extends SpelNodeImpl {
 			CodeFlow.insertCheckCast(mv, "L" + classDesc);
 		}
 
-		generateCodeForArguments(mv, cf, method, this.children);
+		if (methodExecutor.didArgumentConversionOccur()) {
+			generateCodeForConvertedArguments(mv, cf, method);
+		}
+		else {
+			generateCodeForArguments(mv, cf, method, this.children);
+		}
 		mv.visitMethodInsn((isStaticMethod ? INVOKESTATIC : INVOKEVIRTUAL), classDesc, method.getName(),
 				CodeFlow.createSignatureDescriptor(method), method.getDeclaringClass().isInterface());
 		cf.pushDescriptor(this.exitTypeDescriptor);
@@ -366,6 +376,53 @@ public class MethodReference extends SpelNodeImpl {
 	}
 
 
+	private boolean isArgumentConversionCompilable(Method method) {
+		if (method.isVarArgs()) {
+			return false;
+		}
+		// Conversion targets need to be fully described by the parameter classes
+		java.lang.reflect.Type[] paramTypes = method.getGenericParameterTypes();
+		for (int i = 0; i < paramTypes.length; i++) {
+			if (!(paramTypes[i] instanceof Class) || method.getParameterAnnotations()[i].length > 0 ||
+					!Modifier.isPublic(ClassUtils.resolvePrimitiveIfNecessary((Class<?>) paramTypes[i]).getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Generate the arguments for the given method, converting each of them to the
+	 * corresponding parameter type through the TypeConverter of the evaluation context.
+	 */
+	private void generateCodeForConvertedArguments(MethodVisitor mv, CodeFlow cf, Method method) {
+		Class<?>[] paramTypes = method.getParameterTypes();
+		for (int i = 0; i < paramTypes.length; i++) {
+			Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(paramTypes[i]);
+			cf.loadEvaluationContext(mv);
+			mv.visitMethodInsn(INVOKEINTERFACE, "org/springframework/expression/EvaluationContext",
+					"getTypeConverter", "()Lorg/springframework/expression/TypeConverter;", true);
+			generateCodeForArgument(mv, cf, this.children[i], "Ljava/lang/Object");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESTATIC, "org/springframework/core/convert/TypeDescriptor", "forObject",
+					"(Ljava/lang/Object;)Lorg/springframework/core/convert/TypeDescriptor;", false);
+			mv.visitLdcInsn(Type.getType(targetType));
+			mv.visitMethodInsn(INVOKESTATIC, "org/springframework/core/convert/TypeDescriptor", "valueOf",
+					"(Ljava/lang/Class;)Lorg/springframework/core/convert/TypeDescriptor;", false);
+			mv.visitMethodInsn(INVOKEINTERFACE, "org/springframework/expression/TypeConverter", "convertValue",
+					"(Ljava/lang/Object;Lorg/springframework/core/convert/TypeDescriptor;" +
+					"Lorg/springframework/core/convert/TypeDescriptor;)Ljava/lang/Object;", true);
+			String paramDesc = CodeFlow.toDescriptor(paramTypes[i]);
+			if (paramTypes[i].isPrimitive()) {
+				CodeFlow.insertUnboxInsns(mv, paramDesc.charAt(0), "Ljava/lang/Object");
+			}
+			else {
+				CodeFlow.insertCheckCast(mv, paramDesc);
+			}
+		}
+	}
+
+
 	private class MethodValueRef implements ValueRef {
 
 		private final EvaluationContext evaluationContext;
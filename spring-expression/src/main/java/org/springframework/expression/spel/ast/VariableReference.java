@@ -16,8 +16,6 @@
 
 package org.springframework.expression.spel.ast;
 
-import java.lang.reflect.Modifier;
-
 import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.TypedValue;
@@ -52,40 +50,29 @@ public class VariableReference extends SpelNodeImpl {
 
 	@Override
 	public ValueRef getValueRef(ExpressionState state) throws SpelEvaluationException {
-		if (this.name.equals(THIS)) {
-			return new ValueRef.TypedValueHolderValueRef(state.getActiveContextObject(),this);
-		}
-		if (this.name.equals(ROOT)) {
-			return new ValueRef.TypedValueHolderValueRef(state.getRootContextObject(),this);
+		if (this.name.equals(THIS) || this.name.equals(ROOT)) {
+			return new ValueRef.TypedValueHolderValueRef(getValueInternal(state), this);
 		}
-		TypedValue result = state.lookupVariable(this.name);
-		// a null value will mean either the value was null or the variable was not found
+		TypedValue result = getValueInternal(state);
 		return new VariableRef(this.name,result,state.getEvaluationContext());
 	}
 
 	@Override
 	public TypedValue getValueInternal(ExpressionState state) throws SpelEvaluationException {
+		TypedValue result;
 		if (this.name.equals(THIS)) {
-			return state.getActiveContextObject();
+			result = state.getActiveContextObject();
 		}
-		if (this.name.equals(ROOT)) {
-			TypedValue result = state.getRootContextObject();
-			this.exitTypeDescriptor = CodeFlow.toDescriptorFromObject(result.getValue());
-			return result;
-		}
-		TypedValue result = state.lookupVariable(this.name);
-		Object value = result.getValue();
-		if (value == null || !Modifier.isPublic(value.getClass().getModifiers())) {
-			// If the type is not public then when generateCode produces a checkcast to it
-			// then an IllegalAccessError will occur.
-			// If resorting to Object isn't sufficient, the hierarchy could be traversed for
-			// the first public type.
-			this.exitTypeDescriptor = "Ljava/lang/Object";
+		else if (this.name.equals(ROOT)) {
+			result = state.getRootContextObject();
 		}
 		else {
-			this.exitTypeDescriptor = CodeFlow.toDescriptorFromObject(value);
+			// a null value will mean either the value was null or the variable was not found
+			result = state.lookupVariable(this.name);
 		}
-		// a null value will mean either the value was null or the variable was not found
+		// If the type is not public then when generateCode produces a checkcast to it
+		// then an IllegalAccessError will occur - so resort to the first public type.
+		this.exitTypeDescriptor = CodeFlow.toPublicDescriptorFromObject(result.getValue());
 		return result;
 	}
 
@@ -114,6 +101,17 @@ public class VariableReference extends SpelNodeImpl {
 		if (this.name.equals(ROOT)) {
 			mv.visitVarInsn(ALOAD,1);
 		}
+		else if (this.name.equals(THIS)) {
+			String descriptor = cf.lastDescriptor();
+			if (descriptor == null) {
+				// Nothing on the stack: the active context object is the target or current element
+				cf.loadTarget(mv);
+			}
+			else if (CodeFlow.isPrimitive(descriptor)) {
+				// The previous element of a compound expression is the active context object
+				CodeFlow.insertBoxIfNecessary(mv, descriptor.charAt(0));
+			}
+		}
 		else {
 			mv.visitVarInsn(ALOAD, 2);
 			mv.visitLdcInsn(this.name);
@@ -16,6 +16,8 @@
 
 package org.springframework.expression.spel.standard;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
@@ -75,6 +77,15 @@ public class SpelExpression implements Expression {
 	// give up trying to compile it when it just doesn't seem to be possible.
 	private volatile int failedAttempts = 0;
 
+	// Statistics for the lifetime of this expression, not reset on reverting to interpreted mode
+	private final LongAdder interpretedInvocations = new LongAdder();
+
+	private final LongAdder compiledInvocations = new LongAdder();
+
+	private final LongAdder compiledInvocationFailures = new LongAdder();
+
+	private final LongAdder compilationFailures = new LongAdder();
+
 
 	/**
 	 * Construct an expression, only used by the parser.
@@ -117,11 +128,13 @@ public class SpelExpression implements Expression {
 	@Nullable
 	public Object getValue() throws EvaluationException {
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				EvaluationContext context = getEvaluationContext();
 				return this.compiledAst.getValue(context.getRootObject().getValue(), context);
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -145,6 +158,7 @@ public class SpelExpression implements Expression {
 	@Nullable
 	public <T> T getValue(@Nullable Class<T> expectedResultType) throws EvaluationException {
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				EvaluationContext context = getEvaluationContext();
 				Object result = this.compiledAst.getValue(context.getRootObject().getValue(), context);
@@ -157,6 +171,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -180,10 +195,12 @@ public class SpelExpression implements Expression {
 	@Nullable
 	public Object getValue(Object rootObject) throws EvaluationException {
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				return this.compiledAst.getValue(rootObject, getEvaluationContext());
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -208,6 +225,7 @@ public class SpelExpression implements Expression {
 	@Nullable
 	public <T> T getValue(Object rootObject, @Nullable Class<T> expectedResultType) throws EvaluationException {
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				Object result = this.compiledAst.getValue(rootObject, getEvaluationContext());
 				if (expectedResultType == null) {
@@ -219,6 +237,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -245,10 +264,12 @@ public class SpelExpression implements Expression {
 		Assert.notNull(context, "EvaluationContext is required");
 
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				return this.compiledAst.getValue(context.getRootObject().getValue(), context);
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -274,6 +295,7 @@ public class SpelExpression implements Expression {
 		Assert.notNull(context, "EvaluationContext is required");
 
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				Object result = this.compiledAst.getValue(context.getRootObject().getValue(), context);
 				if (expectedResultType != null) {
@@ -284,6 +306,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -308,10 +331,12 @@ public class SpelExpression implements Expression {
 		Assert.notNull(context, "EvaluationContext is required");
 
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				return this.compiledAst.getValue(rootObject, context);
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -339,6 +364,7 @@ public class SpelExpression implements Expression {
 		Assert.notNull(context, "EvaluationContext is required");
 
 		if (this.compiledAst != null) {
+			this.compiledInvocations.increment();
 			try {
 				Object result = this.compiledAst.getValue(rootObject, context);
 				if (expectedResultType != null) {
@@ -349,6 +375,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.compiledInvocationFailures.increment();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.interpretedCount = 0;
@@ -473,6 +500,7 @@ public class SpelExpression implements Expression {
 	 * @param expressionState the expression state used to determine compilation mode
 	 */
 	private void checkCompile(ExpressionState expressionState) {
+		this.interpretedInvocations.increment();
 		this.interpretedCount++;
 		SpelCompilerMode compilerMode = expressionState.getConfiguration().getCompilerMode();
 		if (compilerMode != SpelCompilerMode.OFF) {
@@ -511,6 +539,7 @@ public class SpelExpression implements Expression {
 				this.compiledAst = compiler.compile(this.ast);
 				if (this.compiledAst == null) {
 					this.failedAttempts++;
+					this.compilationFailures.increment();
 				}
 			}
 		}
@@ -528,6 +557,53 @@ public class SpelExpression implements Expression {
 		this.failedAttempts = 0;
 	}
 
+	/**
+	 * Return whether this expression is currently evaluated in compiled form.
+	 * @since 5.2
+	 * @see #compileExpression()
+	 */
+	public boolean isCompiled() {
+		return (this.compiledAst != null);
+	}
+
+	/**
+	 * Return the number of value retrievals that have been interpreted
+	 * (i.e. evaluated through the Abstract Syntax Tree) over the lifetime of this expression.
+	 * @since 5.2
+	 */
+	public long getInterpretedInvocationCount() {
+		return this.interpretedInvocations.sum();
+	}
+
+	/**
+	 * Return the number of value retrievals that have been attempted in compiled form
+	 * over the lifetime of this expression.
+	 * @since 5.2
+	 * @see #getCompiledInvocationFailureCount()
+	 */
+	public long getCompiledInvocationCount() {
+		return this.compiledInvocations.sum();
+	}
+
+	/**
+	 * Return the number of value retrievals in compiled form that have failed, either
+	 * reverting to interpreted mode ({@link SpelCompilerMode#MIXED}) or propagating the
+	 * failure to the caller ({@link SpelCompilerMode#IMMEDIATE}).
+	 * @since 5.2
+	 */
+	public long getCompiledInvocationFailureCount() {
+		return this.compiledInvocationFailures.sum();
+	}
+
+	/**
+	 * Return the number of compilation attempts that have failed over the lifetime
+	 * of this expression, e.g. due to nodes that are not compilable.
+	 * @since 5.2
+	 */
+	public long getCompilationFailureCount() {
+		return this.compilationFailures.sum();
+	}
+
 	/**
 	 * Return the Abstract Syntax Tree for the expression.
 	 */
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -103,20 +104,21 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	 * ConstructorReference
 	 * FunctionReference
 	 * InlineList
+	 * InlineMap
 	 * OpModulus
+	 * BeanReference
+	 * Projection (on Iterables)
+	 * Selection (on Iterables)
 	 *
 	 * Not yet compiled (some may never need to be):
 	 * Assign
-	 * BeanReference
 	 * Identifier
 	 * OpDec
 	 * OpBetween
 	 * OpMatches
 	 * OpPower
 	 * OpInc
-	 * Projection
 	 * QualifiedId
-	 * Selection
 	 */
 
 
@@ -365,6 +367,161 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertEquals("bc", o);
 	}
 
+	@Test
+	public void inlineListWithNonLiterals() throws Exception {
+		StandardEvaluationContext context = new StandardEvaluationContext("abc");
+		context.setVariable("a", "x");
+		expression = parser.parseExpression("{#a, length(), {1,2}, #root.toUpperCase()}");
+		assertEquals("[x, 3, [1, 2], ABC]", expression.getValue(context).toString());
+		assertCanCompile(expression);
+		assertEquals("[x, 3, [1, 2], ABC]", expression.getValue(context).toString());
+		context.setVariable("a", "y");
+		assertEquals("[y, 3, [1, 2], ABC]", expression.getValue(context).toString());
+	}
+
+	@Test
+	public void inlineMap() throws Exception {
+		expression = parser.parseExpression("{a:'x', b:2, c:{1,2}, d:{e:true}}");
+		assertEquals("{a=x, b=2, c=[1, 2], d={e=true}}", expression.getValue().toString());
+		assertCanCompile(expression);
+		assertEquals("{a=x, b=2, c=[1, 2], d={e=true}}", expression.getValue().toString());
+		assertSame(expression.getValue(), expression.getValue());
+
+		StandardEvaluationContext context = new StandardEvaluationContext("abc");
+		expression = parser.parseExpression("{name:#root, length:length(), 'upper':toUpperCase()}");
+		assertEquals("{name=abc, length=3, upper=ABC}", expression.getValue(context).toString());
+		assertCanCompile(expression);
+		assertEquals("{name=abc, length=3, upper=ABC}", expression.getValue(context).toString());
+		assertEquals("{name=de, length=2, upper=DE}", expression.getValue(context, "de").toString());
+	}
+
+	@Test
+	public void projection() throws Exception {
+		List<String> list = Arrays.asList("a", "bb", "ccc");
+		expression = parser.parseExpression("![length()]");
+		assertEquals(Arrays.asList(1, 2, 3), expression.getValue(list));
+		assertCanCompile(expression);
+		assertEquals(Arrays.asList(1, 2, 3), expression.getValue(list));
+		assertEquals(Arrays.asList(2), expression.getValue(Collections.singleton("dd")));
+
+		StandardEvaluationContext context = new StandardEvaluationContext(list);
+		context.setVariable("suffix", "!");
+		expression = parser.parseExpression("#root.![#this.toUpperCase().concat(#suffix)].![substring(0, 1)]");
+		assertEquals(Arrays.asList("A", "B", "C"), expression.getValue(context));
+		assertCanCompile(expression);
+		assertEquals(Arrays.asList("A", "B", "C"), expression.getValue(context));
+
+		expression = parser.parseExpression("#list?.![#this + #root]");
+		context = new StandardEvaluationContext("-");
+		context.setVariable("list", list);
+		assertEquals(Arrays.asList("a-", "bb-", "ccc-"), expression.getValue(context));
+		assertCanCompile(expression);
+		assertEquals(Arrays.asList("a-", "bb-", "ccc-"), expression.getValue(context));
+		context.setVariable("list", null);
+		assertNull(expression.getValue(context));
+
+		// Projection on arrays and maps remains interpreted
+		expression = parser.parseExpression("![#this * 2]");
+		assertEquals(2, ((Object[]) expression.getValue(new Integer[] {1}))[0]);
+		assertCantCompile(expression);
+	}
+
+	@Test
+	public void selection() throws Exception {
+		List<String> list = Arrays.asList("a", "bb", "ccc", "dd");
+		expression = parser.parseExpression("?[length() > 1]");
+		assertEquals(Arrays.asList("bb", "ccc", "dd"), expression.getValue(list));
+		assertCanCompile(expression);
+		assertEquals(Arrays.asList("bb", "ccc", "dd"), expression.getValue(list));
+		assertEquals(Collections.emptyList(), expression.getValue(Collections.singletonList("e")));
+
+		expression = parser.parseExpression("^[length() > 1]");
+		assertEquals("bb", expression.getValue(list));
+		assertCanCompile(expression);
+		assertEquals("bb", expression.getValue(list));
+		assertNull(expression.getValue(Collections.singletonList("e")));
+
+		expression = parser.parseExpression("$[length() == 2].toUpperCase()");
+		assertEquals("DD", expression.getValue(list));
+		assertCanCompile(expression);
+		assertEquals("DD", expression.getValue(list));
+
+		StandardEvaluationContext context = new StandardEvaluationContext(list);
+		context.setVariable("min", 2);
+		expression = parser.parseExpression("#root?.?[#this.length() >= #min and !#this.startsWith('c')].![#this.length()]");
+		assertEquals(Arrays.asList(2, 2), expression.getValue(context));
+		assertCanCompile(expression);
+		assertEquals(Arrays.asList(2, 2), expression.getValue(context));
+		context.setVariable("min", 1);
+		assertEquals(Arrays.asList(1, 2, 2), expression.getValue(context));
+	}
+
+	@Test
+	public void beanReference() throws Exception {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		Map<String, Object> beans = new HashMap<>();
+		beans.put("foo", "abc");
+		beans.put("&foo", "factory");
+		context.setBeanResolver((evaluationContext, beanName) -> beans.get(beanName));
+
+		expression = parser.parseExpression("@foo.length()");
+		assertEquals(3, expression.getValue(context));
+		assertCanCompile(expression);
+		assertEquals(3, expression.getValue(context));
+		beans.put("foo", "abcd");
+		assertEquals(4, expression.getValue(context));
+
+		expression = parser.parseExpression("&foo");
+		assertEquals("factory", expression.getValue(context));
+		assertCanCompile(expression);
+		assertEquals("factory", expression.getValue(context));
+	}
+
+	@Test
+	public void variableReference_thisAndNonPublicRoot() throws Exception {
+		expression = parser.parseExpression("#this.length()");
+		assertEquals(3, expression.getValue("abc"));
+		assertCanCompile(expression);
+		assertEquals(3, expression.getValue("abc"));
+
+		Map<String, String> map = Collections.unmodifiableMap(Collections.singletonMap("a", "b"));
+		expression = parser.parseExpression("#root['a']");
+		assertEquals("b", expression.getValue(map));
+		assertCanCompile(expression);
+		assertEquals("b", expression.getValue(map));
+	}
+
+	@Test
+	public void expressionStatistics() throws Exception {
+		SpelExpression spelExpression = (SpelExpression) parser.parseExpression("length()");
+		assertFalse(spelExpression.isCompiled());
+		spelExpression.getValue("abc");
+		spelExpression.getValue("de");
+		assertEquals(2, spelExpression.getInterpretedInvocationCount());
+		assertEquals(0, spelExpression.getCompiledInvocationCount());
+
+		assertCanCompile(spelExpression);
+		assertTrue(spelExpression.isCompiled());
+		assertEquals(2, spelExpression.getValue("de"));
+		assertEquals(1, spelExpression.getCompiledInvocationCount());
+		assertEquals(0, spelExpression.getCompiledInvocationFailureCount());
+		assertEquals(0, spelExpression.getCompilationFailureCount());
+
+		try {
+			spelExpression.getValue(new Object());
+			fail("Should have failed on a target without length()");
+		}
+		catch (SpelEvaluationException ex) {
+			// expected
+		}
+		assertEquals(2, spelExpression.getCompiledInvocationCount());
+		assertEquals(1, spelExpression.getCompiledInvocationFailureCount());
+
+		spelExpression = (SpelExpression) parser.parseExpression("#missing");
+		assertCantCompile(spelExpression);
+		assertEquals(1, spelExpression.getCompilationFailureCount());
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Test
 	public void nestedInlineLists() throws Exception {
@@ -3948,7 +4105,10 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertCantCompile(expression);
 		expression.getValue(tc);
 		assertEquals("123", tc.s);
-		assertCantCompile(expression); // Uncompilable as argument conversion is occurring
+		tc.reset();
+		assertCanCompile(expression); // The generated code converts the argument through the TypeConverter
+		expression.getValue(tc);
+		assertEquals("123", tc.s);
 
 		Expression expression = parser.parseExpression("'abcd'.substring(index1,index2)");
 		String resultI = expression.getValue(new TestClass1(), String.class);
@@ -3983,7 +4143,9 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		expression.getValue(tc);
 		assertEquals("42", tc.s);
 		tc.reset();
-		assertCantCompile(expression); // method takes a string and we are passing an Integer
+		assertCanCompile(expression); // method takes a string and we are passing an Integer to convert
+		expression.getValue(tc);
+		assertEquals("42", tc.s);
 	}
 
 	@Test
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Benchmarks for {@link JdbcTemplate#query} against an embedded HSQLDB database,
+ * comparing a hand-written {@link RowMapper}, {@link BeanPropertyRowMapper},
+ * {@link SingleColumnRowMapper} and {@link ColumnMapRowMapper}.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class JdbcTemplateBenchmark {
+
+	private static final String SELECT_CUSTOMERS = "SELECT id, name, email, balance FROM customer WHERE id <= ?";
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"1", "100"})
+		public int rowCount;
+
+		public EmbeddedDatabase database;
+
+		public JdbcTemplate jdbcTemplate;
+
+		public RowMapper<Customer> customerMapper;
+
+		public RowMapper<Customer> beanPropertyMapper;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL)
+					.generateUniqueName(true).build();
+			this.jdbcTemplate = new JdbcTemplate(this.database);
+			this.jdbcTemplate.execute("CREATE TABLE customer (id INTEGER PRIMARY KEY, " +
+					"name VARCHAR(50), email VARCHAR(100), balance DECIMAL(10,2))");
+			for (int i = 1; i <= this.rowCount; i++) {
+				this.jdbcTemplate.update("INSERT INTO customer VALUES (?, ?, ?, ?)",
+						i, "customer" + i, "customer" + i + "@example.com", i * 10);
+			}
+			this.customerMapper = (rs, rowNum) -> {
+				Customer customer = new Customer();
+				customer.setId(rs.getInt(1));
+				customer.setName(rs.getString(2));
+				customer.setEmail(rs.getString(3));
+				customer.setBalance(rs.getDouble(4));
+				return customer;
+			};
+			this.beanPropertyMapper = BeanPropertyRowMapper.newInstance(Customer.class);
+		}
+
+		@TearDown(Level.Trial)
+		public void shutdown() {
+			this.database.shutdown();
+		}
+	}
+
+
+	@Benchmark
+	public List<Customer> queryWithRowMapper(BenchmarkState state) {
+		return state.jdbcTemplate.query(SELECT_CUSTOMERS, state.customerMapper, state.rowCount);
+	}
+
+	@Benchmark
+	public List<Customer> queryWithBeanPropertyRowMapper(BenchmarkState state) {
+		return state.jdbcTemplate.query(SELECT_CUSTOMERS, state.beanPropertyMapper, state.rowCount);
+	}
+
+	@Benchmark
+	public List<String> queryForSingleColumnList(BenchmarkState state) {
+		return state.jdbcTemplate.queryForList(
+				"SELECT name FROM customer WHERE id <= ?", String.class, state.rowCount);
+	}
+
+	@Benchmark
+	public Object queryForColumnMaps(BenchmarkState state) {
+		return state.jdbcTemplate.queryForList(SELECT_CUSTOMERS, state.rowCount);
+	}
+
+
+	public static class Customer {
+
+		private int id;
+
+		private String name;
+
+		private String email;
+
+		private double balance;
+
+		public int getId() {
+			return this.id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public double getBalance() {
+			return this.balance;
+		}
+
+		public void setBalance(double balance) {
+			this.balance = balance;
+		}
+	}
+
+}
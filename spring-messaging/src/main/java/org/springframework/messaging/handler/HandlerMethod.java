@@ -26,6 +26,7 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CompiledMethodInvoker;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotatedElementUtils;
@@ -73,6 +74,9 @@ public class HandlerMethod {
 
 	private final MethodParameter[] parameters;
 
+	@Nullable
+	private final CompiledMethodInvoker compiledInvoker;
+
 	@Nullable
 	private HandlerMethod resolvedFromHandlerMethod;
 
@@ -89,6 +93,7 @@ public class HandlerMethod {
 		this.method = method;
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
 		this.parameters = initMethodParameters();
+		this.compiledInvoker = CompiledMethodInvoker.forMethod(this.bridgedMethod);
 	}
 
 	/**
@@ -104,6 +109,7 @@ public class HandlerMethod {
 		this.method = bean.getClass().getMethod(methodName, parameterTypes);
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(this.method);
 		this.parameters = initMethodParameters();
+		this.compiledInvoker = CompiledMethodInvoker.forMethod(this.bridgedMethod);
 	}
 
 	/**
@@ -125,6 +131,7 @@ public class HandlerMethod {
 		this.method = method;
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
 		this.parameters = initMethodParameters();
+		this.compiledInvoker = CompiledMethodInvoker.forMethod(this.bridgedMethod);
 	}
 
 	/**
@@ -138,6 +145,7 @@ public class HandlerMethod {
 		this.method = handlerMethod.method;
 		this.bridgedMethod = handlerMethod.bridgedMethod;
 		this.parameters = handlerMethod.parameters;
+		this.compiledInvoker = handlerMethod.compiledInvoker;
 		this.resolvedFromHandlerMethod = handlerMethod.resolvedFromHandlerMethod;
 	}
 
@@ -153,6 +161,7 @@ public class HandlerMethod {
 		this.method = handlerMethod.method;
 		this.bridgedMethod = handlerMethod.bridgedMethod;
 		this.parameters = handlerMethod.parameters;
+		this.compiledInvoker = handlerMethod.compiledInvoker;
 		this.resolvedFromHandlerMethod = handlerMethod;
 	}
 
@@ -224,6 +233,18 @@ public class HandlerMethod {
 		return this.parameters;
 	}
 
+	/**
+	 * Return the compiled invoker for the {@link #getBridgedMethod() bridged method},
+	 * created along with this handler method and shared with the handler methods
+	 * derived from it, or {@code null} if the method is invoked through reflection.
+	 * @since 5.2
+	 * @see CompiledMethodInvoker#forMethod
+	 */
+	@Nullable
+	protected CompiledMethodInvoker getCompiledInvoker() {
+		return this.compiledInvoker;
+	}
+
 	/**
 	 * Return the HandlerMethod return type.
 	 */
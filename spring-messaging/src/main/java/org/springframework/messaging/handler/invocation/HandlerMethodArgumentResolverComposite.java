@@ -16,6 +16,7 @@
 
 package org.springframework.messaging.handler.invocation;
 
+import java.lang.reflect.Executable;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -37,17 +38,23 @@ import org.springframework.messaging.Message;
  */
 public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentResolver {
 
+	private static final HandlerMethodArgumentResolver[] EMPTY_RESOLVERS = new HandlerMethodArgumentResolver[0];
+
 	private final List<HandlerMethodArgumentResolver> argumentResolvers = new LinkedList<>();
 
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<Executable, HandlerMethodArgumentResolver[]> argumentResolverBindings =
+			new ConcurrentHashMap<>(256);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
 	 */
 	public HandlerMethodArgumentResolverComposite addResolver(HandlerMethodArgumentResolver argumentResolver) {
 		this.argumentResolvers.add(argumentResolver);
+		this.argumentResolverBindings.clear();
 		return this;
 	}
 
@@ -58,6 +65,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	public HandlerMethodArgumentResolverComposite addResolvers(@Nullable HandlerMethodArgumentResolver... resolvers) {
 		if (resolvers != null) {
 			Collections.addAll(this.argumentResolvers, resolvers);
+			this.argumentResolverBindings.clear();
 		}
 		return this;
 	}
@@ -70,6 +78,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (argumentResolvers != null) {
 			this.argumentResolvers.addAll(argumentResolvers);
+			this.argumentResolverBindings.clear();
 		}
 		return this;
 	}
@@ -86,6 +95,8 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	 */
 	public void clear() {
 		this.argumentResolvers.clear();
+		this.argumentResolverCache.clear();
+		this.argumentResolverBindings.clear();
 	}
 
 
@@ -117,6 +128,37 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 		return resolver.resolveArgument(parameter, message);
 	}
 
+	/**
+	 * Return the registered {@link HandlerMethodArgumentResolver} for each of the
+	 * given method parameters, in the same order, with a {@code null} element for
+	 * a parameter that none of the resolvers supports.
+	 * <p>The result is cached per method, so that repeated invocations look up
+	 * their resolvers once rather than per parameter, even for handler method
+	 * instances created per request (e.g. for model attribute methods).
+	 * The returned array must not be modified.
+	 * @param parameters the parameters of a handler method, complete and in
+	 * declaration order (other arrays get resolved without caching)
+	 * @since 5.2
+	 */
+	public HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		if (parameters.length == 0) {
+			return EMPTY_RESOLVERS;
+		}
+		Executable executable = parameters[0].getExecutable();
+		boolean cacheable = (parameters.length == executable.getParameterCount());
+		HandlerMethodArgumentResolver[] result = (cacheable ? this.argumentResolverBindings.get(executable) : null);
+		if (result == null) {
+			result = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				result[i] = getArgumentResolver(parameters[i]);
+			}
+			if (cacheable) {
+				this.argumentResolverBindings.put(executable, result);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Find a registered {@link HandlerMethodArgumentResolver} that supports
 	 * the given method parameter.
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 
+import org.springframework.core.CompiledMethodInvoker;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
@@ -131,20 +132,24 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			return EMPTY_ARGS;
 		}
 		MethodParameter[] parameters = getMethodParameters();
+		for (MethodParameter parameter : parameters) {
+			parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
+		}
+		HandlerMethodArgumentResolver[] resolvers = this.resolvers.getArgumentResolvers(parameters);
 		Object[] args = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++) {
 			MethodParameter parameter = parameters[i];
-			parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
 			args[i] = findProvidedArgument(parameter, providedArgs);
 			if (args[i] != null) {
 				continue;
 			}
-			if (!this.resolvers.supportsParameter(parameter)) {
+			HandlerMethodArgumentResolver resolver = resolvers[i];
+			if (resolver == null) {
 				throw new MethodArgumentResolutionException(
 						message, parameter, formatArgumentError(parameter, "No suitable resolver"));
 			}
 			try {
-				args[i] = this.resolvers.resolveArgument(parameter, message);
+				args[i] = resolver.resolveArgument(parameter, message);
 			}
 			catch (Exception ex) {
 				// Leave stack trace for later, exception may actually be resolved and handled..
@@ -165,9 +170,12 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 */
 	@Nullable
 	protected Object doInvoke(Object... args) throws Exception {
-		ReflectionUtils.makeAccessible(getBridgedMethod());
+		CompiledMethodInvoker invoker = getCompiledInvoker();
+		if (invoker == null) {
+			ReflectionUtils.makeAccessible(getBridgedMethod());
+		}
 		try {
-			return getBridgedMethod().invoke(getBean(), args);
+			return (invoker != null ? invoker.invoke(getBean(), args) : getBridgedMethod().invoke(getBean(), args));
 		}
 		catch (IllegalArgumentException ex) {
 			assertTargetBean(getBridgedMethod(), getBean(), args);
@@ -20,6 +20,7 @@ import java.lang.reflect.Method;
 
 import org.junit.Test;
 
+import org.springframework.core.CompiledMethodInvoker;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
@@ -187,6 +188,82 @@ public class InvocableHandlerMethodTests {
 		}
 	}
 
+	@Test
+	public void resolveArgWithCompiledInvoker() throws Exception {
+		this.resolvers.addResolver(new StubArgumentResolver(99));
+		this.resolvers.addResolver(new StubArgumentResolver("value"));
+		Method method = ResolvableMethod.on(CompilableHandler.class).argTypes(Integer.class, String.class).resolveMethod();
+		assertNotNull(CompiledMethodInvoker.forMethod(method));
+
+		assertEquals("99-value", invoke(new CompilableHandler(), method));
+	}
+
+	@Test
+	public void illegalArgumentExceptionWithCompiledInvoker() throws Exception {
+		this.resolvers.addResolver(new StubArgumentResolver(Integer.class, "__not_an_int__"));
+		this.resolvers.addResolver(new StubArgumentResolver("value"));
+		Method method = ResolvableMethod.on(CompilableHandler.class).argTypes(Integer.class, String.class).resolveMethod();
+		try {
+			invoke(new CompilableHandler(), method);
+			fail("Expected exception");
+		}
+		catch (IllegalStateException ex) {
+			assertTrue(ex.getCause() instanceof IllegalArgumentException);
+			assertTrue(ex.getMessage().contains("[0] [type=java.lang.String] [value=__not_an_int__]"));
+		}
+	}
+
+	@Test
+	public void primitiveWideningWithCompiledInvoker() throws Exception {
+		// Not directly invocable: falls back to reflection
+		this.resolvers.addResolver(new StubArgumentResolver(long.class, 5));
+		Method method = ResolvableMethod.on(CompilableHandler.class).argTypes(long.class).resolveMethod();
+		assertNotNull(CompiledMethodInvoker.forMethod(method));
+
+		assertEquals("long:5", invoke(new CompilableHandler(), method));
+	}
+
+	@Test
+	public void invocationTargetExceptionWithCompiledInvoker() throws Exception {
+		CompilableHandler handler = new CompilableHandler();
+		Method method = ResolvableMethod.on(CompilableHandler.class).argTypes(Throwable.class).resolveMethod();
+		assertNotNull(CompiledMethodInvoker.forMethod(method));
+		Throwable expected = null;
+		try {
+			expected = new RuntimeException("error");
+			invoke(handler, method, expected);
+			fail("Expected exception");
+		}
+		catch (RuntimeException actual) {
+			assertSame(expected, actual);
+		}
+		try {
+			expected = new Error("error");
+			invoke(handler, method, expected);
+			fail("Expected exception");
+		}
+		catch (Error actual) {
+			assertSame(expected, actual);
+		}
+		try {
+			expected = new Exception("error");
+			invoke(handler, method, expected);
+			fail("Expected exception");
+		}
+		catch (Exception actual) {
+			assertSame(expected, actual);
+		}
+		try {
+			expected = new Throwable("error", expected);
+			invoke(handler, method, expected);
+			fail("Expected exception");
+		}
+		catch (IllegalStateException actual) {
+			assertSame(expected, actual.getCause());
+			assertTrue(actual.getMessage().contains("Invocation failure"));
+		}
+	}
+
 	@Nullable
 	private Object invoke(Object handler, Method method, Object... providedArgs) throws Exception {
 		InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(handler, method);
@@ -216,6 +293,23 @@ public class InvocableHandlerMethodTests {
 	}
 
 
+	@SuppressWarnings("unused")
+	public static class CompilableHandler {
+
+		public String handle(Integer intArg, String stringArg) {
+			return intArg + "-" + stringArg;
+		}
+
+		public String handle(long value) {
+			return "long:" + value;
+		}
+
+		public void handleWithException(Throwable ex) throws Throwable {
+			throw ex;
+		}
+	}
+
+
 	private static class ExceptionRaisingArgumentResolver implements HandlerMethodArgumentResolver {
 
 		@Override
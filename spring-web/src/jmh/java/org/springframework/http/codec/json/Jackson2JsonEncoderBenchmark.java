@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.Pojo;
+
+/**
+ * Benchmarks for {@link Jackson2JsonEncoder#encode} with a single value,
+ * a JSON array and a stream of values.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonEncoderBenchmark {
+
+	private static final ResolvableType POJO_TYPE = ResolvableType.forClass(Pojo.class);
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"1", "100"})
+		public int elementCount;
+
+		public Jackson2JsonEncoder encoder;
+
+		public DataBufferFactory bufferFactory;
+
+		public Pojo pojo;
+
+		public List<Pojo> pojos;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.encoder = new Jackson2JsonEncoder();
+			this.bufferFactory = new DefaultDataBufferFactory();
+			this.pojo = new Pojo("foo", "bar");
+			List<Pojo> pojos = new ArrayList<>(this.elementCount);
+			for (int i = 0; i < this.elementCount; i++) {
+				pojos.add(new Pojo("foo" + i, "bar" + i));
+			}
+			this.pojos = Collections.unmodifiableList(pojos);
+		}
+	}
+
+
+	@Benchmark
+	public long encodeMono(BenchmarkState state) {
+		return consume(state.encoder.encode(Mono.just(state.pojo), state.bufferFactory,
+				POJO_TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap()));
+	}
+
+	@Benchmark
+	public long encodeFluxAsArray(BenchmarkState state) {
+		return consume(state.encoder.encode(Flux.fromIterable(state.pojos), state.bufferFactory,
+				POJO_TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap()));
+	}
+
+	@Benchmark
+	public long encodeFluxAsStream(BenchmarkState state) {
+		return consume(state.encoder.encode(Flux.fromIterable(state.pojos), state.bufferFactory,
+				POJO_TYPE, MediaType.APPLICATION_STREAM_JSON, Collections.emptyMap()));
+	}
+
+
+	private static long consume(Flux<DataBuffer> buffers) {
+		Long count = buffers.map(buffer -> {
+			int readable = buffer.readableByteCount();
+			DataBufferUtils.release(buffer);
+			return (long) readable;
+		}).reduce(0L, Long::sum).block();
+		return (count != null ? count : 0L);
+	}
+
+}
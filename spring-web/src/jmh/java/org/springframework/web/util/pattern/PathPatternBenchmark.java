@@ -0,0 +1,108 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * Benchmarks for {@link PathPattern#matches} and {@link PathPattern#matchAndExtract}
+ * with literal, captured and wildcard patterns.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PathPatternBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public PathPattern literalPattern;
+
+		public PathPattern capturePattern;
+
+		public PathPattern wildcardPattern;
+
+		public PathPattern regexPattern;
+
+		public PathContainer literalPath;
+
+		public PathContainer capturePath;
+
+		public PathContainer wildcardPath;
+
+		public PathContainer nonMatchingPath;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			PathPatternParser parser = new PathPatternParser();
+			this.literalPattern = parser.parse("/api/v1/customers/recent");
+			this.capturePattern = parser.parse("/api/v1/customers/{customerId}/orders/{orderId}");
+			this.wildcardPattern = parser.parse("/static/**");
+			this.regexPattern = parser.parse("/api/v1/customers/{customerId:\\d+}/orders/{orderId:[a-z]+}");
+			this.literalPath = PathContainer.parsePath("/api/v1/customers/recent");
+			this.capturePath = PathContainer.parsePath("/api/v1/customers/42/orders/abc");
+			this.wildcardPath = PathContainer.parsePath("/static/css/theme/main.css");
+			this.nonMatchingPath = PathContainer.parsePath("/api/v2/products/42/reviews");
+		}
+	}
+
+
+	@Benchmark
+	public void parsePath(Blackhole bh) {
+		bh.consume(PathContainer.parsePath("/api/v1/customers/42/orders/abc"));
+	}
+
+	@Benchmark
+	public boolean matchLiteral(BenchmarkState state) {
+		return state.literalPattern.matches(state.literalPath);
+	}
+
+	@Benchmark
+	public boolean matchCapture(BenchmarkState state) {
+		return state.capturePattern.matches(state.capturePath);
+	}
+
+	@Benchmark
+	public boolean matchWildcard(BenchmarkState state) {
+		return state.wildcardPattern.matches(state.wildcardPath);
+	}
+
+	@Benchmark
+	public boolean matchRegex(BenchmarkState state) {
+		return state.regexPattern.matches(state.capturePath);
+	}
+
+	@Benchmark
+	public boolean noMatch(BenchmarkState state) {
+		return state.capturePattern.matches(state.nonMatchingPath);
+	}
+
+	@Benchmark
+	public Object matchAndExtract(BenchmarkState state) {
+		return state.capturePattern.matchAndExtract(state.capturePath);
+	}
+
+}
@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.List;
 
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.support.HttpRequestWrapper;
 import org.springframework.lang.Nullable;
 
 /**
@@ -36,6 +38,8 @@ public class InterceptingClientHttpRequestFactory extends AbstractClientHttpRequ
 
 	private final List<ClientHttpRequestInterceptor> interceptors;
 
+	private boolean bufferRequestBody = true;
+
 
 	/**
 	 * Create a new instance of the {@code InterceptingClientHttpRequestFactory} with the given parameters.
@@ -50,9 +54,52 @@ public class InterceptingClientHttpRequestFactory extends AbstractClientHttpRequ
 	}
 
 
+	/**
+	 * Indicate whether this request factory should buffer the request body
+	 * before passing it to the interceptors. Default is {@code true}.
+	 * <p>When set to {@code false}, a body written through
+	 * {@link org.springframework.http.StreamingHttpOutputMessage#setBody}, as done by
+	 * {@link org.springframework.http.converter.AbstractHttpMessageConverter} subclasses,
+	 * is streamed to the target request once all interceptors have been applied,
+	 * without holding the entire body in memory. Interceptors then get passed an
+	 * empty body array, so this should only be turned off if the configured
+	 * interceptors do not need to access the request body.
+	 * @since 5.2
+	 * @see #hasStreamingBody
+	 */
+	public void setBufferRequestBody(boolean bufferRequestBody) {
+		this.bufferRequestBody = bufferRequestBody;
+	}
+
+
 	@Override
 	protected ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod, ClientHttpRequestFactory requestFactory) {
-		return new InterceptingClientHttpRequest(requestFactory, this.interceptors, uri, httpMethod);
+		if (this.bufferRequestBody) {
+			return new InterceptingClientHttpRequest(requestFactory, this.interceptors, uri, httpMethod);
+		}
+		else {
+			return new InterceptingStreamingClientHttpRequest(requestFactory, this.interceptors, uri, httpMethod);
+		}
+	}
+
+
+	/**
+	 * Determine whether the given request, as passed to a
+	 * {@link ClientHttpRequestInterceptor}, has a streaming body which is only
+	 * written to the target request after all interceptors have been applied.
+	 * The body array passed to the interceptor is empty in that case, even
+	 * though the request does have a body.
+	 * @param request the current request (possibly wrapped)
+	 * @since 5.2
+	 * @see #setBufferRequestBody
+	 */
+	public static boolean hasStreamingBody(HttpRequest request) {
+		HttpRequest requestToCheck = request;
+		while (requestToCheck instanceof HttpRequestWrapper) {
+			requestToCheck = ((HttpRequestWrapper) requestToCheck).getRequest();
+		}
+		return (requestToCheck instanceof InterceptingStreamingClientHttpRequest &&
+				((InterceptingStreamingClientHttpRequest) requestToCheck).hasStreamingBody());
 	}
 
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Wrapper for a {@link ClientHttpRequest} that has support for
+ * {@link ClientHttpRequestInterceptor ClientHttpRequestInterceptors},
+ * in streaming mode: a {@link #setBody streaming body} is not buffered
+ * but written to the target request once the last interceptor proceeds
+ * with the execution.
+ *
+ * <p>Interceptors get passed an empty body array for a streaming body,
+ * since it is only produced when written to the target request, and may
+ * detect this case through {@link InterceptingClientHttpRequestFactory#hasStreamingBody}.
+ * They may still pass a body array of their own to the execution, replacing
+ * the streaming body. A body written through {@link #getBody()} instead is
+ * buffered and passed to the interceptors as usual.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @see InterceptingClientHttpRequestFactory#setBufferRequestBody
+ */
+final class InterceptingStreamingClientHttpRequest extends AbstractClientHttpRequest
+		implements StreamingHttpOutputMessage {
+
+	private final ClientHttpRequestFactory requestFactory;
+
+	private final List<ClientHttpRequestInterceptor> interceptors;
+
+	private final HttpMethod method;
+
+	private final URI uri;
+
+	@Nullable
+	private Body body;
+
+	@Nullable
+	private ByteArrayOutputStream bufferedOutput;
+
+	private boolean streamingBody;
+
+
+	InterceptingStreamingClientHttpRequest(ClientHttpRequestFactory requestFactory,
+			List<ClientHttpRequestInterceptor> interceptors, URI uri, HttpMethod method) {
+
+		this.requestFactory = requestFactory;
+		this.interceptors = interceptors;
+		this.method = method;
+		this.uri = uri;
+	}
+
+
+	@Override
+	public HttpMethod getMethod() {
+		return this.method;
+	}
+
+	@Override
+	public String getMethodValue() {
+		return this.method.name();
+	}
+
+	@Override
+	public URI getURI() {
+		return this.uri;
+	}
+
+	@Override
+	public void setBody(Body body) {
+		assertNotExecuted();
+		this.body = body;
+	}
+
+	/**
+	 * Return whether the body of this request is streamed to the target request,
+	 * as opposed to being passed to the interceptors.
+	 */
+	boolean hasStreamingBody() {
+		return this.streamingBody;
+	}
+
+	@Override
+	protected OutputStream getBodyInternal(HttpHeaders headers) throws IOException {
+		// Not written through a streaming body: buffer for the interceptors to see
+		if (this.bufferedOutput == null) {
+			this.bufferedOutput = new ByteArrayOutputStream(1024);
+		}
+		return this.bufferedOutput;
+	}
+
+	@Override
+	protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+		byte[] bufferedBody = new byte[0];
+		if (this.bufferedOutput != null) {
+			bufferedBody = this.bufferedOutput.toByteArray();
+			if (headers.getContentLength() < 0) {
+				headers.setContentLength(bufferedBody.length);
+			}
+			this.bufferedOutput = null;
+		}
+		this.streamingBody = (this.body != null && bufferedBody.length == 0);
+		InterceptingRequestExecution requestExecution = new InterceptingRequestExecution();
+		return requestExecution.execute(this, bufferedBody);
+	}
+
+
+	private class InterceptingRequestExecution implements ClientHttpRequestExecution {
+
+		private final Iterator<ClientHttpRequestInterceptor> iterator;
+
+		public InterceptingRequestExecution() {
+			this.iterator = interceptors.iterator();
+		}
+
+		@Override
+		public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+			if (this.iterator.hasNext()) {
+				ClientHttpRequestInterceptor nextInterceptor = this.iterator.next();
+				return nextInterceptor.intercept(request, body, this);
+			}
+			else {
+				HttpMethod method = request.getMethod();
+				Assert.state(method != null, "No standard HTTP method");
+				ClientHttpRequest delegate = requestFactory.createRequest(request.getURI(), method);
+				request.getHeaders().forEach((key, value) -> delegate.getHeaders().addAll(key, value));
+				Body streamingBody = (body.length > 0 ? outputStream -> StreamUtils.copy(body, outputStream) :
+						InterceptingStreamingClientHttpRequest.this.body);
+				if (streamingBody != null) {
+					if (delegate instanceof StreamingHttpOutputMessage) {
+						((StreamingHttpOutputMessage) delegate).setBody(streamingBody);
+					}
+					else {
+						streamingBody.writeTo(delegate.getBody());
+					}
+				}
+				return delegate.execute();
+			}
+		}
+	}
+
+}
@@ -45,6 +45,8 @@ public abstract class InterceptingHttpAccessor extends HttpAccessor {
 
 	private final List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
 
+	private boolean bufferInterceptedRequestBody = true;
+
 	@Nullable
 	private volatile ClientHttpRequestFactory interceptingRequestFactory;
 
@@ -73,6 +75,29 @@ public abstract class InterceptingHttpAccessor extends HttpAccessor {
 		return this.interceptors;
 	}
 
+	/**
+	 * Set whether the request body should be buffered before being passed to
+	 * the {@link #setInterceptors interceptors}. Default is {@code true}.
+	 * <p>Set this to {@code false} for streaming large request bodies through
+	 * interceptors that do not need to access the body: message converters
+	 * then write the body straight to the underlying request once all
+	 * interceptors have been applied.
+	 * @since 5.2
+	 * @see InterceptingClientHttpRequestFactory#setBufferRequestBody
+	 */
+	public void setBufferInterceptedRequestBody(boolean bufferInterceptedRequestBody) {
+		this.bufferInterceptedRequestBody = bufferInterceptedRequestBody;
+		this.interceptingRequestFactory = null;
+	}
+
+	/**
+	 * Return whether the request body is buffered before being passed to the interceptors.
+	 * @since 5.2
+	 */
+	public boolean isBufferInterceptedRequestBody() {
+		return this.bufferInterceptedRequestBody;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -93,7 +118,10 @@ public abstract class InterceptingHttpAccessor extends HttpAccessor {
 		if (!CollectionUtils.isEmpty(interceptors)) {
 			ClientHttpRequestFactory factory = this.interceptingRequestFactory;
 			if (factory == null) {
-				factory = new InterceptingClientHttpRequestFactory(super.getRequestFactory(), interceptors);
+				InterceptingClientHttpRequestFactory interceptingFactory =
+						new InterceptingClientHttpRequestFactory(super.getRequestFactory(), interceptors);
+				interceptingFactory.setBufferRequestBody(this.bufferInterceptedRequestBody);
+				factory = interceptingFactory;
 				this.interceptingRequestFactory = factory;
 			}
 			return factory;
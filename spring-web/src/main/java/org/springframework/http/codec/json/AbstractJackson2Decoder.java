@@ -44,6 +44,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MimeType;
 
 /**
@@ -63,6 +64,8 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 	 */
 	private final JsonFactory jsonFactory;
 
+	private final Map<PreparedMapperKey, ObjectReader> objectReaderCache = new ConcurrentReferenceHashMap<>(64);
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -106,12 +109,8 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 
 		MethodParameter param = getParameter(elementType);
 		Class<?> contextClass = (param != null ? param.getContainingClass() : null);
-		JavaType javaType = getJavaType(elementType.getType(), contextClass);
 		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
-
-		ObjectReader reader = (jsonView != null ?
-				getObjectMapper().readerWithView(jsonView).forType(javaType) :
-				getObjectMapper().readerFor(javaType));
+		ObjectReader reader = getObjectReader(elementType, contextClass, jsonView);
 
 		return tokens.map(tokenBuffer -> {
 			try {
@@ -136,6 +135,23 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		});
 	}
 
+	/**
+	 * Return the {@code ObjectReader} prepared for the given element type,
+	 * context class and JSON view, with its root deserializer fetched eagerly,
+	 * creating and caching it on first request.
+	 */
+	private ObjectReader getObjectReader(ResolvableType elementType, @Nullable Class<?> contextClass,
+			@Nullable Class<?> jsonView) {
+
+		PreparedMapperKey key = new PreparedMapperKey(elementType.getType(), contextClass, jsonView);
+		return this.objectReaderCache.computeIfAbsent(key, k -> {
+			JavaType javaType = getJavaType(elementType.getType(), contextClass);
+			return (jsonView != null ?
+					getObjectMapper().readerWithView(jsonView).forType(javaType) :
+					getObjectMapper().readerFor(javaType));
+		});
+	}
+
 
 	// HttpMessageDecoder...
 
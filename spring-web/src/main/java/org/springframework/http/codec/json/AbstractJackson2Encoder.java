@@ -52,6 +52,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MimeType;
 
 /**
@@ -78,6 +79,8 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	private final Map<PreparedMapperKey, ObjectWriter> objectWriterCache = new ConcurrentReferenceHashMap<>(64);
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -158,15 +161,8 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 			});
 		}
 
-		JavaType javaType = getJavaType(elementType.getType(), null);
 		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
-		ObjectWriter writer = (jsonView != null ?
-				getObjectMapper().writerWithView(jsonView) : getObjectMapper().writer());
-
-		if (javaType.isContainerType()) {
-			writer = writer.forType(javaType);
-		}
-
+		ObjectWriter writer = getObjectWriter(elementType, jsonView);
 		writer = customizeWriter(writer, mimeType, elementType, hints);
 
 		DataBuffer buffer = bufferFactory.allocateBuffer();
@@ -198,6 +194,30 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		return buffer;
 	}
 
+	/**
+	 * Return the {@code ObjectWriter} prepared for the given element type and
+	 * JSON view, creating and caching it on first request.
+	 * <p>For container types and final classes, the root serializer is fetched
+	 * eagerly through {@link ObjectWriter#forType}, since the runtime type of the
+	 * value cannot narrow it. For other types, the serializer is resolved from the
+	 * runtime type of each value, as it may be a subclass of the declared type.
+	 */
+	private ObjectWriter getObjectWriter(ResolvableType elementType, @Nullable Class<?> jsonView) {
+		PreparedMapperKey key = new PreparedMapperKey(elementType.getType(), null, jsonView);
+		return this.objectWriterCache.computeIfAbsent(key, k -> {
+			JavaType javaType = getJavaType(elementType.getType(), null);
+			ObjectWriter writer = (jsonView != null ?
+					getObjectMapper().writerWithView(jsonView) : getObjectMapper().writer());
+			return (javaType.isContainerType() || javaType.isFinal() ? writer.forType(javaType) : writer);
+		});
+	}
+
+	/**
+	 * Customize the {@code ObjectWriter} to use for the given mime type,
+	 * element type and hints. Called for each value to encode, with a
+	 * writer that is prepared once per element type and JSON view.
+	 * <p>The default implementation returns the given writer as-is.
+	 */
 	protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType,
 			ResolvableType elementType, @Nullable Map<String, Object> hints) {
 
@@ -43,6 +43,11 @@ import org.springframework.util.ObjectUtils;
 /**
  * Base class providing support methods for Jackson 2.9 encoding and decoding.
  *
+ * <p>Encoders and decoders prepare an {@code ObjectWriter} or {@code ObjectReader}
+ * per element type and JSON view on first use, and reuse it for subsequent calls.
+ * The {@link ObjectMapper} is therefore expected to be fully configured before
+ * it is passed to the constructor.
+ *
  * @author Sebastien Deleuze
  * @author Rossen Stoyanchev
  * @since 5.0
@@ -125,4 +130,48 @@ public abstract class Jackson2CodecSupport {
 	@Nullable
 	protected abstract <A extends Annotation> A getAnnotation(MethodParameter parameter, Class<A> annotType);
 
+
+	/**
+	 * Cache key for an {@code ObjectWriter} or {@code ObjectReader} prepared
+	 * for a given element type, context class and JSON view.
+	 */
+	static final class PreparedMapperKey {
+
+		private final Type type;
+
+		@Nullable
+		private final Class<?> contextClass;
+
+		@Nullable
+		private final Class<?> jsonView;
+
+		PreparedMapperKey(Type type, @Nullable Class<?> contextClass, @Nullable Class<?> jsonView) {
+			this.type = type;
+			this.contextClass = contextClass;
+			this.jsonView = jsonView;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof PreparedMapperKey)) {
+				return false;
+			}
+			PreparedMapperKey otherKey = (PreparedMapperKey) other;
+			return (this.type.equals(otherKey.type) &&
+					ObjectUtils.nullSafeEquals(this.contextClass, otherKey.contextClass) &&
+					ObjectUtils.nullSafeEquals(this.jsonView, otherKey.jsonView));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.type.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.contextClass);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.jsonView);
+			return result;
+		}
+	}
+
 }
@@ -284,7 +284,7 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 					config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
 				objectWriter = objectWriter.with(this.ssePrettyPrinter);
 			}
-			objectWriter.writeValue(generator, value);
+			writeValue(objectWriter, javaType, generator, value);
 
 			writeSuffix(generator, object);
 			generator.flush();
@@ -305,6 +305,23 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	protected void writePrefix(JsonGenerator generator, Object object) throws IOException {
 	}
 
+	/**
+	 * Write the main content, i.e. the given value, between prefix and suffix.
+	 * <p>The default implementation writes the value as a whole through
+	 * {@link ObjectWriter#writeValue(JsonGenerator, Object)}.
+	 * @param objectWriter the writer to use, configured for the serialization
+	 * view, filters and target type of the value
+	 * @param javaType the target type of the value, if specified
+	 * @param generator the generator to use for writing content
+	 * @param value the value to write
+	 * @since 5.2
+	 */
+	protected void writeValue(ObjectWriter objectWriter, @Nullable JavaType javaType,
+			JsonGenerator generator, Object value) throws IOException {
+
+		objectWriter.writeValue(generator, value);
+	}
+
 	/**
 	 * Write a suffix after the main content.
 	 * @param generator the generator to use for writing content.
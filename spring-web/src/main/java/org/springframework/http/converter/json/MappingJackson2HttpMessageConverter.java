@@ -17,12 +17,19 @@
 package org.springframework.http.converter.json;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Implementation of {@link org.springframework.http.converter.HttpMessageConverter} that can read and
@@ -50,6 +57,8 @@ public class MappingJackson2HttpMessageConverter extends AbstractJackson2HttpMes
 	@Nullable
 	private String jsonPrefix;
 
+	private int streamingFlushInterval;
+
 
 	/**
 	 * Construct a new {@link MappingJackson2HttpMessageConverter} using default configuration
@@ -89,6 +98,24 @@ public class MappingJackson2HttpMessageConverter extends AbstractJackson2HttpMes
 		this.jsonPrefix = (prefixJson ? ")]}', " : null);
 	}
 
+	/**
+	 * Write {@link Collection} and {@link Iterator} values element by element,
+	 * flushing the output after the given number of elements.
+	 * <p>This keeps the receiver of a large JSON array supplied with data while
+	 * the array is being serialized, e.g. with a streaming request body in
+	 * {@link org.springframework.web.client.RestTemplate} or a chunked response.
+	 * An {@code Iterator} allows for producing the elements lazily as well.
+	 * <p>The default is 0, writing every value as a whole and flushing once
+	 * the value has been written.
+	 * @param streamingFlushInterval the number of elements between flushes,
+	 * or 0 for no intermediate flushing
+	 * @since 5.2
+	 */
+	public void setStreamingFlushInterval(int streamingFlushInterval) {
+		Assert.isTrue(streamingFlushInterval >= 0, "Streaming flush interval must not be negative");
+		this.streamingFlushInterval = streamingFlushInterval;
+	}
+
 
 	@Override
 	protected void writePrefix(JsonGenerator generator, Object object) throws IOException {
@@ -97,4 +124,28 @@ public class MappingJackson2HttpMessageConverter extends AbstractJackson2HttpMes
 		}
 	}
 
+	@Override
+	protected void writeValue(ObjectWriter objectWriter, @Nullable JavaType javaType,
+			JsonGenerator generator, Object value) throws IOException {
+
+		if (this.streamingFlushInterval == 0 || !(value instanceof Collection || value instanceof Iterator)) {
+			super.writeValue(objectWriter, javaType, generator, value);
+			return;
+		}
+		ObjectWriter elementWriter = objectWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		if (javaType != null && javaType.isCollectionLikeType()) {
+			elementWriter = elementWriter.forType(javaType.getContentType());
+		}
+		Iterator<?> elements = (value instanceof Collection ? ((Collection<?>) value).iterator() : (Iterator<?>) value);
+		SequenceWriter sequenceWriter = elementWriter.writeValuesAsArray(generator);
+		int count = 0;
+		while (elements.hasNext()) {
+			sequenceWriter.write(elements.next());
+			if (++count % this.streamingFlushInterval == 0) {
+				sequenceWriter.flush();
+			}
+		}
+		sequenceWriter.close();
+	}
+
 }
@@ -60,4 +60,15 @@ public interface RequestPath extends PathContainer {
 		return new DefaultRequestPath(uri, contextPath);
 	}
 
+	/**
+	 * Create a new {@code RequestPath} with the given parameters.
+	 * @param rawPath the path, still encoded, e.g. as returned by
+	 * {@code HttpServletRequest#getRequestURI()}
+	 * @param contextPath the context path, or {@code null} if none
+	 * @since 5.2
+	 */
+	static RequestPath parse(String rawPath, @Nullable String contextPath) {
+		return new DefaultRequestPath(rawPath, contextPath);
+	}
+
 }
@@ -21,11 +21,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
 import org.springframework.util.PathMatcher;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Provide a per request {@link CorsConfiguration} instance based on a
@@ -45,6 +49,12 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 
 	private UrlPathHelper urlPathHelper = new UrlPathHelper();
 
+	@Nullable
+	private PathPatternParser patternParser;
+
+	@Nullable
+	private volatile Map<PathPattern, CorsConfiguration> parsedCorsConfigurations;
+
 
 	/**
 	 * Set the PathMatcher implementation to use for matching URL paths
@@ -56,6 +66,32 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 		this.pathMatcher = pathMatcher;
 	}
 
+	/**
+	 * Use a {@link PathPatternParser} to parse the URL patterns, matching them
+	 * against the request path as parsed by {@link ServletRequestPathUtils},
+	 * instead of matching with the {@link #setPathMatcher PathMatcher} against
+	 * the lookup path determined by the {@link #setUrlPathHelper UrlPathHelper}.
+	 * <p>The parsed request path is taken from the request attribute
+	 * {@link ServletRequestPathUtils#PATH_ATTRIBUTE} if present, e.g. as set by
+	 * {@code DispatcherServlet}, or parsed for the current invocation otherwise.
+	 * <p>By default this is not set.
+	 * @param patternParser the parser to use, or {@code null} to match with the PathMatcher
+	 * @since 5.2
+	 */
+	public void setPatternParser(@Nullable PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		this.parsedCorsConfigurations = null;
+	}
+
+	/**
+	 * Return the {@link PathPatternParser} used to parse the URL patterns, if any.
+	 * @since 5.2
+	 */
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
 	/**
 	 * Shortcut to same property on underlying {@link #setUrlPathHelper UrlPathHelper}.
 	 * @see org.springframework.web.util.UrlPathHelper#setAlwaysUseFullPath
@@ -97,6 +133,7 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 		if (corsConfigurations != null) {
 			this.corsConfigurations.putAll(corsConfigurations);
 		}
+		this.parsedCorsConfigurations = null;
 	}
 
 	/**
@@ -111,12 +148,22 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 	 */
 	public void registerCorsConfiguration(String path, CorsConfiguration config) {
 		this.corsConfigurations.put(path, config);
+		this.parsedCorsConfigurations = null;
 	}
 
 
 	@Override
 	@Nullable
 	public CorsConfiguration getCorsConfiguration(HttpServletRequest request) {
+		if (this.patternParser != null) {
+			PathContainer path = ServletRequestPathUtils.getOrParseRequestPath(request).pathWithinApplication();
+			for (Map.Entry<PathPattern, CorsConfiguration> entry : getParsedCorsConfigurations().entrySet()) {
+				if (entry.getKey().matches(path)) {
+					return entry.getValue();
+				}
+			}
+			return null;
+		}
 		String lookupPath = this.urlPathHelper.getLookupPathForRequest(request);
 		for (Map.Entry<String, CorsConfiguration> entry : this.corsConfigurations.entrySet()) {
 			if (this.pathMatcher.match(entry.getKey(), lookupPath)) {
@@ -126,4 +173,17 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 		return null;
 	}
 
+	private Map<PathPattern, CorsConfiguration> getParsedCorsConfigurations() {
+		Map<PathPattern, CorsConfiguration> parsed = this.parsedCorsConfigurations;
+		PathPatternParser parser = this.patternParser;
+		if (parsed == null && parser != null) {
+			parsed = new LinkedHashMap<>(this.corsConfigurations.size());
+			for (Map.Entry<String, CorsConfiguration> entry : this.corsConfigurations.entrySet()) {
+				parsed.put(parser.parse(entry.getKey()), entry.getValue());
+			}
+			this.parsedCorsConfigurations = parsed;
+		}
+		return (parsed != null ? parsed : Collections.emptyMap());
+	}
+
 }
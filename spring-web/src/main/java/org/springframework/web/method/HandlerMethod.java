@@ -29,6 +29,7 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CompiledMethodInvoker;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
@@ -77,6 +78,9 @@ public class HandlerMethod {
 
 	private final MethodParameter[] parameters;
 
+	@Nullable
+	private final CompiledMethodInvoker compiledInvoker;
+
 	@Nullable
 	private HttpStatus responseStatus;
 
@@ -102,6 +106,7 @@ public class HandlerMethod {
 		this.method = method;
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
 		this.parameters = initMethodParameters();
+		this.compiledInvoker = CompiledMethodInvoker.forMethod(this.bridgedMethod);
 		evaluateResponseStatus();
 	}
 
@@ -118,6 +123,7 @@ public class HandlerMethod {
 		this.method = bean.getClass().getMethod(methodName, parameterTypes);
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(this.method);
 		this.parameters = initMethodParameters();
+		this.compiledInvoker = CompiledMethodInvoker.forMethod(this.bridgedMethod);
 		evaluateResponseStatus();
 	}
 
@@ -140,6 +146,7 @@ public class HandlerMethod {
 		this.method = method;
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
 		this.parameters = initMethodParameters();
+		this.compiledInvoker = CompiledMethodInvoker.forMethod(this.bridgedMethod);
 		evaluateResponseStatus();
 	}
 
@@ -154,6 +161,7 @@ public class HandlerMethod {
 		this.method = handlerMethod.method;
 		this.bridgedMethod = handlerMethod.bridgedMethod;
 		this.parameters = handlerMethod.parameters;
+		this.compiledInvoker = handlerMethod.compiledInvoker;
 		this.responseStatus = handlerMethod.responseStatus;
 		this.responseStatusReason = handlerMethod.responseStatusReason;
 		this.resolvedFromHandlerMethod = handlerMethod.resolvedFromHandlerMethod;
@@ -171,6 +179,7 @@ public class HandlerMethod {
 		this.method = handlerMethod.method;
 		this.bridgedMethod = handlerMethod.bridgedMethod;
 		this.parameters = handlerMethod.parameters;
+		this.compiledInvoker = handlerMethod.compiledInvoker;
 		this.responseStatus = handlerMethod.responseStatus;
 		this.responseStatusReason = handlerMethod.responseStatusReason;
 		this.resolvedFromHandlerMethod = handlerMethod;
@@ -237,6 +246,18 @@ public class HandlerMethod {
 		return this.parameters;
 	}
 
+	/**
+	 * Return the compiled invoker for the {@link #getBridgedMethod() bridged method},
+	 * created along with this handler method and shared with the handler methods
+	 * derived from it, or {@code null} if the method is invoked through reflection.
+	 * @since 5.2
+	 * @see CompiledMethodInvoker#forMethod
+	 */
+	@Nullable
+	protected CompiledMethodInvoker getCompiledInvoker() {
+		return this.compiledInvoker;
+	}
+
 	/**
 	 * Return the specified response status, if any.
 	 * @since 4.3.8
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of values mapped to URL path patterns, narrowing down the values whose
+ * patterns may match a given lookup path without evaluating every pattern.
+ *
+ * <p>Patterns are split into segments and stored in a tree, with a literal child
+ * per distinct literal segment, a single child for segments holding variables or
+ * wildcards (e.g. {@code {id}}, {@code *.html}), and values attached to the node
+ * of a catch-all segment ({@code **} or {@code {*path}}). Both Ant-style patterns
+ * and {@link org.springframework.web.util.pattern.PathPattern} syntax are supported.
+ *
+ * <p>The returned candidates are a superset of the values whose patterns actually
+ * match: literal segments are compared ignoring case and surrounding whitespace,
+ * a trailing separator is ignored, and the last literal segment also matches
+ * a lookup path segment with a file extension. The patterns of each candidate
+ * still need to be matched against the lookup path.
+ *
+ * <p>This class is not thread-safe: concurrent access has to be guarded,
+ * e.g. with a read-write lock as done by the handler method mappings.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ * @param <T> the type of values mapped to patterns
+ */
+public class PathPatternIndex<T> {
+
+	private static final String SEPARATOR = "/";
+
+
+	private final Node<T> root = new Node<>();
+
+	private final Set<T> unconditionalValues = new LinkedHashSet<>();
+
+
+	/**
+	 * Add a value mapped to the given patterns.
+	 * @param value the value to add
+	 * @param patterns the patterns of the value; if empty, the value is returned
+	 * as a candidate for any lookup path
+	 */
+	public void add(T value, Collection<String> patterns) {
+		if (patterns.isEmpty()) {
+			this.unconditionalValues.add(value);
+			return;
+		}
+		for (String pattern : patterns) {
+			Node<T> node = this.root;
+			boolean catchAll = false;
+			for (String segment : tokenize(pattern)) {
+				if (isCatchAll(segment)) {
+					node.getCatchAllValues().add(value);
+					catchAll = true;
+					break;
+				}
+				node = (isVariable(segment) ? node.getVariableChild() : node.getLiteralChild(normalize(segment)));
+			}
+			if (!catchAll) {
+				node.getValues().add(value);
+			}
+		}
+	}
+
+	/**
+	 * Remove a value mapped to the given patterns.
+	 * @param value the value to remove
+	 * @param patterns the patterns the value was added with
+	 */
+	public void remove(T value, Collection<String> patterns) {
+		if (patterns.isEmpty()) {
+			this.unconditionalValues.remove(value);
+			return;
+		}
+		for (String pattern : patterns) {
+			remove(this.root, tokenize(pattern), 0, value);
+		}
+	}
+
+	/**
+	 * Remove all values from this index.
+	 */
+	public void clear() {
+		this.root.clear();
+		this.unconditionalValues.clear();
+	}
+
+	/**
+	 * Return the values whose patterns may match the given lookup path.
+	 * @param lookupPath the lookup path, e.g. {@code "/hotels/42"}
+	 * @return the candidate values, in no particular order
+	 */
+	public Collection<T> getCandidates(String lookupPath) {
+		return getCandidates(Arrays.asList(StringUtils.delimitedListToStringArray(lookupPath, SEPARATOR)));
+	}
+
+	/**
+	 * Return the values whose patterns may match the given parsed lookup path.
+	 * @param lookupPath the parsed lookup path
+	 * @return the candidate values, in no particular order
+	 */
+	public Collection<T> getCandidates(PathContainer lookupPath) {
+		List<PathContainer.Element> elements = lookupPath.elements();
+		List<String> segments = new ArrayList<>(elements.size());
+		for (PathContainer.Element element : elements) {
+			// Separators as empty segments, in order to detect a trailing separator
+			segments.add(element instanceof PathContainer.PathSegment ?
+					((PathContainer.PathSegment) element).valueToMatch() : "");
+		}
+		return getCandidates(segments);
+	}
+
+	/**
+	 * Return the values whose patterns may match the given lookup path segments.
+	 * @param pathSegments the decoded segments of the lookup path, with an empty
+	 * last segment if the lookup path ends with a separator
+	 * @return the candidate values, in no particular order
+	 */
+	public Collection<T> getCandidates(List<String> pathSegments) {
+		Set<T> candidates = new LinkedHashSet<>(this.unconditionalValues);
+		List<String> segments = new ArrayList<>(pathSegments.size());
+		boolean trailingSeparator = false;
+		for (String segment : pathSegments) {
+			String normalized = normalize(segment);
+			trailingSeparator = normalized.isEmpty();
+			if (!normalized.isEmpty()) {
+				segments.add(normalized);
+			}
+		}
+		collect(this.root, segments, 0, trailingSeparator, candidates);
+		return candidates;
+	}
+
+
+	private void collect(Node<T> node, List<String> segments, int index, boolean trailingSeparator,
+			Set<T> candidates) {
+
+		if (node.catchAllValues != null) {
+			candidates.addAll(node.catchAllValues);
+		}
+		if (index == segments.size()) {
+			if (node.values != null) {
+				candidates.addAll(node.values);
+			}
+			if (trailingSeparator && node.variableChild != null) {
+				// A trailing wildcard may match the empty segment after the separator
+				collect(node.variableChild, segments, index, false, candidates);
+			}
+			return;
+		}
+		if (node.literalChildren != null) {
+			String segment = segments.get(index);
+			Node<T> child = node.literalChildren.get(segment);
+			if (child != null) {
+				collect(child, segments, index + 1, trailingSeparator, candidates);
+			}
+			if (index == segments.size() - 1) {
+				// Suffix pattern match: "/hotels" also matching "/hotels.json"
+				int dotIndex = segment.indexOf('.');
+				while (dotIndex > 0) {
+					child = node.literalChildren.get(segment.substring(0, dotIndex));
+					if (child != null) {
+						collect(child, segments, index + 1, trailingSeparator, candidates);
+					}
+					dotIndex = segment.indexOf('.', dotIndex + 1);
+				}
+			}
+		}
+		if (node.variableChild != null) {
+			collect(node.variableChild, segments, index + 1, trailingSeparator, candidates);
+		}
+	}
+
+	private boolean remove(Node<T> node, String[] segments, int index, T value) {
+		if (index == segments.length) {
+			if (node.values != null) {
+				node.values.remove(value);
+			}
+			return node.isEmpty();
+		}
+		String segment = segments[index];
+		if (isCatchAll(segment)) {
+			if (node.catchAllValues != null) {
+				node.catchAllValues.remove(value);
+			}
+			return node.isEmpty();
+		}
+		if (isVariable(segment)) {
+			if (node.variableChild != null && remove(node.variableChild, segments, index + 1, value)) {
+				node.variableChild = null;
+			}
+		}
+		else if (node.literalChildren != null) {
+			String literal = normalize(segment);
+			Node<T> child = node.literalChildren.get(literal);
+			if (child != null && remove(child, segments, index + 1, value)) {
+				node.literalChildren.remove(literal);
+			}
+		}
+		return node.isEmpty();
+	}
+
+	private static String[] tokenize(String path) {
+		return StringUtils.tokenizeToStringArray(path, SEPARATOR, true, true);
+	}
+
+	private static String normalize(String segment) {
+		return segment.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static boolean isCatchAll(String segment) {
+		return (segment.contains("**") || segment.startsWith("{*"));
+	}
+
+	private static boolean isVariable(String segment) {
+		return (segment.indexOf('{') != -1 || segment.indexOf('*') != -1 || segment.indexOf('?') != -1);
+	}
+
+
+	/**
+	 * Node of the index, for a given sequence of pattern segments.
+	 */
+	private static final class Node<T> {
+
+		@Nullable
+		private Map<String, Node<T>> literalChildren;
+
+		@Nullable
+		private Node<T> variableChild;
+
+		@Nullable
+		private Set<T> values;
+
+		@Nullable
+		private Set<T> catchAllValues;
+
+		Node<T> getLiteralChild(String literal) {
+			if (this.literalChildren == null) {
+				this.literalChildren = new HashMap<>(4);
+			}
+			return this.literalChildren.computeIfAbsent(literal, key -> new Node<>());
+		}
+
+		Node<T> getVariableChild() {
+			if (this.variableChild == null) {
+				this.variableChild = new Node<>();
+			}
+			return this.variableChild;
+		}
+
+		Set<T> getValues() {
+			if (this.values == null) {
+				this.values = new LinkedHashSet<>(2);
+			}
+			return this.values;
+		}
+
+		Set<T> getCatchAllValues() {
+			if (this.catchAllValues == null) {
+				this.catchAllValues = new LinkedHashSet<>(2);
+			}
+			return this.catchAllValues;
+		}
+
+		boolean isEmpty() {
+			return ((this.literalChildren == null || this.literalChildren.isEmpty()) &&
+					this.variableChild == null &&
+					(this.values == null || this.values.isEmpty()) &&
+					(this.catchAllValues == null || this.catchAllValues.isEmpty()));
+		}
+
+		void clear() {
+			this.literalChildren = null;
+			this.variableChild = null;
+			this.values = null;
+			this.catchAllValues = null;
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.server.RequestPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Utility class to parse the path of an {@link HttpServletRequest} into a
+ * {@link RequestPath} for matching against parsed
+ * {@link org.springframework.web.util.pattern.PathPattern PathPatterns},
+ * and to cache it in a request attribute for further access.
+ *
+ * <p>The {@link RequestPath#pathWithinApplication() path within the application}
+ * of a parsed path corresponds to the lookup path that {@link UrlPathHelper}
+ * determines by default: the path within the servlet mapping for a prefix-mapped
+ * servlet (e.g. "/app/*"), or the path within the context path otherwise.
+ * Unlike the {@code UrlPathHelper} lookup path, the path is parsed from the
+ * raw request URI and each segment is decoded separately, so an encoded "/"
+ * does not act as a path separator.
+ *
+ * @author Spring Framework Team
+ * @since 5.2
+ */
+public abstract class ServletRequestPathUtils {
+
+	/**
+	 * Name of the request attribute that holds the parsed {@link RequestPath}.
+	 */
+	public static final String PATH_ATTRIBUTE = ServletRequestPathUtils.class.getName() + ".PATH";
+
+
+	/**
+	 * Parse the path of the given request into a {@link RequestPath}, without caching it.
+	 * @param request the current request
+	 * @return the parsed path
+	 * @see #parseAndCache(HttpServletRequest)
+	 */
+	public static RequestPath parse(HttpServletRequest request) {
+		String requestUri = (String) request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE);
+		String contextPath;
+		String servletPath;
+		String pathInfo;
+		if (requestUri != null) {
+			contextPath = (String) request.getAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE);
+			servletPath = (String) request.getAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE);
+			pathInfo = (String) request.getAttribute(WebUtils.INCLUDE_PATH_INFO_ATTRIBUTE);
+		}
+		else {
+			requestUri = request.getRequestURI();
+			contextPath = request.getContextPath();
+			servletPath = request.getServletPath();
+			pathInfo = request.getPathInfo();
+		}
+		if (!StringUtils.hasLength(contextPath) || !requestUri.startsWith(contextPath)) {
+			contextPath = "";
+		}
+		if (pathInfo != null && StringUtils.hasLength(servletPath) && !"/".equals(servletPath)) {
+			contextPath += getRawServletPath(requestUri.substring(contextPath.length()), servletPath);
+		}
+		return RequestPath.parse(requestUri, contextPath);
+	}
+
+	/**
+	 * Determine the still encoded prefix of the given raw path that corresponds
+	 * to the decoded servlet path, based on the number of path segments.
+	 */
+	private static String getRawServletPath(String rawPath, String servletPath) {
+		int segments = StringUtils.countOccurrencesOf(StringUtils.trimTrailingCharacter(servletPath, '/'), "/");
+		int index = 0;
+		for (int i = 0; i < segments; i++) {
+			int separatorIndex = rawPath.indexOf('/', index + 1);
+			if (separatorIndex == -1) {
+				return rawPath;
+			}
+			index = separatorIndex;
+		}
+		return rawPath.substring(0, index);
+	}
+
+	/**
+	 * Parse the path of the given request into a {@link RequestPath}, and save it
+	 * in the request attribute {@link #PATH_ATTRIBUTE} for subsequent use with
+	 * {@link #getParsedRequestPath(ServletRequest)}.
+	 * @param request the current request
+	 * @return the parsed path
+	 */
+	public static RequestPath parseAndCache(HttpServletRequest request) {
+		RequestPath requestPath = parse(request);
+		request.setAttribute(PATH_ATTRIBUTE, requestPath);
+		return requestPath;
+	}
+
+	/**
+	 * Return a {@link #parseAndCache previously} parsed and cached {@code RequestPath}.
+	 * @param request the current request
+	 * @return the cached path
+	 * @throws IllegalArgumentException if no parsed path is cached
+	 */
+	public static RequestPath getParsedRequestPath(ServletRequest request) {
+		RequestPath path = (RequestPath) request.getAttribute(PATH_ATTRIBUTE);
+		Assert.notNull(path, "Expected parsed RequestPath in request attribute \"" + PATH_ATTRIBUTE + "\".");
+		return path;
+	}
+
+	/**
+	 * Return the cached {@code RequestPath} of the given request, parsing it
+	 * without caching if not available.
+	 * @param request the current request
+	 * @return the cached or parsed path
+	 */
+	public static RequestPath getOrParseRequestPath(HttpServletRequest request) {
+		RequestPath path = (RequestPath) request.getAttribute(PATH_ATTRIBUTE);
+		return (path != null ? path : parse(request));
+	}
+
+	/**
+	 * Set the cached, parsed {@code RequestPath} to the given value.
+	 * @param requestPath the value to set to, or if {@code null} the cache
+	 * value is cleared
+	 * @param request the current request
+	 */
+	public static void setParsedRequestPath(@Nullable RequestPath requestPath, ServletRequest request) {
+		if (requestPath != null) {
+			request.setAttribute(PATH_ATTRIBUTE, requestPath);
+		}
+		else {
+			request.removeAttribute(PATH_ATTRIBUTE);
+		}
+	}
+
+	/**
+	 * Check for a {@link #parseAndCache previously} parsed and cached {@code RequestPath}.
+	 * @param request the current request
+	 */
+	public static boolean hasParsedRequestPath(ServletRequest request) {
+		return (request.getAttribute(PATH_ATTRIBUTE) != null);
+	}
+
+}
@@ -32,6 +32,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.client.support.HttpRequestWrapper;
 
 import static org.junit.Assert.*;
@@ -212,6 +213,55 @@ public class InterceptingClientHttpRequestFactoryTests {
 		assertTrue(Arrays.equals(changedBody, requestMock.body.toByteArray()));
 	}
 
+	@Test
+	public void streamingBody() throws Exception {
+		final byte[] streamedBody = "Foo".getBytes();
+		List<byte[]> interceptedBodies = new ArrayList<>();
+
+		ClientHttpRequestInterceptor interceptor = (request, body, execution) -> {
+			interceptedBodies.add(body);
+			assertTrue(InterceptingClientHttpRequestFactory.hasStreamingBody(new HttpRequestWrapper(request)));
+			return execution.execute(request, body);
+		};
+
+		requestFactory =
+				new InterceptingClientHttpRequestFactory(requestFactoryMock, Collections.singletonList(interceptor));
+		requestFactory.setBufferRequestBody(false);
+
+		ClientHttpRequest request = requestFactory.createRequest(new URI("http://example.com"), HttpMethod.POST);
+		assertTrue(request instanceof StreamingHttpOutputMessage);
+		((StreamingHttpOutputMessage) request).setBody(outputStream -> outputStream.write(streamedBody));
+		request.execute();
+
+		assertEquals(1, interceptedBodies.size());
+		assertEquals(0, interceptedBodies.get(0).length);
+		assertTrue(Arrays.equals(streamedBody, requestMock.body.toByteArray()));
+	}
+
+	@Test
+	public void streamingModeWithBufferedBody() throws Exception {
+		final byte[] writtenBody = "Foo".getBytes();
+		List<byte[]> interceptedBodies = new ArrayList<>();
+
+		ClientHttpRequestInterceptor interceptor = (request, body, execution) -> {
+			interceptedBodies.add(body);
+			assertFalse(InterceptingClientHttpRequestFactory.hasStreamingBody(request));
+			return execution.execute(request, body);
+		};
+
+		requestFactory =
+				new InterceptingClientHttpRequestFactory(requestFactoryMock, Collections.singletonList(interceptor));
+		requestFactory.setBufferRequestBody(false);
+
+		ClientHttpRequest request = requestFactory.createRequest(new URI("http://example.com"), HttpMethod.POST);
+		request.getBody().write(writtenBody);
+		request.execute();
+
+		assertTrue(Arrays.equals(writtenBody, interceptedBodies.get(0)));
+		assertTrue(Arrays.equals(writtenBody, requestMock.body.toByteArray()));
+		assertEquals(writtenBody.length, requestMock.getHeaders().getContentLength());
+	}
+
 
 	private static class NoOpInterceptor implements ClientHttpRequestInterceptor {
 
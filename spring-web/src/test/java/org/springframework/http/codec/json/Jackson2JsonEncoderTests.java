@@ -200,6 +200,33 @@ public class Jackson2JsonEncoderTests extends AbstractEncoderTestCase<Jackson2Js
 				null, hints);
 	}
 
+	@Test
+	public void jsonViewsWithSameElementType() {
+		JacksonViewBean bean = new JacksonViewBean();
+		bean.setWithView1("with");
+		bean.setWithView2("with");
+		bean.setWithoutView("without");
+		ResolvableType type = ResolvableType.forClass(JacksonViewBean.class);
+
+		testEncode(Mono.just(bean), type, step -> step
+						.consumeNextWith(expectString("{\"withView1\":\"with\"}")
+								.andThen(DataBufferUtils::release))
+						.verifyComplete(),
+				null, singletonMap(JSON_VIEW_HINT, MyJacksonView1.class));
+
+		testEncode(Mono.just(bean), type, step -> step
+						.consumeNextWith(expectString("{\"withoutView\":\"without\"}")
+								.andThen(DataBufferUtils::release))
+						.verifyComplete(),
+				null, singletonMap(JSON_VIEW_HINT, MyJacksonView3.class));
+
+		testEncode(Mono.just(bean), type, step -> step
+						.consumeNextWith(expectString("{\"withView1\":\"with\",\"withView2\":\"with\",\"withoutView\":\"without\"}")
+								.andThen(DataBufferUtils::release))
+						.verifyComplete(),
+				null, null);
+	}
+
 
 	@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 	private static class ParentClass {
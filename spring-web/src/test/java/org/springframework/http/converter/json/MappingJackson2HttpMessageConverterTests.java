@@ -16,7 +16,9 @@
 
 package org.springframework.http.converter.json;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -35,6 +37,8 @@ import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.MockHttpInputMessage;
 import org.springframework.http.MockHttpOutputMessage;
@@ -432,6 +436,48 @@ public class MappingJackson2HttpMessageConverterTests {
 		assertTrue(result.contains("\"number\":123"));
 	}
 
+	@Test
+	public void writeListWithStreamingFlushInterval() throws Exception {
+		List<Integer> flushedSizes = new ArrayList<>();
+		ByteArrayOutputStream body = new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				flushedSizes.add(size());
+			}
+		};
+		HttpOutputMessage outputMessage = new HttpOutputMessage() {
+			private final HttpHeaders headers = new HttpHeaders();
+			@Override
+			public OutputStream getBody() {
+				return body;
+			}
+			@Override
+			public HttpHeaders getHeaders() {
+				return this.headers;
+			}
+		};
+		List<MyBean> beans = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			MyBean bean = new MyBean();
+			bean.setNumber(i);
+			beans.add(bean);
+		}
+		ParameterizedTypeReference<List<MyBean>> typeReference = new ParameterizedTypeReference<List<MyBean>>() {};
+
+		this.converter.setStreamingFlushInterval(2);
+		this.converter.writeInternal(beans, typeReference.getType(), outputMessage);
+
+		String result = body.toString("UTF-8");
+		assertTrue(result.startsWith("[{"));
+		assertTrue(result.endsWith("}]"));
+		assertTrue(result.contains("\"number\":0"));
+		assertTrue(result.contains("\"number\":3"));
+		assertEquals(3, flushedSizes.size());
+		assertTrue(flushedSizes.get(0) > 0);
+		assertTrue(flushedSizes.get(0) < flushedSizes.get(1));
+		assertEquals(body.size(), (int) flushedSizes.get(2));
+	}
+
 	@Test
 	public void readWithNoDefaultConstructor() throws Exception {
 		String body = "{\"property1\":\"foo\",\"property2\":\"bar\"}";
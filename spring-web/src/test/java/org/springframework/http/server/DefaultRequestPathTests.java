@@ -59,6 +59,19 @@ public class DefaultRequestPathTests {
 		assertEquals(pathWithinApplication, requestPath.pathWithinApplication().value());
 	}
 
+	@Test
+	public void requestPathFromRawPath() {
+		RequestPath requestPath = RequestPath.parse("/app/a%2Fb/c;p=1", "/app");
+
+		assertEquals("/app", requestPath.contextPath().value());
+		assertEquals("/a%2Fb/c;p=1", requestPath.pathWithinApplication().value());
+		assertEquals(4, requestPath.pathWithinApplication().elements().size());
+
+		requestPath = RequestPath.parse("/a/b", null);
+		assertEquals("", requestPath.contextPath().value());
+		assertEquals("/a/b", requestPath.pathWithinApplication().value());
+	}
+
 	@Test
 	public void updateRequestPath() throws Exception {
 
@@ -22,6 +22,7 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -50,6 +51,7 @@ import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.http.client.Netty4ClientHttpRequestFactory;
 import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
@@ -158,6 +160,22 @@ public class RestTemplateIntegrationTests extends AbstractMockWebServerTestCase
 		assertEquals("Invalid content", helloWorld, s);
 	}
 
+	@Test
+	public void postForObjectWithStreamingInterceptedBody() throws URISyntaxException {
+		List<byte[]> interceptedBodies = new ArrayList<>();
+		template.setInterceptors(Collections.singletonList((request, body, execution) -> {
+			assertTrue(InterceptingClientHttpRequestFactory.hasStreamingBody(request));
+			interceptedBodies.add(body);
+			return execution.execute(request, body);
+		}));
+		template.setBufferInterceptedRequestBody(false);
+
+		String s = template.postForObject(baseUrl + "/{method}", helloWorld, String.class, "post");
+		assertEquals("Invalid content", helloWorld, s);
+		assertEquals(1, interceptedBodies.size());
+		assertEquals(0, interceptedBodies.get(0).length);
+	}
+
 	@Test
 	public void patchForObject() throws URISyntaxException {
 		// JDK client does not support the PATCH method
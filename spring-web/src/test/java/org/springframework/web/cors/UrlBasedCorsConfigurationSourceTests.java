@@ -21,6 +21,8 @@ import org.junit.Test;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.test.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Unit tests for {@link UrlBasedCorsConfigurationSource}.
@@ -48,6 +50,37 @@ public class UrlBasedCorsConfigurationSourceTests {
 		assertEquals(config, this.configSource.getCorsConfiguration(request));
 	}
 
+	@Test
+	public void registerAndMatchWithPatternParser() {
+		this.configSource.setPatternParser(new PathPatternParser());
+		CorsConfiguration config = new CorsConfiguration();
+		this.configSource.registerCorsConfiguration("/bar/**", config);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foo/test.html");
+		assertNull(this.configSource.getCorsConfiguration(request));
+
+		request.setRequestURI("/bar/test.html");
+		assertEquals(config, this.configSource.getCorsConfiguration(request));
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(request));
+
+		CorsConfiguration other = new CorsConfiguration();
+		this.configSource.registerCorsConfiguration("/foo/**", other);
+		request.setRequestURI("/foo/test.html");
+		assertEquals(other, this.configSource.getCorsConfiguration(request));
+	}
+
+	@Test
+	public void matchWithPatternParserUsesParsedRequestPath() {
+		this.configSource.setPatternParser(new PathPatternParser());
+		CorsConfiguration config = new CorsConfiguration();
+		this.configSource.registerCorsConfiguration("/bar/**", config);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foo/test.html");
+		ServletRequestPathUtils.setParsedRequestPath(
+				ServletRequestPathUtils.parse(new MockHttpServletRequest("GET", "/bar/test.html")), request);
+		assertEquals(config, this.configSource.getCorsConfiguration(request));
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void unmodifiableConfigurationsMap() {
 		this.configSource.getCorsConfigurations().put("/**", new CorsConfiguration());
@@ -79,6 +79,62 @@ public class HandlerMethodArgumentResolverCompositeTests {
 		this.resolverComposite.resolveArgument(paramStr, null, null, null);
 	}
 
+	@Test
+	public void getArgumentResolvers() {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		StubArgumentResolver strResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolver(intResolver);
+		this.resolverComposite.addResolver(strResolver);
+		MethodParameter[] parameters = new MethodParameter[] {paramInt, paramStr};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertArrayEquals(new HandlerMethodArgumentResolver[] {intResolver, strResolver}, resolvers);
+		assertSame(resolvers, this.resolverComposite.getArgumentResolvers(parameters));
+	}
+
+	@Test
+	public void getArgumentResolversCachedPerMethod() {
+		this.resolverComposite.addResolver(new StubArgumentResolver(Integer.class));
+		Method method = this.paramInt.getMethod();
+		MethodParameter[] parameters = new MethodParameter[] {this.paramInt, this.paramStr};
+		MethodParameter[] copies = new MethodParameter[] {new MethodParameter(method, 0), new MethodParameter(method, 1)};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertSame(resolvers, this.resolverComposite.getArgumentResolvers(copies));
+		assertNotSame(resolvers, this.resolverComposite.getArgumentResolvers(new MethodParameter[] {this.paramInt}));
+	}
+
+	@Test
+	public void getArgumentResolversAfterAddResolver() {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		this.resolverComposite.addResolver(intResolver);
+		MethodParameter[] parameters = new MethodParameter[] {paramInt, paramStr};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertSame(intResolver, resolvers[0]);
+		assertNull(resolvers[1]);
+
+		StubArgumentResolver strResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolver(strResolver);
+		resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertSame(intResolver, resolvers[0]);
+		assertSame(strResolver, resolvers[1]);
+	}
+
+	@Test
+	public void getArgumentResolversAfterClear() {
+		this.resolverComposite.addResolver(new StubArgumentResolver(Integer.class));
+		MethodParameter[] parameters = new MethodParameter[] {paramInt};
+		assertNotNull(this.resolverComposite.getArgumentResolvers(parameters)[0]);
+
+		this.resolverComposite.clear();
+		assertNull(this.resolverComposite.getArgumentResolvers(parameters)[0]);
+
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		this.resolverComposite.addResolver(intResolver);
+		assertSame(intResolver, this.resolverComposite.getArgumentResolvers(parameters)[0]);
+	}
+
 
 	@SuppressWarnings("unused")
 	private void handle(Integer arg1, String arg2) {
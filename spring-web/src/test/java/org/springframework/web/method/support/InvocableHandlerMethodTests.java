@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.core.CompiledMethodInvoker;
 import org.springframework.core.MethodParameter;
 import org.springframework.mock.web.test.MockHttpServletRequest;
 import org.springframework.mock.web.test.MockHttpServletResponse;
@@ -189,6 +190,80 @@ public class InvocableHandlerMethodTests {
 		}
 	}
 
+	@Test
+	public void resolveArgWithCompiledInvoker() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(99));
+		this.composite.addResolver(new StubArgumentResolver("value"));
+
+		Object value = getCompiledInvocable(Integer.class, String.class).invokeForRequest(request, null);
+
+		assertEquals("99-value", value);
+	}
+
+	@Test
+	public void illegalArgumentExceptionWithCompiledInvoker() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(Integer.class, "__not_an_int__"));
+		this.composite.addResolver(new StubArgumentResolver("value"));
+		try {
+			getCompiledInvocable(Integer.class, String.class).invokeForRequest(request, null);
+			fail("Expected exception");
+		}
+		catch (IllegalStateException ex) {
+			assertTrue(ex.getCause() instanceof IllegalArgumentException);
+			assertTrue(ex.getMessage().contains("[0] [type=java.lang.String] [value=__not_an_int__]"));
+		}
+	}
+
+	@Test
+	public void primitiveWideningWithCompiledInvoker() throws Exception {
+		// Not directly invocable: falls back to reflection
+		this.composite.addResolver(new StubArgumentResolver(long.class, 5));
+
+		Object value = getCompiledInvocable(long.class).invokeForRequest(request, null);
+
+		assertEquals("long:5", value);
+	}
+
+	@Test
+	public void invocationTargetExceptionWithCompiledInvoker() throws Exception {
+		Throwable expected = new RuntimeException("error");
+		try {
+			getCompiledInvocable(Throwable.class).invokeForRequest(this.request, null, expected);
+			fail("Expected exception");
+		}
+		catch (RuntimeException actual) {
+			assertSame(expected, actual);
+		}
+
+		expected = new Error("error");
+		try {
+			getCompiledInvocable(Throwable.class).invokeForRequest(this.request, null, expected);
+			fail("Expected exception");
+		}
+		catch (Error actual) {
+			assertSame(expected, actual);
+		}
+
+		expected = new Exception("error");
+		try {
+			getCompiledInvocable(Throwable.class).invokeForRequest(this.request, null, expected);
+			fail("Expected exception");
+		}
+		catch (Exception actual) {
+			assertSame(expected, actual);
+		}
+
+		expected = new Throwable("error");
+		try {
+			getCompiledInvocable(Throwable.class).invokeForRequest(this.request, null, expected);
+			fail("Expected exception");
+		}
+		catch (IllegalStateException actual) {
+			assertSame(expected, actual.getCause());
+			assertTrue(actual.getMessage().contains("Invocation failure"));
+		}
+	}
+
 	private InvocableHandlerMethod getInvocable(Class<?>... argTypes) {
 		Method method = ResolvableMethod.on(Handler.class).argTypes(argTypes).resolveMethod();
 		InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(new Handler(), method);
@@ -196,6 +271,14 @@ public class InvocableHandlerMethodTests {
 		return handlerMethod;
 	}
 
+	private InvocableHandlerMethod getCompiledInvocable(Class<?>... argTypes) {
+		Method method = ResolvableMethod.on(CompilableHandler.class).argTypes(argTypes).resolveMethod();
+		assertNotNull("Expected compilable method", CompiledMethodInvoker.forMethod(method));
+		InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(new CompilableHandler(), method);
+		handlerMethod.setHandlerMethodArgumentResolvers(this.composite);
+		return handlerMethod;
+	}
+
 	private StubArgumentResolver getStubResolver(int index) {
 		return (StubArgumentResolver) this.composite.getResolvers().get(index);
 	}
@@ -218,6 +301,23 @@ public class InvocableHandlerMethodTests {
 	}
 
 
+	@SuppressWarnings("unused")
+	public static class CompilableHandler {
+
+		public String handle(Integer intArg, String stringArg) {
+			return intArg + "-" + stringArg;
+		}
+
+		public String handle(long value) {
+			return "long:" + value;
+		}
+
+		public void handleWithException(Throwable ex) throws Throwable {
+			throw ex;
+		}
+	}
+
+
 	private static class ExceptionRaisingArgumentResolver implements HandlerMethodArgumentResolver {
 
 		@Override
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link PathPatternIndex}.
+ *
+ * @author Spring Framework Team
+ */
+public class PathPatternIndexTests {
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	public void literalPatterns() {
+		this.index.add("hotels", Collections.singleton("/hotels"));
+		this.index.add("bookings", Collections.singleton("/hotels/bookings"));
+
+		assertCandidates("/hotels", "hotels");
+		assertCandidates("/hotels/", "hotels");
+		assertCandidates("/HOTELS", "hotels");
+		assertCandidates("/hotels/bookings", "bookings");
+		assertCandidates("/flights");
+		assertCandidates("/");
+	}
+
+	@Test
+	public void variablePatterns() {
+		this.index.add("hotel", Collections.singleton("/hotels/{hotel}"));
+		this.index.add("booking", Collections.singleton("/hotels/{hotel}/bookings/{booking}"));
+		this.index.add("html", Collections.singleton("/hotels/*.html"));
+		this.index.add("bookings", Collections.singleton("/hotels/bookings"));
+
+		assertCandidates("/hotels/42", "hotel", "html");
+		assertCandidates("/hotels/bookings", "hotel", "html", "bookings");
+		assertCandidates("/hotels/42/bookings/21", "booking");
+		assertCandidates("/hotels/42/bookings");
+		assertCandidates("/hotels/", "hotel", "html");
+	}
+
+	@Test
+	public void catchAllPatterns() {
+		this.index.add("ant", Collections.singleton("/resources/**"));
+		this.index.add("pathPattern", Collections.singleton("/static/{*path}"));
+		this.index.add("nested", Collections.singleton("/resources/**/*.css"));
+
+		assertCandidates("/resources", "ant", "nested");
+		assertCandidates("/resources/css/main.css", "ant", "nested");
+		assertCandidates("/static/js/app.js", "pathPattern");
+		assertCandidates("/other/js/app.js");
+	}
+
+	@Test
+	public void suffixPatterns() {
+		this.index.add("hotels", Collections.singleton("/hotels"));
+		this.index.add("hotel", Collections.singleton("/hotels/{hotel}"));
+
+		assertCandidates("/hotels.json", "hotels");
+		assertCandidates("/hotels/42.json", "hotel");
+		assertCandidates("/hotels.json/42");
+	}
+
+	@Test
+	public void multiplePatternsAndUnconditionalValues() {
+		this.index.add("hotels", Arrays.asList("/hotels", "/inns"));
+		this.index.add("any", Collections.emptySet());
+
+		assertCandidates("/hotels", "hotels", "any");
+		assertCandidates("/inns", "hotels", "any");
+		assertCandidates("/flights", "any");
+	}
+
+	@Test
+	public void candidatesFromSegments() {
+		this.index.add("hotel", Collections.singleton("/hotels/{hotel}"));
+
+		assertEquals(Collections.singleton("hotel"),
+				new HashSet<>(this.index.getCandidates(Arrays.asList("", "hotels", "", "42"))));
+		assertTrue(this.index.getCandidates(Arrays.asList("hotels", "42", "bookings")).isEmpty());
+	}
+
+	@Test
+	public void remove() {
+		this.index.add("hotels", Arrays.asList("/hotels", "/inns"));
+		this.index.add("hotel", Collections.singleton("/hotels/{hotel}"));
+		this.index.add("resources", Collections.singleton("/resources/**"));
+		this.index.add("any", Collections.emptySet());
+
+		this.index.remove("hotels", Arrays.asList("/hotels", "/inns"));
+		this.index.remove("resources", Collections.singleton("/resources/**"));
+		this.index.remove("any", Collections.emptySet());
+
+		assertCandidates("/hotels");
+		assertCandidates("/inns");
+		assertCandidates("/resources/css/main.css");
+		assertCandidates("/hotels/42", "hotel");
+
+		this.index.clear();
+		assertCandidates("/hotels/42");
+	}
+
+
+	private void assertCandidates(String lookupPath, String... expected) {
+		Collection<String> candidates = this.index.getCandidates(lookupPath);
+		assertEquals("Candidates for '" + lookupPath + "'",
+				new HashSet<>(Arrays.asList(expected)), new HashSet<>(candidates));
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import org.junit.Test;
+
+import org.springframework.http.server.RequestPath;
+import org.springframework.mock.web.test.MockHttpServletRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ServletRequestPathUtils}.
+ *
+ * @author Rossen Stoyanchev
+ */
+public class ServletRequestPathUtilsTests {
+
+	private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+
+	@Test
+	public void parseWithContextPath() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/welcome.html");
+		this.request.setRequestURI("/petclinic/welcome.html");
+
+		testParse("/petclinic", "/welcome.html");
+	}
+
+	@Test
+	public void parseWithoutContextPath() {
+		this.request.setServletPath("/welcome.html");
+		this.request.setRequestURI("/welcome.html");
+
+		testParse("", "/welcome.html");
+	}
+
+	@Test
+	public void parseWithPrefixServletMapping() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/main");
+		this.request.setPathInfo("/welcome.html");
+		this.request.setRequestURI("/petclinic/main/welcome.html");
+
+		testParse("/petclinic/main", "/welcome.html");
+	}
+
+	@Test
+	public void parseWithEncodedPrefixServletMapping() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/main app");
+		this.request.setPathInfo("/a b");
+		this.request.setRequestURI("/petclinic/main%20app/a%20b");
+
+		testParse("/petclinic/main%20app", "/a%20b");
+	}
+
+	@Test
+	public void parseWithEncodedSlash() {
+		this.request.setServletPath("/a/b");
+		this.request.setRequestURI("/a%2Fb");
+
+		RequestPath path = ServletRequestPathUtils.parse(this.request);
+		assertEquals("/a%2Fb", path.pathWithinApplication().value());
+		assertEquals(2, path.pathWithinApplication().elements().size());
+	}
+
+	@Test
+	public void parseInclude() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/welcome.html");
+		this.request.setRequestURI("/petclinic/welcome.html");
+		this.request.setAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE, "/petclinic/included.html");
+		this.request.setAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE, "/petclinic");
+		this.request.setAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE, "/included.html");
+
+		testParse("/petclinic", "/included.html");
+	}
+
+	@Test
+	public void parseAndCache() {
+		this.request.setRequestURI("/welcome.html");
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+		assertTrue(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+		assertSame(path, ServletRequestPathUtils.getParsedRequestPath(this.request));
+		assertSame(path, ServletRequestPathUtils.getOrParseRequestPath(this.request));
+
+		ServletRequestPathUtils.setParsedRequestPath(null, this.request);
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+	}
+
+	@Test
+	public void getOrParseRequestPathDoesNotCache() {
+		this.request.setRequestURI("/welcome.html");
+
+		RequestPath path = ServletRequestPathUtils.getOrParseRequestPath(this.request);
+		assertEquals("/welcome.html", path.pathWithinApplication().value());
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getParsedRequestPathWithoutParsing() {
+		ServletRequestPathUtils.getParsedRequestPath(this.request);
+	}
+
+	private void testParse(String contextPath, String pathWithinApplication) {
+		RequestPath path = ServletRequestPathUtils.parse(this.request);
+		assertEquals(contextPath, path.contextPath().value());
+		assertEquals(pathWithinApplication, path.pathWithinApplication().value());
+	}
+
+}
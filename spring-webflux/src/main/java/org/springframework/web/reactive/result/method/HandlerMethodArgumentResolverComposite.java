@@ -16,6 +16,7 @@
 
 package org.springframework.web.reactive.result.method;
 
+import java.lang.reflect.Executable;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,6 +42,8 @@ import org.springframework.web.server.ServerWebExchange;
  */
 class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentResolver {
 
+	private static final HandlerMethodArgumentResolver[] EMPTY_RESOLVERS = new HandlerMethodArgumentResolver[0];
+
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final List<HandlerMethodArgumentResolver> argumentResolvers = new LinkedList<>();
@@ -48,12 +51,16 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<Executable, HandlerMethodArgumentResolver[]> argumentResolverBindings =
+			new ConcurrentHashMap<>(256);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
 	 */
 	public HandlerMethodArgumentResolverComposite addResolver(HandlerMethodArgumentResolver resolver) {
 		this.argumentResolvers.add(resolver);
+		this.argumentResolverBindings.clear();
 		return this;
 	}
 
@@ -63,6 +70,7 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 	public HandlerMethodArgumentResolverComposite addResolvers(@Nullable HandlerMethodArgumentResolver... resolvers) {
 		if (resolvers != null) {
 			Collections.addAll(this.argumentResolvers, resolvers);
+			this.argumentResolverBindings.clear();
 		}
 		return this;
 	}
@@ -75,6 +83,7 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 
 		if (resolvers != null) {
 			this.argumentResolvers.addAll(resolvers);
+			this.argumentResolverBindings.clear();
 		}
 		return this;
 	}
@@ -91,6 +100,8 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 	 */
 	public void clear() {
 		this.argumentResolvers.clear();
+		this.argumentResolverCache.clear();
+		this.argumentResolverBindings.clear();
 	}
 
 
@@ -123,6 +134,37 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 		return resolver.resolveArgument(parameter, bindingContext, exchange);
 	}
 
+	/**
+	 * Return the registered {@link HandlerMethodArgumentResolver} for each of the
+	 * given method parameters, in the same order, with a {@code null} element for
+	 * a parameter that none of the resolvers supports.
+	 * <p>The result is cached per method, so that repeated invocations look up
+	 * their resolvers once rather than per parameter, even for handler method
+	 * instances created per request (e.g. for model attribute methods).
+	 * The returned array must not be modified.
+	 * @param parameters the parameters of a handler method, complete and in
+	 * declaration order (other arrays get resolved without caching)
+	 * @since 5.2
+	 */
+	public HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		if (parameters.length == 0) {
+			return EMPTY_RESOLVERS;
+		}
+		Executable executable = parameters[0].getExecutable();
+		boolean cacheable = (parameters.length == executable.getParameterCount());
+		HandlerMethodArgumentResolver[] result = (cacheable ? this.argumentResolverBindings.get(executable) : null);
+		if (result == null) {
+			result = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				result[i] = getArgumentResolver(parameters[i]);
+			}
+			if (cacheable) {
+				this.argumentResolverBindings.put(executable, result);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Find a registered {@link HandlerMethodArgumentResolver} that supports
 	 * the given method parameter.
@@ -112,6 +112,13 @@ class ControllerMethodResolver {
 	private final Map<Class<?>, SessionAttributesHandler> sessionAttributesHandlerCache = new ConcurrentHashMap<>(64);
 
 
+	private final Map<Method, SyncInvocableHandlerMethod> initBinderInvocableCache = new ConcurrentHashMap<>(64);
+
+	private final Map<Method, InvocableHandlerMethod> modelAttributeInvocableCache = new ConcurrentHashMap<>(64);
+
+	private final Map<Method, InvocableHandlerMethod> requestMappingInvocableCache = new ConcurrentHashMap<>(64);
+
+
 	ControllerMethodResolver(ArgumentResolverConfigurer customResolvers, ReactiveAdapterRegistry reactiveRegistry,
 			ConfigurableApplicationContext context, List<HttpMessageReader<?>> readers) {
 
@@ -256,11 +263,17 @@ class ControllerMethodResolver {
 	/**
 	 * Return an {@link InvocableHandlerMethod} for the given
 	 * {@code @RequestMapping} method initialized with argument resolvers.
+	 * <p>The invocable is reused across requests for the same method and bean,
+	 * along with the argument resolvers bound to its parameters.
 	 */
 	public InvocableHandlerMethod getRequestMappingMethod(HandlerMethod handlerMethod) {
-		InvocableHandlerMethod invocable = new InvocableHandlerMethod(handlerMethod);
-		invocable.setArgumentResolvers(this.requestMappingResolvers);
-		invocable.setReactiveAdapterRegistry(this.reactiveAdapterRegistry);
+		InvocableHandlerMethod invocable = this.requestMappingInvocableCache.get(handlerMethod.getMethod());
+		if (invocable == null || invocable.getBean() != handlerMethod.getBean()) {
+			invocable = new InvocableHandlerMethod(handlerMethod);
+			invocable.setArgumentResolvers(this.requestMappingResolvers);
+			invocable.setReactiveAdapterRegistry(this.reactiveAdapterRegistry);
+			this.requestMappingInvocableCache.put(handlerMethod.getMethod(), invocable);
+		}
 		return invocable;
 	}
 
@@ -292,8 +305,12 @@ class ControllerMethodResolver {
 	}
 
 	private SyncInvocableHandlerMethod getInitBinderMethod(Object bean, Method method) {
-		SyncInvocableHandlerMethod invocable = new SyncInvocableHandlerMethod(bean, method);
-		invocable.setArgumentResolvers(this.initBinderResolvers);
+		SyncInvocableHandlerMethod invocable = this.initBinderInvocableCache.get(method);
+		if (invocable == null || invocable.getBean() != bean) {
+			invocable = new SyncInvocableHandlerMethod(bean, method);
+			invocable.setArgumentResolvers(this.initBinderResolvers);
+			this.initBinderInvocableCache.put(method, invocable);
+		}
 		return invocable;
 	}
 
@@ -325,8 +342,12 @@ class ControllerMethodResolver {
 	}
 
 	private InvocableHandlerMethod createAttributeMethod(Object bean, Method method) {
-		InvocableHandlerMethod invocable = new InvocableHandlerMethod(bean, method);
-		invocable.setArgumentResolvers(this.modelAttributeResolvers);
+		InvocableHandlerMethod invocable = this.modelAttributeInvocableCache.get(method);
+		if (invocable == null || invocable.getBean() != bean) {
+			invocable = new InvocableHandlerMethod(bean, method);
+			invocable.setArgumentResolvers(this.modelAttributeResolvers);
+			this.modelAttributeInvocableCache.put(method, invocable);
+		}
 		return invocable;
 	}
 
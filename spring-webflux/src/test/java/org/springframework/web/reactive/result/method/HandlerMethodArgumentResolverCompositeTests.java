@@ -0,0 +1,136 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.result.method;
+
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test fixture with {@link HandlerMethodArgumentResolverComposite}.
+ *
+ * @author Rossen Stoyanchev
+ */
+public class HandlerMethodArgumentResolverCompositeTests {
+
+	private final HandlerMethodArgumentResolverComposite resolverComposite =
+			new HandlerMethodArgumentResolverComposite();
+
+	private MethodParameter paramInt;
+
+	private MethodParameter paramStr;
+
+
+	@Before
+	public void setUp() throws Exception {
+		Method method = getClass().getDeclaredMethod("handle", Integer.class, String.class);
+		this.paramInt = new MethodParameter(method, 0);
+		this.paramStr = new MethodParameter(method, 1);
+	}
+
+
+	@Test
+	public void getArgumentResolvers() {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		StubArgumentResolver strResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolvers(intResolver, strResolver);
+		MethodParameter[] parameters = new MethodParameter[] {this.paramInt, this.paramStr};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertArrayEquals(new HandlerMethodArgumentResolver[] {intResolver, strResolver}, resolvers);
+		assertSame(resolvers, this.resolverComposite.getArgumentResolvers(parameters));
+	}
+
+	@Test
+	public void getArgumentResolversCachedPerMethod() {
+		this.resolverComposite.addResolver(new StubArgumentResolver(Integer.class));
+		Method method = this.paramInt.getMethod();
+		MethodParameter[] parameters = new MethodParameter[] {this.paramInt, this.paramStr};
+		MethodParameter[] copies = new MethodParameter[] {new MethodParameter(method, 0), new MethodParameter(method, 1)};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertSame(resolvers, this.resolverComposite.getArgumentResolvers(copies));
+		assertNotSame(resolvers, this.resolverComposite.getArgumentResolvers(new MethodParameter[] {this.paramInt}));
+	}
+
+	@Test
+	public void getArgumentResolversAfterAddResolver() {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		this.resolverComposite.addResolver(intResolver);
+		MethodParameter[] parameters = new MethodParameter[] {this.paramInt, this.paramStr};
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertSame(intResolver, resolvers[0]);
+		assertNull(resolvers[1]);
+
+		StubArgumentResolver strResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolver(strResolver);
+		resolvers = this.resolverComposite.getArgumentResolvers(parameters);
+		assertSame(intResolver, resolvers[0]);
+		assertSame(strResolver, resolvers[1]);
+	}
+
+	@Test
+	public void getArgumentResolversAfterClear() {
+		this.resolverComposite.addResolver(new StubArgumentResolver(Integer.class));
+		MethodParameter[] parameters = new MethodParameter[] {this.paramInt};
+		assertNotNull(this.resolverComposite.getArgumentResolvers(parameters)[0]);
+
+		this.resolverComposite.clear();
+		assertNull(this.resolverComposite.getArgumentResolvers(parameters)[0]);
+
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		this.resolverComposite.addResolver(intResolver);
+		assertSame(intResolver, this.resolverComposite.getArgumentResolvers(parameters)[0]);
+	}
+
+
+	@SuppressWarnings("unused")
+	private void handle(Integer arg1, String arg2) {
+	}
+
+
+	private static class StubArgumentResolver implements HandlerMethodArgumentResolver {
+
+		private final Class<?> valueType;
+
+		StubArgumentResolver(Class<?> valueType) {
+			this.valueType = valueType;
+		}
+
+		@Override
+		public boolean supportsParameter(MethodParameter parameter) {
+			return parameter.getParameterType().equals(this.valueType);
+		}
+
+		@Override
+		public Mono<Object> resolveArgument(
+				MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+
+			return Mono.empty();
+		}
+	}
+
+}
@@ -16,18 +16,21 @@
 
 package org.springframework.web.reactive.result.method;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import org.springframework.core.CompiledMethodInvoker;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
@@ -167,6 +170,65 @@ public class InvocableHandlerMethodTests {
 		}
 	}
 
+	@Test
+	public void resolveArgWithCompiledInvoker() {
+		this.resolvers.add(stubResolver("value1"));
+		Method method = compilableMethod(o -> o.singleArg(null));
+		Mono<HandlerResult> mono = invoke(new CompilableController(), method);
+
+		assertHandlerResultValue(mono, "success:value1");
+	}
+
+	@Test
+	public void illegalArgumentExceptionWithCompiledInvoker() {
+		this.resolvers.add(stubResolver(1));
+		Method method = compilableMethod(o -> o.singleArg(null));
+		Mono<HandlerResult> mono = invoke(new CompilableController(), method);
+
+		try {
+			mono.block();
+			fail("Expected IllegalStateException");
+		}
+		catch (IllegalStateException ex) {
+			assertTrue(ex.getCause() instanceof IllegalArgumentException);
+			assertTrue(ex.getMessage().contains("[0] [type=java.lang.Integer] [value=1]"));
+		}
+	}
+
+	@Test
+	public void primitiveWideningWithCompiledInvoker() {
+		// Not directly invocable: falls back to reflection
+		this.resolvers.add(stubResolver(5));
+		Method method = compilableMethod(o -> o.longArg(0L));
+		Mono<HandlerResult> mono = invoke(new CompilableController(), method);
+
+		assertHandlerResultValue(mono, "long:5");
+	}
+
+	@Test
+	public void invocationTargetExceptionWithCompiledInvoker() {
+		Method method = compilableMethod(CompilableController::exceptionMethod);
+		Mono<HandlerResult> mono = invoke(new CompilableController(), method);
+
+		StepVerifier.create(mono)
+				.expectErrorMatches(ex -> ex instanceof IllegalStateException && "boo".equals(ex.getMessage()))
+				.verify();
+
+		method = compilableMethod(o -> {
+			try {
+				o.checkedExceptionMethod();
+			}
+			catch (IOException ex) {
+				// ignore
+			}
+		});
+		mono = invoke(new CompilableController(), method);
+
+		StepVerifier.create(mono)
+				.expectErrorMatches(ex -> ex instanceof IOException && "boo".equals(ex.getMessage()))
+				.verify();
+	}
+
 	@Test
 	public void responseStatusAnnotation() {
 		Method method = ResolvableMethod.on(TestController.class).mockCall(TestController::created).method();
@@ -241,6 +303,12 @@ public class InvocableHandlerMethodTests {
 		return invocable.invoke(this.exchange, new BindingContext(), providedArgs);
 	}
 
+	private Method compilableMethod(Consumer<CompilableController> mockCall) {
+		Method method = ResolvableMethod.on(CompilableController.class).mockCall(mockCall).method();
+		assertNotNull("Expected compilable method", CompiledMethodInvoker.forMethod(method));
+		return method;
+	}
+
 	private <T> HandlerMethodArgumentResolver stubResolver(Object stubValue) {
 		return stubResolver(Mono.just(stubValue));
 	}
@@ -311,4 +379,25 @@ public class InvocableHandlerMethodTests {
 		}
 	}
 
+
+	@SuppressWarnings("unused")
+	public static class CompilableController {
+
+		public String singleArg(String q) {
+			return "success:" + q;
+		}
+
+		public String longArg(long value) {
+			return "long:" + value;
+		}
+
+		public void exceptionMethod() {
+			throw new IllegalStateException("boo");
+		}
+
+		public void checkedExceptionMethod() throws IOException {
+			throw new IOException("boo");
+		}
+	}
+
 }
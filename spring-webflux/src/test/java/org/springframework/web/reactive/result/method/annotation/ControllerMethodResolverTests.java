@@ -18,12 +18,14 @@ package org.springframework.web.reactive.result.method.annotation;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -186,6 +188,27 @@ public class ControllerMethodResolverTests {
 		assertEquals(RequestParamMethodArgumentResolver.class, next(resolvers, index).getClass());
 	}
 
+	@Test
+	public void invocablesReusedPerMethod() {
+		InvocableHandlerMethod invocable = this.methodResolver.getRequestMappingMethod(this.handlerMethod);
+		List<InvocableHandlerMethod> modelMethods = this.methodResolver.getModelAttributeMethods(this.handlerMethod);
+		List<SyncInvocableHandlerMethod> binderMethods = this.methodResolver.getInitBinderMethods(this.handlerMethod);
+
+		for (int i = 0; i < 10; i++) {
+			assertSame(invocable, this.methodResolver.getRequestMappingMethod(this.handlerMethod));
+			assertEquals(modelMethods, this.methodResolver.getModelAttributeMethods(this.handlerMethod));
+			assertEquals(binderMethods, this.methodResolver.getInitBinderMethods(this.handlerMethod));
+		}
+		DirectFieldAccessor accessor = new DirectFieldAccessor(this.methodResolver);
+		assertEquals(1, ((Map<?, ?>) accessor.getPropertyValue("requestMappingInvocableCache")).size());
+		assertEquals(2, ((Map<?, ?>) accessor.getPropertyValue("modelAttributeInvocableCache")).size());
+		assertEquals(2, ((Map<?, ?>) accessor.getPropertyValue("initBinderInvocableCache")).size());
+
+		HandlerMethod otherBean = new HandlerMethod(new TestController(), this.handlerMethod.getMethod());
+		assertNotSame(invocable, this.methodResolver.getRequestMappingMethod(otherBean));
+		assertNotSame(modelMethods.get(1), this.methodResolver.getModelAttributeMethods(otherBean).get(1));
+	}
+
 	@Test
 	public void exceptionHandlerArgumentResolvers() {
 		InvocableHandlerMethod invocable = this.methodResolver.getExceptionHandlerMethod(
@@ -120,6 +120,19 @@ public interface HandlerMapping {
 	 */
 	String PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE = HandlerMapping.class.getName() + ".producibleMediaTypes";
 
+	/**
+	 * Whether this {@code HandlerMapping} instance has been enabled to use parsed
+	 * {@link org.springframework.web.util.pattern.PathPattern PathPatterns} in which
+	 * case the {@code DispatcherServlet} parses the request path once up-front via
+	 * {@link org.springframework.web.util.ServletRequestPathUtils#parseAndCache},
+	 * for all handler mappings to share.
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.2
+	 */
+	default boolean usesPathPatterns() {
+		return false;
+	}
+
 	/**
 	 * Return a handler and any interceptors for this request. The choice may be made
 	 * on request URL, session state, or any factor the implementing class chooses.
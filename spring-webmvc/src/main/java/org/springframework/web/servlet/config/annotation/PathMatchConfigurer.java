@@ -23,6 +23,7 @@ import java.util.function.Predicate;
 import org.springframework.lang.Nullable;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Helps with configuring HandlerMappings path matching options such as trailing
@@ -57,6 +58,9 @@ public class PathMatchConfigurer {
 	@Nullable
 	private PathMatcher pathMatcher;
 
+	@Nullable
+	private PathPatternParser patternParser;
+
 	@Nullable
 	private Map<String, Predicate<Class<?>>> pathPrefixes;
 
@@ -117,6 +121,22 @@ public class PathMatchConfigurer {
 		return this;
 	}
 
+	/**
+	 * Enable matching of {@code @RequestMapping} patterns as parsed
+	 * {@link org.springframework.web.util.pattern.PathPattern PathPatterns}
+	 * instead of with the {@link #setPathMatcher PathMatcher}. The request path
+	 * is then parsed once per request and matched without regular expressions.
+	 * <p>Note that parsed patterns do not support suffix pattern matching, and
+	 * trailing slash matching is determined by the parser configuration.
+	 * <p>By default this is not set.
+	 * @since 5.2
+	 * @see org.springframework.web.servlet.handler.AbstractHandlerMapping#setPatternParser
+	 */
+	public PathMatchConfigurer setPatternParser(PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		return this;
+	}
+
 	/**
 	 * Configure a path prefix to apply to matching controller methods.
 	 * <p>Prefixes are used to enrich the mappings of every {@code @RequestMapping}
@@ -162,6 +182,11 @@ public class PathMatchConfigurer {
 		return this.pathMatcher;
 	}
 
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
 	@Nullable
 	protected Map<String, Predicate<Class<?>>> getPathPrefixes() {
 		return this.pathPrefixes;
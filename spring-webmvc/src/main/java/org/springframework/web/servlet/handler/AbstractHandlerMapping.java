@@ -29,6 +29,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.core.Ordered;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
@@ -45,7 +46,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Abstract base class for {@link org.springframework.web.servlet.HandlerMapping}
@@ -77,6 +80,9 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 
 	private PathMatcher pathMatcher = new AntPathMatcher();
 
+	@Nullable
+	private PathPatternParser patternParser;
+
 	private final List<Object> interceptors = new ArrayList<>();
 
 	private final List<HandlerInterceptor> adaptedInterceptors = new ArrayList<>();
@@ -184,6 +190,54 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Enable the use of parsed {@link org.springframework.web.util.pattern.PathPattern
+	 * PathPatterns} instead of String pattern matching with a {@link PathMatcher}.
+	 * <p>When set, the request path is parsed once per request into a
+	 * {@link org.springframework.http.server.RequestPath RequestPath}, see
+	 * {@link ServletRequestPathUtils}, and the patterns of
+	 * {@link MappedInterceptor MappedInterceptors} and of the
+	 * {@link #setCorsConfigurations global CORS configurations} are parsed
+	 * with the given parser and matched against the parsed path, without
+	 * re-tokenizing the path or patterns for every match. Subclasses may use
+	 * parsed patterns for their own mappings as well.
+	 * <p>Note that parsed patterns do not support all Ant-style patterns,
+	 * e.g. {@code "**"} is only supported at the end of a pattern, and that
+	 * the {@link #setUrlPathHelper UrlPathHelper} settings do not apply
+	 * to the parsed path.
+	 * <p>By default this is not set.
+	 * @param patternParser the parser to use, or {@code null} for String pattern matching
+	 * @since 5.2
+	 */
+	public void setPatternParser(@Nullable PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		if (this.corsConfigurationSource instanceof UrlBasedCorsConfigurationSource) {
+			((UrlBasedCorsConfigurationSource) this.corsConfigurationSource).setPatternParser(patternParser);
+		}
+	}
+
+	/**
+	 * Return the {@link #setPatternParser configured} {@code PathPatternParser}, if any.
+	 * @since 5.2
+	 */
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
+	/**
+	 * Whether this handler mapping matches parsed
+	 * {@link org.springframework.web.util.pattern.PathPattern PathPatterns},
+	 * and therefore needs the request path parsed into a
+	 * {@link org.springframework.http.server.RequestPath RequestPath}.
+	 * @since 5.2
+	 * @see #setPatternParser(PathPatternParser)
+	 */
+	@Override
+	public boolean usesPathPatterns() {
+		return (this.patternParser != null);
+	}
+
 	/**
 	 * Set the interceptors to apply for all handlers mapped by this handler mapping.
 	 * <p>Supported interceptor types are HandlerInterceptor, WebRequestInterceptor, and MappedInterceptor.
@@ -210,6 +264,7 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 		source.setCorsConfigurations(corsConfigurations);
 		source.setPathMatcher(this.pathMatcher);
 		source.setUrlPathHelper(this.urlPathHelper);
+		source.setPatternParser(this.patternParser);
 		this.corsConfigurationSource = source;
 	}
 
@@ -398,36 +453,50 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 	@Override
 	@Nullable
 	public final HandlerExecutionChain getHandler(HttpServletRequest request) throws Exception {
-		Object handler = getHandlerInternal(request);
-		if (handler == null) {
-			handler = getDefaultHandler();
-		}
-		if (handler == null) {
-			return null;
-		}
-		// Bean name or resolved handler?
-		if (handler instanceof String) {
-			String handlerName = (String) handler;
-			handler = obtainApplicationContext().getBean(handlerName);
+		boolean parsedRequestPath = false;
+		if (usesPathPatterns() && !ServletRequestPathUtils.hasParsedRequestPath(request)) {
+			// Not parsed up-front by DispatcherServlet, e.g. when invoked directly:
+			// only keep it for this lookup, not for subsequent forwards or includes
+			ServletRequestPathUtils.parseAndCache(request);
+			parsedRequestPath = true;
 		}
+		try {
+			Object handler = getHandlerInternal(request);
+			if (handler == null) {
+				handler = getDefaultHandler();
+			}
+			if (handler == null) {
+				return null;
+			}
+			// Bean name or resolved handler?
+			if (handler instanceof String) {
+				String handlerName = (String) handler;
+				handler = obtainApplicationContext().getBean(handlerName);
+			}
 
-		HandlerExecutionChain executionChain = getHandlerExecutionChain(handler, request);
+			HandlerExecutionChain executionChain = getHandlerExecutionChain(handler, request);
 
-		if (logger.isTraceEnabled()) {
-			logger.trace("Mapped to " + handler);
-		}
-		else if (logger.isDebugEnabled() && !request.getDispatcherType().equals(DispatcherType.ASYNC)) {
-			logger.debug("Mapped to " + executionChain.getHandler());
-		}
+			if (logger.isTraceEnabled()) {
+				logger.trace("Mapped to " + handler);
+			}
+			else if (logger.isDebugEnabled() && !request.getDispatcherType().equals(DispatcherType.ASYNC)) {
+				logger.debug("Mapped to " + executionChain.getHandler());
+			}
 
-		if (CorsUtils.isCorsRequest(request)) {
-			CorsConfiguration globalConfig = this.corsConfigurationSource.getCorsConfiguration(request);
-			CorsConfiguration handlerConfig = getCorsConfiguration(handler, request);
-			CorsConfiguration config = (globalConfig != null ? globalConfig.combine(handlerConfig) : handlerConfig);
-			executionChain = getCorsHandlerExecutionChain(request, executionChain, config);
-		}
+			if (CorsUtils.isCorsRequest(request)) {
+				CorsConfiguration globalConfig = this.corsConfigurationSource.getCorsConfiguration(request);
+				CorsConfiguration handlerConfig = getCorsConfiguration(handler, request);
+				CorsConfiguration config = (globalConfig != null ? globalConfig.combine(handlerConfig) : handlerConfig);
+				executionChain = getCorsHandlerExecutionChain(request, executionChain, config);
+			}
 
-		return executionChain;
+			return executionChain;
+		}
+		finally {
+			if (parsedRequestPath) {
+				ServletRequestPathUtils.setParsedRequestPath(null, request);
+			}
+		}
 	}
 
 	/**
@@ -473,11 +542,25 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 		HandlerExecutionChain chain = (handler instanceof HandlerExecutionChain ?
 				(HandlerExecutionChain) handler : new HandlerExecutionChain(handler));
 
-		String lookupPath = this.urlPathHelper.getLookupPathForRequest(request);
+		String lookupPath = null;
+		PathContainer parsedLookupPath = null;
 		for (HandlerInterceptor interceptor : this.adaptedInterceptors) {
 			if (interceptor instanceof MappedInterceptor) {
 				MappedInterceptor mappedInterceptor = (MappedInterceptor) interceptor;
-				if (mappedInterceptor.matches(lookupPath, this.pathMatcher)) {
+				boolean matches;
+				if (this.patternParser != null && mappedInterceptor.getPathMatcher() == null) {
+					if (parsedLookupPath == null) {
+						parsedLookupPath = ServletRequestPathUtils.getOrParseRequestPath(request).pathWithinApplication();
+					}
+					matches = mappedInterceptor.matches(parsedLookupPath, this.patternParser);
+				}
+				else {
+					if (lookupPath == null) {
+						lookupPath = this.urlPathHelper.getLookupPathForRequest(request);
+					}
+					matches = mappedInterceptor.matches(lookupPath, this.pathMatcher);
+				}
+				if (matches) {
 					chain.addInterceptor(mappedInterceptor.getInterceptor());
 				}
 			}
@@ -38,15 +38,20 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.PathPatternIndex;
+import org.springframework.web.util.ServletRequestPathUtils;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -96,6 +101,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private final MappingRegistry mappingRegistry = new MappingRegistry();
 
+	@Nullable
+	private volatile PathMatcher indexedPathMatcher;
+
+	private boolean pathPatternIndexApplicable;
+
 
 	/**
 	 * Whether to detect handler methods in beans in ancestor ApplicationContexts.
@@ -390,8 +400,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			// No choice but to go through all mappings...
-			addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			if (isPathPatternIndexEnabled() && usesPathPatterns()) {
+				// Only go through mappings with parsed patterns that may match...
+				PathContainer path = ServletRequestPathUtils.getOrParseRequestPath(request).pathWithinApplication();
+				addMatchingMappings(this.mappingRegistry.getMappingsByPathPatterns(path), matches, request);
+			}
+			else if (isPathPatternIndexEnabled() && isPathPatternIndexApplicable()) {
+				// Only go through mappings with patterns that may match...
+				addMatchingMappings(this.mappingRegistry.getMappingsByPathPatterns(lookupPath), matches, request);
+			}
+			else {
+				// No choice but to go through all mappings...
+				addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			}
 		}
 
 		if (!matches.isEmpty()) {
@@ -423,6 +444,21 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 	}
 
+	/**
+	 * Whether the path pattern index of the registry can be used to narrow down
+	 * the mappings to check, i.e. whether the configured {@link PathMatcher} is
+	 * a plain {@link AntPathMatcher} with the default "/" path separator.
+	 */
+	private boolean isPathPatternIndexApplicable() {
+		PathMatcher pathMatcher = getPathMatcher();
+		if (pathMatcher != this.indexedPathMatcher) {
+			this.pathPatternIndexApplicable = (pathMatcher.getClass() == AntPathMatcher.class &&
+					!pathMatcher.match("*", "a/b"));
+			this.indexedPathMatcher = pathMatcher;
+		}
+		return this.pathPatternIndexApplicable;
+	}
+
 	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, HttpServletRequest request) {
 		for (T mapping : mappings) {
 			T match = getMatchingMapping(mapping, request);
@@ -498,6 +534,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	protected abstract Set<String> getMappingPathPatterns(T mapping);
 
+	/**
+	 * Whether to index mappings by their {@link #getMappingPathPatterns path patterns},
+	 * checking only mappings with patterns that may match the lookup path (as well
+	 * as mappings without patterns) if there is no direct URL match.
+	 * <p>Default is "false", checking all mappings. Subclasses may switch this on
+	 * if a mapping can only ever match a request whose lookup path matches one of
+	 * its path patterns.
+	 * @since 5.2
+	 */
+	protected boolean isPathPatternIndexEnabled() {
+		return false;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -530,6 +579,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> urlLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> patternLookup = new PathPatternIndex<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -553,6 +604,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.urlLookup.get(urlPath);
 		}
 
+		/**
+		 * Return mappings with path patterns that may match the given URL path,
+		 * as well as mappings without path patterns. Not thread-safe.
+		 * @since 5.2
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPathPatterns(String urlPath) {
+			return this.patternLookup.getCandidates(urlPath);
+		}
+
+		/**
+		 * Return mappings with path patterns that may match the given parsed path,
+		 * as well as mappings without path patterns. Not thread-safe.
+		 * @since 5.2
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPathPatterns(PathContainer path) {
+			return this.patternLookup.getCandidates(path);
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -593,6 +664,9 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				for (String url : directUrls) {
 					this.urlLookup.add(url, mapping);
 				}
+				if (isPathPatternIndexEnabled()) {
+					this.patternLookup.add(mapping, getMappingPathPatterns(mapping));
+				}
 
 				String name = null;
 				if (getNamingStrategy() != null) {
@@ -670,6 +744,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (isPathPatternIndexEnabled()) {
+					this.patternLookup.remove(definition.getMapping(), getMappingPathPatterns(definition.getMapping()));
+				}
+
 				removeMappingName(definition);
 
 				this.corsLookup.remove(definition.getHandlerMethod());
@@ -33,6 +33,7 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.server.RequestPath;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -43,6 +44,7 @@ import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
 
 /**
  * Helper class to get information from the {@code HandlerMapping} that would
@@ -122,7 +124,7 @@ public class HandlerMappingIntrospector
 	@Nullable
 	public MatchableHandlerMapping getMatchableHandlerMapping(HttpServletRequest request) throws Exception {
 		Assert.notNull(this.handlerMappings, "Handler mappings not initialized");
-		HttpServletRequest wrapper = new RequestAttributeChangeIgnoringWrapper(request);
+		HttpServletRequest wrapper = createWrapper(request);
 		for (HandlerMapping handlerMapping : this.handlerMappings) {
 			Object handler = handlerMapping.getHandler(wrapper);
 			if (handler == null) {
@@ -140,7 +142,7 @@ public class HandlerMappingIntrospector
 	@Nullable
 	public CorsConfiguration getCorsConfiguration(HttpServletRequest request) {
 		Assert.notNull(this.handlerMappings, "Handler mappings not initialized");
-		HttpServletRequest wrapper = new RequestAttributeChangeIgnoringWrapper(request);
+		HttpServletRequest wrapper = createWrapper(request);
 		for (HandlerMapping handlerMapping : this.handlerMappings) {
 			HandlerExecutionChain handler = null;
 			try {
@@ -166,6 +168,25 @@ public class HandlerMappingIntrospector
 		return null;
 	}
 
+	/**
+	 * Wrap the given request, parsing its path up-front if any of the handler
+	 * mappings matches parsed path patterns and it has not been parsed yet,
+	 * so the handler mappings share the parsed path like they would within
+	 * the {@code DispatcherServlet}.
+	 */
+	private HttpServletRequest createWrapper(HttpServletRequest request) {
+		RequestPath requestPath = null;
+		if (this.handlerMappings != null && !ServletRequestPathUtils.hasParsedRequestPath(request)) {
+			for (HandlerMapping handlerMapping : this.handlerMappings) {
+				if (handlerMapping.usesPathPatterns()) {
+					requestPath = ServletRequestPathUtils.parse(request);
+					break;
+				}
+			}
+		}
+		return new RequestAttributeChangeIgnoringWrapper(request, requestPath);
+	}
+
 
 	private static List<HandlerMapping> initHandlerMappings(ApplicationContext applicationContext) {
 		Map<String, HandlerMapping> beans = BeanFactoryUtils.beansOfTypeIncludingAncestors(
@@ -207,12 +228,25 @@ public class HandlerMappingIntrospector
 
 
 	/**
-	 * Request wrapper that ignores request attribute changes.
+	 * Request wrapper that ignores request attribute changes, optionally
+	 * exposing a parsed request path that is not set on the actual request.
 	 */
 	private static class RequestAttributeChangeIgnoringWrapper extends HttpServletRequestWrapper {
 
-		public RequestAttributeChangeIgnoringWrapper(HttpServletRequest request) {
+		@Nullable
+		private final RequestPath requestPath;
+
+		public RequestAttributeChangeIgnoringWrapper(HttpServletRequest request, @Nullable RequestPath requestPath) {
 			super(request);
+			this.requestPath = requestPath;
+		}
+
+		@Override
+		public Object getAttribute(String name) {
+			if (this.requestPath != null && ServletRequestPathUtils.PATH_ATTRIBUTE.equals(name)) {
+				return this.requestPath;
+			}
+			return super.getAttribute(name);
 		}
 
 		@Override
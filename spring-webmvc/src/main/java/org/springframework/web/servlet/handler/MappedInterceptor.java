@@ -19,12 +19,15 @@ package org.springframework.web.servlet.handler;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.context.request.WebRequestInterceptor;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Contains and delegates calls to a {@link HandlerInterceptor} along with
@@ -55,6 +58,9 @@ public final class MappedInterceptor implements HandlerInterceptor {
 	@Nullable
 	private PathMatcher pathMatcher;
 
+	@Nullable
+	private volatile ParsedPatterns parsedPatterns;
+
 
 	/**
 	 * Create a new MappedInterceptor instance.
@@ -163,6 +169,37 @@ public final class MappedInterceptor implements HandlerInterceptor {
 		return false;
 	}
 
+	/**
+	 * Determine a match for the given parsed lookup path, parsing the include
+	 * and exclude patterns with the given {@link PathPatternParser} on first use.
+	 * <p>This is only applicable without a {@link #setPathMatcher custom PathMatcher}.
+	 * @param lookupPath the current request path, parsed
+	 * @param patternParser the parser for the include and exclude patterns
+	 * @return {@code true} if the interceptor applies to the given request path
+	 * @since 5.2
+	 */
+	public boolean matches(PathContainer lookupPath, PathPatternParser patternParser) {
+		ParsedPatterns parsed = this.parsedPatterns;
+		if (parsed == null || parsed.parser != patternParser) {
+			parsed = new ParsedPatterns(patternParser, this.includePatterns, this.excludePatterns);
+			this.parsedPatterns = parsed;
+		}
+		for (PathPattern pattern : parsed.excludePatterns) {
+			if (pattern.matches(lookupPath)) {
+				return false;
+			}
+		}
+		if (parsed.includePatterns.length == 0) {
+			return true;
+		}
+		for (PathPattern pattern : parsed.includePatterns) {
+			if (pattern.matches(lookupPath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
@@ -184,4 +221,36 @@ public final class MappedInterceptor implements HandlerInterceptor {
 		this.interceptor.afterCompletion(request, response, handler, ex);
 	}
 
+
+	/**
+	 * Include and exclude patterns parsed with a given {@link PathPatternParser}.
+	 */
+	private static class ParsedPatterns {
+
+		final PathPatternParser parser;
+
+		final PathPattern[] includePatterns;
+
+		final PathPattern[] excludePatterns;
+
+		ParsedPatterns(PathPatternParser parser, @Nullable String[] includePatterns,
+				@Nullable String[] excludePatterns) {
+
+			this.parser = parser;
+			this.includePatterns = parse(parser, includePatterns);
+			this.excludePatterns = parse(parser, excludePatterns);
+		}
+
+		private static PathPattern[] parse(PathPatternParser parser, @Nullable String[] patterns) {
+			if (ObjectUtils.isEmpty(patterns)) {
+				return new PathPattern[0];
+			}
+			PathPattern[] result = new PathPattern[patterns.length];
+			for (int i = 0; i < patterns.length; i++) {
+				result[i] = parser.parse(patterns[i]);
+			}
+			return result;
+		}
+	}
+
 }
@@ -16,10 +16,14 @@
 
 package org.springframework.web.servlet.handler;
 
+import java.util.Collections;
 import java.util.Map;
 
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.PathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * Container for the result from request pattern matching via
@@ -31,12 +35,21 @@ import org.springframework.util.PathMatcher;
  */
 public class RequestMatchResult {
 
+	@Nullable
 	private final String matchingPattern;
 
+	@Nullable
 	private final String lookupPath;
 
+	@Nullable
 	private final PathMatcher pathMatcher;
 
+	@Nullable
+	private final PathPattern pathPattern;
+
+	@Nullable
+	private final PathContainer parsedLookupPath;
+
 
 	/**
 	 * Create an instance with a matching pattern.
@@ -52,15 +65,40 @@ public class RequestMatchResult {
 		this.matchingPattern = matchingPattern;
 		this.lookupPath = lookupPath;
 		this.pathMatcher = pathMatcher;
+		this.pathPattern = null;
+		this.parsedLookupPath = null;
+	}
+
+	/**
+	 * Create an instance with a matching parsed pattern.
+	 * @param pathPattern the matching pattern
+	 * @param lookupPath the parsed lookup path of the request
+	 * @since 5.2
+	 */
+	public RequestMatchResult(PathPattern pathPattern, PathContainer lookupPath) {
+		Assert.notNull(pathPattern, "'pathPattern' is required");
+		Assert.notNull(lookupPath, "'lookupPath' is required");
+		this.matchingPattern = null;
+		this.lookupPath = null;
+		this.pathMatcher = null;
+		this.pathPattern = pathPattern;
+		this.parsedLookupPath = lookupPath;
 	}
 
 
 	/**
 	 * Extract URI template variables from the matching pattern as defined in
-	 * {@link PathMatcher#extractUriTemplateVariables}.
+	 * {@link PathMatcher#extractUriTemplateVariables}, or as extracted by
+	 * {@link PathPattern#matchAndExtract} for a parsed pattern.
 	 * @return a map with URI template variables
 	 */
 	public Map<String, String> extractUriTemplateVariables() {
+		if (this.pathPattern != null && this.parsedLookupPath != null) {
+			PathPattern.PathMatchInfo info = this.pathPattern.matchAndExtract(this.parsedLookupPath);
+			return (info != null ? info.getUriVariables() : Collections.emptyMap());
+		}
+		Assert.state(this.pathMatcher != null && this.matchingPattern != null && this.lookupPath != null,
+				"No pattern to extract URI template variables from");
 		return this.pathMatcher.extractUriTemplateVariables(this.matchingPattern, this.lookupPath);
 	}
 
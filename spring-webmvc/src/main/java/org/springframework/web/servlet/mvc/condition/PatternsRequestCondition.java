@@ -22,21 +22,33 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
 import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * A logical disjunction (' || ') request condition that matches a request
  * against a set of URL path patterns.
  *
+ * <p>Patterns are matched with a {@link PathMatcher} against the lookup path
+ * determined by a {@link UrlPathHelper}, or, if created with a
+ * {@link PathPatternParser}, parsed into {@link PathPattern PathPatterns} once
+ * and matched against the request path parsed by {@link ServletRequestPathUtils}.
+ *
  * @author Rossen Stoyanchev
  * @since 3.1
  */
@@ -54,6 +66,12 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 
 	private final List<String> fileExtensions = new ArrayList<>();
 
+	@Nullable
+	private final PathPatternParser patternParser;
+
+	@Nullable
+	private final Map<String, PathPattern> parsedPatterns;
+
 
 	/**
 	 * Creates a new instance with the given URL patterns.
@@ -97,6 +115,20 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 				useTrailingSlashMatch, fileExtensions);
 	}
 
+	/**
+	 * Create a new instance with the given URL patterns, parsed with the given
+	 * {@link PathPatternParser} and matched as {@link PathPattern PathPatterns}.
+	 * Each pattern that is not empty and does not start with "/" is prepended with "/".
+	 * <p>Suffix pattern matching is not supported with parsed patterns, and
+	 * trailing slash matching is determined by the configuration of the parser.
+	 * @param patternParser the parser to parse the patterns with
+	 * @param patterns the URL patterns to use; if 0, the condition will match to every request.
+	 * @since 5.2
+	 */
+	public PatternsRequestCondition(PathPatternParser patternParser, String... patterns) {
+		this(Arrays.asList(patterns), null, null, false, false, null, patternParser, null);
+	}
+
 	/**
 	 * Private constructor accepting a collection of patterns.
 	 */
@@ -104,6 +136,19 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 			@Nullable PathMatcher pathMatcher, boolean useSuffixPatternMatch,
 			boolean useTrailingSlashMatch, @Nullable List<String> fileExtensions) {
 
+		this(patterns, urlPathHelper, pathMatcher, useSuffixPatternMatch, useTrailingSlashMatch,
+				fileExtensions, null, null);
+	}
+
+	/**
+	 * Private constructor accepting a collection of patterns, and optionally a parser
+	 * along with patterns parsed before that need not be parsed again.
+	 */
+	private PatternsRequestCondition(Collection<String> patterns, @Nullable UrlPathHelper urlPathHelper,
+			@Nullable PathMatcher pathMatcher, boolean useSuffixPatternMatch,
+			boolean useTrailingSlashMatch, @Nullable List<String> fileExtensions,
+			@Nullable PathPatternParser patternParser, @Nullable Map<String, PathPattern> knownPatterns) {
+
 		this.patterns = Collections.unmodifiableSet(prependLeadingSlash(patterns));
 		this.pathHelper = (urlPathHelper != null ? urlPathHelper : new UrlPathHelper());
 		this.pathMatcher = (pathMatcher != null ? pathMatcher : new AntPathMatcher());
@@ -118,6 +163,20 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 				this.fileExtensions.add(fileExtension);
 			}
 		}
+
+		this.patternParser = patternParser;
+		this.parsedPatterns = (patternParser != null ? parsePatterns(this.patterns, patternParser, knownPatterns) : null);
+	}
+
+	private static Map<String, PathPattern> parsePatterns(Set<String> patterns, PathPatternParser patternParser,
+			@Nullable Map<String, PathPattern> knownPatterns) {
+
+		Map<String, PathPattern> result = new LinkedHashMap<>(patterns.size());
+		for (String pattern : patterns) {
+			PathPattern parsed = (knownPatterns != null ? knownPatterns.get(pattern) : null);
+			result.put(pattern, (parsed != null ? parsed : patternParser.parse(pattern)));
+		}
+		return result;
 	}
 
 
@@ -136,6 +195,17 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		return this.patterns;
 	}
 
+	/**
+	 * Return the patterns parsed into {@link PathPattern PathPatterns}, in the
+	 * same order as {@link #getPatterns()}, or {@code null} if this condition
+	 * was not created with a {@link PathPatternParser}.
+	 * @since 5.2
+	 */
+	@Nullable
+	public Collection<PathPattern> getPathPatterns() {
+		return (this.parsedPatterns != null ? this.parsedPatterns.values() : null);
+	}
+
 	@Override
 	protected Collection<String> getContent() {
 		return this.patterns;
@@ -151,13 +221,17 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * the "other" instance as follows:
 	 * <ul>
 	 * <li>If there are patterns in both instances, combine the patterns in "this" with
-	 * the patterns in "other" using {@link PathMatcher#combine(String, String)}.
+	 * the patterns in "other" using {@link PathMatcher#combine(String, String)},
+	 * or {@link PathPattern#combine(PathPattern)} for parsed patterns.
 	 * <li>If only one instance has patterns, use them.
 	 * <li>If neither instance has patterns, use an empty String (i.e. "").
 	 * </ul>
 	 */
 	@Override
 	public PatternsRequestCondition combine(PatternsRequestCondition other) {
+		if (this.parsedPatterns != null) {
+			return combinePathPatterns(this.parsedPatterns, other);
+		}
 		Set<String> result = new LinkedHashSet<>();
 		if (!this.patterns.isEmpty() && !other.patterns.isEmpty()) {
 			for (String pattern1 : this.patterns) {
@@ -179,6 +253,40 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 				this.useSuffixPatternMatch, this.useTrailingSlashMatch, this.fileExtensions);
 	}
 
+	/**
+	 * Combine the parsed patterns of this instance with those of the other
+	 * instance, carrying the resulting {@link PathPattern PathPatterns} over
+	 * instead of parsing their pattern Strings again.
+	 */
+	private PatternsRequestCondition combinePathPatterns(
+			Map<String, PathPattern> parsedPatterns, PatternsRequestCondition other) {
+
+		Assert.state(this.patternParser != null, "No PathPatternParser");
+		Map<String, PathPattern> otherParsedPatterns = (other.parsedPatterns != null ? other.parsedPatterns :
+				parsePatterns(other.patterns, this.patternParser, null));
+		Map<String, PathPattern> result = new LinkedHashMap<>();
+		if (!parsedPatterns.isEmpty() && !otherParsedPatterns.isEmpty()) {
+			for (PathPattern pattern1 : parsedPatterns.values()) {
+				for (PathPattern pattern2 : otherParsedPatterns.values()) {
+					PathPattern combined = pattern1.combine(pattern2);
+					result.put(combined.getPatternString(), combined);
+				}
+			}
+		}
+		else if (!parsedPatterns.isEmpty()) {
+			result.putAll(parsedPatterns);
+		}
+		else if (!otherParsedPatterns.isEmpty()) {
+			result.putAll(otherParsedPatterns);
+		}
+		else {
+			result.put("", this.patternParser.parse(""));
+		}
+		return new PatternsRequestCondition(result.keySet(), this.pathHelper, this.pathMatcher,
+				this.useSuffixPatternMatch, this.useTrailingSlashMatch, this.fileExtensions,
+				this.patternParser, result);
+	}
+
 	/**
 	 * Checks if any of the patterns match the given request and returns an instance
 	 * that is guaranteed to contain matching patterns, sorted via
@@ -201,11 +309,18 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		if (this.patterns.isEmpty()) {
 			return this;
 		}
-		String lookupPath = this.pathHelper.getLookupPathForRequest(request);
-		List<String> matches = getMatchingPatterns(lookupPath);
+		List<String> matches;
+		if (this.parsedPatterns != null) {
+			matches = getMatchingPathPatterns(
+					ServletRequestPathUtils.getOrParseRequestPath(request).pathWithinApplication());
+		}
+		else {
+			matches = getMatchingPatterns(this.pathHelper.getLookupPathForRequest(request));
+		}
 		return (!matches.isEmpty() ?
 				new PatternsRequestCondition(matches, this.pathHelper, this.pathMatcher,
-						this.useSuffixPatternMatch, this.useTrailingSlashMatch, this.fileExtensions) : null);
+						this.useSuffixPatternMatch, this.useTrailingSlashMatch, this.fileExtensions,
+						this.patternParser, this.parsedPatterns) : null);
 	}
 
 	/**
@@ -218,6 +333,9 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * @return a collection of matching patterns sorted with the closest match at the top
 	 */
 	public List<String> getMatchingPatterns(String lookupPath) {
+		if (this.parsedPatterns != null) {
+			return getMatchingPathPatterns(PathContainer.parsePath(lookupPath));
+		}
 		List<String> matches = new ArrayList<>();
 		for (String pattern : this.patterns) {
 			String match = getMatchingPattern(pattern, lookupPath);
@@ -231,6 +349,23 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		return matches;
 	}
 
+	private List<String> getMatchingPathPatterns(PathContainer lookupPath) {
+		Map<String, PathPattern> parsedPatterns = this.parsedPatterns;
+		List<String> matches = new ArrayList<>();
+		if (parsedPatterns != null) {
+			parsedPatterns.forEach((pattern, parsed) -> {
+				if (parsed.matches(lookupPath)) {
+					matches.add(pattern);
+				}
+			});
+			if (matches.size() > 1) {
+				matches.sort((p1, p2) ->
+						PathPattern.SPECIFICITY_COMPARATOR.compare(parsedPatterns.get(p1), parsedPatterns.get(p2)));
+			}
+		}
+		return matches;
+	}
+
 	@Nullable
 	private String getMatchingPattern(String pattern, String lookupPath) {
 		if (pattern.equals(lookupPath)) {
@@ -275,8 +410,17 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 */
 	@Override
 	public int compareTo(PatternsRequestCondition other, HttpServletRequest request) {
-		String lookupPath = this.pathHelper.getLookupPathForRequest(request);
-		Comparator<String> patternComparator = this.pathMatcher.getPatternComparator(lookupPath);
+		Comparator<String> patternComparator;
+		Map<String, PathPattern> parsedPatterns = this.parsedPatterns;
+		Map<String, PathPattern> otherParsedPatterns = other.parsedPatterns;
+		if (parsedPatterns != null && otherParsedPatterns != null) {
+			patternComparator = (p1, p2) ->
+					PathPattern.SPECIFICITY_COMPARATOR.compare(parsedPatterns.get(p1), otherParsedPatterns.get(p2));
+		}
+		else {
+			String lookupPath = this.pathHelper.getLookupPathForRequest(request);
+			patternComparator = this.pathMatcher.getPatternComparator(lookupPath);
+		}
 		Iterator<String> iterator = this.patterns.iterator();
 		Iterator<String> iteratorOther = other.patterns.iterator();
 		while (iterator.hasNext() && iteratorOther.hasNext()) {
@@ -44,6 +44,7 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.servlet.mvc.support.DefaultHandlerExceptionResolver;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -225,4 +226,23 @@ public class DelegatingWebMvcConfigurationTests {
 				pathMatcher, handlerMapping.getPathMatcher());
 	}
 
+	@Test
+	public void configurePathMatchWithPatternParser() throws Exception {
+		final PathPatternParser patternParser = new PathPatternParser();
+
+		List<WebMvcConfigurer> configurers = new ArrayList<>();
+		configurers.add(new WebMvcConfigurer() {
+			@Override
+			public void configurePathMatch(PathMatchConfigurer configurer) {
+				configurer.setPatternParser(patternParser);
+			}
+		});
+		delegatingConfig.setConfigurers(configurers);
+
+		RequestMappingHandlerMapping handlerMapping = delegatingConfig.requestMappingHandlerMapping();
+		assertNotNull(handlerMapping);
+		assertSame("PathMatchConfigurer should configure PathPatternParser",
+				patternParser, handlerMapping.getPatternParser());
+	}
+
 }
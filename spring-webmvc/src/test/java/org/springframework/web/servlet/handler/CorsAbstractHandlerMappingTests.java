@@ -40,6 +40,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.support.WebContentGenerator;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Unit tests for CORS-related handling in {@link AbstractHandlerMapping}.
@@ -149,6 +151,42 @@ public class CorsAbstractHandlerMappingTests {
 		assertArrayEquals(config.getAllowedOrigins().toArray(), new String[]{"*"});
 	}
 
+	@Test
+	public void actualRequestWithMappedCorsConfigurationAndPatternParser() throws Exception {
+		CorsConfiguration config = new CorsConfiguration();
+		config.addAllowedOrigin("*");
+		this.handlerMapping.setCorsConfigurations(Collections.singletonMap("/foo/{id}", config));
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.request.setMethod(RequestMethod.GET.name());
+		this.request.setRequestURI("/foo/1");
+		this.request.addHeader(HttpHeaders.ORIGIN, "http://domain2.com");
+		this.request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+		HandlerExecutionChain chain = handlerMapping.getHandler(this.request);
+		assertNotNull(chain);
+		assertTrue(chain.getHandler() instanceof SimpleHandler);
+		config = getCorsConfiguration(chain, false);
+		assertNotNull(config);
+		assertArrayEquals(config.getAllowedOrigins().toArray(), new String[]{"*"});
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+	}
+
+	@Test
+	public void preflightRequestWithMappedCorsConfigurationAndPatternParser() throws Exception {
+		CorsConfiguration config = new CorsConfiguration();
+		config.addAllowedOrigin("*");
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.handlerMapping.setCorsConfigurations(Collections.singletonMap("/foo/{id}", config));
+		this.request.setMethod(RequestMethod.OPTIONS.name());
+		this.request.setRequestURI("/foo/1");
+		this.request.addHeader(HttpHeaders.ORIGIN, "http://domain2.com");
+		this.request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+		HandlerExecutionChain chain = handlerMapping.getHandler(this.request);
+		assertNotNull(chain);
+		config = getCorsConfiguration(chain, true);
+		assertNotNull(config);
+		assertArrayEquals(config.getAllowedOrigins().toArray(), new String[]{"*"});
+	}
+
 	@Test
 	public void actualRequestWithCorsConfigurationSource() throws Exception {
 		this.handlerMapping.setCorsConfigurationSource(new CustomCorsConfigurationSource());
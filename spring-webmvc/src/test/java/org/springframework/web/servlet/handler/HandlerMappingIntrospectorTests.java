@@ -38,8 +38,11 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
@@ -152,6 +155,39 @@ public class HandlerMappingIntrospectorTests {
 		assertEquals(Collections.singletonList("POST"), corsConfig.getAllowedMethods());
 	}
 
+	@Test
+	public void getMatchableWithPatternParser() throws Exception {
+		AnnotationConfigWebApplicationContext cxt = new AnnotationConfigWebApplicationContext();
+		cxt.register(PatternParserConfig.class);
+		cxt.refresh();
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/path");
+		MatchableHandlerMapping hm = getIntrospector(cxt).getMatchableHandlerMapping(request);
+
+		assertEquals(cxt.getBean("handlerMapping"), hm);
+		assertNull("Attributes changes not ignored", request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE));
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(request));
+
+		RequestMatchResult result = hm.match(request, "/{name}");
+		assertNotNull(result);
+		assertEquals(Collections.singletonMap("name", "path"), result.extractUriTemplateVariables());
+	}
+
+	@Test
+	public void getCorsConfigurationWithPatternParser() throws Exception {
+		AnnotationConfigWebApplicationContext cxt = new AnnotationConfigWebApplicationContext();
+		cxt.register(PatternParserConfig.class);
+		cxt.refresh();
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/path");
+		request.addHeader("Origin", "http://localhost:9000");
+		CorsConfiguration corsConfig = getIntrospector(cxt).getCorsConfiguration(request);
+
+		assertNotNull(corsConfig);
+		assertEquals(Collections.singletonList("http://localhost:9000"), corsConfig.getAllowedOrigins());
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(request));
+	}
+
 	private HandlerMappingIntrospector getIntrospector(WebApplicationContext cxt) {
 		HandlerMappingIntrospector introspector = new HandlerMappingIntrospector();
 		introspector.setApplicationContext(cxt);
@@ -185,6 +221,24 @@ public class HandlerMappingIntrospectorTests {
 	}
 
 
+	@Configuration
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	static class PatternParserConfig {
+
+		@Bean
+		public RequestMappingHandlerMapping handlerMapping() {
+			RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+			mapping.setPatternParser(new PathPatternParser());
+			return mapping;
+		}
+
+		@Bean
+		public TestController testController() {
+			return new TestController();
+		}
+	}
+
+
 	@CrossOrigin("http://localhost:9000")
 	@Controller
 	private static class TestController {
@@ -29,12 +29,15 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.RequestPath;
 import org.springframework.mock.web.test.MockHttpServletRequest;
 import org.springframework.web.HttpRequestHandler;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.support.WebContentGenerator;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Unit tests for
@@ -70,6 +73,42 @@ public class HandlerMappingTests {
 				mappedInterceptor1.getInterceptor(), i2, mappedInterceptor3.getInterceptor(), i4));
 	}
 
+	@Test
+	public void mappedInterceptorsWithPatternParser() throws Exception {
+		HandlerInterceptor i1 = Mockito.mock(HandlerInterceptor.class);
+		MappedInterceptor mappedInterceptor1 = new MappedInterceptor(new String[]{"/foo/**"}, i1);
+		HandlerInterceptor i2 = Mockito.mock(HandlerInterceptor.class);
+		MappedInterceptor mappedInterceptor2 = new MappedInterceptor(new String[]{"/bar/**"}, i2);
+
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.handlerMapping.setInterceptors(mappedInterceptor1, mappedInterceptor2);
+		this.handlerMapping.setApplicationContext(this.context);
+		this.request.setRequestURI("/foo/bar");
+		HandlerExecutionChain chain = this.handlerMapping.getHandler(this.request);
+		Assert.assertThat(chain.getInterceptors(), Matchers.arrayContaining(mappedInterceptor1.getInterceptor()));
+	}
+
+	@Test
+	public void parsedRequestPathRemovedAfterLookup() throws Exception {
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.handlerMapping.setApplicationContext(this.context);
+		this.request.setRequestURI("/foo");
+
+		Assert.assertNotNull(this.handlerMapping.getHandler(this.request));
+		Assert.assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+	}
+
+	@Test
+	public void parsedRequestPathKeptIfParsedBefore() throws Exception {
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.handlerMapping.setApplicationContext(this.context);
+		this.request.setRequestURI("/foo");
+		RequestPath requestPath = ServletRequestPathUtils.parseAndCache(this.request);
+
+		Assert.assertNotNull(this.handlerMapping.getHandler(this.request));
+		Assert.assertSame(requestPath, ServletRequestPathUtils.getParsedRequestPath(this.request));
+	}
+
 	class TestHandlerMapping extends AbstractHandlerMapping {
 
 		@Override
@@ -99,6 +99,22 @@ public class HandlerMethodMappingTests {
 		assertEquals(result, request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
 	}
 
+	@Test
+	public void customMatchBeyondPathPatterns() throws Exception {
+		AbstractHandlerMethodMapping<String> prefixMapping = new MyHandlerMethodMapping() {
+			@Override
+			protected String getMatchingMapping(String pattern, HttpServletRequest request) {
+				String lookupPath = new UrlPathHelper().getLookupPathForRequest(request);
+				return (lookupPath.startsWith(pattern) ? pattern : null);
+			}
+		};
+		prefixMapping.registerMapping("/foo", this.handler, this.method1);
+
+		HandlerMethod result = prefixMapping.getHandlerInternal(new MockHttpServletRequest("GET", "/foo/bar"));
+		assertNotNull(result);
+		assertEquals(method1, result.getMethod());
+	}
+
 	@Test(expected = IllegalStateException.class)
 	public void ambiguousMatch() throws Exception {
 		this.mapping.registerMapping("/f?o", this.handler, this.method1);
@@ -23,11 +23,13 @@ import javax.servlet.http.HttpServletResponse;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.*;
 import static org.mockito.BDDMockito.*;
@@ -43,6 +45,8 @@ public class MappedInterceptorTests {
 
 	private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+	private final PathPatternParser patternParser = new PathPatternParser();
+
 	@Before
 	public void setup() {
 		this.interceptor = new LocaleChangeInterceptor();
@@ -94,6 +98,45 @@ public class MappedInterceptorTests {
 		assertFalse(mappedInterceptor.matches("/foo/bar", pathMatcher));
 	}
 
+	@Test
+	public void noPatternsWithPatternParser() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(null, null, this.interceptor);
+		assertTrue(mappedInterceptor.matches(PathContainer.parsePath("/foo"), this.patternParser));
+	}
+
+	@Test
+	public void includePatternWithPatternParser() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo/*" }, this.interceptor);
+
+		assertTrue(mappedInterceptor.matches(PathContainer.parsePath("/foo/bar"), this.patternParser));
+		assertFalse(mappedInterceptor.matches(PathContainer.parsePath("/bar/foo"), this.patternParser));
+	}
+
+	@Test
+	public void includePatternWithMatrixVariablesWithPatternParser() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo*/*" }, this.interceptor);
+		assertTrue(mappedInterceptor.matches(PathContainer.parsePath("/foo;q=1/bar;s=2"), this.patternParser));
+	}
+
+	@Test
+	public void includeAndExcludePatternsWithPatternParser() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(
+				new String[] { "/**" }, new String[] { "/admin/**" }, this.interceptor);
+
+		assertTrue(mappedInterceptor.matches(PathContainer.parsePath("/foo"), this.patternParser));
+		assertFalse(mappedInterceptor.matches(PathContainer.parsePath("/admin/foo"), this.patternParser));
+	}
+
+	@Test
+	public void patternsReparsedForOtherPatternParser() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo" }, this.interceptor);
+		assertTrue(mappedInterceptor.matches(PathContainer.parsePath("/foo/"), this.patternParser));
+
+		PathPatternParser otherParser = new PathPatternParser();
+		otherParser.setMatchOptionalTrailingSeparator(false);
+		assertFalse(mappedInterceptor.matches(PathContainer.parsePath("/foo/"), otherParser));
+	}
+
 	@Test
 	public void preHandle() throws Exception {
 		HandlerInterceptor interceptor = mock(HandlerInterceptor.class);
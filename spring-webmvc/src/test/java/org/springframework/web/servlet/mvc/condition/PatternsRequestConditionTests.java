@@ -17,12 +17,16 @@
 package org.springframework.web.servlet.mvc.condition;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.Test;
 
 import org.springframework.mock.web.test.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.*;
 
@@ -212,4 +216,82 @@ public class PatternsRequestConditionTests {
 		assertEquals(1, match1.compareTo(match2, request));
 	}
 
+	@Test
+	public void combineMultipleParsedPatterns() {
+		PathPatternParser parser = new PathPatternParser();
+		PatternsRequestCondition c1 = new PatternsRequestCondition(parser, "/t1", "/t2");
+		PatternsRequestCondition c2 = new PatternsRequestCondition(parser, "/m1", "/{id}");
+
+		PatternsRequestCondition combined = c1.combine(c2);
+		assertEquals(new LinkedHashSet<>(Arrays.asList("/t1/m1", "/t1/{id}", "/t2/m1", "/t2/{id}")),
+				combined.getPatterns());
+		assertEquals(4, combined.getPathPatterns().size());
+		for (PathPattern pattern : combined.getPathPatterns()) {
+			assertTrue(combined.getPatterns().contains(pattern.getPatternString()));
+		}
+	}
+
+	@Test
+	public void combineParsedPatternWithEmptySetKeepsPathPattern() {
+		PathPatternParser parser = new PathPatternParser();
+		PatternsRequestCondition c1 = new PatternsRequestCondition(parser, "/type1");
+		PatternsRequestCondition c2 = new PatternsRequestCondition(parser);
+
+		PathPattern pattern = c1.getPathPatterns().iterator().next();
+		assertSame(pattern, c1.combine(c2).getPathPatterns().iterator().next());
+		assertSame(pattern, c2.combine(c1).getPathPatterns().iterator().next());
+	}
+
+	@Test
+	public void combineParsedPatternWithStringPattern() {
+		PatternsRequestCondition c1 = new PatternsRequestCondition(new PathPatternParser(), "/type");
+		PatternsRequestCondition c2 = new PatternsRequestCondition("/method");
+
+		PatternsRequestCondition combined = c1.combine(c2);
+		assertEquals("/type/method", combined.getPatterns().iterator().next());
+		assertEquals("/type/method", combined.getPathPatterns().iterator().next().getPatternString());
+	}
+
+	@Test
+	public void matchParsedPattern() {
+		PatternsRequestCondition condition = new PatternsRequestCondition(new PathPatternParser(), "/foo/{id}");
+
+		PatternsRequestCondition match = condition.getMatchingCondition(new MockHttpServletRequest("GET", "/foo/bar"));
+		assertNotNull(match);
+		assertEquals("/foo/{id}", match.getPatterns().iterator().next());
+		assertNotNull(match.getPathPatterns());
+
+		assertNull(condition.getMatchingCondition(new MockHttpServletRequest("GET", "/bar")));
+		assertEquals(Arrays.asList("/foo/{id}"), condition.getMatchingPatterns("/foo/bar"));
+	}
+
+	@Test
+	public void matchSortParsedPatterns() {
+		PatternsRequestCondition condition =
+				new PatternsRequestCondition(new PathPatternParser(), "/**", "/foo/bar", "/foo/*");
+		PatternsRequestCondition match = condition.getMatchingCondition(new MockHttpServletRequest("GET", "/foo/bar"));
+
+		assertEquals(Arrays.asList("/foo/bar", "/foo/*", "/**"), Arrays.asList(match.getPatterns().toArray()));
+	}
+
+	@Test
+	public void matchParsedPatternAgainstParsedRequestPath() {
+		PatternsRequestCondition condition = new PatternsRequestCondition(new PathPatternParser(), "/foo");
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bar");
+		ServletRequestPathUtils.setParsedRequestPath(
+				ServletRequestPathUtils.parse(new MockHttpServletRequest("GET", "/foo")), request);
+
+		assertNotNull(condition.getMatchingCondition(request));
+	}
+
+	@Test
+	public void compareParsedPatternSpecificity() {
+		PathPatternParser parser = new PathPatternParser();
+		PatternsRequestCondition c1 = new PatternsRequestCondition(parser, "/fo*");
+		PatternsRequestCondition c2 = new PatternsRequestCondition(parser, "/foo");
+
+		assertEquals(1, c1.compareTo(c2, new MockHttpServletRequest("GET", "/foo")));
+		assertEquals(-1, c2.compareTo(c1, new MockHttpServletRequest("GET", "/foo")));
+	}
+
 }
@@ -57,7 +57,9 @@ import org.springframework.web.servlet.mvc.condition.ParamsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.PatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
 import org.springframework.web.servlet.mvc.condition.RequestMethodsRequestCondition;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
@@ -383,6 +385,59 @@ public class RequestMappingInfoHandlerMappingTests {
 		assertEquals("cars", uriVariables.get("cars"));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void handleMatchUriTemplateVariablesWithPatternParser() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/group/a%2Fb");
+		handleMatchWithPatternParser(request, "/{group}/{identifier}");
+
+		String name = HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE;
+		Map<String, String> uriVariables = (Map<String, String>) request.getAttribute(name);
+
+		assertNotNull(uriVariables);
+		assertEquals("group", uriVariables.get("group"));
+		assertEquals("a/b", uriVariables.get("identifier"));
+	}
+
+	@Test
+	public void handleMatchBestMatchingPatternAttributeWithPatternParser() {
+		PathPatternParser patternParser = new PathPatternParser();
+		RequestMappingInfo.BuilderConfiguration config = new RequestMappingInfo.BuilderConfiguration();
+		config.setPatternParser(patternParser);
+		RequestMappingInfo key = RequestMappingInfo.paths("/{path1}/2", "/**").options(config).build();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/1/2");
+		this.handlerMapping.handleMatch(key, "/1/2", request);
+
+		assertEquals("/{path1}/2", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+		assertEquals(Collections.singletonMap("path1", "1"), getUriTemplateVariables(request));
+	}
+
+	@Test
+	public void handleMatchMatrixVariablesWithPatternParser() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars;colors=red,blue,green;year=2012");
+		handleMatchWithPatternParser(request, "/{cars}");
+
+		MultiValueMap<String, String> matrixVariables = getMatrixVariables(request, "cars");
+		Map<String, String> uriVariables = getUriTemplateVariables(request);
+
+		assertNotNull(matrixVariables);
+		assertEquals(Arrays.asList("red", "blue", "green"), matrixVariables.get("colors"));
+		assertEquals("2012", matrixVariables.getFirst("year"));
+		assertEquals("cars", uriVariables.get("cars"));
+	}
+
+	@Test
+	public void handleMatchWithPatternParserUsesParsedRequestPath() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/1/2");
+		request.setContextPath("/app");
+		ServletRequestPathUtils.parseAndCache(request);
+		handleMatchWithPatternParser(request, "/{path1}/{path2}");
+
+		Map<String, String> uriVariables = getUriTemplateVariables(request);
+		assertEquals("1", uriVariables.get("path1"));
+		assertEquals("2", uriVariables.get("path2"));
+	}
+
 
 	private HandlerMethod getHandler(MockHttpServletRequest request) throws Exception {
 		HandlerExecutionChain chain = this.handlerMapping.getHandler(request);
@@ -436,6 +491,13 @@ public class RequestMappingInfoHandlerMappingTests {
 		this.handlerMapping.handleMatch(info, lookupPath, request);
 	}
 
+	private void handleMatchWithPatternParser(MockHttpServletRequest request, String pattern) {
+		RequestMappingInfo.BuilderConfiguration config = new RequestMappingInfo.BuilderConfiguration();
+		config.setPatternParser(new PathPatternParser());
+		RequestMappingInfo info = RequestMappingInfo.paths(pattern).options(config).build();
+		this.handlerMapping.handleMatch(info, new UrlPathHelper().getLookupPathForRequest(request), request);
+	}
+
 	@SuppressWarnings("unchecked")
 	private MultiValueMap<String, String> getMatrixVariables(HttpServletRequest request, String uriVarName) {
 		String attrName = HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE;
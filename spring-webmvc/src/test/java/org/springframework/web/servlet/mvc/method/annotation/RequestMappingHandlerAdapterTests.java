@@ -28,6 +28,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -41,8 +42,11 @@ import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.mock.web.test.MockHttpServletRequest;
 import org.springframework.mock.web.test.MockHttpServletResponse;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.SessionAttributes;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 import org.springframework.web.method.HandlerMethod;
@@ -254,11 +258,38 @@ public class RequestMappingHandlerAdapterTests {
 		assertEquals("{\"status\":400,\"message\":\"body\"}", this.response.getContentAsString());
 	}
 
+	@Test
+	public void argumentResolversBoundOncePerMethod() throws Exception {
+		BindingController handler = new BindingController();
+		HandlerMethod handlerMethod = handlerMethod(handler, "handle", int.class);
+		this.handlerAdapter.afterPropertiesSet();
+		this.request.setParameter("count", "5");
+
+		this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+		int bindingCount = getArgumentResolverBindings("argumentResolvers").size();
+		int initBinderBindingCount = getArgumentResolverBindings("initBinderArgumentResolvers").size();
+		assertEquals(2, bindingCount);
+		assertEquals(1, initBinderBindingCount);
+
+		for (int i = 0; i < 10; i++) {
+			ModelAndView mav = this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+			assertEquals(5, mav.getModel().get("count"));
+		}
+		assertTrue(handler.initBinderCount > 10);
+		assertEquals(bindingCount, getArgumentResolverBindings("argumentResolvers").size());
+		assertEquals(initBinderBindingCount, getArgumentResolverBindings("initBinderArgumentResolvers").size());
+	}
+
 	private HandlerMethod handlerMethod(Object handler, String methodName, Class<?>... paramTypes) throws Exception {
 		Method method = handler.getClass().getDeclaredMethod(methodName, paramTypes);
 		return new InvocableHandlerMethod(handler, method);
 	}
 
+	private Map<?, ?> getArgumentResolverBindings(String compositeName) {
+		Object composite = new DirectFieldAccessor(this.handlerAdapter).getPropertyValue(compositeName);
+		return (Map<?, ?>) new DirectFieldAccessor(composite).getPropertyValue("argumentResolverBindings");
+	}
+
 	private void assertMethodProcessorCount(int resolverCount, int initBinderResolverCount, int handlerCount) {
 		assertEquals(resolverCount, this.handlerAdapter.getArgumentResolvers().size());
 		assertEquals(initBinderResolverCount, this.handlerAdapter.getInitBinderArgumentResolvers().size());
@@ -290,6 +321,27 @@ public class RequestMappingHandlerAdapterTests {
 	}
 
 
+	@SuppressWarnings("unused")
+	private static class BindingController {
+
+		private int initBinderCount;
+
+		@InitBinder
+		public void initBinder(WebDataBinder binder) {
+			this.initBinderCount++;
+		}
+
+		@ModelAttribute
+		public void addAttributes(Model model, @RequestParam int count) {
+			model.addAttribute("count", count);
+		}
+
+		public String handle(@RequestParam int count) {
+			return "view";
+		}
+	}
+
+
 	@SessionAttributes("attr1")
 	private static class SessionAttributeController {
 